@@ -65,7 +65,7 @@ public class SemanticCandidatesProvider implements Function<VariableManager, Lis
     public List<?> apply(VariableManager variableManager) {
         List<Object> semanticCandidates = new ArrayList<>();
 
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), this.semanticCandidatesExpression);
+        Result result = this.interpreter.evaluateExpression(variableManager.getVariablesView(), this.semanticCandidatesExpression);
 
         DomainClassPredicate domainClassPredicate = new DomainClassPredicate(this.domainClass);
 
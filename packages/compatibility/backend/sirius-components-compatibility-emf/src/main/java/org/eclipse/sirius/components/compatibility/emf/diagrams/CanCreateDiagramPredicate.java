@@ -54,7 +54,7 @@ public class CanCreateDiagramPredicate implements Predicate<VariableManager> {
         if (optionalEObject.isPresent()) {
             String preconditionExpression = this.diagramDescription.getPreconditionExpression();
             if (preconditionExpression != null && !preconditionExpression.isBlank()) {
-                Result preconditionResult = this.interpreter.evaluateExpression(variableManager.getVariables(), preconditionExpression);
+                Result preconditionResult = this.interpreter.evaluateExpression(variableManager.getVariablesView(), preconditionExpression);
                 result = preconditionResult.asBoolean().orElse(false);
             } else {
                 result = true;
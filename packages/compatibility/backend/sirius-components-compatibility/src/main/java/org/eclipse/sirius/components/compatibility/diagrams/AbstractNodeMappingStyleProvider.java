@@ -119,7 +119,7 @@ public class AbstractNodeMappingStyleProvider implements Function<VariableManage
 
         int borderRadius = this.getBorderRadius(flatContainerStyleDescription);
 
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), flatContainerStyleDescription.getBorderSizeComputationExpression());
+        Result result = this.interpreter.evaluateExpression(variableManager.getVariablesView(), flatContainerStyleDescription.getBorderSizeComputationExpression());
         int borderSize = result.asInt().getAsInt();
 
         return RectangularNodeStyle.newRectangularNodeStyle()
@@ -152,7 +152,7 @@ public class AbstractNodeMappingStyleProvider implements Function<VariableManage
 
         LineStyle borderStyle = new LineStyleConverter().getStyle(squareDescription.getBorderLineStyle());
 
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), squareDescription.getBorderSizeComputationExpression());
+        Result result = this.interpreter.evaluateExpression(variableManager.getVariablesView(), squareDescription.getBorderSizeComputationExpression());
         int borderSize = result.asInt().getAsInt();
 
         return RectangularNodeStyle.newRectangularNodeStyle()
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -56,7 +56,7 @@ public class DiagramLabelProvider implements Function<VariableManager, String> {
         // @formatter:on
 
         return optionalLabel.orElseGet(() -> {
-            Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), this.labelExpression);
+            Result result = this.interpreter.evaluateExpression(variableManager.getVariablesView(), this.labelExpression);
             return result.asString().orElse("");
         });
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -57,7 +57,7 @@ public class DomainBasedSourceNodesProvider implements Function<VariableManager,
         DiagramRenderingCache cache = optionalCache.get();
         String sourceFinderExpression = this.edgeMapping.getSourceFinderExpression();
 
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), sourceFinderExpression);
+        Result result = this.interpreter.evaluateExpression(variableManager.getVariablesView(), sourceFinderExpression);
         List<Object> semanticCandidates = result.asObjects().orElse(List.of());
 
         // @formatter:off
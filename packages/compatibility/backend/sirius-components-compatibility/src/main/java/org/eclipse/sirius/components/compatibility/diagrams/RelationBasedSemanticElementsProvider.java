@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,15 +12,13 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.compatibility.diagrams;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 
 import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
-import org.eclipse.sirius.components.diagrams.elements.NodeElementProps;
 import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingCache;
-import org.eclipse.sirius.components.representations.Element;
 import org.eclipse.sirius.components.representations.VariableManager;
 
 /**
@@ -30,33 +28,20 @@ import org.eclipse.sirius.components.representations.VariableManager;
  */
 public class RelationBasedSemanticElementsProvider implements Function<VariableManager, List<?>> {
 
-    private final List<String> sourceNodeDescriptionIds;
+    private final Set<String> sourceNodeDescriptionIds;
 
     public RelationBasedSemanticElementsProvider(List<String> sourceNodeDescriptionIds) {
-        this.sourceNodeDescriptionIds = Objects.requireNonNull(sourceNodeDescriptionIds);
+        this.sourceNodeDescriptionIds = Set.copyOf(Objects.requireNonNull(sourceNodeDescriptionIds));
     }
 
     @Override
     public List<?> apply(VariableManager variableManager) {
-        List<Object> objects = new ArrayList<>();
-
         var optionalCache = variableManager.get(DiagramDescription.CACHE, DiagramRenderingCache.class);
         if (optionalCache.isEmpty()) {
             return List.of();
         }
 
-        DiagramRenderingCache cache = optionalCache.get();
-        for (Element nodeElement : cache.getNodeToObject().keySet()) {
-            if (nodeElement.getProps() instanceof NodeElementProps) {
-                NodeElementProps props = (NodeElementProps) nodeElement.getProps();
-                if (this.sourceNodeDescriptionIds.contains(props.getDescriptionId())) {
-                    Object object = cache.getNodeToObject().get(nodeElement);
-                    objects.add(object);
-                }
-            }
-        }
-
-        return objects;
+        return optionalCache.get().getObjectsRepresentedBy(this.sourceNodeDescriptionIds);
     }
 
 }
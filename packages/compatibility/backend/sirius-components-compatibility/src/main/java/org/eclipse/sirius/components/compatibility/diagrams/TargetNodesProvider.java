@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -14,18 +14,17 @@ package org.eclipse.sirius.components.compatibility.diagrams;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
-import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.eclipse.sirius.components.compatibility.api.IIdentifierProvider;
 import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
-import org.eclipse.sirius.components.diagrams.elements.NodeElementProps;
 import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingCache;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
 import org.eclipse.sirius.components.interpreter.Result;
 import org.eclipse.sirius.components.representations.Element;
 import org.eclipse.sirius.components.representations.VariableManager;
-import org.eclipse.sirius.diagram.description.DiagramElementMapping;
 import org.eclipse.sirius.diagram.description.EdgeMapping;
 
 /**
@@ -39,12 +38,14 @@ public class TargetNodesProvider implements Function<VariableManager, List<Eleme
 
     private final AQLInterpreter interpreter;
 
-    private final IIdentifierProvider identifierProvider;
+    private final Set<String> targetMappingIds;
 
     public TargetNodesProvider(EdgeMapping edgeMapping, AQLInterpreter interpreter, IIdentifierProvider identifierProvider) {
         this.edgeMapping = Objects.requireNonNull(edgeMapping);
         this.interpreter = Objects.requireNonNull(interpreter);
-        this.identifierProvider = Objects.requireNonNull(identifierProvider);
+        this.targetMappingIds = edgeMapping.getTargetMapping().stream()
+                .map(identifierProvider::getIdentifier)
+                .collect(Collectors.toSet());
     }
 
     @Override
@@ -57,25 +58,11 @@ public class TargetNodesProvider implements Function<VariableManager, List<Eleme
         DiagramRenderingCache cache = optionalCache.get();
 
         // @formatter:off
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), this.edgeMapping.getTargetFinderExpression());
+        Result result = this.interpreter.evaluateExpression(variableManager.getVariablesView(), this.edgeMapping.getTargetFinderExpression());
         return result.asObjects().orElse(List.of()).stream()
-                .flatMap(semanticObject-> cache.getElementsRepresenting(semanticObject).stream())
-                .filter(this.isFromCompatibleTargetMapping())
+                .flatMap(semanticObject-> cache.getElementsRepresenting(semanticObject, this.targetMappingIds).stream())
                 .filter(Objects::nonNull)
                 .toList();
         // @formatter:on
     }
-
-    private Predicate<Element> isFromCompatibleTargetMapping() {
-        return nodeElement -> this.edgeMapping.getTargetMapping().stream()
-                .anyMatch(targetMapping -> this.isFromMapping(nodeElement, targetMapping));
-    }
-
-    private boolean isFromMapping(Element nodeElement, DiagramElementMapping mapping) {
-        if (nodeElement.getProps() instanceof NodeElementProps) {
-            NodeElementProps props = (NodeElementProps) nodeElement.getProps();
-            return Objects.equals(this.identifierProvider.getIdentifier(mapping), props.getDescriptionId().toString());
-        }
-        return false;
-    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -53,7 +53,7 @@ public class ForDescriptionConverter {
     public ForDescription convert(org.eclipse.sirius.properties.DynamicMappingForDescription siriusForDescription) {
         // @formatter:off
         Function<VariableManager, List<?>> iterableProvider = (variableManager) -> {
-            return this.interpreter.evaluateExpression(variableManager.getVariables(), siriusForDescription.getIterableExpression()).asObjects()
+            return this.interpreter.evaluateExpression(variableManager.getVariablesView(), siriusForDescription.getIterableExpression()).asObjects()
                     .orElse(Collections.emptyList());
         };
         IfDescriptionConverter converter = new IfDescriptionConverter(this.interpreter, this.objectService, this.identifierProvider, this.modelOperationHandlerSwitchProvider);
@@ -268,7 +268,7 @@ public class CompatibilityPaletteProvider implements IPaletteProvider {
                 } else if (diagramElement instanceof Edge) {
                     variableManager.put(Edge.SELECTED_EDGE, diagramElement);
                 }
-                Result result = interpreter.evaluateExpression(variableManager.getVariables(), precondition);
+                Result result = interpreter.evaluateExpression(variableManager.getVariablesView(), precondition);
                 checkPrecondition = result.getStatus().compareTo(Status.WARNING) <= 0 && result.asBoolean().orElse(Boolean.FALSE);
             } else {
                 checkPrecondition = true;
@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.api;
+
+import java.util.Optional;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.representations.IModificationStamps;
+
+/**
+ * Used to retrieve the modification stamps of the semantic elements of an editing context.
+ *
+ * @author agent
+ */
+public interface IModificationStampsProvider {
+
+    /**
+     * Returns the modification stamps of the semantic elements of the given editing context.
+     *
+     * @param editingContext
+     *         The editing context
+     * @return The modification stamps or an empty optional if the modifications are not tracked for this editing context
+     */
+    Optional<IModificationStamps> getModificationStamps(IEditingContext editingContext);
+}
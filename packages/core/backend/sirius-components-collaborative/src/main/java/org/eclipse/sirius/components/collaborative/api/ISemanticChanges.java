@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.api;
+
+import java.util.Set;
+
+/**
+ * The semantic changes performed in an editing context since they have been consumed for the last time.
+ *
+ * @author agent
+ */
+public interface ISemanticChanges {
+
+    /**
+     * Indicates if a representation which has read the given objects during its last rendering may be impacted by
+     * these changes.
+     *
+     * <p>
+     * Implementations are expected to be conservative, a representation should never be considered as unaffected by a
+     * change which could modify it.
+     * </p>
+     *
+     * @param readObjects
+     *         The objects read during the last rendering of the representation
+     * @return <code>true</code> if the representation should be refreshed, <code>false</code> otherwise
+     */
+    boolean affects(Set<Object> readObjects);
+}
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.api;
+
+import java.util.Optional;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+
+/**
+ * Used to retrieve the semantic changes performed in an editing context.
+ *
+ * @author agent
+ */
+public interface ISemanticChangesProvider {
+
+    /**
+     * Returns the semantic changes performed since the last call for the given editing context and forgets them.
+     *
+     * @param editingContext
+     *         The editing context
+     * @return The semantic changes or an empty optional if they are not tracked for this editing context
+     */
+    Optional<ISemanticChanges> consumeChanges(IEditingContext editingContext);
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -24,8 +24,23 @@ public final class Monitoring {
     public static final String TIMER_REFRESH_REPRESENTATION = "timer_refresh_representation";
     public static final String TIMER_CREATE_REPRESENATION_EVENT_PROCESSOR = "timer_create_representation_event_processor";
     public static final String TIMER_PROCESSING_INPUT = "timer_processing_input";
+    public static final String TIMER_LOAD_EDITING_CONTEXT = "siriusweb_editingcontextprocessor_load";
+    public static final String TIMER_LOAD_EDITING_CONTEXT_WAIT = "siriusweb_editingcontextprocessor_load_wait";
+    public static final String COUNTER_LOAD_EDITING_CONTEXT_CONTENTION = "siriusweb_editingcontextprocessor_load_contention";
+    public static final String GAUGE_PENDING_EDITING_CONTEXT_SAVES = "siriusweb_editingcontextprocessor_save_pending";
+    public static final String TIMER_EDITING_CONTEXT_SAVE_LAG = "siriusweb_editingcontextprocessor_save_lag";
+    public static final String COUNTER_COALESCED_EDITING_CONTEXT_SAVES = "siriusweb_editingcontextprocessor_save_coalesced";
+    public static final String COUNTER_REPRESENTATION_REFRESH_PERFORMED = "siriusweb_representation_refresh_performed";
+    public static final String COUNTER_REPRESENTATION_REFRESH_SKIPPED = "siriusweb_representation_refresh_skipped";
+    public static final String GAUGE_PENDING_INPUTS = "siriusweb_editingcontextprocessor_inputs_pending";
+    public static final String TIMER_INPUT_WAIT = "siriusweb_editingcontextprocessor_input_wait";
+    public static final String COUNTER_REJECTED_INPUTS = "siriusweb_editingcontextprocessor_inputs_rejected";
 
     public static final String NAME = "name";
+    public static final String INPUT = "input";
+    public static final String OUTCOME = "outcome";
+    public static final String CHANGE_KIND = "changeKind";
+    public static final String REPRESENTATION_KIND = "representationKind";
 
     private Monitoring() {
         // Prevent instantiation
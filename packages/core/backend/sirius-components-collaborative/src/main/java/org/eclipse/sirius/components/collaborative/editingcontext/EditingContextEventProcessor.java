@@ -19,11 +19,12 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.logging.Level;
@@ -38,7 +39,7 @@ import org.eclipse.sirius.components.collaborative.api.IInputPostProcessor;
 import org.eclipse.sirius.components.collaborative.api.IInputPreProcessor;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessorComposedFactory;
-import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.collaborative.api.ISemanticChanges;
 import org.eclipse.sirius.components.collaborative.dto.DeleteRepresentationInput;
 import org.eclipse.sirius.components.collaborative.dto.RenameRepresentationInput;
 import org.eclipse.sirius.components.collaborative.dto.RepresentationRefreshedEvent;
@@ -46,16 +47,15 @@ import org.eclipse.sirius.components.collaborative.dto.RepresentationRenamedEven
 import org.eclipse.sirius.components.collaborative.messages.ICollaborativeMessageService;
 import org.eclipse.sirius.components.core.api.ErrorPayload;
 import org.eclipse.sirius.components.core.api.IEditingContext;
-import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
 import org.eclipse.sirius.components.core.api.IInput;
 import org.eclipse.sirius.components.core.api.IPayload;
 import org.eclipse.sirius.components.core.api.IRepresentationInput;
 import org.eclipse.sirius.components.representations.IRepresentation;
+import org.eclipse.sirius.components.representations.ReadObjectsRecorder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 
-import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
@@ -88,7 +88,9 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     private final IEditingContext editingContext;
 
-    private final IEditingContextPersistenceService editingContextPersistenceService;
+    private final EditingContextPersistenceScheduler editingContextPersistenceScheduler;
+
+    private final SelectiveRefreshPolicy selectiveRefreshPolicy;
 
     private final ApplicationEventPublisher applicationEventPublisher;
 
@@ -114,21 +116,28 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     private final List<IInputPostProcessor> inputPostProcessors;
 
-    private final MeterRegistry meterRegistry;
+    private final EditingContextEventProcessorMetrics metrics;
+
+    private final EditingContextInputAdmissionPolicy inputAdmissionPolicy;
+
+    private final AtomicInteger pendingInputs = new AtomicInteger();
 
     public EditingContextEventProcessor(EditingContextEventProcessorParameters parameters) {
         this.messageService = parameters.messageService();
         this.editingContext = parameters.editingContext();
-        this.editingContextPersistenceService = parameters.editingContextPersistenceService();
+        this.selectiveRefreshPolicy = parameters.selectiveRefreshPolicy();
+        this.inputAdmissionPolicy = parameters.inputAdmissionPolicy();
         this.applicationEventPublisher = parameters.applicationEventPublisher();
         this.editingContextEventHandlers = parameters.editingContextEventHandlers();
         this.representationEventProcessorComposedFactory = parameters.representationEventProcessorComposedFactory();
         this.danglingRepresentationDeletionService = parameters.danglingRepresentationDeletionService();
         this.executorService = parameters.executorServiceProvider().getExecutorService(this.editingContext);
+        this.editingContextPersistenceScheduler = new EditingContextPersistenceScheduler(this.editingContext, parameters.editingContextPersistenceService(),
+                parameters.editingContextPersistencePolicy(), this.executorService, parameters.meterRegistry());
         this.inputPreProcessors = parameters.inputPreProcessors();
         this.inputPostProcessors = parameters.inputPostProcessors();
         this.changeDescriptionDisposable = this.setupChangeDescriptionSinkConsumer();
-        this.meterRegistry = parameters.meterRegistry();
+        this.metrics = new EditingContextEventProcessorMetrics(this.editingContext.getId(), parameters.meterRegistry());
     }
 
     @SuppressWarnings("checkstyle:IllegalCatch")
@@ -155,28 +164,29 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
             this.publishEvent(changeDescription);
             this.disposeRepresentationIfNeeded();
 
-            var refreshRepresentationSample = Timer.start(this.meterRegistry);
+            Optional<ISemanticChanges> optionalSemanticChanges = Optional.empty();
+            if (ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind())) {
+                optionalSemanticChanges = this.selectiveRefreshPolicy.consumeChanges(this.editingContext);
+            }
+
+            var refreshRepresentationSample = this.metrics.start();
 
             RepresentationEventProcessorEntry representationEventProcessorEntry = this.representationEventProcessors.get(changeDescription.getSourceId());
             if (representationEventProcessorEntry != null) {
                 try {
-                    IRepresentationEventProcessor representationEventProcessor = representationEventProcessorEntry.getRepresentationEventProcessor();
-                    representationEventProcessor.refresh(changeDescription);
-                    IRepresentation representation = representationEventProcessor.getRepresentation();
-                    this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.editingContext.getId(), representation));
+                    this.refreshRepresentation(representationEventProcessorEntry, changeDescription);
                 } catch (Exception exception) {
                     this.logger.warn(exception.getMessage(), exception);
                 }
             }
-            this.refreshOtherRepresentations(changeDescription);
+            this.refreshOtherRepresentations(changeDescription, optionalSemanticChanges);
 
-            var timer = this.meterRegistry.timer(Monitoring.TIMER_REFRESH_REPRESENTATION, "changeDescription", changeDescription.getSourceId());
-            refreshRepresentationSample.stop(timer);
+            this.metrics.representationsRefreshed(changeDescription, refreshRepresentationSample);
 
             if (this.shouldPersistTheEditingContext(changeDescription)) {
-                this.editingContextPersistenceService.persist(changeDescription.getInput(), this.editingContext);
+                this.editingContextPersistenceScheduler.persist(changeDescription.getInput());
+                this.danglingRepresentationDeletionService.deleteDanglingRepresentations(changeDescription.getInput(), this.editingContext);
             }
-            this.danglingRepresentationDeletionService.deleteDanglingRepresentations(changeDescription.getInput(), this.editingContext);
 
         };
 
@@ -227,33 +237,70 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     @Override
     public Mono<IPayload> handle(IInput input) {
-        Timer.Sample handleTimer = Timer.start(this.meterRegistry);
+        Timer.Sample handleTimer = this.metrics.start();
+        Mono<IPayload> result = Mono.empty();
         if (this.executorService.isShutdown()) {
             this.logger.warn("Handler for editing context {} is shutdown", this.editingContext.getId());
-            handleTimer.stop(this.meterRegistry.timer(Monitoring.EVENT_HANDLER, INPUT, input.getClass().getSimpleName(),
-                    "inputId", input.id().toString()));
-            return Mono.empty();
+            this.metrics.inputProcessed(input, EditingContextEventProcessorMetrics.IGNORED, handleTimer);
+        } else if (!this.inputAdmissionPolicy.tryAdmit(this.pendingInputs)) {
+            this.logger.warn("The input {} has been rejected since too many inputs are waiting to be processed by the editing context {}", input, this.editingContext.getId());
+            this.metrics.inputProcessed(input, EditingContextEventProcessorMetrics.REJECTED, handleTimer);
+            result = Mono.just(new ErrorPayload(input.id(), this.messageService.tooManyInputs()));
+        } else {
+            result = this.enqueue(input, handleTimer);
         }
+        return result;
+    }
 
+    /**
+     * Queues the given input which will be processed asynchronously by the thread of the editing context.
+     *
+     * @param input
+     *         The input to process
+     * @param handleTimer
+     *         The timer started when the input has been received
+     * @return The payload computed once the input has been processed
+     */
+    private Mono<IPayload> enqueue(IInput input, Timer.Sample handleTimer) {
         this.logger.trace(input.toString());
 
         One<IPayload> payloadSink = Sinks.one();
-        Future<?> future = this.executorService.submit(() -> this.doHandle(payloadSink, input));
+        One<Boolean> processedSink = Sinks.one();
+        long queuedTime = System.nanoTime();
+        Mono<IPayload> result = Mono.empty();
+        try {
+            this.executorService.execute(() -> this.doHandle(payloadSink, processedSink, input, queuedTime, handleTimer));
+
+            // The timeout only starts once the input has been processed to leave time to the handlers to send their payload
+            var timeout = processedSink.asMono().delayElement(Duration.ofSeconds(5));
+            var timeoutFallback = Mono.just(new ErrorPayload(input.id(), this.messageService.timeout()))
+                    .doOnSuccess(payload -> this.logger.warn("Timeout fallback for the input {}", input));
+            result = payloadSink.asMono()
+                    .log(this.getClass().getName(), Level.FINEST, SignalType.ON_NEXT, SignalType.ON_ERROR)
+                    .timeout(timeout, timeoutFallback)
+                    .doOnError(throwable -> this.logger.warn(throwable.getMessage(), throwable));
+        } catch (RejectedExecutionException exception) {
+            this.inputAdmissionPolicy.release(this.pendingInputs);
+            this.logger.warn("Handler for editing context {} is shutdown", this.editingContext.getId());
+            this.metrics.inputProcessed(input, EditingContextEventProcessorMetrics.IGNORED, handleTimer);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void doHandle(One<IPayload> payloadSink, One<Boolean> processedSink, IInput input, long queuedTime, Timer.Sample handleTimer) {
+        this.inputAdmissionPolicy.processingStarted(System.nanoTime() - queuedTime);
+        String outcome = EditingContextEventProcessorMetrics.FAILURE;
         try {
-            // Block until the event has been processed
-            future.get();
-        } catch (InterruptedException | ExecutionException exception) {
+            this.doHandle(payloadSink, input);
+            outcome = EditingContextEventProcessorMetrics.SUCCESS;
+        } catch (Exception exception) {
             this.logger.warn(exception.getMessage(), exception);
+        } finally {
+            this.inputAdmissionPolicy.release(this.pendingInputs);
+            this.metrics.inputProcessed(input, outcome, handleTimer);
+            processedSink.tryEmitValue(Boolean.TRUE);
         }
-        handleTimer.stop(this.meterRegistry.timer(Monitoring.TIMER_PROCESSING_INPUT, "input", input.getClass().getSimpleName(),
-                "inputId", input.id().toString()));
-
-        var timeoutFallback = Mono.just(new ErrorPayload(input.id(), this.messageService.timeout()))
-                .doOnSuccess(payload -> this.logger.warn("Timeout fallback for the input {}", input));
-        return payloadSink.asMono()
-                .log(this.getClass().getName(), Level.FINEST, SignalType.ON_NEXT, SignalType.ON_ERROR)
-                .timeout(Duration.ofSeconds(5), timeoutFallback)
-                .doOnError(throwable -> this.logger.warn(throwable.getMessage(), throwable));
     }
 
     /**
@@ -284,21 +331,56 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
     /**
      * Refresh all the representations except the one with the given representationId.
      *
+     * <p>
+     * When the semantic changes performed are known, the representations which have not read any object impacted by
+     * those changes during their last rendering are not refreshed. A failure while refreshing a representation does not
+     * prevent the refresh of the other ones.
+     * </p>
+     *
      * @param changeDescription
      *         The description of change to consider in order to determine if the representation should be refreshed
+     * @param optionalSemanticChanges
+     *         The semantic changes performed if they are known
      */
-    private void refreshOtherRepresentations(ChangeDescription changeDescription) {
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void refreshOtherRepresentations(ChangeDescription changeDescription, Optional<ISemanticChanges> optionalSemanticChanges) {
         this.representationEventProcessors.entrySet().stream()
             .filter(entry -> !Objects.equals(entry.getKey(), changeDescription.getSourceId()))
             .map(Entry::getValue)
-            .map(RepresentationEventProcessorEntry::getRepresentationEventProcessor)
-            .forEach(representationEventProcessor -> {
-                representationEventProcessor.refresh(changeDescription);
-                IRepresentation representation = representationEventProcessor.getRepresentation();
-                this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.editingContext.getId(), representation));
+            .forEach(representationEventProcessorEntry -> {
+                if (this.isAffected(representationEventProcessorEntry, optionalSemanticChanges)) {
+                    try {
+                        this.refreshRepresentation(representationEventProcessorEntry, changeDescription);
+                    } catch (Exception exception) {
+                        this.logger.warn(exception.getMessage(), exception);
+                    }
+                } else {
+                    this.selectiveRefreshPolicy.refreshSkipped();
+                }
             });
     }
 
+    private boolean isAffected(RepresentationEventProcessorEntry representationEventProcessorEntry, Optional<ISemanticChanges> optionalSemanticChanges) {
+        Set<Object> readObjects = representationEventProcessorEntry.getReadObjects();
+        return readObjects.isEmpty() || optionalSemanticChanges.map(semanticChanges -> semanticChanges.affects(readObjects)).orElse(true);
+    }
+
+    private void refreshRepresentation(RepresentationEventProcessorEntry representationEventProcessorEntry, ChangeDescription changeDescription) {
+        IRepresentationEventProcessor representationEventProcessor = representationEventProcessorEntry.getRepresentationEventProcessor();
+        if (this.selectiveRefreshPolicy.isEnabled()) {
+            Set<Object> readObjects = ReadObjectsRecorder.INSTANCE.record(() -> representationEventProcessor.refresh(changeDescription));
+            if (!readObjects.isEmpty()) {
+                representationEventProcessorEntry.setReadObjects(readObjects);
+            }
+        } else {
+            representationEventProcessor.refresh(changeDescription);
+        }
+        this.selectiveRefreshPolicy.refreshPerformed();
+
+        IRepresentation representation = representationEventProcessor.getRepresentation();
+        this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.editingContext.getId(), representation));
+    }
+
     private boolean shouldPersistTheEditingContext(ChangeDescription changeDescription) {
         return ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind());
     }
@@ -351,7 +433,8 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     @Override
     public Optional<IRepresentationEventProcessor> acquireRepresentationEventProcessor(String representationId, IInput input) {
-        var getRepresentationEventProcessorSample = Timer.start(this.meterRegistry);
+        var getRepresentationEventProcessorSample = this.metrics.start();
+        String outcome = EditingContextEventProcessorMetrics.REUSED;
 
         var optionalRepresentationEventProcessor = Optional.ofNullable(this.representationEventProcessors.get(representationId))
                 .map(RepresentationEventProcessorEntry::getRepresentationEventProcessor);
@@ -359,6 +442,7 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         if (optionalRepresentationEventProcessor.isEmpty()) {
             optionalRepresentationEventProcessor = this.representationEventProcessorComposedFactory.createRepresentationEventProcessor(this.editingContext, representationId);
             if (optionalRepresentationEventProcessor.isPresent()) {
+                outcome = EditingContextEventProcessorMetrics.CREATED;
                 var representationEventProcessor = optionalRepresentationEventProcessor.get();
 
                 Disposable subscription = representationEventProcessor.canBeDisposed()
@@ -376,14 +460,10 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
                 this.representationEventProcessors.put(representationId, representationEventProcessorEntry);
             } else {
                 this.logger.debug("The representation with the id {} does not exist", representationId);
+                outcome = EditingContextEventProcessorMetrics.MISSING;
             }
-        } else {
-            var timer = this.meterRegistry.timer(Monitoring.TIMER_CREATE_REPRESENATION_EVENT_PROCESSOR,
-                    "editingContext", this.editingContext.getId(),
-                    "input", input.getClass().getSimpleName(),
-                    REPRESENTATION_ID, representationId);
-            getRepresentationEventProcessorSample.stop(timer);
         }
+        this.metrics.representationEventProcessorAcquired(representationId, input, optionalRepresentationEventProcessor, outcome, getRepresentationEventProcessorSample);
 
         this.logger.trace("Representation event processors count: {}", this.representationEventProcessors.size());
         return optionalRepresentationEventProcessor;
@@ -431,6 +511,7 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         }
         this.changeDescriptionDisposable.dispose();
 
+        this.editingContextPersistenceScheduler.dispose();
         this.executorService.shutdown();
 
         this.representationEventProcessors.values().forEach(RepresentationEventProcessorEntry::dispose);
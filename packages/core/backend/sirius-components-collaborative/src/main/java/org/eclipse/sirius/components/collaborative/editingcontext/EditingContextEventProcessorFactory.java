@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 Obeo.
+ * Copyright (c) 2021, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -42,6 +42,12 @@ public class EditingContextEventProcessorFactory implements IEditingContextEvent
 
     private final IEditingContextPersistenceService editingContextPersistenceService;
 
+    private final EditingContextPersistencePolicy editingContextPersistencePolicy;
+
+    private final SelectiveRefreshPolicy selectiveRefreshPolicy;
+
+    private final EditingContextInputAdmissionPolicy inputAdmissionPolicy;
+
     private final ApplicationEventPublisher applicationEventPublisher;
 
     private final List<IEditingContextEventHandler> editingContextEventHandlers;
@@ -59,9 +65,12 @@ public class EditingContextEventProcessorFactory implements IEditingContextEvent
     private final MeterRegistry meterRegistry;
 
     public EditingContextEventProcessorFactory(ICollaborativeMessageService messageService, ApplicationEventPublisher applicationEventPublisher,
-            IDanglingRepresentationDeletionService representationDeletionService, EditingContextEventProcessorFactoryParameters parameters) {
+            IDanglingRepresentationDeletionService representationDeletionService, EditingContextEventProcessorPolicies policies, EditingContextEventProcessorFactoryParameters parameters) {
         this.messageService = Objects.requireNonNull(messageService);
         this.editingContextPersistenceService = parameters.getEditingContextPersistenceService();
+        this.editingContextPersistencePolicy = policies.getEditingContextPersistencePolicy();
+        this.selectiveRefreshPolicy = policies.getSelectiveRefreshPolicy();
+        this.inputAdmissionPolicy = policies.getInputAdmissionPolicy();
         this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
         this.editingContextEventHandlers = parameters.getEditingContextEventHandlers();
         this.representationEventProcessorComposedFactory = parameters.getRepresentationEventProcessorComposedFactory();
@@ -78,6 +87,9 @@ public class EditingContextEventProcessorFactory implements IEditingContextEvent
                 .messageService(this.messageService)
                 .editingContext(editingContext)
                 .editingContextPersistenceService(this.editingContextPersistenceService)
+                .editingContextPersistencePolicy(this.editingContextPersistencePolicy)
+                .selectiveRefreshPolicy(this.selectiveRefreshPolicy)
+                .inputAdmissionPolicy(this.inputAdmissionPolicy)
                 .applicationEventPublisher(this.applicationEventPublisher)
                 .editingContextEventHandlers(this.editingContextEventHandlers)
                 .representationEventProcessorComposedFactory(this.representationEventProcessorComposedFactory)
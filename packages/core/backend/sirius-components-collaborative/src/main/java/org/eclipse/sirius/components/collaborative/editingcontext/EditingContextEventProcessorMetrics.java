@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.representations.IRepresentation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records the metrics of an editing context event processor.
+ *
+ * <p>
+ * The meters are only tagged with values taken from a bounded set, such as the type of the inputs, the kind of the
+ * representations or the outcome of an operation, since each new combination of tags creates a new meter which is kept
+ * until the end of the application. The identifiers of the editing contexts, inputs and representations are only
+ * available in the debug logs of this class along with the duration of each operation.
+ * </p>
+ *
+ * @author agent
+ */
+public class EditingContextEventProcessorMetrics {
+
+    public static final String SUCCESS = "success";
+
+    public static final String FAILURE = "failure";
+
+    public static final String IGNORED = "ignored";
+
+    public static final String REJECTED = "rejected";
+
+    public static final String CREATED = "created";
+
+    public static final String REUSED = "reused";
+
+    public static final String MISSING = "missing";
+
+    private static final Duration[] SERVICE_LEVEL_OBJECTIVES = {
+        Duration.ofMillis(50),
+        Duration.ofMillis(100),
+        Duration.ofMillis(250),
+        Duration.ofMillis(500),
+        Duration.ofSeconds(1),
+        Duration.ofSeconds(5),
+    };
+
+    private final Logger logger = LoggerFactory.getLogger(EditingContextEventProcessorMetrics.class);
+
+    private final String editingContextId;
+
+    private final MeterRegistry meterRegistry;
+
+    public EditingContextEventProcessorMetrics(String editingContextId, MeterRegistry meterRegistry) {
+        this.editingContextId = Objects.requireNonNull(editingContextId);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(this.meterRegistry);
+    }
+
+    /**
+     * Records the processing of an input, from its reception to the end of its processing.
+     *
+     * @param input
+     *         The input
+     * @param outcome
+     *         The outcome of the processing, either {@link #SUCCESS}, {@link #FAILURE}, {@link #IGNORED} or {@link #REJECTED}
+     * @param sample
+     *         The sample started when the input has been received
+     */
+    public void inputProcessed(IInput input, String outcome, Timer.Sample sample) {
+        var tags = Tags.of(Monitoring.INPUT, input.getClass().getSimpleName(), Monitoring.OUTCOME, outcome);
+        long duration = sample.stop(this.getTimer(Monitoring.TIMER_PROCESSING_INPUT, tags));
+        if (this.logger.isDebugEnabled()) {
+            this.logger.debug("Input {} of type {} processed by the editing context {} in {}ms with the outcome {}", input.id(), input.getClass().getSimpleName(), this.editingContextId,
+                    TimeUnit.NANOSECONDS.toMillis(duration), outcome);
+        }
+    }
+
+    /**
+     * Records the refresh of the representations after a change.
+     *
+     * @param changeDescription
+     *         The description of the change
+     * @param sample
+     *         The sample started before the refresh of the representations
+     */
+    public void representationsRefreshed(ChangeDescription changeDescription, Timer.Sample sample) {
+        var tags = Tags.of(Monitoring.CHANGE_KIND, changeDescription.getKind());
+        long duration = sample.stop(this.getTimer(Monitoring.TIMER_REFRESH_REPRESENTATION, tags));
+        if (this.logger.isDebugEnabled()) {
+            this.logger.debug("Representations of the editing context {} refreshed in {}ms after the change {} of {}", this.editingContextId, TimeUnit.NANOSECONDS.toMillis(duration),
+                    changeDescription.getKind(), changeDescription.getSourceId());
+        }
+    }
+
+    /**
+     * Records the retrieval of a representation event processor.
+     *
+     * @param representationId
+     *         The id of the representation
+     * @param input
+     *         The input which requires the representation event processor
+     * @param optionalRepresentationEventProcessor
+     *         The representation event processor found, if any
+     * @param outcome
+     *         Either {@link #CREATED}, {@link #REUSED} or {@link #MISSING}
+     * @param sample
+     *         The sample started before the retrieval of the representation event processor
+     */
+    public void representationEventProcessorAcquired(String representationId, IInput input, Optional<IRepresentationEventProcessor> optionalRepresentationEventProcessor, String outcome,
+            Timer.Sample sample) {
+        var representationKind = optionalRepresentationEventProcessor.map(IRepresentationEventProcessor::getRepresentation)
+                .map(IRepresentation::getKind)
+                .orElse(MISSING);
+        var tags = Tags.of(Monitoring.INPUT, input.getClass().getSimpleName(), Monitoring.REPRESENTATION_KIND, representationKind, Monitoring.OUTCOME, outcome);
+        long duration = sample.stop(this.getTimer(Monitoring.TIMER_CREATE_REPRESENATION_EVENT_PROCESSOR, tags));
+        if (this.logger.isDebugEnabled()) {
+            this.logger.debug("Representation event processor of {} in the editing context {} acquired in {}ms with the outcome {}", representationId, this.editingContextId,
+                    TimeUnit.NANOSECONDS.toMillis(duration), outcome);
+        }
+    }
+
+    private Timer getTimer(String name, Tags tags) {
+        return Timer.builder(name)
+                .tags(tags)
+                .serviceLevelObjectives(SERVICE_LEVEL_OBJECTIVES)
+                .register(this.meterRegistry);
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 Obeo.
+ * Copyright (c) 2021, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -37,6 +37,9 @@ public record EditingContextEventProcessorParameters(
         ICollaborativeMessageService messageService,
         IEditingContext editingContext,
         IEditingContextPersistenceService editingContextPersistenceService,
+        EditingContextPersistencePolicy editingContextPersistencePolicy,
+        SelectiveRefreshPolicy selectiveRefreshPolicy,
+        EditingContextInputAdmissionPolicy inputAdmissionPolicy,
         ApplicationEventPublisher applicationEventPublisher,
         List<IEditingContextEventHandler> editingContextEventHandlers,
         IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory,
@@ -51,6 +54,9 @@ public record EditingContextEventProcessorParameters(
         Objects.requireNonNull(messageService);
         Objects.requireNonNull(editingContext);
         Objects.requireNonNull(editingContextPersistenceService);
+        Objects.requireNonNull(editingContextPersistencePolicy);
+        Objects.requireNonNull(selectiveRefreshPolicy);
+        Objects.requireNonNull(inputAdmissionPolicy);
         Objects.requireNonNull(applicationEventPublisher);
         Objects.requireNonNull(editingContextEventHandlers);
         Objects.requireNonNull(representationEventProcessorComposedFactory);
@@ -80,6 +86,12 @@ public record EditingContextEventProcessorParameters(
 
         private IEditingContextPersistenceService editingContextPersistenceService;
 
+        private EditingContextPersistencePolicy editingContextPersistencePolicy;
+
+        private SelectiveRefreshPolicy selectiveRefreshPolicy;
+
+        private EditingContextInputAdmissionPolicy inputAdmissionPolicy;
+
         private ApplicationEventPublisher applicationEventPublisher;
 
         private List<IEditingContextEventHandler> editingContextEventHandlers;
@@ -115,6 +127,21 @@ public record EditingContextEventProcessorParameters(
             return this;
         }
 
+        public EditingContextEventProcessorParametersBuilder editingContextPersistencePolicy(EditingContextPersistencePolicy editingContextPersistencePolicy) {
+            this.editingContextPersistencePolicy = Objects.requireNonNull(editingContextPersistencePolicy);
+            return this;
+        }
+
+        public EditingContextEventProcessorParametersBuilder selectiveRefreshPolicy(SelectiveRefreshPolicy selectiveRefreshPolicy) {
+            this.selectiveRefreshPolicy = Objects.requireNonNull(selectiveRefreshPolicy);
+            return this;
+        }
+
+        public EditingContextEventProcessorParametersBuilder inputAdmissionPolicy(EditingContextInputAdmissionPolicy inputAdmissionPolicy) {
+            this.inputAdmissionPolicy = Objects.requireNonNull(inputAdmissionPolicy);
+            return this;
+        }
+
         public EditingContextEventProcessorParametersBuilder applicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
             this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
             return this;
@@ -160,6 +187,9 @@ public record EditingContextEventProcessorParameters(
                     this.messageService,
                     this.editingContext,
                     this.editingContextPersistenceService,
+                    this.editingContextPersistencePolicy,
+                    this.selectiveRefreshPolicy,
+                    this.inputAdmissionPolicy,
                     this.applicationEventPublisher,
                     this.editingContextEventHandlers,
                     this.representationEventProcessorComposedFactory,
@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import java.util.Objects;
+
+import org.springframework.stereotype.Service;
+
+/**
+ * Bundles the policies used to configure the behavior of the editing context event processors.
+ *
+ * @author agent
+ */
+@Service
+public class EditingContextEventProcessorPolicies {
+
+    private final EditingContextPersistencePolicy editingContextPersistencePolicy;
+
+    private final SelectiveRefreshPolicy selectiveRefreshPolicy;
+
+    private final EditingContextInputAdmissionPolicy inputAdmissionPolicy;
+
+    public EditingContextEventProcessorPolicies(EditingContextPersistencePolicy editingContextPersistencePolicy, SelectiveRefreshPolicy selectiveRefreshPolicy,
+            EditingContextInputAdmissionPolicy inputAdmissionPolicy) {
+        this.editingContextPersistencePolicy = Objects.requireNonNull(editingContextPersistencePolicy);
+        this.selectiveRefreshPolicy = Objects.requireNonNull(selectiveRefreshPolicy);
+        this.inputAdmissionPolicy = Objects.requireNonNull(inputAdmissionPolicy);
+    }
+
+    public EditingContextPersistencePolicy getEditingContextPersistencePolicy() {
+        return this.editingContextPersistencePolicy;
+    }
+
+    public SelectiveRefreshPolicy getSelectiveRefreshPolicy() {
+        return this.selectiveRefreshPolicy;
+    }
+
+    public EditingContextInputAdmissionPolicy getInputAdmissionPolicy() {
+        return this.inputAdmissionPolicy;
+    }
+}
@@ -17,12 +17,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorFactory;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
 import org.eclipse.sirius.components.core.api.IInput;
@@ -32,6 +35,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PreDestroy;
 import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
@@ -39,6 +45,12 @@ import reactor.core.publisher.Mono;
 /**
  * Registry of the editing context event processors.
  *
+ * <p>
+ * Editing context event processors are loaded lazily and at most once at a time for a given editing context. Concurrent
+ * callers asking for an editing context which is currently being loaded will wait for the result of the pending load
+ * while callers asking for other editing contexts are never blocked.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
@@ -54,11 +66,25 @@ public class EditingContextEventProcessorRegistry implements IEditingContextEven
 
     private final Map<String, EditingContextEventProcessorEntry> editingContextEventProcessors = new ConcurrentHashMap<>();
 
+    private final Map<String, CompletableFuture<Optional<IEditingContextEventProcessor>>> pendingLoads = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    private final Timer loadTimer;
+
+    private final Timer loadWaitTimer;
+
+    private final Counter loadContentionCounter;
+
     public EditingContextEventProcessorRegistry(IEditingContextEventProcessorFactory editingContextEventProcessorFactory, IEditingContextSearchService editingContextSearchService,
-            @Value("${sirius.components.editingContext.disposeDelay:1s}") Duration disposeDelay) {
+            @Value("${sirius.components.editingContext.disposeDelay:1s}") Duration disposeDelay, MeterRegistry meterRegistry) {
         this.editingContextEventProcessorFactory = editingContextEventProcessorFactory;
         this.editingContextSearchService = Objects.requireNonNull(editingContextSearchService);
         this.disposeDelay = disposeDelay;
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.loadTimer = Timer.builder(Monitoring.TIMER_LOAD_EDITING_CONTEXT).register(meterRegistry);
+        this.loadWaitTimer = Timer.builder(Monitoring.TIMER_LOAD_EDITING_CONTEXT_WAIT).register(meterRegistry);
+        this.loadContentionCounter = Counter.builder(Monitoring.COUNTER_LOAD_EDITING_CONTEXT_CONTENTION).register(meterRegistry);
     }
 
     @Override
@@ -78,35 +104,92 @@ public class EditingContextEventProcessorRegistry implements IEditingContextEven
     }
 
     @Override
-    public synchronized Optional<IEditingContextEventProcessor> getOrCreateEditingContextEventProcessor(String editingContextId) {
+    public Optional<IEditingContextEventProcessor> getOrCreateEditingContextEventProcessor(String editingContextId) {
+        var optionalEditingContextEventProcessor = this.getLoadedEditingContextEventProcessor(editingContextId);
+        if (optionalEditingContextEventProcessor.isEmpty()) {
+            CompletableFuture<Optional<IEditingContextEventProcessor>> load = new CompletableFuture<>();
+            var pendingLoad = this.pendingLoads.putIfAbsent(editingContextId, load);
+            if (pendingLoad != null) {
+                optionalEditingContextEventProcessor = this.waitForPendingLoad(editingContextId, pendingLoad);
+            } else {
+                optionalEditingContextEventProcessor = this.load(editingContextId, load);
+            }
+        }
+        return optionalEditingContextEventProcessor;
+    }
+
+    private Optional<IEditingContextEventProcessor> getLoadedEditingContextEventProcessor(String editingContextId) {
+        return Optional.ofNullable(this.editingContextEventProcessors.get(editingContextId))
+                .map(EditingContextEventProcessorEntry::getEditingContextEventProcessor);
+    }
+
+    private Optional<IEditingContextEventProcessor> waitForPendingLoad(String editingContextId, CompletableFuture<Optional<IEditingContextEventProcessor>> pendingLoad) {
+        this.loadContentionCounter.increment();
+        this.logger.trace("Waiting for the pending load of the editing context {}", editingContextId);
+
         Optional<IEditingContextEventProcessor> optionalEditingContextEventProcessor = Optional.empty();
-        if (this.editingContextSearchService.existsById(editingContextId)) {
-            optionalEditingContextEventProcessor = Optional.ofNullable(this.editingContextEventProcessors.get(editingContextId))
-                    .map(EditingContextEventProcessorEntry::getEditingContextEventProcessor);
+        var sample = Timer.start(this.meterRegistry);
+        try {
+            optionalEditingContextEventProcessor = pendingLoad.join();
+        } catch (CompletionException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+        sample.stop(this.loadWaitTimer);
+        return optionalEditingContextEventProcessor;
+    }
+
+    /**
+     * Loads the editing context event processor and completes the given future with the result.
+     *
+     * <p>
+     * The caller must have registered the given future as the pending load of the editing context beforehand. The
+     * editing context event processor is registered before the pending load is removed so that another caller cannot
+     * start a second load in between.
+     * </p>
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private Optional<IEditingContextEventProcessor> load(String editingContextId, CompletableFuture<Optional<IEditingContextEventProcessor>> load) {
+        try {
+            var optionalEditingContextEventProcessor = this.getLoadedEditingContextEventProcessor(editingContextId);
             if (optionalEditingContextEventProcessor.isEmpty()) {
-                Optional<IEditingContext> optionalEditingContext = this.editingContextSearchService.findById(editingContextId);
-                if (optionalEditingContext.isPresent()) {
-                    IEditingContext editingContext = optionalEditingContext.get();
-
-                    var editingContextEventProcessor = this.editingContextEventProcessorFactory.createEditingContextEventProcessor(editingContext);
-                    Disposable subscription = editingContextEventProcessor.canBeDisposed().delayElements(this.disposeDelay).subscribe(canBeDisposed -> {
-                        // We will wait for the delay before trying to dispose the editing context event processor
-                        // We will check if the editing context event processor is still empty
-                        if (canBeDisposed.booleanValue() && editingContextEventProcessor.getRepresentationEventProcessors().isEmpty()) {
-                            this.disposeEditingContextEventProcessor(editingContextId);
-                        } else {
-                            this.logger.trace("Stopping the disposal of the editing context");
-                        }
-                    });
-
-                    var editingContextEventProcessorEntry = new EditingContextEventProcessorEntry(editingContextEventProcessor, subscription);
-                    this.editingContextEventProcessors.put(editingContextId, editingContextEventProcessorEntry);
-
-                    optionalEditingContextEventProcessor = Optional.of(editingContextEventProcessor);
-                }
+                var sample = Timer.start(this.meterRegistry);
+                optionalEditingContextEventProcessor = this.createEditingContextEventProcessor(editingContextId);
+                sample.stop(this.loadTimer);
             }
+            load.complete(optionalEditingContextEventProcessor);
+            return optionalEditingContextEventProcessor;
+        } catch (RuntimeException exception) {
+            load.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            this.pendingLoads.remove(editingContextId, load);
         }
+    }
 
+    private Optional<IEditingContextEventProcessor> createEditingContextEventProcessor(String editingContextId) {
+        Optional<IEditingContextEventProcessor> optionalEditingContextEventProcessor = Optional.empty();
+        if (this.editingContextSearchService.existsById(editingContextId)) {
+            Optional<IEditingContext> optionalEditingContext = this.editingContextSearchService.findById(editingContextId);
+            if (optionalEditingContext.isPresent()) {
+                IEditingContext editingContext = optionalEditingContext.get();
+
+                var editingContextEventProcessor = this.editingContextEventProcessorFactory.createEditingContextEventProcessor(editingContext);
+                Disposable subscription = editingContextEventProcessor.canBeDisposed().delayElements(this.disposeDelay).subscribe(canBeDisposed -> {
+                    // We will wait for the delay before trying to dispose the editing context event processor
+                    // We will check if the editing context event processor is still empty
+                    if (canBeDisposed.booleanValue() && editingContextEventProcessor.getRepresentationEventProcessors().isEmpty()) {
+                        this.disposeEditingContextEventProcessor(editingContextId);
+                    } else {
+                        this.logger.trace("Stopping the disposal of the editing context");
+                    }
+                });
+
+                var editingContextEventProcessorEntry = new EditingContextEventProcessorEntry(editingContextEventProcessor, subscription);
+                this.editingContextEventProcessors.put(editingContextId, editingContextEventProcessorEntry);
+
+                optionalEditingContextEventProcessor = Optional.of(editingContextEventProcessor);
+            }
+        }
         return optionalEditingContextEventProcessor;
     }
 
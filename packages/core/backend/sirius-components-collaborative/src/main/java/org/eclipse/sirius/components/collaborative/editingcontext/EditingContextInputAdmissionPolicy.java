@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Indicates if a new input can be queued in an editing context event processor.
+ *
+ * <p>
+ * The inputs of an editing context are processed one at a time by its own thread. To prevent a busy editing context
+ * from accumulating an unbounded amount of work, and thus from holding the resources of the server, the new inputs are
+ * rejected as soon as the maximum number of inputs waiting to be processed has been reached for this editing context.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class EditingContextInputAdmissionPolicy {
+
+    private final int maxPendingInputs;
+
+    private final AtomicInteger pendingInputs = new AtomicInteger();
+
+    private final Timer waitTimer;
+
+    private final Counter rejectedInputsCounter;
+
+    public EditingContextInputAdmissionPolicy(@Value("${sirius.components.editingContext.inputs.maxPending:100}") int maxPendingInputs, MeterRegistry meterRegistry) {
+        this.maxPendingInputs = maxPendingInputs;
+        meterRegistry.gauge(Monitoring.GAUGE_PENDING_INPUTS, this.pendingInputs);
+        this.waitTimer = Timer.builder(Monitoring.TIMER_INPUT_WAIT)
+                .register(meterRegistry);
+        this.rejectedInputsCounter = Counter.builder(Monitoring.COUNTER_REJECTED_INPUTS)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Tries to admit a new input in an editing context.
+     *
+     * @param editingContextPendingInputs
+     *         The number of inputs of the editing context which have been admitted but not processed yet
+     * @return <code>true</code> if the input has been admitted and counted as pending, <code>false</code> if it should
+     *         be rejected
+     */
+    public boolean tryAdmit(AtomicInteger editingContextPendingInputs) {
+        boolean isAdmitted = false;
+        int count = editingContextPendingInputs.get();
+        while (!isAdmitted && (this.maxPendingInputs <= 0 || count < this.maxPendingInputs)) {
+            isAdmitted = editingContextPendingInputs.compareAndSet(count, count + 1);
+            count = editingContextPendingInputs.get();
+        }
+
+        if (isAdmitted) {
+            this.pendingInputs.incrementAndGet();
+        } else {
+            this.rejectedInputsCounter.increment();
+        }
+        return isAdmitted;
+    }
+
+    /**
+     * Records that the processing of an admitted input has started.
+     *
+     * @param waitTime
+     *         The time spent by the input in the queue of the editing context, in nanoseconds
+     */
+    public void processingStarted(long waitTime) {
+        this.waitTimer.record(waitTime, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records that an admitted input has been processed or will never be.
+     *
+     * @param editingContextPendingInputs
+     *         The number of inputs of the editing context which have been admitted but not processed yet
+     */
+    public void release(AtomicInteger editingContextPendingInputs) {
+        editingContextPendingInputs.decrementAndGet();
+        this.pendingInputs.decrementAndGet();
+    }
+
+    public int getMaxPendingInputs() {
+        return this.maxPendingInputs;
+    }
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Indicates when the editing contexts should be persisted after a semantic change.
+ *
+ * <p>
+ * By default, the editing context is persisted synchronously after each semantic change. With the write-behind mode,
+ * consecutive changes are coalesced and the editing context is only persisted once no change has been performed during
+ * the debounce delay or, at the latest, once the max delay has elapsed since the first unsaved change. In this mode,
+ * the changes performed during this delay may be lost if the server stops abruptly.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class EditingContextPersistencePolicy {
+
+    private final boolean writeBehind;
+
+    private final Duration debounce;
+
+    private final Duration maxDelay;
+
+    private final AtomicInteger pendingSaves = new AtomicInteger();
+
+    public EditingContextPersistencePolicy(@Value("${sirius.components.editingContext.persistence.writeBehind.enabled:false}") boolean writeBehind,
+            @Value("${sirius.components.editingContext.persistence.writeBehind.debounce:500ms}") Duration debounce,
+            @Value("${sirius.components.editingContext.persistence.writeBehind.maxDelay:5s}") Duration maxDelay,
+            MeterRegistry meterRegistry) {
+        this.writeBehind = writeBehind;
+        this.debounce = Objects.requireNonNull(debounce);
+        this.maxDelay = Objects.requireNonNull(maxDelay);
+        meterRegistry.gauge(Monitoring.GAUGE_PENDING_EDITING_CONTEXT_SAVES, this.pendingSaves);
+    }
+
+    public boolean isWriteBehind() {
+        return this.writeBehind;
+    }
+
+    public Duration getDebounce() {
+        return this.debounce;
+    }
+
+    public Duration getMaxDelay() {
+        return this.maxDelay;
+    }
+
+    /**
+     * Records that an editing context has some changes waiting to be persisted.
+     */
+    public void savePending() {
+        this.pendingSaves.incrementAndGet();
+    }
+
+    /**
+     * Records that the pending changes of an editing context have been persisted.
+     */
+    public void pendingSaveFlushed() {
+        this.pendingSaves.decrementAndGet();
+    }
+
+    public int getPendingSaves() {
+        return this.pendingSaves.get();
+    }
+}
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Persists an editing context after its semantic changes according to the {@link EditingContextPersistencePolicy}.
+ *
+ * <p>
+ * Except for {@link #dispose()}, all the methods of this class must be called from the thread of the editing context
+ * since the editing context is not thread safe. Delayed saves are thus submitted to the executor service of the editing
+ * context once their delay has elapsed.
+ * </p>
+ *
+ * <p>
+ * The delays are measured with the clock of the given scheduler which is also used to wait for them.
+ * </p>
+ *
+ * @author agent
+ */
+public class EditingContextPersistenceScheduler {
+
+    private static final Duration FLUSH_TIMEOUT = Duration.ofSeconds(30);
+
+    private final Logger logger = LoggerFactory.getLogger(EditingContextPersistenceScheduler.class);
+
+    private final IEditingContext editingContext;
+
+    private final IEditingContextPersistenceService editingContextPersistenceService;
+
+    private final EditingContextPersistencePolicy persistencePolicy;
+
+    private final ExecutorService executorService;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Scheduler scheduler;
+
+    private IInput pendingInput;
+
+    private long firstPendingChangeTime;
+
+    private Disposable scheduledFlush;
+
+    public EditingContextPersistenceScheduler(IEditingContext editingContext, IEditingContextPersistenceService editingContextPersistenceService, EditingContextPersistencePolicy persistencePolicy,
+            ExecutorService executorService, MeterRegistry meterRegistry) {
+        this(editingContext, editingContextPersistenceService, persistencePolicy, executorService, meterRegistry, Schedulers.parallel());
+    }
+
+    public EditingContextPersistenceScheduler(IEditingContext editingContext, IEditingContextPersistenceService editingContextPersistenceService, EditingContextPersistencePolicy persistencePolicy,
+            ExecutorService executorService, MeterRegistry meterRegistry, Scheduler scheduler) {
+        this.editingContext = Objects.requireNonNull(editingContext);
+        this.editingContextPersistenceService = Objects.requireNonNull(editingContextPersistenceService);
+        this.persistencePolicy = Objects.requireNonNull(persistencePolicy);
+        this.executorService = Objects.requireNonNull(executorService);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.scheduler = Objects.requireNonNull(scheduler);
+    }
+
+    /**
+     * Persists the editing context immediately or schedules its persistence if the write-behind mode is enabled.
+     *
+     * @param input
+     *         The input which has modified the editing context
+     */
+    public void persist(IInput input) {
+        if (!this.persistencePolicy.isWriteBehind()) {
+            this.editingContextPersistenceService.persist(input, this.editingContext);
+        } else {
+            long now = this.scheduler.now(TimeUnit.NANOSECONDS);
+            if (this.pendingInput == null) {
+                this.firstPendingChangeTime = now;
+                this.persistencePolicy.savePending();
+            } else {
+                this.meterRegistry.counter(Monitoring.COUNTER_COALESCED_EDITING_CONTEXT_SAVES).increment();
+            }
+            this.pendingInput = input;
+
+            long remainingDelay = this.persistencePolicy.getMaxDelay().toNanos() - (now - this.firstPendingChangeTime);
+            long delay = Math.max(0, Math.min(this.persistencePolicy.getDebounce().toNanos(), remainingDelay));
+
+            if (this.scheduledFlush != null) {
+                this.scheduledFlush.dispose();
+            }
+            this.scheduledFlush = Mono.delay(Duration.ofNanos(delay), this.scheduler).subscribe(tick -> this.submitFlush());
+        }
+    }
+
+    private void submitFlush() {
+        try {
+            this.executorService.submit(this::flush);
+        } catch (RejectedExecutionException exception) {
+            this.logger.trace("The editing context {} is being disposed, its pending changes will be persisted during its disposal", this.editingContext.getId());
+        }
+    }
+
+    /**
+     * Persists the pending changes of the editing context, if any.
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    public void flush() {
+        if (this.scheduledFlush != null) {
+            this.scheduledFlush.dispose();
+            this.scheduledFlush = null;
+        }
+
+        if (this.pendingInput != null) {
+            var input = this.pendingInput;
+            long lag = this.scheduler.now(TimeUnit.NANOSECONDS) - this.firstPendingChangeTime;
+            this.meterRegistry.timer(Monitoring.TIMER_EDITING_CONTEXT_SAVE_LAG).record(lag, TimeUnit.NANOSECONDS);
+            this.pendingInput = null;
+            this.persistencePolicy.pendingSaveFlushed();
+
+            try {
+                this.editingContextPersistenceService.persist(input, this.editingContext);
+            } catch (RuntimeException exception) {
+                this.logger.warn(exception.getMessage(), exception);
+            }
+        }
+    }
+
+    /**
+     * Persists the pending changes of the editing context from its thread and waits for their persistence.
+     *
+     * <p>
+     * This method must be called before the shutdown of the executor service of the editing context.
+     * </p>
+     */
+    public void dispose() {
+        if (this.persistencePolicy.isWriteBehind()) {
+            try {
+                this.executorService.submit(this::flush).get(FLUSH_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                this.logger.warn(exception.getMessage(), exception);
+            } catch (ExecutionException | TimeoutException | RejectedExecutionException exception) {
+                this.logger.warn("The pending changes of the editing context {} could not be persisted", this.editingContext.getId(), exception);
+            }
+        }
+    }
+}
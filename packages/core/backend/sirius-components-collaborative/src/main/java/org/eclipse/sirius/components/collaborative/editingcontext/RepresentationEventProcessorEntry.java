@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Obeo.
+ * Copyright (c) 2021, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@
 package org.eclipse.sirius.components.collaborative.editingcontext;
 
 import java.util.Objects;
+import java.util.Set;
 
 import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
 
@@ -28,6 +29,8 @@ public class RepresentationEventProcessorEntry {
 
     private final Disposable disposable;
 
+    private Set<Object> readObjects = Set.of();
+
     public RepresentationEventProcessorEntry(IRepresentationEventProcessor representationEventProcessor, Disposable disposable) {
         this.representationEventProcessor = Objects.requireNonNull(representationEventProcessor);
         this.disposable = Objects.requireNonNull(disposable);
@@ -41,6 +44,19 @@ public class RepresentationEventProcessorEntry {
         return this.disposable;
     }
 
+    /**
+     * Returns the objects read during the last rendering of the representation.
+     *
+     * @return The objects read or an empty set if they are unknown
+     */
+    public Set<Object> getReadObjects() {
+        return this.readObjects;
+    }
+
+    public void setReadObjects(Set<Object> readObjects) {
+        this.readObjects = Objects.requireNonNull(readObjects);
+    }
+
     public void dispose() {
         this.disposable.dispose();
         this.representationEventProcessor.dispose();
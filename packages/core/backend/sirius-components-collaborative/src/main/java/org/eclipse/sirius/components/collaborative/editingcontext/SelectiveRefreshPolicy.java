@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.sirius.components.collaborative.api.ISemanticChanges;
+import org.eclipse.sirius.components.collaborative.api.ISemanticChangesProvider;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Indicates if the representations which do not depend on the semantic changes performed should be refreshed.
+ *
+ * <p>
+ * By default, all the representations opened in an editing context are refreshed after each semantic change. With the
+ * selective refresh, the objects read during the rendering of each representation are recorded and a representation
+ * is only refreshed after a semantic change performed elsewhere if this change may impact those objects. The objects
+ * read are approximated by the objects on which the representation has been rendered, the semantic changes thus have
+ * to be matched against everything which can be reached from those objects.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class SelectiveRefreshPolicy {
+
+    private final boolean enabled;
+
+    private final List<ISemanticChangesProvider> semanticChangesProviders;
+
+    private final Counter performedRefreshesCounter;
+
+    private final Counter skippedRefreshesCounter;
+
+    public SelectiveRefreshPolicy(@Value("${sirius.components.representations.selectiveRefresh.enabled:false}") boolean enabled, List<ISemanticChangesProvider> semanticChangesProviders,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.semanticChangesProviders = Objects.requireNonNull(semanticChangesProviders);
+        this.performedRefreshesCounter = Counter.builder(Monitoring.COUNTER_REPRESENTATION_REFRESH_PERFORMED).register(meterRegistry);
+        this.skippedRefreshesCounter = Counter.builder(Monitoring.COUNTER_REPRESENTATION_REFRESH_SKIPPED).register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Returns the semantic changes performed in the given editing context since the last call.
+     *
+     * @param editingContext
+     *         The editing context
+     * @return The semantic changes or an empty optional if the selective refresh is disabled or if the changes are not
+     *         tracked for this editing context
+     */
+    public Optional<ISemanticChanges> consumeChanges(IEditingContext editingContext) {
+        Optional<ISemanticChanges> optionalSemanticChanges = Optional.empty();
+        if (this.enabled) {
+            var iterator = this.semanticChangesProviders.iterator();
+            while (optionalSemanticChanges.isEmpty() && iterator.hasNext()) {
+                optionalSemanticChanges = iterator.next().consumeChanges(editingContext);
+            }
+        }
+        return optionalSemanticChanges;
+    }
+
+    public void refreshPerformed() {
+        this.performedRefreshesCounter.increment();
+    }
+
+    public void refreshSkipped() {
+        this.skippedRefreshesCounter.increment();
+    }
+}
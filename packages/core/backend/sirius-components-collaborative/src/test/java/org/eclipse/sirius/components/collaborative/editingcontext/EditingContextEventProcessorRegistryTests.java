@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorFactory;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests of the editing context event processor registry.
+ *
+ * @author agent
+ */
+public class EditingContextEventProcessorRegistryTests {
+
+    private static final String SLOW_EDITING_CONTEXT_ID = "slow";
+
+    private static final String FAST_EDITING_CONTEXT_ID = "fast";
+
+    @Test
+    public void testConcurrentCallersShareTheSameLoad() throws Exception {
+        CountDownLatch slowLoadStarted = new CountDownLatch(1);
+        CountDownLatch slowLoadReleased = new CountDownLatch(1);
+        AtomicInteger slowLoadCount = new AtomicInteger();
+        AtomicInteger existsByIdCount = new AtomicInteger();
+
+        IEditingContextSearchService editingContextSearchService = new IEditingContextSearchService() {
+            @Override
+            public boolean existsById(String editingContextId) {
+                existsByIdCount.incrementAndGet();
+                return true;
+            }
+
+            @Override
+            public Optional<IEditingContext> findById(String editingContextId) {
+                if (SLOW_EDITING_CONTEXT_ID.equals(editingContextId)) {
+                    slowLoadCount.incrementAndGet();
+                    slowLoadStarted.countDown();
+                    try {
+                        slowLoadReleased.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return Optional.of(() -> editingContextId);
+            }
+        };
+
+        IEditingContextEventProcessorFactory editingContextEventProcessorFactory = editingContext -> new IEditingContextEventProcessor.NoOp() {
+            @Override
+            public String getEditingContextId() {
+                return editingContext.getId();
+            }
+        };
+
+        var registry = new EditingContextEventProcessorRegistry(editingContextEventProcessorFactory, editingContextSearchService, Duration.ofSeconds(1), new SimpleMeterRegistry());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            var firstCaller = CompletableFuture.supplyAsync(() -> registry.getOrCreateEditingContextEventProcessor(SLOW_EDITING_CONTEXT_ID), executorService);
+            assertThat(slowLoadStarted.await(10, TimeUnit.SECONDS)).isTrue();
+            var secondCaller = CompletableFuture.supplyAsync(() -> registry.getOrCreateEditingContextEventProcessor(SLOW_EDITING_CONTEXT_ID), executorService);
+
+            var optionalFastEditingContextEventProcessor = registry.getOrCreateEditingContextEventProcessor(FAST_EDITING_CONTEXT_ID);
+            assertThat(optionalFastEditingContextEventProcessor).isPresent();
+            assertThat(firstCaller).isNotDone();
+
+            slowLoadReleased.countDown();
+
+            var optionalFirstEditingContextEventProcessor = firstCaller.get(10, TimeUnit.SECONDS);
+            var optionalSecondEditingContextEventProcessor = secondCaller.get(10, TimeUnit.SECONDS);
+            assertThat(optionalFirstEditingContextEventProcessor).isPresent();
+            assertThat(optionalSecondEditingContextEventProcessor).containsSame(optionalFirstEditingContextEventProcessor.get());
+            assertThat(slowLoadCount.get()).isEqualTo(1);
+
+            int existsByIdCountBeforeCachedAccess = existsByIdCount.get();
+            assertThat(registry.getOrCreateEditingContextEventProcessor(SLOW_EDITING_CONTEXT_ID)).containsSame(optionalFirstEditingContextEventProcessor.get());
+            assertThat(existsByIdCount.get()).isEqualTo(existsByIdCountBeforeCachedAccess);
+        } finally {
+            executorService.shutdownNow();
+            registry.dispose();
+        }
+    }
+}
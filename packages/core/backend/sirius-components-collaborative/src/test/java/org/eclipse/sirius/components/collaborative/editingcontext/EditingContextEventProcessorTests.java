@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.IDanglingRepresentationDeletionService;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.collaborative.messages.ICollaborativeMessageService;
+import org.eclipse.sirius.components.core.api.ErrorPayload;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.core.api.SuccessPayload;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks.Many;
+import reactor.core.publisher.Sinks.One;
+
+/**
+ * Tests of the processing of the inputs by the editing context event processor.
+ *
+ * @author agent
+ */
+public class EditingContextEventProcessorTests {
+
+    private final IEditingContext editingContext = () -> "editingContextId";
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+    @Test
+    public void testHandleDoesNotWaitForTheProcessingOfTheInput() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(0, meterRegistry);
+        try {
+            IInput input = UUID::randomUUID;
+            Mono<IPayload> payload = editingContextEventProcessor.handle(input);
+
+            this.latch.countDown();
+            assertThat(payload.block(Duration.ofSeconds(5))).isInstanceOf(SuccessPayload.class);
+        } finally {
+            editingContextEventProcessor.dispose();
+        }
+    }
+
+    @Test
+    public void testInputsAreRejectedWhenTooManyInputsArePending() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(1, meterRegistry);
+        try {
+            IInput firstInput = UUID::randomUUID;
+            Mono<IPayload> firstPayload = editingContextEventProcessor.handle(firstInput);
+
+            IInput secondInput = UUID::randomUUID;
+            IPayload secondPayload = editingContextEventProcessor.handle(secondInput).block(Duration.ofSeconds(5));
+            assertThat(secondPayload).isInstanceOf(ErrorPayload.class);
+            assertThat(meterRegistry.counter(Monitoring.COUNTER_REJECTED_INPUTS).count()).isEqualTo(1);
+
+            this.latch.countDown();
+            assertThat(firstPayload.block(Duration.ofSeconds(5))).isInstanceOf(SuccessPayload.class);
+        } finally {
+            editingContextEventProcessor.dispose();
+        }
+    }
+
+    @Test
+    public void testProcessingTimersDoNotDependOnTheIdOfTheInputs() throws InterruptedException {
+        var meterRegistry = new SimpleMeterRegistry();
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(0, meterRegistry);
+        try {
+            this.latch.countDown();
+
+            for (int i = 0; i < 2; i++) {
+                IInput input = UUID::randomUUID;
+                editingContextEventProcessor.handle(input).block(Duration.ofSeconds(5));
+            }
+        } finally {
+            editingContextEventProcessor.dispose();
+        }
+
+        assertThat(this.executorService.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        var timers = meterRegistry.find(Monitoring.TIMER_PROCESSING_INPUT).timers();
+        assertThat(timers).hasSize(1);
+        assertThat(timers.iterator().next().count()).isEqualTo(2);
+        assertThat(timers.iterator().next().getId().getTag(Monitoring.OUTCOME)).isEqualTo(EditingContextEventProcessorMetrics.SUCCESS);
+    }
+
+    private EditingContextEventProcessor createEditingContextEventProcessor(int maxPendingInputs, SimpleMeterRegistry meterRegistry) {
+        IEditingContextEventHandler editingContextEventHandler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext context, IInput input) {
+                return true;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext context, IInput input) {
+                try {
+                    EditingContextEventProcessorTests.this.latch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+            }
+        };
+
+        var parameters = EditingContextEventProcessorParameters.newEditingContextEventProcessorParameters()
+                .messageService(new ICollaborativeMessageService.NoOp())
+                .editingContext(this.editingContext)
+                .editingContextPersistenceService((cause, context) -> { })
+                .editingContextPersistencePolicy(new EditingContextPersistencePolicy(false, Duration.ZERO, Duration.ZERO, meterRegistry))
+                .selectiveRefreshPolicy(new SelectiveRefreshPolicy(false, List.of(), meterRegistry))
+                .inputAdmissionPolicy(new EditingContextInputAdmissionPolicy(maxPendingInputs, meterRegistry))
+                .applicationEventPublisher(event -> { })
+                .editingContextEventHandlers(List.of(editingContextEventHandler))
+                .representationEventProcessorComposedFactory((context, representationId) -> Optional.empty())
+                .danglingRepresentationDeletionService(new IDanglingRepresentationDeletionService.NoOp())
+                .executorServiceProvider(context -> this.executorService)
+                .inputPreProcessors(List.of())
+                .inputPostProcessors(List.of())
+                .meterRegistry(meterRegistry)
+                .build();
+
+        return new EditingContextEventProcessor(parameters);
+    }
+}
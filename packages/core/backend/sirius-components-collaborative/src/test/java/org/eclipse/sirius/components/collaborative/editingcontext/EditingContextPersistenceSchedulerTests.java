@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.events.ICause;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+/**
+ * Unit tests of the editing context persistence scheduler.
+ *
+ * @author agent
+ */
+public class EditingContextPersistenceSchedulerTests {
+
+    private static final int CHANGES_COUNT = 30;
+
+    private final IEditingContext editingContext = () -> "editingContextId";
+
+    @Test
+    public void testEachChangeIsPersistedWithoutWriteBehind() throws Exception {
+        var meterRegistry = new SimpleMeterRegistry();
+        var persistencePolicy = new EditingContextPersistencePolicy(false, Duration.ofSeconds(10), Duration.ofSeconds(10), meterRegistry);
+
+        List<ICause> causes = new CopyOnWriteArrayList<>();
+        IEditingContextPersistenceService editingContextPersistenceService = (cause, context) -> causes.add(cause);
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            var scheduler = new EditingContextPersistenceScheduler(this.editingContext, editingContextPersistenceService, persistencePolicy, executorService, meterRegistry);
+            executorService.submit(() -> this.persistChanges(scheduler)).get(10, TimeUnit.SECONDS);
+
+            assertThat(causes).hasSize(CHANGES_COUNT);
+            assertThat(persistencePolicy.getPendingSaves()).isZero();
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConsecutiveChangesAreCoalescedWithWriteBehind() throws Exception {
+        var meterRegistry = new SimpleMeterRegistry();
+        var persistencePolicy = new EditingContextPersistencePolicy(true, Duration.ofMillis(100), Duration.ofSeconds(10), meterRegistry);
+
+        List<ICause> causes = new CopyOnWriteArrayList<>();
+        IEditingContextPersistenceService editingContextPersistenceService = (cause, context) -> causes.add(cause);
+
+        var virtualTimeScheduler = VirtualTimeScheduler.create();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            var scheduler = new EditingContextPersistenceScheduler(this.editingContext, editingContextPersistenceService, persistencePolicy, executorService, meterRegistry, virtualTimeScheduler);
+            var lastInput = executorService.submit(() -> this.persistChanges(scheduler)).get(10, TimeUnit.SECONDS);
+
+            virtualTimeScheduler.advanceTimeBy(Duration.ofMillis(99));
+            this.awaitSubmittedTasks(executorService);
+            assertThat(causes).isEmpty();
+            assertThat(persistencePolicy.getPendingSaves()).isEqualTo(1);
+
+            virtualTimeScheduler.advanceTimeBy(Duration.ofMillis(1));
+            this.awaitSubmittedTasks(executorService);
+            assertThat(causes).containsExactly(lastInput);
+            assertThat(persistencePolicy.getPendingSaves()).isZero();
+            assertThat(meterRegistry.counter(Monitoring.COUNTER_COALESCED_EDITING_CONTEXT_SAVES).count()).isEqualTo(CHANGES_COUNT - 1);
+            assertThat(meterRegistry.timer(Monitoring.TIMER_EDITING_CONTEXT_SAVE_LAG).count()).isEqualTo(1);
+            assertThat(meterRegistry.timer(Monitoring.TIMER_EDITING_CONTEXT_SAVE_LAG).totalTime(TimeUnit.MILLISECONDS)).isEqualTo(100);
+        } finally {
+            executorService.shutdownNow();
+            virtualTimeScheduler.dispose();
+        }
+    }
+
+    @Test
+    public void testContinuousChangesArePersistedAfterTheMaxDelay() throws Exception {
+        var meterRegistry = new SimpleMeterRegistry();
+        var persistencePolicy = new EditingContextPersistencePolicy(true, Duration.ofMillis(100), Duration.ofMillis(250), meterRegistry);
+
+        List<ICause> causes = new CopyOnWriteArrayList<>();
+        IEditingContextPersistenceService editingContextPersistenceService = (cause, context) -> causes.add(cause);
+
+        var virtualTimeScheduler = VirtualTimeScheduler.create();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            var scheduler = new EditingContextPersistenceScheduler(this.editingContext, editingContextPersistenceService, persistencePolicy, executorService, meterRegistry, virtualTimeScheduler);
+
+            for (int i = 0; i < 2; i++) {
+                executorService.submit(() -> this.persistChanges(scheduler)).get(10, TimeUnit.SECONDS);
+                virtualTimeScheduler.advanceTimeBy(Duration.ofMillis(90));
+                this.awaitSubmittedTasks(executorService);
+            }
+            var lastInput = executorService.submit(() -> this.persistChanges(scheduler)).get(10, TimeUnit.SECONDS);
+
+            virtualTimeScheduler.advanceTimeBy(Duration.ofMillis(69));
+            this.awaitSubmittedTasks(executorService);
+            assertThat(causes).isEmpty();
+
+            virtualTimeScheduler.advanceTimeBy(Duration.ofMillis(1));
+            this.awaitSubmittedTasks(executorService);
+            assertThat(causes).containsExactly(lastInput);
+            assertThat(meterRegistry.timer(Monitoring.TIMER_EDITING_CONTEXT_SAVE_LAG).totalTime(TimeUnit.MILLISECONDS)).isEqualTo(250);
+        } finally {
+            executorService.shutdownNow();
+            virtualTimeScheduler.dispose();
+        }
+    }
+
+    @Test
+    public void testPendingChangesArePersistedOnDispose() throws Exception {
+        var meterRegistry = new SimpleMeterRegistry();
+        var persistencePolicy = new EditingContextPersistencePolicy(true, Duration.ofMinutes(1), Duration.ofMinutes(1), meterRegistry);
+
+        List<ICause> causes = new CopyOnWriteArrayList<>();
+        IEditingContextPersistenceService editingContextPersistenceService = (cause, context) -> causes.add(cause);
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            var scheduler = new EditingContextPersistenceScheduler(this.editingContext, editingContextPersistenceService, persistencePolicy, executorService, meterRegistry);
+            var lastInput = executorService.submit(() -> this.persistChanges(scheduler)).get(10, TimeUnit.SECONDS);
+            assertThat(causes).isEmpty();
+
+            scheduler.dispose();
+
+            assertThat(causes).containsExactly(lastInput);
+            assertThat(persistencePolicy.getPendingSaves()).isZero();
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void awaitSubmittedTasks(ExecutorService executorService) throws Exception {
+        executorService.submit(() -> { }).get(10, TimeUnit.SECONDS);
+    }
+
+    private IInput persistChanges(EditingContextPersistenceScheduler scheduler) {
+        IInput input = null;
+        for (int i = 0; i < CHANGES_COUNT; i++) {
+            UUID id = UUID.randomUUID();
+            input = () -> id;
+            scheduler.persist(input);
+        }
+        return input;
+    }
+}
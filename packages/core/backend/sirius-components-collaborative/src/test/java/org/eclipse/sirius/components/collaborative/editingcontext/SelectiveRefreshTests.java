@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IDanglingRepresentationDeletionService;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
+import org.eclipse.sirius.components.collaborative.api.ISemanticChanges;
+import org.eclipse.sirius.components.collaborative.api.ISemanticChangesProvider;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.collaborative.messages.ICollaborativeMessageService;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.core.api.SuccessPayload;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Sinks.Many;
+import reactor.core.publisher.Sinks.One;
+
+/**
+ * Unit tests of the selective refresh of the representations.
+ *
+ * @author agent
+ */
+public class SelectiveRefreshTests {
+
+    private static final String IMPACTED_REPRESENTATION_ID = "impacted";
+
+    private static final String UNIMPACTED_REPRESENTATION_ID = "unimpacted";
+
+    private static final String IMPACTED_OBJECT = "impactedObject";
+
+    private static final String UNIMPACTED_OBJECT = "unimpactedObject";
+
+    private final IEditingContext editingContext = () -> "editingContextId";
+
+    private final Map<String, AtomicInteger> refreshCounts = new ConcurrentHashMap<>();
+
+    @Test
+    public void testOnlyImpactedRepresentationsAreRefreshedWhenEnabled() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var selectiveRefreshPolicy = new SelectiveRefreshPolicy(true, List.of(this.getSemanticChangesProvider()), meterRegistry);
+
+        this.performSemanticChanges(selectiveRefreshPolicy, meterRegistry);
+
+        assertThat(this.refreshCounts.get(IMPACTED_REPRESENTATION_ID).get()).isEqualTo(2);
+        assertThat(this.refreshCounts.get(UNIMPACTED_REPRESENTATION_ID).get()).isEqualTo(1);
+        assertThat(meterRegistry.counter(Monitoring.COUNTER_REPRESENTATION_REFRESH_PERFORMED).count()).isEqualTo(3);
+        assertThat(meterRegistry.counter(Monitoring.COUNTER_REPRESENTATION_REFRESH_SKIPPED).count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testAllRepresentationsAreRefreshedWhenDisabled() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var selectiveRefreshPolicy = new SelectiveRefreshPolicy(false, List.of(this.getSemanticChangesProvider()), meterRegistry);
+
+        this.performSemanticChanges(selectiveRefreshPolicy, meterRegistry);
+
+        assertThat(this.refreshCounts.get(IMPACTED_REPRESENTATION_ID).get()).isEqualTo(2);
+        assertThat(this.refreshCounts.get(UNIMPACTED_REPRESENTATION_ID).get()).isEqualTo(2);
+        assertThat(meterRegistry.counter(Monitoring.COUNTER_REPRESENTATION_REFRESH_SKIPPED).count()).isZero();
+    }
+
+    private void performSemanticChanges(SelectiveRefreshPolicy selectiveRefreshPolicy, SimpleMeterRegistry meterRegistry) {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        IEditingContextEventHandler editingContextEventHandler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext context, IInput input) {
+                return true;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext context, IInput input) {
+                changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, context.getId(), input));
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+            }
+        };
+
+        ApplicationEventPublisher applicationEventPublisher = event -> { };
+
+        var parameters = EditingContextEventProcessorParameters.newEditingContextEventProcessorParameters()
+                .messageService(new ICollaborativeMessageService.NoOp())
+                .editingContext(this.editingContext)
+                .editingContextPersistenceService((cause, context) -> { })
+                .editingContextPersistencePolicy(new EditingContextPersistencePolicy(false, Duration.ZERO, Duration.ZERO, meterRegistry))
+                .selectiveRefreshPolicy(selectiveRefreshPolicy)
+                .inputAdmissionPolicy(new EditingContextInputAdmissionPolicy(0, meterRegistry))
+                .applicationEventPublisher(applicationEventPublisher)
+                .editingContextEventHandlers(List.of(editingContextEventHandler))
+                .representationEventProcessorComposedFactory((context, representationId) -> Optional.of(this.createRepresentationEventProcessor(representationId)))
+                .danglingRepresentationDeletionService(new IDanglingRepresentationDeletionService.NoOp())
+                .executorServiceProvider(context -> executorService)
+                .inputPreProcessors(List.of())
+                .inputPostProcessors(List.of())
+                .meterRegistry(meterRegistry)
+                .build();
+
+        var editingContextEventProcessor = new EditingContextEventProcessor(parameters);
+        try {
+            IInput input = UUID::randomUUID;
+            editingContextEventProcessor.acquireRepresentationEventProcessor(IMPACTED_REPRESENTATION_ID, input);
+            editingContextEventProcessor.acquireRepresentationEventProcessor(UNIMPACTED_REPRESENTATION_ID, input);
+
+            editingContextEventProcessor.handle(input).block();
+            editingContextEventProcessor.handle(input).block();
+        } finally {
+            editingContextEventProcessor.dispose();
+        }
+    }
+
+    private IRepresentationEventProcessor createRepresentationEventProcessor(String representationId) {
+        AtomicInteger refreshCount = new AtomicInteger();
+        this.refreshCounts.put(representationId, refreshCount);
+        String readObject = Map.of(IMPACTED_REPRESENTATION_ID, IMPACTED_OBJECT, UNIMPACTED_REPRESENTATION_ID, UNIMPACTED_OBJECT).get(representationId);
+
+        return new IRepresentationEventProcessor.NoOp() {
+            @Override
+            public void refresh(ChangeDescription changeDescription) {
+                refreshCount.incrementAndGet();
+                new VariableManager().put(VariableManager.SELF, readObject);
+            }
+        };
+    }
+
+    private ISemanticChangesProvider getSemanticChangesProvider() {
+        ISemanticChanges semanticChanges = readObjects -> readObjects.contains(IMPACTED_OBJECT);
+        return context -> Optional.of(semanticChanges);
+    }
+}
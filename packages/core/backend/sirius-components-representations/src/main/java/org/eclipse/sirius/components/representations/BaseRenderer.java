@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2021 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,10 +12,15 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.representations;
 
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +32,22 @@ import org.slf4j.LoggerFactory;
  */
 public class BaseRenderer {
 
+    /**
+     * The constructors of the components, by type of component and then by type of properties.
+     *
+     * <p>
+     * The constructors are stored in the class value of their component class which is only referenced by the
+     * component class itself. They thus do not keep the component class, nor its class loader, reachable and they are
+     * collected along with the component class.
+     * </p>
+     */
+    private static final ClassValue<Map<Class<?>, MethodHandle>> COMPONENT_CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected Map<Class<?>, MethodHandle> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     private final IInstancePropsValidator instancePropsValidator;
 
     private final IComponentPropsValidator componentPropsValidator;
@@ -195,8 +216,7 @@ public class BaseRenderer {
         Object instance = null;
         if (IComponent.class.isAssignableFrom(type) && this.componentPropsValidator.validateComponentProps(type, props)) {
             try {
-                Constructor<?> constructor = type.getConstructor(props.getClass());
-                IComponent component = (IComponent) constructor.newInstance(props);
+                IComponent component = this.newComponent(this.getConstructor(type, props.getClass()), props);
                 Element renderedElement = component.render();
                 if (renderedElement != null) {
                     instance = this.renderElement(renderedElement);
@@ -208,4 +228,58 @@ public class BaseRenderer {
         return instance;
     }
 
+    /**
+     * Returns the constructor of the given component which takes the given type of properties.
+     *
+     * <p>
+     * Looking up a constructor by reflection is costly compared to the rendering of most components. Since the same
+     * components are rendered thousands of times by large representations, their constructors are only looked up once
+     * and kept, as method handles, until the component class is unloaded.
+     * </p>
+     *
+     * @param type
+     *            The type of the component
+     * @param propsType
+     *            The type of the properties of the component
+     * @return The constructor of the component
+     * @throws ReflectiveOperationException
+     *             If the component does not have an accessible constructor with the given type of properties
+     */
+    MethodHandle getConstructor(Class<?> type, Class<?> propsType) throws ReflectiveOperationException {
+        Map<Class<?>, MethodHandle> constructors = COMPONENT_CONSTRUCTORS.get(type);
+        MethodHandle constructor = constructors.get(propsType);
+        if (constructor == null) {
+            constructor = MethodHandles.publicLookup()
+                    .unreflectConstructor(type.getConstructor(propsType))
+                    .asType(MethodType.methodType(IComponent.class, IProps.class));
+            constructors.putIfAbsent(propsType, constructor);
+        }
+        return constructor;
+    }
+
+    /**
+     * Creates a new component.
+     *
+     * <p>
+     * Just like {@link java.lang.reflect.Constructor#newInstance(Object...)}, anything thrown by the constructor of the
+     * component is wrapped in an {@link InvocationTargetException}.
+     * </p>
+     *
+     * @param constructor
+     *            The constructor of the component
+     * @param props
+     *            The properties of the component
+     * @return The new component
+     * @throws InvocationTargetException
+     *             If the constructor of the component has thrown an exception
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    IComponent newComponent(MethodHandle constructor, IProps props) throws InvocationTargetException {
+        try {
+            return (IComponent) constructor.invokeExact(props);
+        } catch (Throwable throwable) {
+            throw new InvocationTargetException(throwable);
+        }
+    }
+
 }
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.representations;
+
+/**
+ * Used to know if the semantic elements have been modified since a given moment.
+ *
+ * <p>
+ * Each modification performed increases the current stamp and the modified objects remember the stamp of their last
+ * modification. Implementations are expected to be conservative, an object which is not tracked should always be
+ * considered as modified.
+ * </p>
+ *
+ * @author agent
+ */
+public interface IModificationStamps {
+
+    /**
+     * Returns the stamp of the last modification performed.
+     *
+     * @return The current stamp
+     */
+    long getCurrentStamp();
+
+    /**
+     * Indicates if the given object may have been modified after the given stamp.
+     *
+     * @param object
+     *         The object
+     * @param stamp
+     *         A stamp returned by {@link #getCurrentStamp()}
+     * @return <code>true</code> if the object may have been modified, <code>false</code> otherwise
+     */
+    boolean isModifiedSince(Object object, long stamp);
+}
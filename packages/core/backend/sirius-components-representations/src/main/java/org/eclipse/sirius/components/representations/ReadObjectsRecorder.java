@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.representations;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Used to record the objects read while a representation is being rendered.
+ *
+ * <p>
+ * The objects read are approximated by the objects bound to the variable {@link VariableManager#SELF} during the
+ * rendering. Since the rendering can navigate from those objects to any other one, the objects recorded are only the
+ * starting points of the rendering and the semantic changes have to be matched against everything reachable from them.
+ * The recording only concerns the current thread and nothing is recorded outside of a call to
+ * {@link #record(Runnable)}, the thread local is not even read when no recording is in progress.
+ * </p>
+ *
+ * @author agent
+ */
+public enum ReadObjectsRecorder {
+
+    INSTANCE;
+
+    private final ThreadLocal<Set<Object>> readObjects = new ThreadLocal<>();
+
+    private final AtomicInteger recordingsCount = new AtomicInteger();
+
+    /**
+     * Executes the given runnable and returns the objects read during its execution.
+     *
+     * @param runnable
+     *         The runnable to execute
+     * @return The objects read, compared by identity
+     */
+    public Set<Object> record(Runnable runnable) {
+        Set<Object> previousReadObjects = this.readObjects.get();
+        Set<Object> currentReadObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.readObjects.set(currentReadObjects);
+        this.recordingsCount.incrementAndGet();
+        try {
+            runnable.run();
+        } finally {
+            this.recordingsCount.decrementAndGet();
+            if (previousReadObjects != null) {
+                previousReadObjects.addAll(currentReadObjects);
+                this.readObjects.set(previousReadObjects);
+            } else {
+                this.readObjects.remove();
+            }
+        }
+        return currentReadObjects;
+    }
+
+    public void objectRead(Object object) {
+        if (object != null && this.recordingsCount.get() > 0) {
+            Set<Object> currentReadObjects = this.readObjects.get();
+            if (currentReadObjects != null) {
+                currentReadObjects.add(object);
+            }
+        }
+    }
+}
@@ -12,9 +12,12 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.representations;
 
+import java.util.AbstractMap;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Used to manage the variables.
@@ -35,6 +38,16 @@ public class VariableManager {
      */
     private Map<String, Object> variables = new HashMap<>();
 
+    /**
+     * The read-only view of the variables visible from this variable manager.
+     */
+    private Map<String, Object> variablesView;
+
+    /**
+     * The number of variables put in this variable manager, used to know if a view of the variables is outdated.
+     */
+    private int modificationCount;
+
     /**
      * The constructor.
      */
@@ -53,10 +66,24 @@ public class VariableManager {
     }
 
     public Object put(String name, Object value) {
+        if (SELF.equals(name)) {
+            ReadObjectsRecorder.INSTANCE.objectRead(value);
+        }
+        this.modificationCount++;
         Object previous = this.variables.put(name, value);
         return previous;
     }
 
+    /**
+     * Returns a copy of all the variables visible from this variable manager.
+     *
+     * <p>
+     * The variables of a variable manager shadow the variables with the same name in its parents. The map returned can
+     * be modified without any impact on the variable manager.
+     * </p>
+     *
+     * @return A new map containing all the variables
+     */
     public Map<String, Object> getVariables() {
         if (this.parent != null) {
             Map<String, Object> parentVariables = this.parent.getVariables();
@@ -66,6 +93,26 @@ public class VariableManager {
         return new HashMap<>(this.variables);
     }
 
+    /**
+     * Returns a read-only view of all the variables visible from this variable manager.
+     *
+     * <p>
+     * Contrary to {@link #getVariables()}, the variables are not copied to be looked up, the lookup of a variable
+     * walks the chain of the variable managers from this one to the root and stops at the first one defining the
+     * variable, which keeps the same shadowing semantics. The iteration on the variables relies on a copy of the
+     * variables which is computed once and then reused until a variable is put in this variable manager or one of its
+     * parents. It should be used to give the variables to a consumer which only reads them, such as an interpreter.
+     * </p>
+     *
+     * @return A read-only view of the variables
+     */
+    public Map<String, Object> getVariablesView() {
+        if (this.variablesView == null) {
+            this.variablesView = new VariablesView();
+        }
+        return this.variablesView;
+    }
+
     public <T> Optional<T> get(String name, Class<T> expectedType) {
         // @formatter:off
         return Optional.ofNullable(this.get(name))
@@ -109,4 +156,78 @@ public class VariableManager {
         }
         return stringBuilder.toString();
     }
+
+    /**
+     * Read-only view of the variables visible from this variable manager.
+     *
+     * <p>
+     * The lookups walk the chain of the variable managers. Since consumers such as the AQL interpreter copy all the
+     * variables for each evaluation of a lambda, the iteration relies on a flattened copy of the variables instead,
+     * which is kept until a variable is put in one of the variable managers of the chain.
+     * </p>
+     *
+     * @author agent
+     */
+    private final class VariablesView extends AbstractMap<String, Object> {
+
+        private FlattenedVariables flattenedVariables;
+
+        @Override
+        public Object get(Object key) {
+            Object value = null;
+            VariableManager variableManager = VariableManager.this;
+            boolean isFound = false;
+            while (!isFound && variableManager != null) {
+                value = variableManager.variables.get(key);
+                isFound = value != null || variableManager.variables.containsKey(key);
+                variableManager = variableManager.parent;
+            }
+            return value;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            boolean isFound = false;
+            VariableManager variableManager = VariableManager.this;
+            while (!isFound && variableManager != null) {
+                isFound = variableManager.variables.containsKey(key);
+                variableManager = variableManager.parent;
+            }
+            return isFound;
+        }
+
+        @Override
+        public int size() {
+            return this.getFlattenedVariables().size();
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return this.getFlattenedVariables().entrySet();
+        }
+
+        private Map<String, Object> getFlattenedVariables() {
+            long chainModificationCount = 0;
+            VariableManager variableManager = VariableManager.this;
+            while (variableManager != null) {
+                chainModificationCount += variableManager.modificationCount;
+                variableManager = variableManager.parent;
+            }
+            FlattenedVariables currentFlattenedVariables = this.flattenedVariables;
+            if (currentFlattenedVariables == null || currentFlattenedVariables.modificationCount() != chainModificationCount) {
+                currentFlattenedVariables = new FlattenedVariables(chainModificationCount, Collections.unmodifiableMap(VariableManager.this.getVariables()));
+                this.flattenedVariables = currentFlattenedVariables;
+            }
+            return currentFlattenedVariables.variables();
+        }
+    }
+
+    /**
+     * The flattened variables of a chain of variable managers and the number of modifications of this chain when they
+     * have been computed.
+     *
+     * @author agent
+     */
+    private record FlattenedVariables(long modificationCount, Map<String, Object> variables) {
+    }
 }
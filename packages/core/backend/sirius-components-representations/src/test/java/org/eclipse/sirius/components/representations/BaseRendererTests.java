@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.representations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the base renderer.
+ *
+ * @author agent
+ */
+public class BaseRendererTests {
+
+    private static final String RENDERED = "rendered";
+
+    private static final int MAX_GC_ATTEMPTS = 20;
+
+    @Test
+    public void givenAComponentWhenItIsRenderedTwiceThenItsConstructorIsLookedUpOnce() throws ReflectiveOperationException {
+        var renderer = this.newRenderer();
+
+        MethodHandle constructor = renderer.getConstructor(RenderedComponent.class, TestProps.class);
+
+        assertThat(renderer.getConstructor(RenderedComponent.class, TestProps.class)).isSameAs(constructor);
+        assertThat(this.newRenderer().getConstructor(RenderedComponent.class, TestProps.class)).isSameAs(constructor);
+        assertThat(renderer.renderElement(new Element(RenderedComponent.class, new TestProps()))).isEqualTo(RENDERED);
+        assertThat(renderer.renderElement(new Element(RenderedComponent.class, new TestProps()))).isEqualTo(RENDERED);
+    }
+
+    @Test
+    public void givenAComponentWithoutConstructorForItsPropsWhenItsConstructorIsLookedUpThenAnExceptionIsThrown() {
+        assertThatThrownBy(() -> this.newRenderer().getConstructor(RenderedComponent.class, FragmentProps.class)).isInstanceOf(NoSuchMethodException.class);
+    }
+
+    @Test
+    public void givenAComponentWhoseConstructorFailsWhenItIsCreatedThenTheFailureIsWrappedInAnInvocationTargetException() throws ReflectiveOperationException {
+        var renderer = this.newRenderer();
+        MethodHandle constructor = renderer.getConstructor(FailingComponent.class, TestProps.class);
+
+        assertThatThrownBy(() -> renderer.newComponent(constructor, new TestProps()))
+                .isInstanceOf(InvocationTargetException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(renderer.renderElement(new Element(FailingComponent.class, new TestProps()))).isNull();
+    }
+
+    @Test
+    public void givenAComponentOfAnotherClassLoaderWhenItHasBeenRenderedThenItsClassLoaderCanBeCollected() throws Exception {
+        WeakReference<ClassLoader> classLoaderReference = this.renderWithIsolatedClassLoader();
+
+        for (int i = 0; i < MAX_GC_ATTEMPTS && classLoaderReference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+
+        assertThat(classLoaderReference.get()).isNull();
+    }
+
+    private WeakReference<ClassLoader> renderWithIsolatedClassLoader() throws ClassNotFoundException {
+        ClassLoader classLoader = new IsolatedClassLoader(RenderedComponent.class.getName(), BaseRendererTests.class.getClassLoader());
+        Class<?> componentType = classLoader.loadClass(RenderedComponent.class.getName());
+        assertThat(componentType).isNotSameAs(RenderedComponent.class);
+
+        assertThat(this.newRenderer().renderElement(new Element(componentType, new TestProps()))).isEqualTo(RENDERED);
+        return new WeakReference<>(classLoader);
+    }
+
+    private BaseRenderer newRenderer() {
+        return new BaseRenderer((type, props) -> true, (componentType, props) -> true, (type, props, children) -> type);
+    }
+
+    /**
+     * The properties of the components used by the tests.
+     *
+     * @author agent
+     */
+    public static final class TestProps implements IProps {
+    }
+
+    /**
+     * A component rendering a single instance.
+     *
+     * @author agent
+     */
+    public static final class RenderedComponent implements IComponent {
+
+        public RenderedComponent(TestProps props) {
+            // The properties are not used
+        }
+
+        @Override
+        public Element render() {
+            return new Element(RENDERED, new TestProps());
+        }
+    }
+
+    /**
+     * A component whose constructor fails.
+     *
+     * @author agent
+     */
+    public static final class FailingComponent implements IComponent {
+
+        public FailingComponent(TestProps props) {
+            throw new IllegalStateException();
+        }
+
+        @Override
+        public Element render() {
+            return null;
+        }
+    }
+
+    /**
+     * A class loader defining its own copy of a class instead of delegating its loading to its parent.
+     *
+     * @author agent
+     */
+    private static final class IsolatedClassLoader extends ClassLoader {
+
+        private final String isolatedClassName;
+
+        IsolatedClassLoader(String isolatedClassName, ClassLoader parent) {
+            super(parent);
+            this.isolatedClassName = isolatedClassName;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!this.isolatedClassName.equals(name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (this.getClassLoadingLock(name)) {
+                Class<?> loadedClass = this.findLoadedClass(name);
+                if (loadedClass == null) {
+                    String resourceName = name.replace('.', '/') + ".class";
+                    try (InputStream inputStream = this.getParent().getResourceAsStream(resourceName)) {
+                        byte[] bytes = inputStream.readAllBytes();
+                        loadedClass = this.defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException exception) {
+                        throw new ClassNotFoundException(name, exception);
+                    }
+                }
+                return loadedClass;
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.representations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the variable manager.
+ *
+ * @author agent
+ */
+public class VariableManagerTests {
+
+    private static final String ROOT_VALUE = "rootValue";
+
+    private static final String CHILD_VALUE = "childValue";
+
+    private static final String SHADOWED = "shadowed";
+
+    private static final String INHERITED = "inherited";
+
+    private static final String LOCAL = "local";
+
+    private static final String NULL_VALUE = "nullValue";
+
+    @Test
+    public void testTheVariablesOfTheChildrenShadowTheVariablesOfTheirParents() {
+        var root = new VariableManager();
+        root.put(SHADOWED, ROOT_VALUE);
+        root.put(INHERITED, ROOT_VALUE);
+        var parent = root.createChild();
+        parent.put(SHADOWED, "parentValue");
+        var child = parent.createChild();
+        child.put(SHADOWED, CHILD_VALUE);
+        child.put(LOCAL, CHILD_VALUE);
+
+        Map<String, Object> variablesView = child.getVariablesView();
+
+        assertThat(variablesView.get(SHADOWED)).isEqualTo(CHILD_VALUE);
+        assertThat(variablesView.get(INHERITED)).isEqualTo(ROOT_VALUE);
+        assertThat(variablesView).hasSize(3);
+        assertThat(variablesView.entrySet()).containsExactlyInAnyOrder(entry(SHADOWED, CHILD_VALUE), entry(INHERITED, ROOT_VALUE), entry(LOCAL, CHILD_VALUE));
+        assertThat(new HashMap<>(variablesView)).isEqualTo(child.getVariables());
+        assertThat(parent.getVariablesView()).containsOnly(entry(SHADOWED, "parentValue"), entry(INHERITED, ROOT_VALUE));
+    }
+
+    @Test
+    public void testNullValuesShadowTheVariablesOfTheParents() {
+        var root = new VariableManager();
+        root.put(NULL_VALUE, ROOT_VALUE);
+        root.put(INHERITED, null);
+        var child = root.createChild();
+        child.put(NULL_VALUE, null);
+
+        Map<String, Object> variablesView = child.getVariablesView();
+
+        assertThat(variablesView.containsKey(NULL_VALUE)).isTrue();
+        assertThat(variablesView.get(NULL_VALUE)).isNull();
+        assertThat(variablesView.containsKey(INHERITED)).isTrue();
+        assertThat(variablesView.get(INHERITED)).isNull();
+        assertThat(variablesView.containsKey("unknown")).isFalse();
+        assertThat(variablesView).hasSize(2);
+        assertThat(variablesView.entrySet()).containsExactlyInAnyOrder(entry(NULL_VALUE, null), entry(INHERITED, null));
+    }
+
+    @Test
+    public void testTheViewReflectsTheVariablesAddedLater() {
+        var root = new VariableManager();
+        var child = root.createChild();
+        Map<String, Object> variablesView = child.getVariablesView();
+        assertThat(variablesView).isEmpty();
+
+        root.put(INHERITED, ROOT_VALUE);
+        child.put(LOCAL, CHILD_VALUE);
+
+        assertThat(variablesView).containsOnly(entry(INHERITED, ROOT_VALUE), entry(LOCAL, CHILD_VALUE));
+    }
+
+    @Test
+    public void testTheCopyOfTheViewOfADeepChainIsTheSameAsTheCopyOfTheVariables() {
+        var root = new VariableManager();
+        var variableManager = root;
+        variableManager.put(SHADOWED, ROOT_VALUE);
+        variableManager.put(INHERITED, ROOT_VALUE);
+        for (int i = 0; i < 32; i++) {
+            variableManager = variableManager.createChild();
+            variableManager.put(LOCAL + i, CHILD_VALUE);
+            if (i % 3 == 0) {
+                variableManager.put(SHADOWED, CHILD_VALUE + i);
+            }
+        }
+
+        Map<String, Object> variablesView = variableManager.getVariablesView();
+
+        assertThat(variablesView).hasSize(34);
+        assertThat(new HashMap<>(variablesView)).isEqualTo(variableManager.getVariables());
+        assertThat(variablesView.get(SHADOWED)).isEqualTo(CHILD_VALUE + 30);
+
+        root.put(NULL_VALUE, ROOT_VALUE);
+        variableManager.put(INHERITED, CHILD_VALUE);
+
+        assertThat(variablesView).hasSize(35);
+        assertThat(new HashMap<>(variablesView)).isEqualTo(variableManager.getVariables()).containsEntry(INHERITED, CHILD_VALUE).containsEntry(NULL_VALUE, ROOT_VALUE);
+    }
+}
@@ -21,6 +21,7 @@ import org.eclipse.sirius.components.diagrams.Diagram;
 import org.eclipse.sirius.components.diagrams.ViewCreationRequest;
 import org.eclipse.sirius.components.diagrams.ViewDeletionRequest;
 import org.eclipse.sirius.components.diagrams.events.IDiagramEvent;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingMemo;
 
 /**
  * The implementation of {@link IDiagramContext}.
@@ -37,6 +38,8 @@ public class DiagramContext implements IDiagramContext {
 
     private final List<IDiagramEvent> diagramEvents;
 
+    private final DiagramRenderingMemo renderingMemo = new DiagramRenderingMemo();
+
     public DiagramContext(Diagram initialDiagram) {
         this.diagram = Objects.requireNonNull(initialDiagram);
         this.viewCreationRequests = new ArrayList<>();
@@ -69,6 +72,11 @@ public class DiagramContext implements IDiagramContext {
         return this.diagramEvents;
     }
 
+    @Override
+    public DiagramRenderingMemo getRenderingMemo() {
+        return this.renderingMemo;
+    }
+
     @Override
     public void reset() {
         this.diagramEvents.clear();
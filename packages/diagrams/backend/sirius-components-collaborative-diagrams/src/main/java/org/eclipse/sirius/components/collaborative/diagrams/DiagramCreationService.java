@@ -18,6 +18,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.sirius.components.collaborative.api.IModificationStampsProvider;
 import org.eclipse.sirius.components.collaborative.api.Monitoring;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramCreationService;
@@ -36,6 +37,7 @@ import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
 import org.eclipse.sirius.components.diagrams.events.IDiagramEvent;
 import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
 import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderer;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingMemo;
 import org.eclipse.sirius.components.representations.Element;
 import org.eclipse.sirius.components.representations.IOperationValidator;
 import org.eclipse.sirius.components.representations.VariableManager;
@@ -60,15 +62,18 @@ public class DiagramCreationService implements IDiagramCreationService {
 
     private final IOperationValidator operationValidator;
 
+    private final List<IModificationStampsProvider> modificationStampsProviders;
+
     private final Timer timer;
 
     private final Logger logger = LoggerFactory.getLogger(DiagramCreationService.class);
 
     public DiagramCreationService(IRepresentationDescriptionSearchService representationDescriptionSearchService, IObjectService objectService,
-                                  IOperationValidator operationValidator, MeterRegistry meterRegistry) {
+                                  IOperationValidator operationValidator, List<IModificationStampsProvider> modificationStampsProviders, MeterRegistry meterRegistry) {
         this.representationDescriptionSearchService = Objects.requireNonNull(representationDescriptionSearchService);
         this.objectService = Objects.requireNonNull(objectService);
         this.operationValidator = Objects.requireNonNull(operationValidator);
+        this.modificationStampsProviders = Objects.requireNonNull(modificationStampsProviders);
         // @formatter:off
         this.timer = Timer.builder(Monitoring.REPRESENTATION_EVENT_PROCESSOR_REFRESH)
                 .tag(Monitoring.NAME, "diagram")
@@ -132,7 +137,8 @@ public class DiagramCreationService implements IDiagramCreationService {
         Optional<Diagram> optionalPreviousDiagram = optionalDiagramContext.map(IDiagramContext::getDiagram);
         List<ViewCreationRequest> viewCreationRequests = optionalDiagramContext.map(IDiagramContext::getViewCreationRequests).orElse(List.of());
         List<ViewDeletionRequest> viewDeletionRequests = optionalDiagramContext.map(IDiagramContext::getViewDeletionRequests).orElse(List.of());
-        
+        Optional<DiagramRenderingMemo> optionalRenderingMemo = this.getRenderingMemo(editingContext, diagramDescription, optionalDiagramContext);
+
         //@formatter:off
         Builder builder = DiagramComponentProps.newDiagramComponentProps()
                 .variableManager(variableManager)
@@ -142,16 +148,18 @@ public class DiagramCreationService implements IDiagramCreationService {
                 .viewCreationRequests(viewCreationRequests)
                 .viewDeletionRequests(viewDeletionRequests)
                 .previousDiagram(optionalPreviousDiagram)
-                .diagramEvents(diagramEvents);
+                .diagramEvents(diagramEvents)
+                .renderingMemo(optionalRenderingMemo);
         //@formatter:on
 
         DiagramComponentProps props = builder.build();
         Element element = new Element(DiagramComponent.class, props);
 
         Diagram newDiagram = new DiagramRenderer().render(element);
+        optionalRenderingMemo.ifPresent(renderingMemo -> renderingMemo.renderingCompleted(newDiagram));
 
         var newLayoutData = optionalPreviousDiagram.map(Diagram::getLayoutData).orElse(new DiagramLayoutData(Map.of(), Map.of(), Map.of()));
-        newDiagram = Diagram.newDiagram(newDiagram)
+        Diagram laidOutDiagram = Diagram.newDiagram(newDiagram)
                 .layoutData(newLayoutData)
                 .build();
 
@@ -159,6 +167,27 @@ public class DiagramCreationService implements IDiagramCreationService {
         this.timer.record(end - start, TimeUnit.MILLISECONDS);
         this.logger.trace("diagram refreshed in {}ms", end - start);
 
-        return newDiagram;
+        return laidOutDiagram;
+    }
+
+    /**
+     * Returns the memo used to reuse the unchanged nodes of the diagram, if the modifications of the semantic elements
+     * are tracked for the given editing context.
+     */
+    private Optional<DiagramRenderingMemo> getRenderingMemo(IEditingContext editingContext, DiagramDescription diagramDescription, Optional<IDiagramContext> optionalDiagramContext) {
+        var optionalModificationStamps = this.modificationStampsProviders.stream()
+                .map(modificationStampsProvider -> modificationStampsProvider.getModificationStamps(editingContext))
+                .flatMap(Optional::stream)
+                .findFirst();
+
+        if (optionalDiagramContext.isPresent() && optionalModificationStamps.isPresent()) {
+            IDiagramContext diagramContext = optionalDiagramContext.get();
+            boolean hasPendingRequests = !diagramContext.getDiagramEvents().isEmpty() || !diagramContext.getViewCreationRequests().isEmpty() || !diagramContext.getViewDeletionRequests().isEmpty();
+
+            DiagramRenderingMemo renderingMemo = diagramContext.getRenderingMemo();
+            renderingMemo.renderingStarted(optionalModificationStamps.get(), diagramDescription, Optional.ofNullable(diagramContext.getDiagram()), hasPendingRequests);
+            return Optional.of(renderingMemo);
+        }
+        return Optional.empty();
     }
 }
@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDelta;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDeltaNode;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.layoutdata.NodeLayoutData;
+
+/**
+ * Computes the structural differences between two versions of a diagram.
+ *
+ * <p>
+ * Nodes and edges are matched using their id. A node is considered as updated if one of its properties, its parent or
+ * the list of its children has changed. The children of a node are not considered as properties of the node, they are
+ * compared on their own. The properties are compared with their equals method, styles without such a method are thus
+ * considered as updated unless the very same instance is reused.
+ * </p>
+ *
+ * <p>
+ * Added nodes are sent with their children, so only the top-most added nodes are part of the delta.
+ * </p>
+ *
+ * @author agent
+ */
+public class DiagramDeltaComputer {
+
+    public DiagramDelta compute(Diagram previousDiagram, Diagram newDiagram) {
+        Map<String, DiagramDeltaNode> previousNodes = new LinkedHashMap<>();
+        this.collectNodes(null, previousDiagram.getNodes(), previousNodes);
+
+        Map<String, DiagramDeltaNode> newNodes = new LinkedHashMap<>();
+        this.collectNodes(null, newDiagram.getNodes(), newNodes);
+
+        List<DiagramDeltaNode> addedNodes = new ArrayList<>();
+        List<DiagramDeltaNode> updatedNodes = new ArrayList<>();
+        for (var newNode : newNodes.values()) {
+            var previousNode = previousNodes.get(newNode.node().getId());
+            if (previousNode == null) {
+                if (newNode.parentId() == null || previousNodes.containsKey(newNode.parentId())) {
+                    addedNodes.add(newNode);
+                }
+            } else if (this.hasChanged(previousNode, newNode)) {
+                updatedNodes.add(newNode);
+            }
+        }
+        List<String> removedNodeIds = previousNodes.keySet().stream()
+                .filter(nodeId -> !newNodes.containsKey(nodeId))
+                .toList();
+
+        Map<String, Edge> previousEdges = new LinkedHashMap<>();
+        previousDiagram.getEdges().forEach(edge -> previousEdges.put(edge.getId(), edge));
+
+        List<Edge> addedEdges = new ArrayList<>();
+        List<Edge> updatedEdges = new ArrayList<>();
+        for (var newEdge : newDiagram.getEdges()) {
+            var previousEdge = previousEdges.get(newEdge.getId());
+            if (previousEdge == null) {
+                addedEdges.add(newEdge);
+            } else if (this.hasChanged(previousEdge, newEdge)) {
+                updatedEdges.add(newEdge);
+            }
+        }
+        Set<String> newEdgeIds = newDiagram.getEdges().stream()
+                .map(Edge::getId)
+                .collect(Collectors.toSet());
+        List<String> removedEdgeIds = previousEdges.keySet().stream()
+                .filter(edgeId -> !newEdgeIds.contains(edgeId))
+                .toList();
+
+        var previousNodeLayoutData = previousDiagram.getLayoutData().nodeLayoutData();
+        List<NodeLayoutData> nodeLayoutData = newDiagram.getLayoutData().nodeLayoutData().values().stream()
+                .filter(layoutData -> !layoutData.equals(previousNodeLayoutData.get(layoutData.id())))
+                .toList();
+
+        return new DiagramDelta(addedNodes, updatedNodes, removedNodeIds, addedEdges, updatedEdges, removedEdgeIds, nodeLayoutData);
+    }
+
+    /**
+     * Indicates if the new version of the diagram is identical to the previous one.
+     *
+     * @param previousDiagram
+     *         The previous version of the diagram
+     * @param newDiagram
+     *         The new version of the diagram
+     * @return <code>true</code> if the new version could be replaced by the previous one, <code>false</code> otherwise
+     */
+    public boolean isUnchanged(Diagram previousDiagram, Diagram newDiagram) {
+        boolean isUnchanged = Objects.equals(previousDiagram.getId(), newDiagram.getId());
+        isUnchanged = isUnchanged && Objects.equals(previousDiagram.getKind(), newDiagram.getKind());
+        isUnchanged = isUnchanged && Objects.equals(previousDiagram.getTargetObjectId(), newDiagram.getTargetObjectId());
+        isUnchanged = isUnchanged && Objects.equals(previousDiagram.getDescriptionId(), newDiagram.getDescriptionId());
+        isUnchanged = isUnchanged && Objects.equals(previousDiagram.getLabel(), newDiagram.getLabel());
+        isUnchanged = isUnchanged && Objects.equals(previousDiagram.getLayoutData(), newDiagram.getLayoutData());
+        isUnchanged = isUnchanged && this.getIds(previousDiagram.getNodes()).equals(this.getIds(newDiagram.getNodes()));
+        isUnchanged = isUnchanged && previousDiagram.getEdges().stream().map(Edge::getId).toList().equals(newDiagram.getEdges().stream().map(Edge::getId).toList());
+        return isUnchanged && this.compute(previousDiagram, newDiagram).isEmpty();
+    }
+
+    private void collectNodes(String parentId, List<Node> nodes, Map<String, DiagramDeltaNode> collectedNodes) {
+        for (var node : nodes) {
+            collectedNodes.put(node.getId(), new DiagramDeltaNode(parentId, node));
+            this.collectNodes(node.getId(), node.getBorderNodes(), collectedNodes);
+            this.collectNodes(node.getId(), node.getChildNodes(), collectedNodes);
+        }
+    }
+
+    private boolean hasChanged(DiagramDeltaNode previousNode, DiagramDeltaNode newNode) {
+        if (previousNode.node() == newNode.node()) {
+            return !Objects.equals(previousNode.parentId(), newNode.parentId());
+        }
+        return !Objects.equals(previousNode.parentId(), newNode.parentId())
+                || !this.getIds(previousNode.node().getBorderNodes()).equals(this.getIds(newNode.node().getBorderNodes()))
+                || !this.getIds(previousNode.node().getChildNodes()).equals(this.getIds(newNode.node().getChildNodes()))
+                || !this.haveSameProperties(previousNode.node(), newNode.node());
+    }
+
+    private List<String> getIds(List<Node> nodes) {
+        return nodes.stream().map(Node::getId).toList();
+    }
+
+    private boolean haveSameProperties(Node previousNode, Node newNode) {
+        boolean isEqual = Objects.equals(previousNode.getType(), newNode.getType());
+        isEqual = isEqual && Objects.equals(previousNode.getTargetObjectId(), newNode.getTargetObjectId());
+        isEqual = isEqual && Objects.equals(previousNode.getTargetObjectKind(), newNode.getTargetObjectKind());
+        isEqual = isEqual && Objects.equals(previousNode.getTargetObjectLabel(), newNode.getTargetObjectLabel());
+        isEqual = isEqual && Objects.equals(previousNode.getDescriptionId(), newNode.getDescriptionId());
+        isEqual = isEqual && previousNode.isBorderNode() == newNode.isBorderNode();
+        isEqual = isEqual && Objects.equals(previousNode.getModifiers(), newNode.getModifiers());
+        isEqual = isEqual && Objects.equals(previousNode.getState(), newNode.getState());
+        isEqual = isEqual && Objects.equals(previousNode.getCollapsingState(), newNode.getCollapsingState());
+        isEqual = isEqual && Objects.equals(previousNode.getInsideLabel(), newNode.getInsideLabel());
+        isEqual = isEqual && Objects.equals(previousNode.getOutsideLabels(), newNode.getOutsideLabels());
+        isEqual = isEqual && Objects.equals(previousNode.getStyle(), newNode.getStyle());
+        isEqual = isEqual && Objects.equals(previousNode.getChildrenLayoutStrategy(), newNode.getChildrenLayoutStrategy());
+        isEqual = isEqual && Objects.equals(previousNode.getDefaultWidth(), newNode.getDefaultWidth());
+        isEqual = isEqual && Objects.equals(previousNode.getDefaultHeight(), newNode.getDefaultHeight());
+        isEqual = isEqual && previousNode.isLabelEditable() == newNode.isLabelEditable();
+        isEqual = isEqual && previousNode.isPinned() == newNode.isPinned();
+        return isEqual;
+    }
+
+    private boolean hasChanged(Edge previousEdge, Edge newEdge) {
+        if (previousEdge == newEdge) {
+            return false;
+        }
+        boolean isEqual = Objects.equals(previousEdge.getType(), newEdge.getType());
+        isEqual = isEqual && Objects.equals(previousEdge.getTargetObjectId(), newEdge.getTargetObjectId());
+        isEqual = isEqual && Objects.equals(previousEdge.getTargetObjectKind(), newEdge.getTargetObjectKind());
+        isEqual = isEqual && Objects.equals(previousEdge.getTargetObjectLabel(), newEdge.getTargetObjectLabel());
+        isEqual = isEqual && Objects.equals(previousEdge.getDescriptionId(), newEdge.getDescriptionId());
+        isEqual = isEqual && Objects.equals(previousEdge.getBeginLabel(), newEdge.getBeginLabel());
+        isEqual = isEqual && Objects.equals(previousEdge.getCenterLabel(), newEdge.getCenterLabel());
+        isEqual = isEqual && Objects.equals(previousEdge.getEndLabel(), newEdge.getEndLabel());
+        isEqual = isEqual && Objects.equals(previousEdge.getSourceId(), newEdge.getSourceId());
+        isEqual = isEqual && Objects.equals(previousEdge.getTargetId(), newEdge.getTargetId());
+        isEqual = isEqual && Objects.equals(previousEdge.getModifiers(), newEdge.getModifiers());
+        isEqual = isEqual && Objects.equals(previousEdge.getState(), newEdge.getState());
+        isEqual = isEqual && Objects.equals(previousEdge.getStyle(), newEdge.getStyle());
+        isEqual = isEqual && previousEdge.isCenterLabelEditable() == newEdge.isCenterLabelEditable();
+        return !isEqual;
+    }
+}
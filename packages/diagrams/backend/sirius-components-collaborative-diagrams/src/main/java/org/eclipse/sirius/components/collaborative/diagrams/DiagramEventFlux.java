@@ -13,8 +13,12 @@
 package org.eclipse.sirius.components.collaborative.diagrams;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDelta;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDeltaRefreshedEventPayload;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramRefreshedEventPayload;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.ReferencePosition;
 import org.eclipse.sirius.components.core.api.IPayload;
@@ -32,22 +36,31 @@ import reactor.core.publisher.Sinks.Many;
 /**
  * Service used to manage the diagram event flux.
  *
+ * <p>
+ * Each version of the diagram has a revision number. Incremental subscribers receive the differences between the new
+ * version of the diagram and the previous one if they have received the previous revision, otherwise they receive the
+ * whole diagram.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public class DiagramEventFlux {
 
+    private static final DiagramDeltaComputer DIAGRAM_DELTA_COMPUTER = new DiagramDeltaComputer();
+
     private final Logger logger = LoggerFactory.getLogger(DiagramEventFlux.class);
 
-    private final Many<IPayload> sink = Sinks.many().multicast().directBestEffort();
+    private final Many<DiagramRevision> sink = Sinks.many().multicast().directBestEffort();
 
-    private Diagram currentDiagram;
+    private volatile DiagramRevision currentRevision;
 
     public DiagramEventFlux(Diagram currentDiagram) {
-        this.currentDiagram = Objects.requireNonNull(currentDiagram);
+        this.currentRevision = new DiagramRevision(0, Objects.requireNonNull(currentDiagram), null, null, null, null);
     }
 
     public void diagramRefreshed(UUID id, Diagram newDiagram, String cause, ReferencePosition referencePosition) {
-        this.currentDiagram = newDiagram;
+        var previousRevision = this.currentRevision;
+        this.currentRevision = new DiagramRevision(previousRevision.getNumber() + 1, newDiagram, previousRevision.getDiagram(), id, cause, referencePosition);
         if (this.sink.currentSubscriberCount() > 0) {
             this.logger.atDebug()
                     .setMessage("Diagram {} sent with {} nodes and {} edges")
@@ -56,12 +69,13 @@ public class DiagramEventFlux {
                     .addArgument(() -> newDiagram.getEdges().size())
                     .log();
 
-            EmitResult emitResult = this.sink.tryEmitNext(new DiagramRefreshedEventPayload(id, this.currentDiagram, cause, referencePosition));
+            EmitResult emitResult = this.sink.tryEmitNext(this.currentRevision);
             if (emitResult.isFailure()) {
                 String pattern = "An error has occurred while emitting a DiagramRefreshedEventPayload: {}";
                 this.logger.warn(pattern, emitResult);
             }
         }
+        this.currentRevision.releasePreviousDiagram();
     }
 
     private int countChildNodes(Node node) {
@@ -69,8 +83,43 @@ public class DiagramEventFlux {
     }
 
     public Flux<IPayload> getFlux(UUID id, String cause) {
-        var initialRefresh = Mono.fromCallable(() -> new DiagramRefreshedEventPayload(id, this.currentDiagram, cause, null));
-        return Flux.concat(initialRefresh, this.sink.asFlux());
+        var initialRefresh = Mono.fromCallable(() -> new DiagramRefreshedEventPayload(id, this.currentRevision.getDiagram(), cause, null));
+        return Flux.concat(initialRefresh, this.sink.asFlux().map(DiagramRevision::toDiagramRefreshedEventPayload));
+    }
+
+    /**
+     * Returns a flux sending the whole diagram on subscription and then only the differences with the previous
+     * revision sent to the subscriber.
+     *
+     * <p>
+     * The whole diagram is sent again if the subscriber has missed a revision.
+     * </p>
+     *
+     * @param id
+     *         The id of the initial payload
+     * @param cause
+     *         The cause of the initial payload
+     * @return The flux of payloads
+     */
+    public Flux<IPayload> getIncrementalFlux(UUID id, String cause) {
+        return Flux.defer(() -> {
+            AtomicLong lastRevisionNumber = new AtomicLong();
+            var initialRefresh = Mono.fromCallable(() -> {
+                var revision = this.currentRevision;
+                lastRevisionNumber.set(revision.getNumber());
+                return new DiagramRefreshedEventPayload(id, revision.getDiagram(), cause, null);
+            });
+
+            Flux<IPayload> refreshes = this.sink.asFlux().map(revision -> {
+                IPayload payload = revision.toDiagramRefreshedEventPayload();
+                if (revision.getNumber() == lastRevisionNumber.get() + 1) {
+                    payload = revision.toDiagramDeltaRefreshedEventPayload().orElse(payload);
+                }
+                lastRevisionNumber.set(revision.getNumber());
+                return payload;
+            });
+            return Flux.concat(initialRefresh, refreshes);
+        });
     }
 
     public void dispose() {
@@ -81,4 +130,68 @@ public class DiagramEventFlux {
         }
     }
 
+    /**
+     * A version of the diagram along with the information needed to send it to the subscribers.
+     *
+     * <p>
+     * The differences with the previous version of the diagram are computed at most once and only if an incremental
+     * subscriber needs them while this version is being sent. The previous version of the diagram is released once this
+     * version has been sent to avoid keeping two versions of the diagram in memory.
+     * </p>
+     *
+     * @author agent
+     */
+    private static final class DiagramRevision {
+
+        private final long number;
+
+        private final Diagram diagram;
+
+        private Diagram previousDiagram;
+
+        private final UUID id;
+
+        private final String cause;
+
+        private final ReferencePosition referencePosition;
+
+        private DiagramDelta delta;
+
+        private DiagramRevision(long number, Diagram diagram, Diagram previousDiagram, UUID id, String cause, ReferencePosition referencePosition) {
+            this.number = number;
+            this.diagram = diagram;
+            this.previousDiagram = previousDiagram;
+            this.id = id;
+            this.cause = cause;
+            this.referencePosition = referencePosition;
+        }
+
+        long getNumber() {
+            return this.number;
+        }
+
+        Diagram getDiagram() {
+            return this.diagram;
+        }
+
+        IPayload toDiagramRefreshedEventPayload() {
+            return new DiagramRefreshedEventPayload(this.id, this.diagram, this.cause, this.referencePosition);
+        }
+
+        Optional<IPayload> toDiagramDeltaRefreshedEventPayload() {
+            return this.getDelta().map(diagramDelta -> new DiagramDeltaRefreshedEventPayload(this.id, this.diagram.getId(), diagramDelta, this.cause, this.referencePosition));
+        }
+
+        private synchronized Optional<DiagramDelta> getDelta() {
+            if (this.delta == null && this.previousDiagram != null) {
+                this.delta = DIAGRAM_DELTA_COMPUTER.compute(this.previousDiagram, this.diagram);
+            }
+            return Optional.ofNullable(this.delta);
+        }
+
+        synchronized void releasePreviousDiagram() {
+            this.previousDiagram = null;
+            this.delta = null;
+        }
+    }
 }
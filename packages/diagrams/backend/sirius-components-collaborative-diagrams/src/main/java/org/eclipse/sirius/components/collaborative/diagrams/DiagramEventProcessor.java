@@ -31,6 +31,7 @@ import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventHan
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventProcessor;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInput;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInputReferencePositionProvider;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramEventInput;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramRefreshedEventPayload;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.LayoutDiagramInput;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.NodeLayoutDataInput;
@@ -86,6 +87,8 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
 
     private final DiagramEventFlux diagramEventFlux;
 
+    private final DiagramDeltaComputer diagramDeltaComputer = new DiagramDeltaComputer();
+
     private final List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders;
 
     private UUID currentRevisionId = UUID.randomUUID();
@@ -181,7 +184,10 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
     @Override
     public void refresh(ChangeDescription changeDescription) {
         if (this.shouldRefresh(changeDescription)) {
-            Diagram refreshedDiagram = this.diagramCreationService.refresh(this.editingContext, this.diagramContext).orElse(null);
+            Diagram previousDiagram = this.diagramContext.getDiagram();
+            Diagram refreshedDiagram = this.diagramCreationService.refresh(this.editingContext, this.diagramContext)
+                    .map(diagram -> this.getUnchangedDiagram(previousDiagram, diagram))
+                    .orElse(null);
             this.representationPersistenceService.save(changeDescription.getInput(), this.editingContext, refreshedDiagram);
 
             if (refreshedDiagram != null) {
@@ -208,6 +214,14 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
         }
     }
 
+    private Diagram getUnchangedDiagram(Diagram previousDiagram, Diagram refreshedDiagram) {
+        // The previous instance is kept if nothing has changed so that it does not have to be serialized to be persisted
+        if (previousDiagram != null && this.diagramDeltaComputer.isUnchanged(previousDiagram, refreshedDiagram)) {
+            return previousDiagram;
+        }
+        return refreshedDiagram;
+    }
+
     private ReferencePosition getReferencePosition(IInput diagramInput) {
         return this.diagramInputReferencePositionProviders.stream()
                 .filter(handler -> handler.canHandle(diagramInput))
@@ -254,9 +268,16 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
 
     @Override
     public Flux<IPayload> getOutputEvents(IInput input) {
+        Flux<IPayload> diagramFlux;
+        if (input instanceof DiagramEventInput diagramEventInput && diagramEventInput.incremental()) {
+            diagramFlux = this.diagramEventFlux.getIncrementalFlux(this.currentRevisionId, this.currentRevisionCause);
+        } else {
+            diagramFlux = this.diagramEventFlux.getFlux(this.currentRevisionId, this.currentRevisionCause);
+        }
+
         // @formatter:off
         return Flux.merge(
-            this.diagramEventFlux.getFlux(this.currentRevisionId, this.currentRevisionCause),
+            diagramFlux,
             this.subscriptionManager.getFlux(input)
         );
     }
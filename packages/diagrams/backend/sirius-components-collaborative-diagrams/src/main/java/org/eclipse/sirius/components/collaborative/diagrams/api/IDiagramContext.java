@@ -18,6 +18,7 @@ import org.eclipse.sirius.components.diagrams.Diagram;
 import org.eclipse.sirius.components.diagrams.ViewCreationRequest;
 import org.eclipse.sirius.components.diagrams.ViewDeletionRequest;
 import org.eclipse.sirius.components.diagrams.events.IDiagramEvent;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingMemo;
 
 /**
  * Information used to perform some operations on the diagram.
@@ -43,6 +44,13 @@ public interface IDiagramContext {
 
     List<IDiagramEvent> getDiagramEvents();
 
+    /**
+     * Returns the memo used to reuse the nodes which have not changed since the previous rendering of the diagram.
+     *
+     * @return The rendering memo of the diagram
+     */
+    DiagramRenderingMemo getRenderingMemo();
+
     /**
      * Implementation which does nothing, used for mocks in unit tests.
      *
@@ -77,5 +85,10 @@ public interface IDiagramContext {
         public List<IDiagramEvent> getDiagramEvents() {
             return List.of();
         }
+
+        @Override
+        public DiagramRenderingMemo getRenderingMemo() {
+            return new DiagramRenderingMemo();
+        }
     }
 }
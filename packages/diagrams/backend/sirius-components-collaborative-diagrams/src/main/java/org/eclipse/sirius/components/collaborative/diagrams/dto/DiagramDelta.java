@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.dto;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.layoutdata.NodeLayoutData;
+
+/**
+ * The structural differences between two versions of a diagram.
+ *
+ * <p>
+ * Nodes are listed in a flat way, each one with the id of its parent. The nodes which have been added or updated are
+ * listed before their children. The node layout data contains the layout data which have been added or updated.
+ * </p>
+ *
+ * @author agent
+ */
+public record DiagramDelta(
+        List<DiagramDeltaNode> addedNodes,
+        List<DiagramDeltaNode> updatedNodes,
+        List<String> removedNodeIds,
+        List<Edge> addedEdges,
+        List<Edge> updatedEdges,
+        List<String> removedEdgeIds,
+        List<NodeLayoutData> nodeLayoutData) {
+
+    public DiagramDelta {
+        Objects.requireNonNull(addedNodes);
+        Objects.requireNonNull(updatedNodes);
+        Objects.requireNonNull(removedNodeIds);
+        Objects.requireNonNull(addedEdges);
+        Objects.requireNonNull(updatedEdges);
+        Objects.requireNonNull(removedEdgeIds);
+        Objects.requireNonNull(nodeLayoutData);
+    }
+
+    public boolean isEmpty() {
+        boolean isEmpty = this.addedNodes.isEmpty() && this.updatedNodes.isEmpty() && this.removedNodeIds.isEmpty();
+        isEmpty = isEmpty && this.addedEdges.isEmpty() && this.updatedEdges.isEmpty() && this.removedEdgeIds.isEmpty();
+        return isEmpty && this.nodeLayoutData.isEmpty();
+    }
+}
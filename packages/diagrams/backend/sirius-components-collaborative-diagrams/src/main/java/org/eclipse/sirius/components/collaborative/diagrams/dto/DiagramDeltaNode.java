@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.dto;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.components.diagrams.Node;
+
+/**
+ * A node of a diagram delta along with the id of its parent.
+ *
+ * <p>
+ * The parent id is null for the nodes at the root of the diagram.
+ * </p>
+ *
+ * @author agent
+ */
+public record DiagramDeltaNode(String parentId, Node node) {
+
+    public DiagramDeltaNode {
+        Objects.requireNonNull(node);
+    }
+}
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.dto;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IPayload;
+
+/**
+ * Payload used to indicate that the diagram has been refreshed with only the differences with the previous version of
+ * the diagram sent to the subscriber.
+ *
+ * @author agent
+ */
+public record DiagramDeltaRefreshedEventPayload(UUID id, String diagramId, DiagramDelta delta, String cause, ReferencePosition referencePosition) implements IPayload {
+
+    public DiagramDeltaRefreshedEventPayload {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(diagramId);
+        Objects.requireNonNull(delta);
+        Objects.requireNonNull(cause);
+    }
+}
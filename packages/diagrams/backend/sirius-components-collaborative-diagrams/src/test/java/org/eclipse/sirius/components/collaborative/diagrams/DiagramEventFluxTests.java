@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDeltaNode;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDeltaRefreshedEventPayload;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramRefreshedEventPayload;
+import org.eclipse.sirius.components.collaborative.diagrams.handlers.TestDiagramBuilder;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.EdgeStyle;
+import org.eclipse.sirius.components.diagrams.InsideLabel;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.NodeLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.Position;
+import org.eclipse.sirius.components.diagrams.layoutdata.Size;
+import org.junit.jupiter.api.Test;
+
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests of the diagram event flux and of the computation of the diagram deltas.
+ *
+ * @author agent
+ */
+public class DiagramEventFluxTests {
+
+    private static final String DIAGRAM_ID = "diagram";
+
+    private static final String PARENT_ID = "parent";
+
+    private static final String CHILD_ID = "child";
+
+    private static final String OTHER_ID = "other";
+
+    private static final String EDGE_ID = "edge";
+
+    private final TestDiagramBuilder testDiagramBuilder = new TestDiagramBuilder();
+
+    @Test
+    public void testDeltaOfTheModificationOfALabel() {
+        Node child = this.testDiagramBuilder.getNode(CHILD_ID, true);
+        Node parent = Node.newNode(this.testDiagramBuilder.getNode(PARENT_ID, true)).childNodes(List.of(child)).build();
+        Node other = this.testDiagramBuilder.getNode(OTHER_ID, false);
+        Edge edge = this.testDiagramBuilder.getEdge(EDGE_ID, PARENT_ID, OTHER_ID);
+        Diagram previousDiagram = this.getDiagram(List.of(parent, other), List.of(edge));
+
+        InsideLabel newLabel = InsideLabel.newInsideLabel(child.getInsideLabel())
+                .text("newText")
+                .textAlign(child.getInsideLabel().getTextAlign())
+                .build();
+        Node newChild = Node.newNode(child).insideLabel(newLabel).build();
+        Node newParent = Node.newNode(parent).childNodes(List.of(newChild)).build();
+        Diagram newDiagram = this.getDiagram(List.of(newParent, other), List.of(edge));
+
+        var delta = new DiagramDeltaComputer().compute(previousDiagram, newDiagram);
+
+        assertThat(delta.updatedNodes()).extracting(DiagramDeltaNode::parentId).containsExactly(PARENT_ID);
+        assertThat(delta.updatedNodes()).extracting(DiagramDeltaNode::node).containsExactly(newChild);
+        assertThat(delta.addedNodes()).isEmpty();
+        assertThat(delta.removedNodeIds()).isEmpty();
+        assertThat(delta.addedEdges()).isEmpty();
+        assertThat(delta.updatedEdges()).isEmpty();
+        assertThat(delta.removedEdgeIds()).isEmpty();
+        assertThat(delta.nodeLayoutData()).isEmpty();
+        assertThat(new DiagramDeltaComputer().isUnchanged(previousDiagram, newDiagram)).isFalse();
+    }
+
+    @Test
+    public void testDeltaOfStructuralModifications() {
+        Node parent = this.testDiagramBuilder.getNode(PARENT_ID, true);
+        Node other = this.testDiagramBuilder.getNode(OTHER_ID, false);
+        Edge edge = this.testDiagramBuilder.getEdge(EDGE_ID, PARENT_ID, OTHER_ID);
+        Diagram previousDiagram = this.getDiagram(List.of(parent, other), List.of(edge));
+
+        Node child = this.testDiagramBuilder.getNode(CHILD_ID, false);
+        Node newParent = Node.newNode(parent).childNodes(List.of(child)).build();
+        var layoutData = new DiagramLayoutData(Map.of(CHILD_ID, new NodeLayoutData(CHILD_ID, new Position(10, 10), new Size(50, 20), false)), Map.of(), Map.of());
+        Diagram newDiagram = Diagram.newDiagram(this.getDiagram(List.of(newParent), List.of()))
+                .layoutData(layoutData)
+                .build();
+
+        var delta = new DiagramDeltaComputer().compute(previousDiagram, newDiagram);
+
+        assertThat(delta.addedNodes()).containsExactly(new DiagramDeltaNode(PARENT_ID, child));
+        assertThat(delta.updatedNodes()).containsExactly(new DiagramDeltaNode(null, newParent));
+        assertThat(delta.removedNodeIds()).containsExactly(OTHER_ID);
+        assertThat(delta.removedEdgeIds()).containsExactly(EDGE_ID);
+        assertThat(delta.nodeLayoutData()).extracting(NodeLayoutData::id).containsExactly(CHILD_ID);
+    }
+
+    @Test
+    public void testDeltaOfAnEquivalentDiagram() {
+        Node child = this.testDiagramBuilder.getNode(CHILD_ID, true);
+        Node parent = Node.newNode(this.testDiagramBuilder.getNode(PARENT_ID, true)).childNodes(List.of(child)).build();
+        Edge edge = this.testDiagramBuilder.getEdge(EDGE_ID, PARENT_ID, CHILD_ID);
+        Diagram previousDiagram = this.getDiagram(List.of(parent), List.of(edge));
+
+        Node newChild = Node.newNode(child).build();
+        Node newParent = Node.newNode(parent).childNodes(List.of(newChild)).build();
+        Edge newEdge = Edge.newEdge(edge).style(this.copy(edge.getStyle(), edge.getStyle().getSize())).build();
+        Diagram newDiagram = Diagram.newDiagram(previousDiagram)
+                .nodes(List.of(newParent))
+                .edges(List.of(newEdge))
+                .build();
+
+        var delta = new DiagramDeltaComputer().compute(previousDiagram, newDiagram);
+
+        assertThat(delta.isEmpty()).isTrue();
+        assertThat(new DiagramDeltaComputer().isUnchanged(previousDiagram, newDiagram)).isTrue();
+    }
+
+    @Test
+    public void testDeltaOfTheModificationOfAnEdgeStyle() {
+        Node parent = this.testDiagramBuilder.getNode(PARENT_ID, true);
+        Node other = this.testDiagramBuilder.getNode(OTHER_ID, false);
+        Edge edge = this.testDiagramBuilder.getEdge(EDGE_ID, PARENT_ID, OTHER_ID);
+        Diagram previousDiagram = this.getDiagram(List.of(parent, other), List.of(edge));
+
+        Edge newEdge = Edge.newEdge(edge).style(this.copy(edge.getStyle(), edge.getStyle().getSize() + 1)).build();
+        Diagram newDiagram = this.getDiagram(List.of(parent, other), List.of(newEdge));
+
+        var delta = new DiagramDeltaComputer().compute(previousDiagram, newDiagram);
+
+        assertThat(delta.updatedEdges()).containsExactly(newEdge);
+        assertThat(delta.updatedNodes()).isEmpty();
+    }
+
+    @Test
+    public void testDeltaOfAnAddedNodeWithChildren() {
+        Node other = this.testDiagramBuilder.getNode(OTHER_ID, false);
+        Diagram previousDiagram = this.getDiagram(List.of(other), List.of());
+
+        Node child = this.testDiagramBuilder.getNode(CHILD_ID, false);
+        Node parent = Node.newNode(this.testDiagramBuilder.getNode(PARENT_ID, true)).childNodes(List.of(child)).build();
+        Diagram newDiagram = this.getDiagram(List.of(other, parent), List.of());
+
+        var delta = new DiagramDeltaComputer().compute(previousDiagram, newDiagram);
+
+        assertThat(delta.addedNodes()).containsExactly(new DiagramDeltaNode(null, parent));
+        assertThat(delta.updatedNodes()).isEmpty();
+    }
+
+    @Test
+    public void testIncrementalSubscribersReceiveDeltas() {
+        Node parent = this.testDiagramBuilder.getNode(PARENT_ID, true);
+        Diagram initialDiagram = this.getDiagram(List.of(parent), List.of());
+        Node other = this.testDiagramBuilder.getNode(OTHER_ID, false);
+        Diagram newDiagram = this.getDiagram(List.of(parent, other), List.of());
+
+        var diagramEventFlux = new DiagramEventFlux(initialDiagram);
+        Runnable performRefresh = () -> diagramEventFlux.diagramRefreshed(UUID.randomUUID(), newDiagram, DiagramRefreshedEventPayload.CAUSE_REFRESH, null);
+
+        StepVerifier.create(diagramEventFlux.getIncrementalFlux(UUID.randomUUID(), DiagramRefreshedEventPayload.CAUSE_REFRESH))
+                .expectNextMatches(payload -> payload instanceof DiagramRefreshedEventPayload refreshedPayload && refreshedPayload.diagram() == initialDiagram)
+                .then(performRefresh)
+                .expectNextMatches(payload -> payload instanceof DiagramDeltaRefreshedEventPayload deltaPayload
+                        && deltaPayload.delta().addedNodes().equals(List.of(new DiagramDeltaNode(null, other)))
+                        && deltaPayload.delta().updatedNodes().isEmpty())
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    public void testIncrementalSubscribersReceiveTheWholeDiagramAfterARevisionGap() {
+        Diagram initialDiagram = this.getDiagram(List.of(), List.of());
+        Diagram missedDiagram = this.getDiagram(List.of(this.testDiagramBuilder.getNode(PARENT_ID, true)), List.of());
+        Diagram newDiagram = this.getDiagram(List.of(this.testDiagramBuilder.getNode(OTHER_ID, true)), List.of());
+
+        var diagramEventFlux = new DiagramEventFlux(initialDiagram);
+        Runnable performMissedRefresh = () -> diagramEventFlux.diagramRefreshed(UUID.randomUUID(), missedDiagram, DiagramRefreshedEventPayload.CAUSE_REFRESH, null);
+        Runnable performRefresh = () -> diagramEventFlux.diagramRefreshed(UUID.randomUUID(), newDiagram, DiagramRefreshedEventPayload.CAUSE_REFRESH, null);
+
+        StepVerifier.create(diagramEventFlux.getIncrementalFlux(UUID.randomUUID(), DiagramRefreshedEventPayload.CAUSE_REFRESH), 1)
+                .expectNextMatches(DiagramRefreshedEventPayload.class::isInstance)
+                .then(performMissedRefresh)
+                .thenRequest(1)
+                .then(performRefresh)
+                .expectNextMatches(payload -> payload instanceof DiagramRefreshedEventPayload refreshedPayload && refreshedPayload.diagram() == newDiagram)
+                .thenCancel()
+                .verify();
+    }
+
+    private EdgeStyle copy(EdgeStyle edgeStyle, int size) {
+        return EdgeStyle.newEdgeStyle()
+                .size(size)
+                .lineStyle(edgeStyle.getLineStyle())
+                .sourceArrow(edgeStyle.getSourceArrow())
+                .targetArrow(edgeStyle.getTargetArrow())
+                .color(edgeStyle.getColor())
+                .build();
+    }
+
+    private Diagram getDiagram(List<Node> nodes, List<Edge> edges) {
+        return Diagram.newDiagram(this.testDiagramBuilder.getDiagram(DIAGRAM_ID))
+                .nodes(nodes)
+                .edges(edges)
+                .build();
+    }
+}
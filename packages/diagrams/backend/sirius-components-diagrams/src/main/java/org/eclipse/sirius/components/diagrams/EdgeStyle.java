@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -58,6 +58,24 @@ public final class EdgeStyle {
         return this.color;
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof EdgeStyle other) {
+            boolean isEqual = this.size == other.size;
+            isEqual = isEqual && Objects.equals(this.lineStyle, other.lineStyle);
+            isEqual = isEqual && Objects.equals(this.sourceArrow, other.sourceArrow);
+            isEqual = isEqual && Objects.equals(this.targetArrow, other.targetArrow);
+            isEqual = isEqual && Objects.equals(this.color, other.color);
+            return isEqual;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.size, this.lineStyle, this.sourceArrow, this.targetArrow, this.color);
+    }
+
     public static Builder newEdgeStyle() {
         return new Builder();
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Obeo.
+ * Copyright (c) 2022, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -26,4 +26,14 @@ public final class FreeFormLayoutStrategy implements ILayoutStrategy {
         return KIND;
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof FreeFormLayoutStrategy;
+    }
+
+    @Override
+    public int hashCode() {
+        return KIND.hashCode();
+    }
+
 }
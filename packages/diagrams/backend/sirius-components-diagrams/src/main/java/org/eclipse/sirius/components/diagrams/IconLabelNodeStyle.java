@@ -31,6 +31,20 @@ public final class IconLabelNodeStyle implements INodeStyle {
         // Prevent instantiation
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof IconLabelNodeStyle other) {
+            boolean isEqual = Objects.equals(this.background, other.background);
+            return isEqual;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.background);
+    }
+
     public static Builder newIconLabelNodeStyle() {
         return new Builder();
     }
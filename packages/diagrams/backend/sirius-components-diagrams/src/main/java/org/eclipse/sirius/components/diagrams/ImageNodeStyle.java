@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -44,6 +44,26 @@ public final class ImageNodeStyle implements INodeStyle {
         // Prevent instantiation
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof ImageNodeStyle other) {
+            boolean isEqual = Objects.equals(this.imageURL, other.imageURL);
+            isEqual = isEqual && this.scalingFactor == other.scalingFactor;
+            isEqual = isEqual && Objects.equals(this.borderColor, other.borderColor);
+            isEqual = isEqual && this.borderSize == other.borderSize;
+            isEqual = isEqual && this.borderRadius == other.borderRadius;
+            isEqual = isEqual && Objects.equals(this.borderStyle, other.borderStyle);
+            isEqual = isEqual && this.positionDependentRotation == other.positionDependentRotation;
+            return isEqual;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.imageURL, this.scalingFactor, this.borderColor, this.borderSize, this.borderRadius, this.borderStyle, this.positionDependentRotation);
+    }
+
     public static Builder newImageNodeStyle() {
         return new Builder();
     }
@@ -45,6 +45,27 @@ public final class InsideLabel {
         // Prevent instantiation
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof InsideLabel other) {
+            boolean isEqual = Objects.equals(this.id, other.id);
+            isEqual = isEqual && Objects.equals(this.text, other.text);
+            isEqual = isEqual && Objects.equals(this.insideLabelLocation, other.insideLabelLocation);
+            isEqual = isEqual && Objects.equals(this.style, other.style);
+            isEqual = isEqual && this.isHeader == other.isHeader;
+            isEqual = isEqual && Objects.equals(this.headerSeparatorDisplayMode, other.headerSeparatorDisplayMode);
+            isEqual = isEqual && Objects.equals(this.overflowStrategy, other.overflowStrategy);
+            isEqual = isEqual && Objects.equals(this.textAlign, other.textAlign);
+            return isEqual;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id, this.text, this.insideLabelLocation, this.style, this.isHeader, this.headerSeparatorDisplayMode, this.overflowStrategy, this.textAlign);
+    }
+
     public static Builder newLabel(String id) {
         return new Builder(id);
     }
@@ -53,6 +53,23 @@ public final class Label {
         return this.style;
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof Label other) {
+            boolean isEqual = Objects.equals(this.id, other.id);
+            isEqual = isEqual && Objects.equals(this.type, other.type);
+            isEqual = isEqual && Objects.equals(this.text, other.text);
+            isEqual = isEqual && Objects.equals(this.style, other.style);
+            return isEqual;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id, this.type, this.text, this.style);
+    }
+
     public static Builder newLabel(String id) {
         return new Builder(id);
     }
@@ -55,6 +55,32 @@ public final class LabelStyle {
         // Prevent instantiation
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof LabelStyle other) {
+            boolean isEqual = Objects.equals(this.color, other.color);
+            isEqual = isEqual && this.fontSize == other.fontSize;
+            isEqual = isEqual && this.bold == other.bold;
+            isEqual = isEqual && this.italic == other.italic;
+            isEqual = isEqual && this.underline == other.underline;
+            isEqual = isEqual && this.strikeThrough == other.strikeThrough;
+            isEqual = isEqual && Objects.equals(this.iconURL, other.iconURL);
+            isEqual = isEqual && Objects.equals(this.background, other.background);
+            isEqual = isEqual && Objects.equals(this.borderColor, other.borderColor);
+            isEqual = isEqual && this.borderSize == other.borderSize;
+            isEqual = isEqual && this.borderRadius == other.borderRadius;
+            isEqual = isEqual && Objects.equals(this.borderStyle, other.borderStyle);
+            isEqual = isEqual && Objects.equals(this.maxWidth, other.maxWidth);
+            return isEqual;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.color, this.fontSize, this.bold, this.italic, this.underline, this.strikeThrough, this.iconURL, this.background, this.borderColor, this.borderSize, this.borderRadius, this.borderStyle, this.maxWidth);
+    }
+
     public static Builder newLabelStyle() {
         return new Builder();
     }
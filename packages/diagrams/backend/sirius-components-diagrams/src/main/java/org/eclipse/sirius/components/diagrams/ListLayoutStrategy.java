@@ -38,6 +38,23 @@ public final class ListLayoutStrategy implements ILayoutStrategy {
         // Prevent instantiation
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof ListLayoutStrategy other) {
+            boolean isEqual = this.areChildNodesDraggable == other.areChildNodesDraggable;
+            isEqual = isEqual && this.topGap == other.topGap;
+            isEqual = isEqual && this.bottomGap == other.bottomGap;
+            isEqual = isEqual && Objects.equals(this.growableNodeIds, other.growableNodeIds);
+            return isEqual;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.areChildNodesDraggable, this.topGap, this.bottomGap, this.growableNodeIds);
+    }
+
     public static Builder newListLayoutStrategy() {
         return new Builder();
     }
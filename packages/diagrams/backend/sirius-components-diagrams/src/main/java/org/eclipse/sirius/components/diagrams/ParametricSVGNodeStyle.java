@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2023 Obeo.
+ * Copyright (c) 2022, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -64,6 +64,25 @@ public final class ParametricSVGNodeStyle implements INodeStyle {
         return this.borderStyle;
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof ParametricSVGNodeStyle other) {
+            boolean isEqual = Objects.equals(this.svgURL, other.svgURL);
+            isEqual = isEqual && Objects.equals(this.backgroundColor, other.backgroundColor);
+            isEqual = isEqual && Objects.equals(this.borderColor, other.borderColor);
+            isEqual = isEqual && this.borderSize == other.borderSize;
+            isEqual = isEqual && this.borderRadius == other.borderRadius;
+            isEqual = isEqual && Objects.equals(this.borderStyle, other.borderStyle);
+            return isEqual;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.svgURL, this.backgroundColor, this.borderColor, this.borderSize, this.borderRadius, this.borderStyle);
+    }
+
     public static Builder newParametricSVGNodeStyle() {
         return new Builder();
     }
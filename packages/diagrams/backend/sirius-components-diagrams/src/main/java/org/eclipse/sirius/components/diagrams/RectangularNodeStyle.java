@@ -39,6 +39,24 @@ public final class RectangularNodeStyle implements INodeStyle {
         // Prevent instantiation
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof RectangularNodeStyle other) {
+            boolean isEqual = Objects.equals(this.background, other.background);
+            isEqual = isEqual && Objects.equals(this.borderColor, other.borderColor);
+            isEqual = isEqual && this.borderSize == other.borderSize;
+            isEqual = isEqual && this.borderRadius == other.borderRadius;
+            isEqual = isEqual && Objects.equals(this.borderStyle, other.borderStyle);
+            return isEqual;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.background, this.borderColor, this.borderSize, this.borderRadius, this.borderStyle);
+    }
+
     public static Builder newRectangularNodeStyle() {
         return new Builder();
     }
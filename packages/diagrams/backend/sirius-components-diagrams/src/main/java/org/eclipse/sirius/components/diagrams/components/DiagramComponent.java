@@ -78,6 +78,7 @@ public class DiagramComponent implements IComponent {
                             .diagramEvents(this.props.getDiagramEvents())
                             .parentElementState(ViewModifier.Normal)
                             .operationValidator(this.props.getOperationValidator())
+                            .renderingMemo(this.props.getRenderingMemo())
                             .build();
                     return new Element(NodeComponent.class, nodeComponentProps);
                 }).toList();
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.components;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.sirius.components.diagrams.InsideLabel;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.OutsideLabel;
+import org.eclipse.sirius.components.diagrams.elements.InsideLabelElementProps;
+import org.eclipse.sirius.components.diagrams.elements.NodeElementProps;
+import org.eclipse.sirius.components.diagrams.elements.NodeElementProps.Builder;
+import org.eclipse.sirius.components.diagrams.elements.OutsideLabelElementProps;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingCache;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingMemo;
+import org.eclipse.sirius.components.representations.Element;
+
+/**
+ * Used to convert a previous node into the element which will render it again as is.
+ *
+ * @author agent
+ */
+public class MemoizedNodeConverter {
+
+    /**
+     * Converts the given node.
+     *
+     * <p>
+     * The border nodes and the child nodes are rendered by {@link MemoizedNodesComponent}, one for each sequence of
+     * nodes with the same description, just like the {@link NodeComponent} would have done for each description.
+     * </p>
+     *
+     * @param node
+     *         The previous node
+     * @param cache
+     *         The cache of the rendering
+     * @param renderingMemo
+     *         The memo of the rendering
+     * @return The element of the node
+     */
+    public Element toElement(Node node, DiagramRenderingCache cache, DiagramRenderingMemo renderingMemo) {
+        List<Element> children = new ArrayList<>();
+        if (node.getInsideLabel() != null) {
+            children.add(this.toElement(node.getInsideLabel()));
+        }
+        node.getOutsideLabels().stream()
+                .map(this::toElement)
+                .forEach(children::add);
+
+        this.groupByDescription(node.getBorderNodes()).stream()
+                .map(nodes -> new MemoizedNodesComponentProps(nodes, node.getId(), cache, renderingMemo))
+                .map(props -> new Element(MemoizedNodesComponent.class, props))
+                .forEach(children::add);
+        this.groupByDescription(node.getChildNodes()).stream()
+                .map(nodes -> new MemoizedNodesComponentProps(nodes, node.getId(), cache, renderingMemo))
+                .map(props -> new Element(MemoizedNodesComponent.class, props))
+                .forEach(children::add);
+
+        Builder nodeElementPropsBuilder = NodeElementProps.newNodeElementProps(node.getId())
+                .type(node.getType())
+                .targetObjectId(node.getTargetObjectId())
+                .targetObjectKind(node.getTargetObjectKind())
+                .targetObjectLabel(node.getTargetObjectLabel())
+                .descriptionId(node.getDescriptionId())
+                .borderNode(node.isBorderNode())
+                .style(node.getStyle())
+                .children(children)
+                .modifiers(node.getModifiers())
+                .state(node.getState())
+                .pinned(node.isPinned())
+                .collapsingState(node.getCollapsingState())
+                .defaultWidth(node.getDefaultWidth())
+                .defaultHeight(node.getDefaultHeight())
+                .labelEditable(node.isLabelEditable());
+
+        if (node.getChildrenLayoutStrategy() != null) {
+            nodeElementPropsBuilder.childrenLayoutStrategy(node.getChildrenLayoutStrategy());
+        }
+
+        return new Element(NodeElementProps.TYPE, nodeElementPropsBuilder.build());
+    }
+
+    private Element toElement(InsideLabel insideLabel) {
+        InsideLabelElementProps insideLabelElementProps = InsideLabelElementProps.newInsideLabelElementProps(insideLabel.getId())
+                .text(insideLabel.getText())
+                .insideLabelLocation(insideLabel.getInsideLabelLocation())
+                .style(insideLabel.getStyle())
+                .isHeader(insideLabel.isIsHeader())
+                .headerSeparatorDisplayMode(insideLabel.getHeaderSeparatorDisplayMode())
+                .overflowStrategy(insideLabel.getOverflowStrategy())
+                .textAlign(insideLabel.getTextAlign())
+                .build();
+        return new Element(InsideLabelElementProps.TYPE, insideLabelElementProps);
+    }
+
+    private Element toElement(OutsideLabel outsideLabel) {
+        OutsideLabelElementProps outsideLabelElementProps = OutsideLabelElementProps.newOutsideLabelElementProps(outsideLabel.id())
+                .text(outsideLabel.text())
+                .outsideLabelLocation(outsideLabel.outsideLabelLocation())
+                .style(outsideLabel.style())
+                .overflowStrategy(outsideLabel.overflowStrategy())
+                .textAlign(outsideLabel.textAlign())
+                .build();
+        return new Element(OutsideLabelElementProps.TYPE, outsideLabelElementProps);
+    }
+
+    private List<List<Node>> groupByDescription(List<Node> nodes) {
+        List<List<Node>> groups = new ArrayList<>();
+        List<Node> currentGroup = new ArrayList<>();
+        for (Node node : nodes) {
+            if (!currentGroup.isEmpty() && !currentGroup.get(0).getDescriptionId().equals(node.getDescriptionId())) {
+                groups.add(currentGroup);
+                currentGroup = new ArrayList<>();
+            }
+            currentGroup.add(node);
+        }
+        if (!currentGroup.isEmpty()) {
+            groups.add(currentGroup);
+        }
+        return groups;
+    }
+}
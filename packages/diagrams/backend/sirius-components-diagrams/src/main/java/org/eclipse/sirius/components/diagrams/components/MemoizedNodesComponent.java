@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.components;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingCache;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingMemo;
+import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.Fragment;
+import org.eclipse.sirius.components.representations.FragmentProps;
+import org.eclipse.sirius.components.representations.IComponent;
+import org.eclipse.sirius.components.representations.ReadObjectsRecorder;
+
+/**
+ * Renders again some descendants of a reused node, with the same description, exactly as they have been rendered
+ * previously.
+ *
+ * <p>
+ * The nodes are registered in the rendering cache at the same moment as they would have been by the
+ * {@link NodeComponent} so that the edges are rendered in the same order.
+ * </p>
+ *
+ * @author agent
+ */
+public class MemoizedNodesComponent implements IComponent {
+
+    private final MemoizedNodesComponentProps props;
+
+    public MemoizedNodesComponent(MemoizedNodesComponentProps props) {
+        this.props = Objects.requireNonNull(props);
+    }
+
+    @Override
+    public Element render() {
+        DiagramRenderingCache cache = this.props.getCache();
+        DiagramRenderingMemo renderingMemo = this.props.getRenderingMemo();
+
+        List<Element> children = new ArrayList<>();
+        for (Node node : this.props.getNodes()) {
+            Object semanticElement = renderingMemo.nodeReused(node.getId());
+            ReadObjectsRecorder.INSTANCE.objectRead(semanticElement);
+
+            Element nodeElement = new MemoizedNodeConverter().toElement(node, cache, renderingMemo);
+            children.add(nodeElement);
+
+            cache.put(node.getDescriptionId(), nodeElement);
+            cache.put(semanticElement, nodeElement);
+            cache.put(nodeElement, this.props.getParentElementId());
+        }
+
+        FragmentProps fragmentProps = new FragmentProps(children);
+        return new Fragment(fragmentProps);
+    }
+}
@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.components;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingCache;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingMemo;
+import org.eclipse.sirius.components.representations.IProps;
+
+/**
+ * The properties of the memoized nodes component.
+ *
+ * @author agent
+ */
+public class MemoizedNodesComponentProps implements IProps {
+
+    private final List<Node> nodes;
+
+    private final String parentElementId;
+
+    private final DiagramRenderingCache cache;
+
+    private final DiagramRenderingMemo renderingMemo;
+
+    public MemoizedNodesComponentProps(List<Node> nodes, String parentElementId, DiagramRenderingCache cache, DiagramRenderingMemo renderingMemo) {
+        this.nodes = Objects.requireNonNull(nodes);
+        this.parentElementId = Objects.requireNonNull(parentElementId);
+        this.cache = Objects.requireNonNull(cache);
+        this.renderingMemo = Objects.requireNonNull(renderingMemo);
+    }
+
+    public List<Node> getNodes() {
+        return this.nodes;
+    }
+
+    public String getParentElementId() {
+        return this.parentElementId;
+    }
+
+    public DiagramRenderingCache getCache() {
+        return this.cache;
+    }
+
+    public DiagramRenderingMemo getRenderingMemo() {
+        return this.renderingMemo;
+    }
+}
@@ -110,6 +110,7 @@ public class NodeChildrenComponent implements IComponent {
                     .diagramEvents(this.props.getNodeComponentProps().getDiagramEvents())
                     .parentElementState(this.props.getState())
                     .operationValidator(this.props.getNodeComponentProps().getOperationValidator())
+                    .renderingMemo(this.props.getNodeComponentProps().getRenderingMemo())
                     .build();
             return new Element(NodeComponent.class, nodeComponentProps);
         }).toList();
@@ -144,6 +145,7 @@ public class NodeChildrenComponent implements IComponent {
                     .diagramEvents(this.props.getNodeComponentProps().getDiagramEvents())
                     .parentElementState(this.props.getParentState())
                     .operationValidator(this.props.getNodeComponentProps().getOperationValidator())
+                    .renderingMemo(this.props.getNodeComponentProps().getRenderingMemo())
                     .build();
 
             return new Element(NodeComponent.class, nodeComponentProps);
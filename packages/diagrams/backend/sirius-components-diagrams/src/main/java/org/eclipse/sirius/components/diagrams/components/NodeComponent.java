@@ -95,12 +95,15 @@ public class NodeComponent implements IComponent {
             var optionalPreviousNode = nodesRequestor.getByTargetObjectId(targetObjectId);
 
             if (this.shouldRender(targetObjectId, optionalPreviousNode, nodeVariableManager)) {
-                Element nodeElement = this.doRender(nodeVariableManager, targetObjectId, optionalPreviousNode, diagramEvents);
+                String nodeId = optionalPreviousNode.map(Node::getId).orElseGet(() -> this.computeNodeId(targetObjectId));
+                Element nodeElement = this.reuse(optionalPreviousNode, semanticElement)
+                        .orElseGet(() -> this.doRender(nodeVariableManager, nodeId, targetObjectId, optionalPreviousNode, diagramEvents));
                 children.add(nodeElement);
 
                 cache.put(nodeDescription.getId(), nodeElement);
                 cache.put(semanticElement, nodeElement);
                 cache.put(nodeElement, this.props.getParentElementId());
+                this.props.getRenderingMemo().ifPresent(renderingMemo -> renderingMemo.nodeRendered(nodeId, semanticElement, this.props.getParentElementId(), this.props.getParentElementState()));
             }
 
         }
@@ -143,12 +146,21 @@ public class NodeComponent implements IComponent {
                 .anyMatch(viewDeletionRequest -> Objects.equals(viewDeletionRequest.getElementId(), elementId));
     }
 
-    private Element doRender(VariableManager nodeVariableManager, String targetObjectId, Optional<Node> optionalPreviousNode, List<IDiagramEvent> diagramEvents) {
+    /**
+     * Returns the element rendering the previous node again, with all its descendants, if it can be reused instead of
+     * evaluating the description of the node again.
+     */
+    private Optional<Element> reuse(Optional<Node> optionalPreviousNode, Object semanticElement) {
+        return this.props.getRenderingMemo().flatMap(renderingMemo -> optionalPreviousNode
+                .filter(previousNode -> renderingMemo.canReuse(previousNode, semanticElement, this.props.getParentElementState()))
+                .map(previousNode -> new MemoizedNodeConverter().toElement(previousNode, this.props.getCache(), renderingMemo)));
+    }
+
+    private Element doRender(VariableManager nodeVariableManager, String nodeId, String targetObjectId, Optional<Node> optionalPreviousNode, List<IDiagramEvent> diagramEvents) {
         NodeDescription nodeDescription = this.props.getNodeDescription();
         NodeContainmentKind containmentKind = this.props.getContainmentKind();
         boolean isBorderNode = containmentKind == NodeContainmentKind.BORDER_NODE;
 
-        String nodeId = optionalPreviousNode.map(Node::getId).orElseGet(() -> this.computeNodeId(targetObjectId));
 
         Set<ViewModifier> defaultModifiers = this.computeDefaultModifiers(nodeDescription, nodeVariableManager);
         Set<ViewModifier> modifiers = this.computeModifiers(diagramEvents, optionalPreviousNode, nodeId, defaultModifiers);
@@ -14,6 +14,7 @@ package org.eclipse.sirius.components.diagrams.components;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.eclipse.sirius.components.annotations.Immutable;
 import org.eclipse.sirius.components.diagrams.ViewCreationRequest;
@@ -22,6 +23,7 @@ import org.eclipse.sirius.components.diagrams.ViewModifier;
 import org.eclipse.sirius.components.diagrams.description.NodeDescription;
 import org.eclipse.sirius.components.diagrams.events.IDiagramEvent;
 import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingCache;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingMemo;
 import org.eclipse.sirius.components.representations.IOperationValidator;
 import org.eclipse.sirius.components.representations.IProps;
 import org.eclipse.sirius.components.representations.VariableManager;
@@ -60,6 +62,8 @@ public final class NodeComponentProps implements IProps {
 
     private List<IDiagramEvent> diagramEvents;
 
+    private Optional<DiagramRenderingMemo> renderingMemo;
+
     private NodeComponentProps() {
         // Prevent instantiation
     }
@@ -116,6 +120,10 @@ public final class NodeComponentProps implements IProps {
         return this.operationValidator;
     }
 
+    public Optional<DiagramRenderingMemo> getRenderingMemo() {
+        return this.renderingMemo;
+    }
+
     public static Builder newNodeComponentProps() {
         return new Builder();
     }
@@ -153,6 +161,8 @@ public final class NodeComponentProps implements IProps {
 
         private List<IDiagramEvent> diagramEvents;
 
+        private Optional<DiagramRenderingMemo> renderingMemo;
+
         public Builder variableManager(VariableManager variableManager) {
             this.variableManager = Objects.requireNonNull(variableManager);
             return this;
@@ -218,6 +228,11 @@ public final class NodeComponentProps implements IProps {
             return this;
         }
 
+        public Builder renderingMemo(Optional<DiagramRenderingMemo> renderingMemo) {
+            this.renderingMemo = Objects.requireNonNull(renderingMemo);
+            return this;
+        }
+
         public NodeComponentProps build() {
             NodeComponentProps nodeComponentProps = new NodeComponentProps();
             nodeComponentProps.variableManager = Objects.requireNonNull(this.variableManager);
@@ -233,6 +248,7 @@ public final class NodeComponentProps implements IProps {
             nodeComponentProps.diagramEvents = Objects.requireNonNull(this.diagramEvents);
             nodeComponentProps.operationValidator = Objects.requireNonNull(this.operationValidator);
             nodeComponentProps.parentElementState = Objects.requireNonNull(this.parentElementState);
+            nodeComponentProps.renderingMemo = Objects.requireNonNull(this.renderingMemo);
             return nodeComponentProps;
         }
     }
@@ -20,6 +20,8 @@ import org.eclipse.sirius.components.diagrams.components.InsideLabelComponent;
 import org.eclipse.sirius.components.diagrams.components.InsideLabelComponentProps;
 import org.eclipse.sirius.components.diagrams.components.LabelComponent;
 import org.eclipse.sirius.components.diagrams.components.LabelComponentProps;
+import org.eclipse.sirius.components.diagrams.components.MemoizedNodesComponent;
+import org.eclipse.sirius.components.diagrams.components.MemoizedNodesComponentProps;
 import org.eclipse.sirius.components.diagrams.components.NodeChildrenComponent;
 import org.eclipse.sirius.components.diagrams.components.NodeChildrenComponentProps;
 import org.eclipse.sirius.components.diagrams.components.NodeComponent;
@@ -54,6 +56,8 @@ public class DiagramComponentPropsValidator implements IComponentPropsValidator
             checkValidProps = props instanceof OutsideLabelComponentProps;
         } else if (NodeChildrenComponent.class.equals(componentType)) {
             checkValidProps = props instanceof NodeChildrenComponentProps;
+        } else if (MemoizedNodesComponent.class.equals(componentType)) {
+            checkValidProps = props instanceof MemoizedNodesComponentProps;
         }
 
         return checkValidProps;
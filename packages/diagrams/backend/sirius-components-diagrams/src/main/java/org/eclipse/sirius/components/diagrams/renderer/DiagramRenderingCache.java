@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -14,10 +14,14 @@ package org.eclipse.sirius.components.diagrams.renderer;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Objects;
+import java.util.Set;
 
 import org.eclipse.sirius.components.diagrams.elements.NodeElementProps;
 import org.eclipse.sirius.components.representations.Element;
@@ -25,6 +29,13 @@ import org.eclipse.sirius.components.representations.Element;
 /**
  * Cache used during the rendering of a diagram.
  *
+ * <p>
+ * The nodes are also indexed by the id of their description and by their semantic element so that the source and
+ * target nodes of the edges can be found without iterating on all the nodes of the diagram. Each node remembers its
+ * rendering index, the nodes found for several descriptions are thus merged back in the order in which they have been
+ * rendered.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public class DiagramRenderingCache {
@@ -41,6 +52,12 @@ public class DiagramRenderingCache {
 
     private final Map<String, List<Element>> nodeIdToChildren = new LinkedHashMap<>();
 
+    private final Map<Element, Integer> nodeToRenderingIndex = new HashMap<>();
+
+    private final Map<String, List<Element>> nodeDescriptionIdToRepresentingNodes = new HashMap<>();
+
+    private final Map<String, Map<Object, List<Element>>> nodeDescriptionIdToObjectToNodes = new HashMap<>();
+
     public void put(String nodeDescriptionId, Element nodeElement) {
         this.nodeDescriptionIdToNodes.computeIfAbsent(nodeDescriptionId, id -> new ArrayList<>()).add(nodeElement);
     }
@@ -48,6 +65,15 @@ public class DiagramRenderingCache {
     public void put(Object object, Element nodeElement) {
         this.nodeToObject.put(nodeElement, object);
         this.objectToNodes.computeIfAbsent(object, obj -> new ArrayList<>()).add(nodeElement);
+        this.nodeToRenderingIndex.putIfAbsent(nodeElement, this.nodeToRenderingIndex.size());
+
+        if (nodeElement.getProps() instanceof NodeElementProps nodeElementProps) {
+            String nodeDescriptionId = nodeElementProps.getDescriptionId();
+            this.nodeDescriptionIdToRepresentingNodes.computeIfAbsent(nodeDescriptionId, id -> new ArrayList<>()).add(nodeElement);
+            this.nodeDescriptionIdToObjectToNodes.computeIfAbsent(nodeDescriptionId, id -> new HashMap<>())
+                    .computeIfAbsent(object, obj -> new ArrayList<>())
+                    .add(nodeElement);
+        }
     }
 
     public void put(Element node, String parentNodeId) {
@@ -77,6 +103,59 @@ public class DiagramRenderingCache {
         return this.objectToNodes.getOrDefault(semanticObject, Collections.emptyList());
     }
 
+    /**
+     * Returns the semantic elements of the nodes created from the given node descriptions.
+     *
+     * @param nodeDescriptionIds
+     *         The ids of the node descriptions
+     * @return The semantic elements of the nodes, in the order in which the nodes have been rendered
+     */
+    public List<Object> getObjectsRepresentedBy(Set<String> nodeDescriptionIds) {
+        var nodesOfDescriptions = nodeDescriptionIds.stream()
+                .map(this.nodeDescriptionIdToRepresentingNodes::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return this.mergeInRenderingOrder(nodesOfDescriptions).stream()
+                .map(this.nodeToObject::get)
+                .toList();
+    }
+
+    /**
+     * Returns the nodes representing the given semantic element which have been created from the given node
+     * descriptions.
+     *
+     * @param semanticObject
+     *         The semantic element
+     * @param nodeDescriptionIds
+     *         The ids of the node descriptions
+     * @return The nodes, in the order in which they have been rendered
+     */
+    public List<Element> getElementsRepresenting(Object semanticObject, Set<String> nodeDescriptionIds) {
+        var nodesOfDescriptions = nodeDescriptionIds.stream()
+                .map(this.nodeDescriptionIdToObjectToNodes::get)
+                .filter(Objects::nonNull)
+                .map(objectToNodesOfDescription -> objectToNodesOfDescription.get(semanticObject))
+                .filter(Objects::nonNull)
+                .toList();
+        return this.mergeInRenderingOrder(nodesOfDescriptions);
+    }
+
+    /**
+     * Merges lists of nodes, each of them sorted in the rendering order, into a single list sorted in the rendering
+     * order.
+     */
+    private List<Element> mergeInRenderingOrder(List<List<Element>> sortedNodes) {
+        if (sortedNodes.size() == 1) {
+            return sortedNodes.get(0);
+        }
+
+        List<Element> nodes = new ArrayList<>(sortedNodes.stream().mapToInt(List::size).sum());
+        sortedNodes.forEach(nodes::addAll);
+        // The sort detects the sorted runs of nodes and only merges them
+        nodes.sort(Comparator.comparingInt(this.nodeToRenderingIndex::get));
+        return nodes;
+    }
+
     public Optional<Element> getParent(String nodeId) {
         // @formatter:off
         return Optional.ofNullable(this.nodeIdToNode.get(nodeId))
@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.renderer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.ViewModifier;
+import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.components.representations.IModificationStamps;
+
+/**
+ * Remembers how the nodes of a diagram have been rendered in order to reuse them during the following rendering.
+ *
+ * <p>
+ * A node is reused along with all its descendants, without evaluating its description again, if it is rendered on the
+ * very same semantic element with the same parent state and if none of the semantic elements of its ancestor nodes,
+ * of the node itself and of its descendants have been modified since the previous rendering. The rendering of a node
+ * is thus expected to only depend on these semantic elements, the modifications of any other object, including the
+ * target object of the diagram, are ignored. The objects read by the expressions of the descriptions are not recorded,
+ * a node whose label is computed with <code>aql:self.type.name</code> is for example not rendered again if only its
+ * type has been renamed and it thus becomes stale. Nothing is reused if the description of the diagram has changed,
+ * if the previous diagram is not the one which has been rendered or if some diagram events or some view creation or
+ * deletion requests have to be applied.
+ * </p>
+ *
+ * <p>
+ * The state of the memo is only updated once a rendering has been completed, a failed rendering is thus ignored.
+ * </p>
+ *
+ * @author agent
+ */
+public class DiagramRenderingMemo {
+
+    private IModificationStamps modificationStamps;
+
+    private DiagramDescription diagramDescription;
+
+    private List<Node> renderedNodes;
+
+    private long renderingStamp;
+
+    private Map<String, RenderedNode> nodes = Map.of();
+
+    private IModificationStamps nextModificationStamps;
+
+    private DiagramDescription nextDiagramDescription;
+
+    private long nextRenderingStamp;
+
+    private Map<String, RenderedNode> nextNodes = new HashMap<>();
+
+    private final Map<String, Boolean> unchangedSubtrees = new HashMap<>();
+
+    private final Map<String, Boolean> unchangedAncestors = new HashMap<>();
+
+    private boolean isReuseEnabled;
+
+    /**
+     * Prepares the memo for a new rendering of the diagram.
+     *
+     * @param currentModificationStamps
+     *         The modification stamps of the semantic elements
+     * @param currentDiagramDescription
+     *         The description of the diagram
+     * @param optionalPreviousDiagram
+     *         The previous diagram, if any
+     * @param hasPendingRequests
+     *         Indicates if some diagram events or some view creation or deletion requests have to be applied
+     */
+    public void renderingStarted(IModificationStamps currentModificationStamps, DiagramDescription currentDiagramDescription, Optional<Diagram> optionalPreviousDiagram, boolean hasPendingRequests) {
+        boolean isPreviousDiagramRendered = optionalPreviousDiagram.map(Diagram::getNodes)
+                .filter(previousNodes -> previousNodes == this.renderedNodes)
+                .isPresent();
+        boolean isSameContext = currentModificationStamps == this.modificationStamps && currentDiagramDescription == this.diagramDescription;
+        this.isReuseEnabled = !hasPendingRequests && isPreviousDiagramRendered && isSameContext;
+
+        this.nextModificationStamps = currentModificationStamps;
+        this.nextDiagramDescription = currentDiagramDescription;
+        this.nextRenderingStamp = currentModificationStamps.getCurrentStamp();
+        this.nextNodes = new HashMap<>();
+        this.unchangedSubtrees.clear();
+        this.unchangedAncestors.clear();
+    }
+
+    /**
+     * Remembers the nodes rendered once the given diagram has been completely rendered.
+     *
+     * @param diagram
+     *         The diagram rendered
+     */
+    public void renderingCompleted(Diagram diagram) {
+        this.modificationStamps = this.nextModificationStamps;
+        this.diagramDescription = this.nextDiagramDescription;
+        this.renderingStamp = this.nextRenderingStamp;
+        this.nodes = this.nextNodes;
+        this.renderedNodes = diagram.getNodes();
+
+        this.nextNodes = new HashMap<>();
+        this.unchangedSubtrees.clear();
+        this.unchangedAncestors.clear();
+        this.isReuseEnabled = false;
+    }
+
+    /**
+     * Indicates if the given previous node can be reused as is.
+     *
+     * @param previousNode
+     *         The previous node
+     * @param semanticElement
+     *         The semantic element on which the node is rendered
+     * @param parentElementState
+     *         The state of the parent of the node
+     * @return <code>true</code> if the node and all its descendants can be reused, <code>false</code> otherwise
+     */
+    public boolean canReuse(Node previousNode, Object semanticElement, ViewModifier parentElementState) {
+        var renderedNode = this.nodes.get(previousNode.getId());
+        boolean isRenderedTheSameWay = renderedNode != null && renderedNode.semanticElement() == semanticElement && renderedNode.parentElementState() == parentElementState;
+        return this.isReuseEnabled && isRenderedTheSameWay && this.hasUnchangedAncestors(renderedNode.parentElementId()) && this.isUnchanged(previousNode);
+    }
+
+    /**
+     * Indicates if the semantic elements of the given parent element and of all its ancestor nodes have not been
+     * modified since the previous rendering.
+     *
+     * <p>
+     * The id of a node depends on the id of its parent, a node is thus reused with the very same ancestors as in the
+     * previous rendering. The diagram itself is not a rendered node and it ends the chain of the ancestors.
+     * </p>
+     */
+    private boolean hasUnchangedAncestors(String parentElementId) {
+        var renderedParentNode = this.nodes.get(parentElementId);
+        if (renderedParentNode == null) {
+            return true;
+        }
+
+        Boolean hasUnchangedAncestors = this.unchangedAncestors.get(parentElementId);
+        if (hasUnchangedAncestors == null) {
+            hasUnchangedAncestors = !this.modificationStamps.isModifiedSince(renderedParentNode.semanticElement(), this.renderingStamp)
+                    && this.hasUnchangedAncestors(renderedParentNode.parentElementId());
+            this.unchangedAncestors.put(parentElementId, hasUnchangedAncestors);
+        }
+        return hasUnchangedAncestors;
+    }
+
+    private boolean isUnchanged(Node node) {
+        Boolean isUnchanged = this.unchangedSubtrees.get(node.getId());
+        if (isUnchanged == null) {
+            var renderedNode = this.nodes.get(node.getId());
+            isUnchanged = renderedNode != null
+                    && !this.modificationStamps.isModifiedSince(renderedNode.semanticElement(), this.renderingStamp)
+                    && Stream.concat(node.getBorderNodes().stream(), node.getChildNodes().stream()).allMatch(this::isUnchanged);
+            this.unchangedSubtrees.put(node.getId(), isUnchanged);
+        }
+        return isUnchanged;
+    }
+
+    public void nodeRendered(String nodeId, Object semanticElement, String parentElementId, ViewModifier parentElementState) {
+        this.nextNodes.put(nodeId, new RenderedNode(semanticElement, parentElementId, parentElementState));
+    }
+
+    /**
+     * Remembers that a descendant of a reused node has been reused too.
+     *
+     * @param nodeId
+     *         The id of the node reused
+     * @return The semantic element of the node reused
+     */
+    public Object nodeReused(String nodeId) {
+        var renderedNode = this.nodes.get(nodeId);
+        this.nextNodes.put(nodeId, renderedNode);
+        return renderedNode.semanticElement();
+    }
+
+    /**
+     * The semantic element, the parent and the parent state of a rendered node.
+     *
+     * @author agent
+     */
+    private record RenderedNode(Object semanticElement, String parentElementId, ViewModifier parentElementState) {
+    }
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.renderer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.sirius.components.diagrams.CollapsingState;
+import org.eclipse.sirius.components.diagrams.FreeFormLayoutStrategy;
+import org.eclipse.sirius.components.diagrams.LineStyle;
+import org.eclipse.sirius.components.diagrams.RectangularNodeStyle;
+import org.eclipse.sirius.components.diagrams.ViewModifier;
+import org.eclipse.sirius.components.diagrams.elements.NodeElementProps;
+import org.eclipse.sirius.components.representations.Element;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the indexes of the diagram rendering cache.
+ *
+ * @author agent
+ */
+public class DiagramRenderingCacheTests {
+
+    private static final String FIRST_DESCRIPTION_ID = "firstDescriptionId";
+
+    private static final String SECOND_DESCRIPTION_ID = "secondDescriptionId";
+
+    private static final String THIRD_DESCRIPTION_ID = "thirdDescriptionId";
+
+    @Test
+    public void givenNodesOfSeveralDescriptionsWhenTheirObjectsAreRequestedThenTheyAreReturnedInTheRenderingOrder() {
+        Object firstObject = new Object();
+        Object secondObject = new Object();
+        Object thirdObject = new Object();
+
+        DiagramRenderingCache cache = new DiagramRenderingCache();
+        this.put(cache, firstObject, FIRST_DESCRIPTION_ID);
+        this.put(cache, secondObject, SECOND_DESCRIPTION_ID);
+        this.put(cache, thirdObject, FIRST_DESCRIPTION_ID);
+
+        assertThat(cache.getObjectsRepresentedBy(Set.of(FIRST_DESCRIPTION_ID))).containsExactly(firstObject, thirdObject);
+        assertThat(cache.getObjectsRepresentedBy(Set.of(FIRST_DESCRIPTION_ID, SECOND_DESCRIPTION_ID))).containsExactly(firstObject, secondObject, thirdObject);
+        assertThat(cache.getObjectsRepresentedBy(Set.of("unknownDescriptionId"))).isEmpty();
+    }
+
+    @Test
+    public void givenAnObjectRepresentedBySeveralNodesWhenItsNodesOfSomeDescriptionsAreRequestedThenOnlyTheseNodesAreReturned() {
+        Object object = new Object();
+
+        DiagramRenderingCache cache = new DiagramRenderingCache();
+        Element firstNode = this.put(cache, object, FIRST_DESCRIPTION_ID);
+        Element secondNode = this.put(cache, object, SECOND_DESCRIPTION_ID);
+        this.put(cache, new Object(), FIRST_DESCRIPTION_ID);
+
+        assertThat(cache.getElementsRepresenting(object, Set.of(FIRST_DESCRIPTION_ID))).containsExactly(firstNode);
+        assertThat(cache.getElementsRepresenting(object, Set.of(SECOND_DESCRIPTION_ID))).containsExactly(secondNode);
+        assertThat(cache.getElementsRepresenting(object, Set.of(FIRST_DESCRIPTION_ID, SECOND_DESCRIPTION_ID))).containsExactly(firstNode, secondNode);
+        assertThat(cache.getElementsRepresenting(new Object(), Set.of(FIRST_DESCRIPTION_ID))).isEmpty();
+    }
+
+    @Test
+    public void givenNodesOfSeveralDescriptionsRenderedAlternatelyWhenTheyAreRequestedThenTheyAreMergedInTheRenderingOrder() {
+        Object object = new Object();
+        Object otherObject = new Object();
+
+        DiagramRenderingCache cache = new DiagramRenderingCache();
+        Element firstNode = this.put(cache, object, SECOND_DESCRIPTION_ID);
+        this.put(cache, otherObject, THIRD_DESCRIPTION_ID);
+        Element secondNode = this.put(cache, object, FIRST_DESCRIPTION_ID);
+        Element thirdNode = this.put(cache, object, SECOND_DESCRIPTION_ID);
+        Element fourthNode = this.put(cache, otherObject, FIRST_DESCRIPTION_ID);
+
+        var nodeDescriptionIds = Set.of(FIRST_DESCRIPTION_ID, SECOND_DESCRIPTION_ID, "unknownDescriptionId");
+        assertThat(cache.getElementsRepresenting(object, nodeDescriptionIds)).containsExactly(firstNode, secondNode, thirdNode);
+        assertThat(cache.getElementsRepresenting(otherObject, nodeDescriptionIds)).containsExactly(fourthNode);
+        assertThat(cache.getObjectsRepresentedBy(nodeDescriptionIds)).containsExactly(object, object, object, otherObject);
+        assertThat(cache.getObjectsRepresentedBy(Set.of(FIRST_DESCRIPTION_ID, THIRD_DESCRIPTION_ID))).containsExactly(otherObject, object, otherObject);
+    }
+
+    private Element put(DiagramRenderingCache cache, Object object, String nodeDescriptionId) {
+        var nodeElementProps = NodeElementProps.newNodeElementProps(String.valueOf(cache.getNodeToObject().size()))
+                .type("node:rectangular")
+                .targetObjectId("")
+                .targetObjectKind("")
+                .targetObjectLabel("")
+                .descriptionId(nodeDescriptionId)
+                .modifiers(Set.of())
+                .state(ViewModifier.Normal)
+                .collapsingState(CollapsingState.EXPANDED)
+                .style(RectangularNodeStyle.newRectangularNodeStyle()
+                        .background("")
+                        .borderColor("")
+                        .borderSize(0)
+                        .borderStyle(LineStyle.Solid)
+                        .build())
+                .childrenLayoutStrategy(new FreeFormLayoutStrategy())
+                .children(List.of())
+                .build();
+        Element nodeElement = new Element(NodeElementProps.TYPE, nodeElementProps);
+
+        cache.put(nodeDescriptionId, nodeElement);
+        cache.put(object, nodeElement);
+        return nodeElement;
+    }
+}
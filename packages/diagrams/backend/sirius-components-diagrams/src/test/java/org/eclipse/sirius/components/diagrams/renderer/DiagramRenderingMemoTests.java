@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.renderer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.FreeFormLayoutStrategy;
+import org.eclipse.sirius.components.diagrams.LineStyle;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.RectangularNodeStyle;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponent;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponentProps;
+import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.components.diagrams.description.NodeDescription;
+import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.Failure;
+import org.eclipse.sirius.components.representations.IModificationStamps;
+import org.eclipse.sirius.components.representations.IOperationValidator;
+import org.eclipse.sirius.components.representations.Success;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the reuse of the nodes rendered previously.
+ *
+ * @author agent
+ */
+public class DiagramRenderingMemoTests {
+
+    private static final String FIRST = "first";
+
+    private static final String SECOND = "second";
+
+    private static final String FIRST_CHILD = "firstChild";
+
+    private static final String SECOND_CHILD = "secondChild";
+
+    private final Map<String, List<String>> children = Map.of(
+            FIRST, List.of(FIRST_CHILD),
+            SECOND, List.of(SECOND_CHILD)
+    );
+
+    private final Set<Object> modifiedObjects = new HashSet<>();
+
+    private final IModificationStamps modificationStamps = new IModificationStamps() {
+        @Override
+        public long getCurrentStamp() {
+            return 0;
+        }
+
+        @Override
+        public boolean isModifiedSince(Object object, long stamp) {
+            return DiagramRenderingMemoTests.this.modifiedObjects.contains(object);
+        }
+    };
+
+    private final AtomicInteger evaluationsCount = new AtomicInteger();
+
+    private DiagramDescription diagramDescription;
+
+    @BeforeEach
+    public void setUp() {
+        NodeDescription childNodeDescription = this.createNodeDescription(variableManager -> variableManager.get(VariableManager.SELF, String.class)
+                .map(this.children::get)
+                .orElse(List.of()), List.of());
+        NodeDescription nodeDescription = this.createNodeDescription(variableManager -> List.of(FIRST, SECOND), List.of(childNodeDescription));
+
+        this.diagramDescription = DiagramDescription.newDiagramDescription(UUID.randomUUID().toString())
+                .label("")
+                .canCreatePredicate(variableManager -> true)
+                .targetObjectIdProvider(variableManager -> "diagramTargetObjectId")
+                .labelProvider(variableManager -> "Diagram")
+                .nodeDescriptions(List.of(nodeDescription))
+                .edgeDescriptions(new ArrayList<>())
+                .palettes(List.of())
+                .dropHandler(variableManager -> new Failure(""))
+                .build();
+    }
+
+    @Test
+    public void givenUnchangedSemanticElementsWhenTheDiagramIsRenderedAgainThenNodesAreReused() {
+        DiagramRenderingMemo renderingMemo = new DiagramRenderingMemo();
+        Diagram diagram = this.render(renderingMemo, Optional.empty());
+        assertThat(this.evaluationsCount.get()).isEqualTo(4);
+
+        this.evaluationsCount.set(0);
+        Diagram newDiagram = this.render(renderingMemo, Optional.of(diagram));
+
+        assertThat(this.evaluationsCount.get()).isZero();
+        assertThat(newDiagram.getNodes()).usingRecursiveComparison().isEqualTo(diagram.getNodes());
+    }
+
+    @Test
+    public void givenAModifiedSemanticElementWhenTheDiagramIsRenderedAgainThenOnlyItsAncestorsAndItselfAreRenderedAgain() {
+        DiagramRenderingMemo renderingMemo = new DiagramRenderingMemo();
+        Diagram diagram = this.render(renderingMemo, Optional.empty());
+
+        this.evaluationsCount.set(0);
+        this.modifiedObjects.add(SECOND_CHILD);
+        Diagram newDiagram = this.render(renderingMemo, Optional.of(diagram));
+
+        assertThat(this.evaluationsCount.get()).isEqualTo(2);
+        assertThat(newDiagram.getNodes()).hasSize(2);
+        assertThat(newDiagram.getNodes().get(0)).usingRecursiveComparison().isEqualTo(diagram.getNodes().get(0));
+        assertThat(newDiagram.getNodes().get(1).getChildNodes()).extracting(Node::getId).isEqualTo(diagram.getNodes().get(1).getChildNodes().stream().map(Node::getId).toList());
+    }
+
+    @Test
+    public void givenAModifiedSemanticElementWhenTheDiagramIsRenderedAgainThenItsDescendantsAreRenderedAgain() {
+        DiagramRenderingMemo renderingMemo = new DiagramRenderingMemo();
+        Diagram diagram = this.render(renderingMemo, Optional.empty());
+
+        this.evaluationsCount.set(0);
+        this.modifiedObjects.add(FIRST);
+        Diagram newDiagram = this.render(renderingMemo, Optional.of(diagram));
+
+        assertThat(this.evaluationsCount.get()).isEqualTo(2);
+        assertThat(newDiagram.getNodes().get(1)).usingRecursiveComparison().isEqualTo(diagram.getNodes().get(1));
+
+        this.evaluationsCount.set(0);
+        this.modifiedObjects.clear();
+        this.render(renderingMemo, Optional.of(newDiagram));
+
+        assertThat(this.evaluationsCount.get()).isZero();
+    }
+
+    @Test
+    public void givenADiagramWhichHasNotBeenRenderedWithTheMemoWhenTheDiagramIsRenderedThenNothingIsReused() {
+        DiagramRenderingMemo renderingMemo = new DiagramRenderingMemo();
+        Diagram diagram = this.render(renderingMemo, Optional.empty());
+        Diagram reloadedDiagram = Diagram.newDiagram(diagram)
+                .nodes(new ArrayList<>(diagram.getNodes()))
+                .build();
+
+        this.evaluationsCount.set(0);
+        this.render(renderingMemo, Optional.of(reloadedDiagram));
+
+        assertThat(this.evaluationsCount.get()).isEqualTo(4);
+    }
+
+    private NodeDescription createNodeDescription(Function<VariableManager, List<?>> semanticElementsProvider, List<NodeDescription> childNodeDescriptions) {
+        return NodeDescription.newNodeDescription(UUID.randomUUID().toString())
+                .typeProvider(variableManager -> {
+                    this.evaluationsCount.incrementAndGet();
+                    return "node:rectangular";
+                })
+                .semanticElementsProvider(semanticElementsProvider)
+                .targetObjectIdProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(""))
+                .targetObjectKindProvider(variableManager -> "")
+                .targetObjectLabelProvider(variableManager -> "")
+                .styleProvider(variableManager -> RectangularNodeStyle.newRectangularNodeStyle()
+                        .background("")
+                        .borderColor("")
+                        .borderSize(0)
+                        .borderStyle(LineStyle.Solid)
+                        .build())
+                .childrenLayoutStrategyProvider(variableManager -> new FreeFormLayoutStrategy())
+                .borderNodeDescriptions(new ArrayList<>())
+                .childNodeDescriptions(new ArrayList<>(childNodeDescriptions))
+                .labelEditHandler((variableManager, newLabel) -> new Success())
+                .deleteHandler(variableManager -> new Success())
+                .build();
+    }
+
+    private Diagram render(DiagramRenderingMemo renderingMemo, Optional<Diagram> previousDiagram) {
+        renderingMemo.renderingStarted(this.modificationStamps, this.diagramDescription, previousDiagram, false);
+
+        DiagramComponentProps props = DiagramComponentProps.newDiagramComponentProps()
+                .variableManager(new VariableManager())
+                .diagramDescription(this.diagramDescription)
+                .allDiagramDescriptions(List.of(this.diagramDescription))
+                .viewCreationRequests(List.of())
+                .viewDeletionRequests(List.of())
+                .previousDiagram(previousDiagram)
+                .operationValidator(new IOperationValidator.NoOp())
+                .diagramEvents(List.of())
+                .renderingMemo(Optional.of(renderingMemo))
+                .build();
+        Diagram diagram = new DiagramRenderer().render(new Element(DiagramComponent.class, props));
+
+        renderingMemo.renderingCompleted(diagram);
+        return diagram;
+    }
+}
@@ -69,6 +69,15 @@ public class MigrationService extends BasicExtendedMetaData implements JsonResou
         return migrationParticipantsCandidate.orElse(this.documentMigrationData);
     }
 
+    /**
+     * Indicates if some migration participants are more recent than the document being loaded or saved.
+     *
+     * @return <code>true</code> if some migration participants have to be applied, <code>false</code> otherwise
+     */
+    public boolean hasMigrationParticipantCandidates() {
+        return !this.migrationParticipantsCandidates.isEmpty();
+    }
+
     @Override
     public EStructuralFeature getElement(EClass eClass, String namespace, String eStructuralFeatureName) {
         EStructuralFeature structuralFeature = eClass.getEStructuralFeature(eStructuralFeatureName);
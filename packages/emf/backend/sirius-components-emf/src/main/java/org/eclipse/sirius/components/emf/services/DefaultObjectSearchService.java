@@ -29,6 +29,13 @@ import org.springframework.stereotype.Service;
 /**
  * Default implementation of the IDefaultObjectService.
  *
+ * <p>
+ * When an {@link EObjectIndexAdapter} is installed on the resource set of the editing context, it is used to find the
+ * objects without browsing all the resources and to avoid looking for the same unknown ids repeatedly in the resources.
+ * The package registry and the representations are always searched since their content is not observed by the index,
+ * the {@link IRepresentationSearchService} is thus in charge of remembering the representations which do not exist.
+ * </p>
+ *
  * @author sbegaudeau
  * @author hmarchadour
  */
@@ -44,15 +51,31 @@ public class DefaultObjectSearchService implements IDefaultObjectSearchService {
 
     @Override
     public Optional<Object> getObject(IEditingContext editingContext, String objectId) {
-        var optionalObject = Optional.of(editingContext)
+        var optionalResourceSet = Optional.of(editingContext)
                 .filter(IEMFEditingContext.class::isInstance)
                 .map(IEMFEditingContext.class::cast)
                 .map(IEMFEditingContext::getDomain)
-                .map(EditingDomain::getResourceSet)
-                .flatMap(resourceSet -> this.getEObject(resourceSet, objectId));
+                .map(EditingDomain::getResourceSet);
+        var optionalEObjectIndex = optionalResourceSet.flatMap(EObjectIndexAdapter::from);
+
+        Optional<Object> optionalObject = Optional.empty();
+        boolean isUnknown = optionalEObjectIndex.filter(eObjectIndex -> eObjectIndex.isUnknown(objectId)).isPresent();
+        if (!isUnknown) {
+            optionalObject = optionalEObjectIndex.flatMap(eObjectIndex -> eObjectIndex.getEObject(objectId))
+                    .map(Object.class::cast)
+                    .or(() -> optionalResourceSet.flatMap(resourceSet -> this.getEObjectFromResources(resourceSet, objectId)));
+
+            if (optionalObject.isEmpty()) {
+                optionalEObjectIndex.ifPresent(eObjectIndex -> eObjectIndex.unknownIdFound(objectId));
+            }
+        }
+
+        // The package registry and the representations are not observed by the index, they are thus always searched
+        optionalObject = optionalObject
+                .or(() -> optionalResourceSet.flatMap(resourceSet -> this.getEObjectFromPackageRegistry(resourceSet, objectId)))
+                .or(() -> this.getRepresentation(editingContext, objectId));
 
         return optionalObject
-                .or(() -> this.getRepresentation(editingContext, objectId))
                 .or(() -> {
                     if (Objects.equals(editingContext.getId(), objectId)) {
                         return Optional.of(editingContext);
@@ -62,7 +85,7 @@ public class DefaultObjectSearchService implements IDefaultObjectSearchService {
                 });
     }
 
-    private Optional<Object> getEObject(ResourceSet resourceSet, String objectId) {
+    private Optional<Object> getEObjectFromResources(ResourceSet resourceSet, String objectId) {
         Optional<EObject> optionalEObject = Optional.empty();
 
         int index = objectId.indexOf(ID_SEPARATOR);
@@ -77,14 +100,16 @@ public class DefaultObjectSearchService implements IDefaultObjectSearchService {
                     .flatMap(resource -> Optional.ofNullable(resource.getEObject(objectId)).stream())
                     .findFirst();
         }
+        return optionalEObject.map(Object.class::cast);
+    }
 
-        // If not found in the resources of the ResourceSet, we search in the PackageRegistry resources
-        if (optionalEObject.isEmpty()) {
-            URI uri = URI.createURI(objectId);
-            if (uri.hasFragment()) {
-                EObject eObject = resourceSet.getEObject(uri, false);
-                optionalEObject = Optional.ofNullable(eObject);
-            }
+    private Optional<Object> getEObjectFromPackageRegistry(ResourceSet resourceSet, String objectId) {
+        Optional<EObject> optionalEObject = Optional.empty();
+
+        URI uri = URI.createURI(objectId);
+        if (uri.hasFragment()) {
+            EObject eObject = resourceSet.getEObject(uri, false);
+            optionalEObject = Optional.ofNullable(eObject);
         }
         return optionalEObject.map(Object.class::cast);
     }
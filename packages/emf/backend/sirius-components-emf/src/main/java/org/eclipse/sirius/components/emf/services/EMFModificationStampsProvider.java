@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.Optional;
+
+import org.eclipse.emf.edit.domain.EditingDomain;
+import org.eclipse.sirius.components.collaborative.api.IModificationStampsProvider;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.representations.IModificationStamps;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Provides the modification stamps recorded in the resource set of the EMF based editing contexts.
+ *
+ * <p>
+ * The modification stamps may also be recorded for other consumers, such as the cache of the validation diagnostics,
+ * they are thus only provided to the diagrams if their memoization has been enabled.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class EMFModificationStampsProvider implements IModificationStampsProvider {
+
+    private final boolean isMemoizationEnabled;
+
+    public EMFModificationStampsProvider(@Value("${sirius.components.diagrams.memoization.enabled:false}") boolean isMemoizationEnabled) {
+        this.isMemoizationEnabled = isMemoizationEnabled;
+    }
+
+    @Override
+    public Optional<IModificationStamps> getModificationStamps(IEditingContext editingContext) {
+        return Optional.of(editingContext)
+                .filter(context -> this.isMemoizationEnabled)
+                .filter(IEMFEditingContext.class::isInstance)
+                .map(IEMFEditingContext.class::cast)
+                .map(IEMFEditingContext::getDomain)
+                .map(EditingDomain::getResourceSet)
+                .flatMap(ModificationStampsAdapter::from)
+                .map(IModificationStamps.class::cast);
+    }
+}
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.sirius.components.collaborative.api.ISemanticChanges;
+
+/**
+ * The semantic changes performed in a resource set.
+ *
+ * <p>
+ * A representation is affected by those changes if it has read an object of an impacted resource, an object which is
+ * not in a resource anymore or anything else than an EMF object or resource since its dependencies are unknown.
+ * </p>
+ *
+ * @param impactedResources
+ *         The resources impacted by the changes
+ * @param global
+ *         Indicates if the changes may impact any object
+ * @author agent
+ */
+public record EMFSemanticChanges(Set<Resource> impactedResources, boolean global) implements ISemanticChanges {
+
+    public EMFSemanticChanges {
+        Objects.requireNonNull(impactedResources);
+    }
+
+    @Override
+    public boolean affects(Set<Object> readObjects) {
+        return this.global || readObjects.stream().anyMatch(this::isImpacted);
+    }
+
+    private boolean isImpacted(Object readObject) {
+        boolean isImpacted = true;
+        if (readObject instanceof EObject eObject) {
+            Resource resource = eObject.eResource();
+            isImpacted = resource == null || this.impactedResources.contains(resource);
+        } else if (readObject instanceof Resource resource) {
+            isImpacted = this.impactedResources.contains(resource);
+        }
+        return isImpacted;
+    }
+}
@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.Optional;
+
+import org.eclipse.emf.edit.domain.EditingDomain;
+import org.eclipse.sirius.components.collaborative.api.ISemanticChanges;
+import org.eclipse.sirius.components.collaborative.api.ISemanticChangesProvider;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.springframework.stereotype.Service;
+
+/**
+ * Provides the semantic changes recorded in the resource set of the EMF based editing contexts.
+ *
+ * @author agent
+ */
+@Service
+public class EMFSemanticChangesProvider implements ISemanticChangesProvider {
+
+    @Override
+    public Optional<ISemanticChanges> consumeChanges(IEditingContext editingContext) {
+        return Optional.of(editingContext)
+                .filter(IEMFEditingContext.class::isInstance)
+                .map(IEMFEditingContext.class::cast)
+                .map(IEMFEditingContext::getDomain)
+                .map(EditingDomain::getResourceSet)
+                .flatMap(SemanticChangesRecorder::from)
+                .map(SemanticChangesRecorder::consumeChanges);
+    }
+}
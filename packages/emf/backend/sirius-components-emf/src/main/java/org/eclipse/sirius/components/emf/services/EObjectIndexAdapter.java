@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Keeps an index of the objects of a resource set using the id stored in their {@link IDAdapter}.
+ *
+ * <p>
+ * This adapter has to be installed on the resource set once all the resources have been loaded. It also remembers for
+ * a short amount of time the ids which could not be resolved in the resources in order to avoid looking for them again
+ * and again. Those ids are forgotten as soon as an object or a resource is added to the resource set.
+ * Finally, it keeps track of the ids of the objects removed from the resource set, along with their content, until they
+ * are consumed.
+ * </p>
+ *
+ * @author agent
+ */
+public class EObjectIndexAdapter extends EContentAdapter {
+
+    /**
+     * The amount of time during which an id which could not be resolved will be considered as unknown.
+     */
+    private static final Duration UNKNOWN_ID_EXPIRATION = Duration.ofSeconds(10);
+
+    private static final int MAX_UNKNOWN_IDS = 10_000;
+
+    private final Map<String, EObject> eObjects = new ConcurrentHashMap<>();
+
+    private final Map<String, Long> unknownIdExpirations = new ConcurrentHashMap<>();
+
+    private final Set<String> removedIds = ConcurrentHashMap.newKeySet();
+
+    public static Optional<EObjectIndexAdapter> from(ResourceSet resourceSet) {
+        return resourceSet.eAdapters().stream()
+                .filter(EObjectIndexAdapter.class::isInstance)
+                .map(EObjectIndexAdapter.class::cast)
+                .findFirst();
+    }
+
+    @Override
+    protected void setTarget(EObject target) {
+        super.setTarget(target);
+        this.getId(target).ifPresent(id -> {
+            this.eObjects.put(id, target);
+            this.removedIds.remove(id);
+        });
+        this.clearUnknownIds();
+    }
+
+    @Override
+    protected void setTarget(Resource target) {
+        super.setTarget(target);
+        this.clearUnknownIds();
+    }
+
+    /**
+     * Forgets all the unknown ids since the object added may be found with any kind of id, including the ones computed
+     * from its resource.
+     */
+    private void clearUnknownIds() {
+        if (!this.unknownIdExpirations.isEmpty()) {
+            this.unknownIdExpirations.clear();
+        }
+    }
+
+    @Override
+    protected void unsetTarget(EObject target) {
+        super.unsetTarget(target);
+        this.getId(target).ifPresent(id -> {
+            this.eObjects.remove(id, target);
+            this.removedIds.add(id);
+        });
+    }
+
+    @Override
+    protected boolean resolve() {
+        return false;
+    }
+
+    /**
+     * Returns the object of the resource set with the given id.
+     *
+     * <p>
+     * The objects which do not have an {@link IDAdapter} when they are added to the resource set are not indexed, the
+     * caller is thus expected to look for them by other means if the object cannot be found.
+     * </p>
+     *
+     * @param id
+     *         The id of the object
+     * @return The object found or an empty optional
+     */
+    public Optional<EObject> getEObject(String id) {
+        return Optional.ofNullable(this.eObjects.get(id))
+                .filter(eObject -> eObject.eAdapters().contains(this))
+                .filter(eObject -> this.getId(eObject).filter(id::equals).isPresent());
+    }
+
+    public boolean isUnknown(String id) {
+        Long expiration = this.unknownIdExpirations.get(id);
+        return expiration != null && expiration - System.nanoTime() > 0;
+    }
+
+    /**
+     * Records that the given id could not be resolved.
+     *
+     * @param id
+     *         The id
+     */
+    public void unknownIdFound(String id) {
+        if (this.unknownIdExpirations.size() >= MAX_UNKNOWN_IDS) {
+            this.unknownIdExpirations.clear();
+        }
+        this.unknownIdExpirations.put(id, System.nanoTime() + UNKNOWN_ID_EXPIRATION.toNanos());
+    }
+
+    /**
+     * Returns the ids of the objects removed from the resource set since the last call and forgets them.
+     *
+     * <p>
+     * The objects which have been moved elsewhere in the resource set are not considered as removed.
+     * </p>
+     *
+     * @return The ids of the objects removed
+     */
+    public Set<String> consumeRemovedIds() {
+        Set<String> ids = Set.copyOf(this.removedIds);
+        this.removedIds.removeAll(ids);
+        return ids;
+    }
+
+    private Optional<String> getId(EObject eObject) {
+        return eObject.eAdapters().stream()
+                .filter(IDAdapter.class::isInstance)
+                .map(IDAdapter.class::cast)
+                .findFirst()
+                .map(IDAdapter::getId)
+                .map(Object::toString);
+    }
+}
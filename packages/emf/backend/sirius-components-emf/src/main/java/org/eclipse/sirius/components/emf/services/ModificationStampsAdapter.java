@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.sirius.components.representations.IModificationStamps;
+
+/**
+ * Keeps the stamp of the last modification of the objects of a resource set.
+ *
+ * <p>
+ * This adapter has to be installed on the resource set once all the resources have been loaded. An object is stamped
+ * every time it sends a notification and when it is added to the resource set, since it may have been modified while
+ * it was not tracked. The objects which have never been stamped are considered as unmodified since the installation of
+ * the adapter while the objects which are not in the resource set are always considered as modified.
+ * </p>
+ * <p>
+ * The containers of a stamped object also receive the stamp as the stamp of the last modification of their content,
+ * so that the consumers depending on the content of an object, such as the validation, can share this adapter instead
+ * of tracking the modifications of the resource set on their own.
+ * </p>
+ *
+ * @author agent
+ */
+public class ModificationStampsAdapter extends EContentAdapter implements IModificationStamps {
+
+    private final Map<EObject, Long> stamps = new ConcurrentHashMap<>();
+
+    private final Map<EObject, Long> contentStamps = new ConcurrentHashMap<>();
+
+    private final AtomicLong currentStamp = new AtomicLong();
+
+    private boolean isInstalled;
+
+    public static Optional<ModificationStampsAdapter> from(ResourceSet resourceSet) {
+        return resourceSet.eAdapters().stream()
+                .filter(ModificationStampsAdapter.class::isInstance)
+                .map(ModificationStampsAdapter.class::cast)
+                .findFirst();
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+        if (!notification.isTouch() && notification.getNotifier() instanceof EObject eObject) {
+            this.stamp(eObject);
+        }
+    }
+
+    @Override
+    protected void setTarget(ResourceSet target) {
+        super.setTarget(target);
+        this.isInstalled = true;
+    }
+
+    @Override
+    protected void setTarget(EObject target) {
+        super.setTarget(target);
+        if (this.isInstalled) {
+            this.stamp(target);
+        }
+    }
+
+    @Override
+    protected void unsetTarget(EObject target) {
+        super.unsetTarget(target);
+        this.stamps.remove(target);
+        this.contentStamps.remove(target);
+    }
+
+    private void stamp(EObject eObject) {
+        long stamp = this.currentStamp.incrementAndGet();
+        this.stamps.put(eObject, stamp);
+
+        EObject container = eObject;
+        while (container != null) {
+            this.contentStamps.put(container, stamp);
+            container = container.eContainer();
+        }
+    }
+
+    @Override
+    protected boolean resolve() {
+        return false;
+    }
+
+    @Override
+    public long getCurrentStamp() {
+        return this.currentStamp.get();
+    }
+
+    @Override
+    public boolean isModifiedSince(Object object, long stamp) {
+        if (object instanceof EObject eObject && eObject.eAdapters().contains(this)) {
+            return this.stamps.getOrDefault(eObject, 0L) > stamp;
+        }
+        return true;
+    }
+
+    /**
+     * Indicates if the given object or one of its content has been modified since the given stamp.
+     *
+     * @param object
+     *         The object
+     * @param stamp
+     *         A stamp previously returned by {@link #getCurrentStamp()}
+     * @return <code>true</code> if the object or one of its content has been modified since the stamp or if it is not
+     *         in the resource set, <code>false</code> otherwise
+     */
+    public boolean isContentModifiedSince(Object object, long stamp) {
+        if (object instanceof EObject eObject && eObject.eAdapters().contains(this)) {
+            return this.contentStamps.getOrDefault(eObject, 0L) > stamp;
+        }
+        return true;
+    }
+}
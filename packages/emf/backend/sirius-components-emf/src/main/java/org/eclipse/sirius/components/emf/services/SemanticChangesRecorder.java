@@ -0,0 +1,339 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EContentsEList;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.InternalEList;
+import org.eclipse.sirius.components.collaborative.api.ISemanticChanges;
+
+/**
+ * Records the resources modified in a resource set in order to find the representations impacted by those changes.
+ *
+ * <p>
+ * This adapter has to be installed on the resource set once all the resources have been loaded. The representations
+ * only record the objects on which they have been rendered but they can navigate from those objects to any other
+ * object, for example with <code>self.eContainer()</code>, a reference or an inverse reference. The changes thus
+ * impact all the resources connected, directly or not, by a reference or a containment to a resource modified.
+ * </p>
+ *
+ * <p>
+ * The groups of connected resources are computed once by browsing the content of the resource set. They are then
+ * merged when a reference is added between two resources or when some content is added to a resource, without browsing
+ * the resource set again. The number of references between each pair of resources is kept so that the groups are only
+ * computed again once the last reference between two resources has been removed or when the list of the resources is
+ * modified. The content added to a resource may become a candidate of any representation, even a representation which
+ * has not read anything in the connected resources, those changes are thus considered as global.
+ * </p>
+ *
+ * @author agent
+ */
+public class SemanticChangesRecorder extends EContentAdapter {
+
+    private Set<Resource> modifiedResources = new HashSet<>();
+
+    private boolean global;
+
+    private ResourceSet resourceSet;
+
+    private Map<Resource, Resource> parents;
+
+    private Map<ResourceLink, Integer> crossReferencesCounts;
+
+    public static Optional<SemanticChangesRecorder> from(ResourceSet resourceSet) {
+        return resourceSet.eAdapters().stream()
+                .filter(SemanticChangesRecorder.class::isInstance)
+                .map(SemanticChangesRecorder.class::cast)
+                .findFirst();
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+        if (!notification.isTouch()) {
+            this.changed(notification);
+        }
+    }
+
+    @Override
+    protected void setTarget(ResourceSet target) {
+        super.setTarget(target);
+        this.resourceSet = target;
+    }
+
+    @Override
+    protected boolean resolve() {
+        return false;
+    }
+
+    private synchronized void changed(Notification notification) {
+        Object notifier = notification.getNotifier();
+        if (notifier instanceof ResourceSet) {
+            this.global = true;
+            this.invalidateConnections();
+        } else if (notifier instanceof EObject eObject) {
+            Resource resource = eObject.eResource();
+            this.resourceChanged(resource);
+            if (notification.getFeature() instanceof EReference eReference) {
+                this.valueChanged(notification.getOldValue());
+                this.valueChanged(notification.getNewValue());
+                if (eReference.isContainment()) {
+                    this.contentChanged(resource, notification);
+                } else if (!eReference.isContainer()) {
+                    this.crossReferencesChanged(resource, notification);
+                }
+            }
+        } else if (notifier instanceof Resource resource && notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS) {
+            this.resourceChanged(resource);
+            this.valueChanged(notification.getOldValue());
+            this.valueChanged(notification.getNewValue());
+            this.contentChanged(resource, notification);
+        }
+    }
+
+    private void valueChanged(Object value) {
+        this.toEObjects(value).stream()
+                .map(EObject::eResource)
+                .forEach(resource -> Optional.ofNullable(resource).ifPresent(this::resourceChanged));
+    }
+
+    private void resourceChanged(Resource resource) {
+        if (resource == null) {
+            this.global = true;
+        } else {
+            this.modifiedResources.add(resource);
+        }
+    }
+
+    private void contentChanged(Resource resource, Notification notification) {
+        if (notification.getEventType() != Notification.MOVE) {
+            var addedEObjects = this.toEObjects(notification.getNewValue());
+            this.global = this.global || !addedEObjects.isEmpty();
+            addedEObjects.forEach(eObject -> this.contentAdded(resource, eObject));
+
+            this.toEObjects(notification.getOldValue()).forEach(eObject -> this.contentRemoved(resource, eObject));
+        }
+    }
+
+    /**
+     * Forgets the references of the content removed from the given resource.
+     *
+     * <p>
+     * The content moved to another resource is already in its new resource when it is removed from its previous
+     * container, the groups are then computed again since this content may have been the only connection between some
+     * resources.
+     * </p>
+     */
+    private void contentRemoved(Resource resource, EObject removedEObject) {
+        Resource newResource = this.getResource(removedEObject);
+        if (newResource == null && resource != null) {
+            TreeIterator<EObject> iterator = EcoreUtil.getAllContents(List.of(removedEObject), false);
+            while (iterator.hasNext() && this.parents != null) {
+                this.forEachCrossReferencedResource(iterator.next(), target -> this.unlink(resource, target));
+            }
+        } else if (newResource != resource) {
+            this.invalidateConnections();
+        }
+    }
+
+    /**
+     * Connects the given resource with the resources referenced by the content added and with the resources which
+     * reference this content, since it may have been moved from another resource.
+     */
+    private void contentAdded(Resource resource, EObject addedEObject) {
+        var crossReferenceAdapter = ECrossReferenceAdapter.getCrossReferenceAdapter(addedEObject);
+        if (resource == null || crossReferenceAdapter == null) {
+            this.invalidateConnections();
+        } else if (this.parents != null) {
+            TreeIterator<EObject> iterator = EcoreUtil.getAllContents(List.of(addedEObject), false);
+            while (iterator.hasNext() && this.parents != null) {
+                EObject eObject = iterator.next();
+                this.union(resource, this.getResource(eObject));
+                this.forEachCrossReferencedResource(eObject, target -> this.link(resource, target));
+                crossReferenceAdapter.getInverseReferences(eObject, false).stream()
+                        .filter(setting -> setting.getEStructuralFeature() instanceof EReference eReference && !eReference.isContainment() && !eReference.isContainer())
+                        .forEach(setting -> this.link(this.getResource(setting.getEObject()), resource));
+            }
+        }
+    }
+
+    private void crossReferencesChanged(Resource resource, Notification notification) {
+        if (resource != null && notification.getEventType() != Notification.MOVE) {
+            this.toEObjects(notification.getOldValue()).forEach(oldValue -> this.unlink(resource, this.getResource(oldValue)));
+            this.toEObjects(notification.getNewValue()).forEach(newValue -> this.link(resource, this.getResource(newValue)));
+        }
+    }
+
+    private List<EObject> toEObjects(Object value) {
+        List<EObject> eObjects = List.of();
+        if (value instanceof EObject eObject) {
+            eObjects = List.of(eObject);
+        } else if (value instanceof Collection<?> collection) {
+            eObjects = collection.stream()
+                    .filter(EObject.class::isInstance)
+                    .map(EObject.class::cast)
+                    .toList();
+        }
+        return eObjects;
+    }
+
+    /**
+     * Returns the changes recorded since the last call and forgets them.
+     *
+     * @return The changes recorded
+     */
+    public synchronized ISemanticChanges consumeChanges() {
+        Set<Resource> impactedResources = new HashSet<>();
+        if (!this.global && !this.modifiedResources.isEmpty() && this.resourceSet != null) {
+            if (this.parents == null) {
+                this.computeConnections();
+            }
+            Set<Resource> impactedRoots = new HashSet<>();
+            this.modifiedResources.forEach(resource -> impactedRoots.add(this.find(resource)));
+            impactedResources.addAll(this.modifiedResources);
+            for (Resource resource : List.copyOf(this.parents.keySet())) {
+                if (impactedRoots.contains(this.find(resource))) {
+                    impactedResources.add(resource);
+                }
+            }
+        }
+        var semanticChanges = new EMFSemanticChanges(impactedResources, this.global);
+
+        this.modifiedResources = new HashSet<>();
+        this.global = false;
+
+        return semanticChanges;
+    }
+
+    private void computeConnections() {
+        this.parents = new HashMap<>();
+        this.crossReferencesCounts = new HashMap<>();
+        for (Resource resource : this.resourceSet.getResources()) {
+            this.find(resource);
+
+            TreeIterator<EObject> iterator = EcoreUtil.getAllContents(resource, false);
+            while (iterator.hasNext()) {
+                EObject eObject = iterator.next();
+                this.union(resource, this.getResource(eObject));
+                this.forEachCrossReferencedResource(eObject, target -> this.link(resource, target));
+            }
+        }
+    }
+
+    /**
+     * Visits the resources referenced by the given object, the derived references are ignored since they are computed
+     * from other references and their changes are not notified.
+     */
+    private void forEachCrossReferencedResource(EObject eObject, Consumer<Resource> consumer) {
+        var crossReferences = (InternalEList<EObject>) eObject.eCrossReferences();
+        var crossReferencesIterator = crossReferences.basicIterator();
+        while (crossReferencesIterator.hasNext()) {
+            EObject crossReference = crossReferencesIterator.next();
+            boolean isDerived = crossReferencesIterator instanceof EContentsEList.FeatureIterator<?> featureIterator && featureIterator.feature().isDerived();
+            if (!isDerived) {
+                consumer.accept(this.getResource(crossReference));
+            }
+        }
+    }
+
+    private void invalidateConnections() {
+        this.parents = null;
+        this.crossReferencesCounts = null;
+    }
+
+    private Resource getResource(EObject eObject) {
+        Resource resource = null;
+        if (eObject instanceof InternalEObject internalEObject && internalEObject.eIsProxy()) {
+            resource = this.resourceSet.getResource(internalEObject.eProxyURI().trimFragment(), false);
+        } else if (eObject != null) {
+            resource = eObject.eResource();
+        }
+        return resource;
+    }
+
+    private void link(Resource source, Resource target) {
+        if (this.parents != null && source != null && target != null && source != target) {
+            this.crossReferencesCounts.merge(new ResourceLink(source, target), 1, Integer::sum);
+            this.union(source, target);
+        }
+    }
+
+    /**
+     * Forgets a reference between two resources, the groups have to be computed again if it was the last one since
+     * both resources may not be connected anymore.
+     */
+    private void unlink(Resource source, Resource target) {
+        if (this.parents != null && target != null && source != target) {
+            var count = this.crossReferencesCounts.computeIfPresent(new ResourceLink(source, target), (link, value) -> {
+                if (value > 1) {
+                    return value - 1;
+                }
+                return null;
+            });
+            if (count == null) {
+                this.invalidateConnections();
+            }
+        }
+    }
+
+    private Resource find(Resource resource) {
+        Resource root = resource;
+        Resource parent = this.parents.putIfAbsent(root, root);
+        while (parent != null && parent != root) {
+            root = parent;
+            parent = this.parents.get(root);
+        }
+        this.parents.put(resource, root);
+        return root;
+    }
+
+    private void union(Resource resource, Resource otherResource) {
+        if (otherResource != null && otherResource != resource) {
+            Resource root = this.find(resource);
+            Resource otherRoot = this.find(otherResource);
+            if (root != otherRoot) {
+                this.parents.put(otherRoot, root);
+            }
+        }
+    }
+
+    /**
+     * A link between two resources made by the cross references of the objects of the source resource.
+     *
+     * @param source
+     *         The resource containing the objects with the cross references
+     * @param target
+     *         The resource containing the objects referenced
+     * @author agent
+     */
+    private record ResourceLink(Resource source, Resource target) {
+    }
+}
@@ -15,10 +15,19 @@ package org.eclipse.sirius.components.emf.services;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationSearchService;
 import org.eclipse.sirius.components.core.api.IDefaultObjectSearchService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.components.representations.IRepresentation;
 import org.junit.jupiter.api.Test;
 
@@ -66,4 +75,85 @@ public class DefaultObjectSearchServiceTests {
         assertThat(optionalObject).containsSame(editingContext);
     }
 
+    @Test
+    public void testFindsObjectsWithTheIndex() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        UUID ePackageId = UUID.randomUUID();
+        ePackage.eAdapters().add(new IDAdapter(ePackageId));
+        Resource resource = new ResourceImpl();
+        resource.getContents().add(ePackage);
+
+        IEMFEditingContext editingContext = this.createEditingContext(resource);
+        DefaultObjectSearchService defaultObjectSearchService = new DefaultObjectSearchService(new IRepresentationSearchService.NoOp());
+
+        assertThat(EObjectIndexAdapter.from(editingContext.getDomain().getResourceSet()).flatMap(index -> index.getEObject(ePackageId.toString()))).containsSame(ePackage);
+        assertThat(defaultObjectSearchService.getObject(editingContext, ePackageId.toString())).containsSame(ePackage);
+
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        UUID eClassId = UUID.randomUUID();
+        eClass.eAdapters().add(new IDAdapter(eClassId));
+        ePackage.getEClassifiers().add(eClass);
+        assertThat(defaultObjectSearchService.getObject(editingContext, eClassId.toString())).containsSame(eClass);
+
+        ePackage.getEClassifiers().remove(eClass);
+        assertThat(defaultObjectSearchService.getObject(editingContext, eClassId.toString())).isEmpty();
+    }
+
+    @Test
+    public void testDoesNotSearchUnknownIdsRepeatedlyInTheResources() {
+        Resource resource = new ResourceImpl();
+        IEMFEditingContext editingContext = this.createEditingContext(resource);
+        DefaultObjectSearchService defaultObjectSearchService = new DefaultObjectSearchService(new IRepresentationSearchService.NoOp());
+        var optionalEObjectIndex = EObjectIndexAdapter.from(editingContext.getDomain().getResourceSet());
+
+        var unknownId = UUID.randomUUID().toString();
+        assertThat(defaultObjectSearchService.getObject(editingContext, unknownId)).isEmpty();
+        assertThat(optionalEObjectIndex.filter(eObjectIndex -> eObjectIndex.isUnknown(unknownId))).isPresent();
+
+        resource.getContents().add(EcoreFactory.eINSTANCE.createEPackage());
+        assertThat(optionalEObjectIndex.filter(eObjectIndex -> eObjectIndex.isUnknown(unknownId))).isEmpty();
+    }
+
+    @Test
+    public void testFindsRepresentationsCreatedAfterAnUnknownIdLookup() {
+        var representationId = UUID.randomUUID().toString();
+        IRepresentation representation = new IRepresentation.NoOp() {
+            @Override
+            public String getId() {
+                return representationId;
+            }
+        };
+
+        var searchCount = new AtomicInteger();
+        IRepresentationSearchService representationSearchService = new IRepresentationSearchService.NoOp() {
+            @Override
+            public <T extends IRepresentation> Optional<T> findById(IEditingContext editingContext, String id, Class<T> representationClass) {
+                if (searchCount.incrementAndGet() > 1) {
+                    return Optional.of(representation).map(representationClass::cast);
+                }
+                return Optional.empty();
+            }
+        };
+        IEMFEditingContext editingContext = this.createEditingContext(new ResourceImpl());
+        DefaultObjectSearchService defaultObjectSearchService = new DefaultObjectSearchService(representationSearchService);
+
+        assertThat(defaultObjectSearchService.getObject(editingContext, representationId)).isEmpty();
+        assertThat(defaultObjectSearchService.getObject(editingContext, representationId)).containsSame(representation);
+    }
+
+    private IEMFEditingContext createEditingContext(Resource resource) {
+        AdapterFactoryEditingDomain editingDomain = new EditingDomainFactory().create(resource);
+        editingDomain.getResourceSet().eAdapters().add(new EObjectIndexAdapter());
+        return new IEMFEditingContext() {
+            @Override
+            public String getId() {
+                return "editingContextId";
+            }
+
+            @Override
+            public AdapterFactoryEditingDomain getDomain() {
+                return editingDomain;
+            }
+        };
+    }
 }
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the index of the objects of a resource set.
+ *
+ * @author agent
+ */
+public class EObjectIndexAdapterTests {
+
+    @Test
+    public void testRemovedObjectsAreConsumedWithTheirContent() {
+        EPackage ePackage = this.withId(EcoreFactory.eINSTANCE.createEPackage());
+        EClass eClass = this.withId(EcoreFactory.eINSTANCE.createEClass());
+        ePackage.getEClassifiers().add(eClass);
+
+        EObjectIndexAdapter eObjectIndexAdapter = this.createEObjectIndexAdapter(ePackage);
+
+        ePackage.eResource().getContents().remove(ePackage);
+
+        assertThat(eObjectIndexAdapter.consumeRemovedIds()).containsExactlyInAnyOrder(this.getId(ePackage), this.getId(eClass));
+        assertThat(eObjectIndexAdapter.consumeRemovedIds()).isEmpty();
+    }
+
+    @Test
+    public void testMovedObjectsAreNotConsideredAsRemoved() {
+        EPackage ePackage = this.withId(EcoreFactory.eINSTANCE.createEPackage());
+        EPackage otherEPackage = this.withId(EcoreFactory.eINSTANCE.createEPackage());
+        EClass eClass = this.withId(EcoreFactory.eINSTANCE.createEClass());
+        ePackage.getEClassifiers().add(eClass);
+
+        EObjectIndexAdapter eObjectIndexAdapter = this.createEObjectIndexAdapter(ePackage, otherEPackage);
+
+        otherEPackage.getEClassifiers().add(eClass);
+
+        assertThat(eObjectIndexAdapter.consumeRemovedIds()).isEmpty();
+        assertThat(eObjectIndexAdapter.getEObject(this.getId(eClass))).containsSame(eClass);
+    }
+
+    private EObjectIndexAdapter createEObjectIndexAdapter(EObject... eObjects) {
+        Resource resource = new ResourceImpl();
+        for (EObject eObject : eObjects) {
+            resource.getContents().add(eObject);
+        }
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getResources().add(resource);
+
+        EObjectIndexAdapter eObjectIndexAdapter = new EObjectIndexAdapter();
+        resourceSet.eAdapters().add(eObjectIndexAdapter);
+        return eObjectIndexAdapter;
+    }
+
+    private <T extends EObject> T withId(T eObject) {
+        eObject.eAdapters().add(new IDAdapter(UUID.randomUUID()));
+        return eObject;
+    }
+
+    private String getId(EObject eObject) {
+        return eObject.eAdapters().stream()
+                .filter(IDAdapter.class::isInstance)
+                .map(IDAdapter.class::cast)
+                .findFirst()
+                .map(IDAdapter::getId)
+                .map(Object::toString)
+                .orElse("");
+    }
+}
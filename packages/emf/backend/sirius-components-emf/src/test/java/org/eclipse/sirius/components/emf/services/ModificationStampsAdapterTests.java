@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the modification stamps.
+ *
+ * @author agent
+ */
+public class ModificationStampsAdapterTests {
+
+    private static final String PACKAGE_NAME = "sample";
+
+    private static final String CLASS_NAME = "Sample";
+
+    @Test
+    public void testOnlyTheModifiedObjectsAreStamped() {
+        EPackage ePackage = this.createEPackage(PACKAGE_NAME);
+        EClass firstEClass = this.createEClass(ePackage, "First");
+        EClass secondEClass = this.createEClass(ePackage, "Second");
+
+        ModificationStampsAdapter modificationStampsAdapter = this.createModificationStampsAdapter(ePackage);
+        long stamp = modificationStampsAdapter.getCurrentStamp();
+
+        firstEClass.setName("NewName");
+
+        assertThat(modificationStampsAdapter.getCurrentStamp()).isGreaterThan(stamp);
+        assertThat(modificationStampsAdapter.isModifiedSince(firstEClass, stamp)).isTrue();
+        assertThat(modificationStampsAdapter.isModifiedSince(secondEClass, stamp)).isFalse();
+        assertThat(modificationStampsAdapter.isModifiedSince(ePackage, stamp)).isFalse();
+        assertThat(modificationStampsAdapter.isModifiedSince(firstEClass, modificationStampsAdapter.getCurrentStamp())).isFalse();
+    }
+
+    @Test
+    public void testTheContentOfAnAddedObjectIsStamped() {
+        EPackage ePackage = this.createEPackage(PACKAGE_NAME);
+        ModificationStampsAdapter modificationStampsAdapter = this.createModificationStampsAdapter(ePackage);
+        long stamp = modificationStampsAdapter.getCurrentStamp();
+
+        EPackage subPackage = this.createEPackage("subPackage");
+        EClass eClass = this.createEClass(subPackage, CLASS_NAME);
+        ePackage.getESubpackages().add(subPackage);
+
+        assertThat(modificationStampsAdapter.isModifiedSince(ePackage, stamp)).isTrue();
+        assertThat(modificationStampsAdapter.isModifiedSince(subPackage, stamp)).isTrue();
+        assertThat(modificationStampsAdapter.isModifiedSince(eClass, stamp)).isTrue();
+    }
+
+    @Test
+    public void testTheContainersOfAModifiedObjectHaveAModifiedContent() {
+        EPackage ePackage = this.createEPackage(PACKAGE_NAME);
+        EPackage subPackage = this.createEPackage("subPackage");
+        ePackage.getESubpackages().add(subPackage);
+        EClass eClass = this.createEClass(subPackage, CLASS_NAME);
+        EClass otherEClass = this.createEClass(ePackage, "Other");
+
+        ModificationStampsAdapter modificationStampsAdapter = this.createModificationStampsAdapter(ePackage);
+        long stamp = modificationStampsAdapter.getCurrentStamp();
+
+        eClass.setName("NewName");
+
+        assertThat(modificationStampsAdapter.isContentModifiedSince(eClass, stamp)).isTrue();
+        assertThat(modificationStampsAdapter.isContentModifiedSince(subPackage, stamp)).isTrue();
+        assertThat(modificationStampsAdapter.isContentModifiedSince(ePackage, stamp)).isTrue();
+        assertThat(modificationStampsAdapter.isContentModifiedSince(otherEClass, stamp)).isFalse();
+        assertThat(modificationStampsAdapter.isModifiedSince(ePackage, stamp)).isFalse();
+        assertThat(modificationStampsAdapter.isContentModifiedSince(ePackage, modificationStampsAdapter.getCurrentStamp())).isFalse();
+    }
+
+    @Test
+    public void testTheObjectsOutsideOfTheResourceSetAreAlwaysModified() {
+        EPackage ePackage = this.createEPackage(PACKAGE_NAME);
+        EClass eClass = this.createEClass(ePackage, CLASS_NAME);
+        ModificationStampsAdapter modificationStampsAdapter = this.createModificationStampsAdapter(ePackage);
+
+        ePackage.getEClassifiers().remove(eClass);
+        long stamp = modificationStampsAdapter.getCurrentStamp();
+
+        assertThat(modificationStampsAdapter.isModifiedSince(eClass, stamp)).isTrue();
+        assertThat(modificationStampsAdapter.isModifiedSince(new Object(), stamp)).isTrue();
+    }
+
+    private ModificationStampsAdapter createModificationStampsAdapter(EPackage ePackage) {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource resource = new ResourceImpl();
+        resource.getContents().add(ePackage);
+        resourceSet.getResources().add(resource);
+
+        ModificationStampsAdapter modificationStampsAdapter = new ModificationStampsAdapter();
+        resourceSet.eAdapters().add(modificationStampsAdapter);
+        return modificationStampsAdapter;
+    }
+
+    private EPackage createEPackage(String name) {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName(name);
+        return ePackage;
+    }
+
+    private EClass createEClass(EPackage ePackage, String name) {
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        eClass.setName(name);
+        ePackage.getEClassifiers().add(eClass);
+        return eClass;
+    }
+}
@@ -0,0 +1,249 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.sirius.components.collaborative.api.ISemanticChanges;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the recording of the semantic changes.
+ *
+ * @author agent
+ */
+public class SemanticChangesRecorderTests {
+
+    private static final String SAMPLE = "sample";
+
+    private static final String OTHER = "other";
+
+    private static final String NEW_NAME = "NewName";
+
+    private static final String OTHER_NAME = "OtherName";
+
+    private static final String FIRST = "first";
+
+    private static final String SECOND = "second";
+
+    private static final String THIRD = "third";
+
+    private static final String FIRST_ECLASS = "FirstEClass";
+
+    private static final String SECOND_ECLASS = "SecondEClass";
+
+    private static final String THIRD_ECLASS = "ThirdEClass";
+
+    @Test
+    public void testOnlyTheObjectsImpactedByAChangeAreAffected() {
+        EPackage firstEPackage = this.createEPackage(FIRST);
+        EClass firstEClass = this.createEClass(firstEPackage, FIRST_ECLASS);
+        EPackage secondEPackage = this.createEPackage(SECOND);
+        EClass secondEClass = this.createEClass(secondEPackage, SECOND_ECLASS);
+
+        SemanticChangesRecorder semanticChangesRecorder = this.createSemanticChangesRecorder(firstEPackage, secondEPackage);
+
+        firstEClass.setName(NEW_NAME);
+        ISemanticChanges semanticChanges = semanticChangesRecorder.consumeChanges();
+
+        assertThat(semanticChanges.affects(Set.of(firstEClass))).isTrue();
+        assertThat(semanticChanges.affects(Set.of(firstEPackage))).isTrue();
+        assertThat(semanticChanges.affects(Set.of(secondEPackage, secondEClass))).isFalse();
+        assertThat(semanticChangesRecorder.consumeChanges().affects(Set.of(firstEClass))).isFalse();
+    }
+
+    @Test
+    public void testTheContentOfARemovedObjectIsAffected() {
+        EPackage ePackage = this.createEPackage(SAMPLE);
+        EClass eClass = this.createEClass(ePackage, "Sample");
+        var eAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+        eClass.getEStructuralFeatures().add(eAttribute);
+
+        SemanticChangesRecorder semanticChangesRecorder = this.createSemanticChangesRecorder(ePackage, this.createEPackage(OTHER));
+
+        ePackage.getEClassifiers().remove(eClass);
+        ISemanticChanges semanticChanges = semanticChangesRecorder.consumeChanges();
+
+        assertThat(semanticChanges.affects(Set.of(eAttribute))).isTrue();
+    }
+
+    @Test
+    public void testTheContentOfAModifiedObjectIsAffected() {
+        EPackage ePackage = this.createEPackage(SAMPLE);
+        EClass eClass = this.createEClass(ePackage, "Sample");
+
+        SemanticChangesRecorder semanticChangesRecorder = this.createSemanticChangesRecorder(ePackage, this.createEPackage(OTHER));
+
+        ePackage.setName("newName");
+        ISemanticChanges semanticChanges = semanticChangesRecorder.consumeChanges();
+
+        assertThat(semanticChanges.affects(Set.of(eClass))).isTrue();
+    }
+
+    @Test
+    public void testTheObjectsReferencingAModifiedResourceAreAffected() {
+        EPackage firstEPackage = this.createEPackage(FIRST);
+        EClass firstEClass = this.createEClass(firstEPackage, FIRST_ECLASS);
+        EPackage secondEPackage = this.createEPackage(SECOND);
+        EClass secondEClass = this.createEClass(secondEPackage, SECOND_ECLASS);
+        EPackage thirdEPackage = this.createEPackage(THIRD);
+        EClass thirdEClass = this.createEClass(thirdEPackage, THIRD_ECLASS);
+        firstEClass.getESuperTypes().add(secondEClass);
+
+        SemanticChangesRecorder semanticChangesRecorder = this.createSemanticChangesRecorder(firstEPackage, secondEPackage, thirdEPackage);
+
+        secondEClass.setName(NEW_NAME);
+        ISemanticChanges semanticChanges = semanticChangesRecorder.consumeChanges();
+
+        assertThat(semanticChanges.affects(Set.of(firstEClass))).isTrue();
+        assertThat(semanticChanges.affects(Set.of(thirdEClass))).isFalse();
+
+        firstEClass.getESuperTypes().remove(secondEClass);
+        semanticChanges = semanticChangesRecorder.consumeChanges();
+
+        assertThat(semanticChanges.affects(Set.of(secondEClass))).isTrue();
+
+        secondEClass.setName(OTHER_NAME);
+        semanticChanges = semanticChangesRecorder.consumeChanges();
+
+        assertThat(semanticChanges.affects(Set.of(firstEClass))).isFalse();
+    }
+
+    @Test
+    public void testTheContentAddedToAnUnconnectedResourceAffectsEverything() {
+        EPackage firstEPackage = this.createEPackage(FIRST);
+        EClass firstEClass = this.createEClass(firstEPackage, FIRST_ECLASS);
+        EPackage emptyEPackage = this.createEPackage("empty");
+
+        SemanticChangesRecorder semanticChangesRecorder = this.createSemanticChangesRecorder(firstEPackage, emptyEPackage);
+
+        this.createEClass(emptyEPackage, "NewEClass");
+        ISemanticChanges semanticChanges = semanticChangesRecorder.consumeChanges();
+
+        assertThat(semanticChanges.affects(Set.of(firstEClass))).isTrue();
+    }
+
+    @Test
+    public void testTheReferencesBetweenResourcesAreTrackedWithoutBrowsingTheResourcesAgain() {
+        EPackage firstEPackage = this.createEPackage(FIRST);
+        EClass firstEClass = this.createEClass(firstEPackage, FIRST_ECLASS);
+        EAnnotation eAnnotation = EcoreFactory.eINSTANCE.createEAnnotation();
+        firstEPackage.getEAnnotations().add(eAnnotation);
+        EPackage secondEPackage = this.createEPackage(SECOND);
+        EClass secondEClass = this.createEClass(secondEPackage, SECOND_ECLASS);
+
+        var browsingsCount = new AtomicInteger();
+        SemanticChangesRecorder semanticChangesRecorder = this.createSemanticChangesRecorder(browsingsCount, firstEPackage, secondEPackage);
+
+        secondEClass.setName(NEW_NAME);
+        assertThat(semanticChangesRecorder.consumeChanges().affects(Set.of(firstEClass))).isFalse();
+        browsingsCount.set(0);
+
+        eAnnotation.getReferences().add(secondEClass);
+        semanticChangesRecorder.consumeChanges();
+        secondEClass.setName(OTHER_NAME);
+        assertThat(semanticChangesRecorder.consumeChanges().affects(Set.of(firstEClass))).isTrue();
+        assertThat(browsingsCount.get()).isZero();
+
+        eAnnotation.getReferences().remove(secondEClass);
+        semanticChangesRecorder.consumeChanges();
+        secondEClass.setName("LastName");
+        assertThat(semanticChangesRecorder.consumeChanges().affects(Set.of(firstEClass))).isFalse();
+    }
+
+    @Test
+    public void testTheObjectsReferencingAMovedObjectAreAffectedByTheChangesOfItsNewResource() {
+        EPackage firstEPackage = this.createEPackage(FIRST);
+        EClass firstEClass = this.createEClass(firstEPackage, FIRST_ECLASS);
+        EAnnotation eAnnotation = EcoreFactory.eINSTANCE.createEAnnotation();
+        firstEPackage.getEAnnotations().add(eAnnotation);
+        EPackage secondEPackage = this.createEPackage(SECOND);
+        EClass movedEClass = this.createEClass(secondEPackage, "MovedEClass");
+        eAnnotation.getReferences().add(movedEClass);
+        EPackage thirdEPackage = this.createEPackage(THIRD);
+        EClass thirdEClass = this.createEClass(thirdEPackage, THIRD_ECLASS);
+
+        SemanticChangesRecorder semanticChangesRecorder = this.createSemanticChangesRecorder(new AtomicInteger(), firstEPackage, secondEPackage, thirdEPackage);
+        movedEClass.eResource().getResourceSet().eAdapters().add(new ECrossReferenceAdapter());
+
+        thirdEClass.setName(NEW_NAME);
+        assertThat(semanticChangesRecorder.consumeChanges().affects(Set.of(firstEClass))).isFalse();
+
+        thirdEPackage.getEClassifiers().add(movedEClass);
+        semanticChangesRecorder.consumeChanges();
+        thirdEClass.setName(OTHER_NAME);
+        assertThat(semanticChangesRecorder.consumeChanges().affects(Set.of(firstEClass))).isTrue();
+    }
+
+    @Test
+    public void testUnknownObjectsAreAlwaysAffected() {
+        EPackage ePackage = this.createEPackage(SAMPLE);
+
+        SemanticChangesRecorder semanticChangesRecorder = this.createSemanticChangesRecorder(ePackage, this.createEPackage(OTHER));
+
+        ePackage.setName("newName");
+        ISemanticChanges semanticChanges = semanticChangesRecorder.consumeChanges();
+
+        assertThat(semanticChanges.affects(Set.of("editingContextId"))).isTrue();
+    }
+
+    private SemanticChangesRecorder createSemanticChangesRecorder(EPackage... ePackages) {
+        return this.createSemanticChangesRecorder(new AtomicInteger(), ePackages);
+    }
+
+    private SemanticChangesRecorder createSemanticChangesRecorder(AtomicInteger browsingsCount, EPackage... ePackages) {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        for (EPackage ePackage : ePackages) {
+            Resource resource = new ResourceImpl() {
+                @Override
+                public EList<EObject> getContents() {
+                    browsingsCount.incrementAndGet();
+                    return super.getContents();
+                }
+            };
+            resource.getContents().add(ePackage);
+            resourceSet.getResources().add(resource);
+        }
+
+        SemanticChangesRecorder semanticChangesRecorder = new SemanticChangesRecorder();
+        resourceSet.eAdapters().add(semanticChangesRecorder);
+        return semanticChangesRecorder;
+    }
+
+    private EPackage createEPackage(String name) {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName(name);
+        return ePackage;
+    }
+
+    private EClass createEClass(EPackage ePackage, String name) {
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        eClass.setName(name);
+        ePackage.getEClassifiers().add(eClass);
+        return eClass;
+    }
+}
@@ -38,7 +38,7 @@ public class StringValueProvider implements Function<VariableManager, String> {
     @Override
     public String apply(VariableManager variableManager) {
         if (!this.expression.isBlank()) {
-            Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), this.expression);
+            Result result = this.interpreter.evaluateExpression(variableManager.getVariablesView(), this.expression);
             return result.asString().orElse(EMPTY_STRING);
         }
         return EMPTY_STRING;
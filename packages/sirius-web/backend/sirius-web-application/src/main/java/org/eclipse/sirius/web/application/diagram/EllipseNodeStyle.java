@@ -39,6 +39,23 @@ public final class EllipseNodeStyle implements INodeStyle {
         // Prevent instantiation
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof EllipseNodeStyle other) {
+            boolean isEqual = Objects.equals(this.background, other.background);
+            isEqual = isEqual && Objects.equals(this.borderColor, other.borderColor);
+            isEqual = isEqual && this.borderSize == other.borderSize;
+            isEqual = isEqual && Objects.equals(this.borderStyle, other.borderStyle);
+            return isEqual;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.background, this.borderColor, this.borderSize, this.borderStyle);
+    }
+
     public static Builder newEllipseNodeStyle() {
         return new Builder();
     }
@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.editingcontext.services;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
+
+/**
+ * Keeps track of the resources of an editing context which have been modified since they have been saved.
+ *
+ * <p>
+ * This adapter has to be installed on the resource set once all the resources have been loaded. The resources which
+ * match their documents should then be recorded as saved, all the other ones are considered as dirty.
+ * </p>
+ *
+ * @author agent
+ */
+public class DirtyResourcesTracker extends EContentAdapter {
+
+    private final Set<Resource> dirtyResources = new LinkedHashSet<>();
+
+    private final Map<Resource, SavedResourceState> savedResourceStates = new HashMap<>();
+
+    private boolean fullSaveRequired;
+
+    private boolean resourcesRemoved;
+
+    public static Optional<DirtyResourcesTracker> from(ResourceSet resourceSet) {
+        return resourceSet.eAdapters().stream()
+                .filter(DirtyResourcesTracker.class::isInstance)
+                .map(DirtyResourcesTracker.class::cast)
+                .findFirst();
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+
+        if (!notification.isTouch()) {
+            Object notifier = notification.getNotifier();
+            if (notifier instanceof ResourceSet) {
+                this.handleResourceSetChange(notification);
+            } else if (notifier instanceof Resource resource) {
+                if (notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS) {
+                    this.dirtyResources.add(resource);
+                }
+            } else if (notifier instanceof EObject eObject) {
+                Optional.ofNullable(eObject.eResource()).ifPresent(this.dirtyResources::add);
+            }
+        }
+    }
+
+    private void handleResourceSetChange(Notification notification) {
+        if (notification.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES) {
+            this.toResources(notification.getNewValue()).forEach(this.dirtyResources::add);
+
+            var removedResources = this.toResources(notification.getOldValue());
+            removedResources.forEach(resource -> {
+                this.dirtyResources.remove(resource);
+                this.savedResourceStates.remove(resource);
+            });
+            this.resourcesRemoved = this.resourcesRemoved || !removedResources.isEmpty();
+        }
+    }
+
+    private List<Resource> toResources(Object value) {
+        List<Resource> resources = List.of();
+        if (value instanceof Resource resource) {
+            resources = List.of(resource);
+        } else if (value instanceof Collection<?> collection) {
+            resources = collection.stream()
+                    .filter(Resource.class::isInstance)
+                    .map(Resource.class::cast)
+                    .toList();
+        }
+        return resources;
+    }
+
+    @Override
+    protected boolean resolve() {
+        return false;
+    }
+
+    public boolean isFullSaveRequired() {
+        return this.fullSaveRequired;
+    }
+
+    /**
+     * Indicates that all the resources should be saved the next time, for example because a save has failed.
+     */
+    public void requireFullSave() {
+        this.fullSaveRequired = true;
+    }
+
+    public boolean hasRemovedResources() {
+        return this.resourcesRemoved;
+    }
+
+    /**
+     * Indicates if the given resource has to be saved.
+     *
+     * <p>
+     * A resource is dirty if it has been modified, if it has never been saved or if its name has changed since its last
+     * save since renaming a resource does not trigger any notification.
+     * </p>
+     *
+     * @param resource
+     *         The resource
+     * @return <code>true</code> if the resource should be saved, <code>false</code> otherwise
+     */
+    public boolean isDirty(Resource resource) {
+        var savedResourceState = this.savedResourceStates.get(resource);
+        return this.fullSaveRequired
+                || this.dirtyResources.contains(resource)
+                || savedResourceState == null
+                || !Objects.equals(savedResourceState.name(), this.getName(resource));
+    }
+
+    public Set<String> getSavedDomainUris(Resource resource) {
+        return Optional.ofNullable(this.savedResourceStates.get(resource))
+                .map(SavedResourceState::domainUris)
+                .orElse(Set.of());
+    }
+
+    /**
+     * Records that the given resource has been saved.
+     *
+     * @param resource
+     *         The resource which has been saved
+     * @param domainUris
+     *         The URIs of the domains used by the serialized content of the resource
+     */
+    public void resourceSaved(Resource resource, Set<String> domainUris) {
+        this.dirtyResources.remove(resource);
+        this.savedResourceStates.put(resource, new SavedResourceState(this.getName(resource), Set.copyOf(domainUris)));
+    }
+
+    /**
+     * Records that a save has been performed, all the resources which have not been saved by this operation are still
+     * considered as dirty.
+     */
+    public void saveCompleted() {
+        this.fullSaveRequired = false;
+        this.resourcesRemoved = false;
+    }
+
+    private String getName(Resource resource) {
+        return resource.eAdapters().stream()
+                .filter(ResourceMetadataAdapter.class::isInstance)
+                .map(ResourceMetadataAdapter.class::cast)
+                .findFirst()
+                .map(ResourceMetadataAdapter::getName)
+                .orElse("");
+    }
+
+    /**
+     * The state of a resource when it has been saved for the last time.
+     *
+     * @author agent
+     */
+    private record SavedResourceState(String name, Set<String> domainUris) {
+    }
+}
@@ -12,14 +12,22 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.editingcontext.services;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.sirius.components.collaborative.editingcontext.SelectiveRefreshPolicy;
 import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
 import org.eclipse.sirius.components.core.api.IEditingContextRepresentationDescriptionProvider;
+import org.eclipse.sirius.components.emf.services.EObjectIndexAdapter;
 import org.eclipse.sirius.components.emf.services.EditingContextCrossReferenceAdapter;
+import org.eclipse.sirius.components.emf.services.ModificationStampsAdapter;
+import org.eclipse.sirius.components.emf.services.SemanticChangesRecorder;
 import org.eclipse.sirius.emfjson.resource.JsonResource;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
 import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextLoader;
@@ -29,6 +37,7 @@ import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.stereotype.Service;
 
@@ -52,12 +61,19 @@ public class EditingContextLoader implements IEditingContextLoader {
 
     private final List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates;
 
-    public EditingContextLoader(ISemanticDataSearchService semanticDataSearchService, IResourceLoader resourceLoader, List<IEditingContextRepresentationDescriptionProvider> representationDescriptionProviders, List<IEditingContextProcessor> editingContextProcessors, List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates) {
+    private final SelectiveRefreshPolicy selectiveRefreshPolicy;
+
+    private final boolean isDiagramMemoizationEnabled;
+
+    public EditingContextLoader(ISemanticDataSearchService semanticDataSearchService, IResourceLoader resourceLoader, List<IEditingContextRepresentationDescriptionProvider> representationDescriptionProviders, List<IEditingContextProcessor> editingContextProcessors, List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates,
+            SelectiveRefreshPolicy selectiveRefreshPolicy, @Value("${sirius.components.diagrams.memoization.enabled:false}") boolean isDiagramMemoizationEnabled) {
         this.semanticDataSearchService = Objects.requireNonNull(semanticDataSearchService);
         this.resourceLoader = Objects.requireNonNull(resourceLoader);
         this.representationDescriptionProviders = Objects.requireNonNull(representationDescriptionProviders);
         this.editingContextProcessors = Objects.requireNonNull(editingContextProcessors);
         this.migrationParticipantPredicates = Objects.requireNonNull(migrationParticipantPredicates);
+        this.selectiveRefreshPolicy = Objects.requireNonNull(selectiveRefreshPolicy);
+        this.isDiagramMemoizationEnabled = isDiagramMemoizationEnabled;
     }
 
     public void load(EditingContext editingContext, UUID projectId) {
@@ -78,14 +94,43 @@ public class EditingContextLoader implements IEditingContextLoader {
         ResourceSet resourceSet = editingContext.getDomain().getResourceSet();
         resourceSet.getLoadOptions().put(JsonResource.OPTION_SCHEMA_LOCATION, true);
 
-        semanticData.getDocuments().forEach(document -> this.resourceLoader.toResource(resourceSet, document.getId().toString(), document.getName(), document.getContent(),
-                this.migrationParticipantPredicates.stream().anyMatch(predicate -> predicate.test(editingContext))));
+        var applyMigrationParticipants = this.migrationParticipantPredicates.stream().anyMatch(predicate -> predicate.test(editingContext));
+        var loadedResources = semanticData.getDocuments().stream()
+                .map(document -> this.resourceLoader.toResource(resourceSet, document.getId().toString(), document.getName(), document.getContent(), applyMigrationParticipants))
+                .flatMap(Optional::stream)
+                .toList();
 
         // The ECrossReferenceAdapter must be set after the resource loading because it needs to resolve proxies in case
         // of inter-resources references
         resourceSet.eAdapters().add(new EditingContextCrossReferenceAdapter());
+        resourceSet.eAdapters().add(this.createDirtyResourcesTracker(loadedResources));
+        resourceSet.eAdapters().add(new EObjectIndexAdapter());
+        if (this.selectiveRefreshPolicy.isEnabled()) {
+            resourceSet.eAdapters().add(new SemanticChangesRecorder());
+        }
+        if (this.isDiagramMemoizationEnabled) {
+            resourceSet.eAdapters().add(new ModificationStampsAdapter());
+        }
 
         this.logger.debug("{} documents loaded for the editing context {}", resourceSet.getResources().size(), editingContext.getId());
     }
 
+    /**
+     * Creates the tracker of the dirty resources knowing that the resources which have not been migrated during their
+     * loading match the documents which have just been read.
+     */
+    private DirtyResourcesTracker createDirtyResourcesTracker(List<Resource> loadedResources) {
+        var dirtyResourcesTracker = new DirtyResourcesTracker();
+        loadedResources.stream()
+                .filter(resource -> !resource.isModified())
+                .forEach(resource -> dirtyResourcesTracker.resourceSaved(resource, this.getDomainUris(resource)));
+        return dirtyResourcesTracker;
+    }
+
+    private Set<String> getDomainUris(Resource resource) {
+        var domainUris = new LinkedHashSet<String>();
+        resource.getAllContents().forEachRemaining(eObject -> domainUris.add(eObject.eClass().getEPackage().getNsURI()));
+        return domainUris;
+    }
+
 }
@@ -16,10 +16,12 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
@@ -31,9 +33,12 @@ import org.eclipse.sirius.web.application.editingcontext.services.api.IResourceT
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataUpdateService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -41,6 +46,12 @@ import io.micrometer.core.instrument.Timer;
 /**
  * Used to save the editing context.
  *
+ * <p>
+ * Only the resources which have been modified since their last save are serialized, unless the property
+ * <code>sirius.web.editingContext.persistence.fullSave</code> is set to <code>true</code> in which case all the
+ * resources are serialized each time.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
@@ -58,12 +69,16 @@ public class EditingContextPersistenceService implements IEditingContextPersiste
 
     private final Timer timer;
 
-    public EditingContextPersistenceService(ISemanticDataUpdateService semanticDataUpdateService, IResourceToDocumentService resourceToDocumentService, List<IEditingContextPersistenceFilter> persistenceFilters, List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates, MeterRegistry meterRegistry) {
+    private final boolean fullSave;
+
+    public EditingContextPersistenceService(ISemanticDataUpdateService semanticDataUpdateService, IResourceToDocumentService resourceToDocumentService, List<IEditingContextPersistenceFilter> persistenceFilters, List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates, MeterRegistry meterRegistry,
+            @Value("${sirius.web.editingContext.persistence.fullSave:false}") boolean fullSave) {
         this.semanticDataUpdateService = Objects.requireNonNull(semanticDataUpdateService);
         this.resourceToDocumentService = Objects.requireNonNull(resourceToDocumentService);
         this.persistenceFilters = Objects.requireNonNull(persistenceFilters);
         this.migrationParticipantPredicates = Objects.requireNonNull(migrationParticipantPredicates);
         this.timer = Timer.builder(TIMER_NAME).register(meterRegistry);
+        this.fullSave = fullSave;
     }
 
     @Override
@@ -72,30 +87,116 @@ public class EditingContextPersistenceService implements IEditingContextPersiste
         long start = System.currentTimeMillis();
 
         if (editingContext instanceof IEMFEditingContext emfEditingContext) {
-            var applyMigrationParticipants = this.migrationParticipantPredicates.stream().anyMatch(predicate -> predicate.test(emfEditingContext));
             new UUIDParser().parse(editingContext.getId())
                     .map(AggregateReference::<Project, UUID>to)
                     .ifPresent(project -> {
-                        var documentData = emfEditingContext.getDomain().getResourceSet().getResources().stream()
+                        var resourceSet = emfEditingContext.getDomain().getResourceSet();
+                        var resources = resourceSet.getResources().stream()
                                 .filter(resource -> IEMFEditingContext.RESOURCE_SCHEME.equals(resource.getURI().scheme()))
                                 .filter(resource -> this.persistenceFilters.stream().allMatch(filter -> filter.shouldPersist(resource)))
-                                .map(resource -> this.resourceToDocumentService.toDocument(resource, applyMigrationParticipants))
-                                .flatMap(Optional::stream)
-                                .collect(Collectors.toSet());
-
-                        var documents = new LinkedHashSet<Document>();
-                        var domainUris = new LinkedHashSet<String>();
-
-                        documentData.forEach(data -> {
-                            documents.add(data.document());
-                            domainUris.addAll(data.ePackageEntries().stream().map(EPackageEntry::nsURI).toList());
-                        });
-
-                        this.semanticDataUpdateService.updateDocuments(cause, project, documents, domainUris);
+                                .toList();
+
+                        var optionalDirtyResourcesTracker = DirtyResourcesTracker.from(resourceSet);
+                        if (this.fullSave || optionalDirtyResourcesTracker.isEmpty() || optionalDirtyResourcesTracker.get().isFullSaveRequired()) {
+                            this.persistAll(cause, emfEditingContext, project, resources, optionalDirtyResourcesTracker);
+                        } else {
+                            this.persistDirtyResources(cause, emfEditingContext, project, resources, optionalDirtyResourcesTracker.get());
+                        }
                     });
         }
 
         long end = System.currentTimeMillis();
         this.timer.record(end - start, TimeUnit.MILLISECONDS);
     }
+
+    private void persistAll(ICause cause, IEMFEditingContext emfEditingContext, AggregateReference<Project, UUID> project, List<Resource> resources, Optional<DirtyResourcesTracker> optionalDirtyResourcesTracker) {
+        var applyMigrationParticipants = this.migrationParticipantPredicates.stream().anyMatch(predicate -> predicate.test(emfEditingContext));
+
+        var documents = new LinkedHashSet<Document>();
+        var domainUris = new LinkedHashSet<String>();
+        for (var resource : resources) {
+            var optionalDocumentData = this.resourceToDocumentService.toDocument(resource, applyMigrationParticipants);
+            if (optionalDocumentData.isPresent()) {
+                var documentData = optionalDocumentData.get();
+                var resourceDomainUris = this.getDomainUris(documentData);
+
+                documents.add(documentData.document());
+                domainUris.addAll(resourceDomainUris);
+                optionalDirtyResourcesTracker.ifPresent(tracker -> tracker.resourceSaved(resource, resourceDomainUris));
+            }
+        }
+
+        this.semanticDataUpdateService.updateDocuments(cause, project, documents, domainUris);
+        optionalDirtyResourcesTracker.ifPresent(this::saveCompleted);
+    }
+
+    /**
+     * Only serializes the resources which have been modified since their last save.
+     *
+     * <p>
+     * The domains used by the resources which have not been modified are retrieved from their last save. Resources
+     * whose identifier is not a valid UUID are always saved since they will receive a new document identifier.
+     * </p>
+     */
+    private void persistDirtyResources(ICause cause, IEMFEditingContext emfEditingContext, AggregateReference<Project, UUID> project, List<Resource> resources, DirtyResourcesTracker dirtyResourcesTracker) {
+        var dirtyResources = resources.stream()
+                .filter(resource -> dirtyResourcesTracker.isDirty(resource) || this.getDocumentId(resource).isEmpty())
+                .toList();
+
+        if (!dirtyResources.isEmpty() || dirtyResourcesTracker.hasRemovedResources()) {
+            var applyMigrationParticipants = this.migrationParticipantPredicates.stream().anyMatch(predicate -> predicate.test(emfEditingContext));
+
+            var changedDocuments = new LinkedHashSet<Document>();
+            var documentIds = new LinkedHashSet<UUID>();
+            var domainUris = new LinkedHashSet<String>();
+            for (var resource : resources) {
+                if (dirtyResources.contains(resource)) {
+                    var optionalDocumentData = this.resourceToDocumentService.toDocument(resource, applyMigrationParticipants);
+                    if (optionalDocumentData.isPresent()) {
+                        var documentData = optionalDocumentData.get();
+                        var resourceDomainUris = this.getDomainUris(documentData);
+
+                        changedDocuments.add(documentData.document());
+                        documentIds.add(documentData.document().getId());
+                        domainUris.addAll(resourceDomainUris);
+                        dirtyResourcesTracker.resourceSaved(resource, resourceDomainUris);
+                    }
+                } else {
+                    this.getDocumentId(resource).ifPresent(documentIds::add);
+                    domainUris.addAll(dirtyResourcesTracker.getSavedDomainUris(resource));
+                }
+            }
+
+            this.semanticDataUpdateService.updateChangedDocuments(cause, project, changedDocuments, documentIds, domainUris);
+            this.saveCompleted(dirtyResourcesTracker);
+        }
+    }
+
+    private Optional<UUID> getDocumentId(Resource resource) {
+        return new UUIDParser().parse(resource.getURI().path().substring(1));
+    }
+
+    private Set<String> getDomainUris(DocumentData documentData) {
+        return documentData.ePackageEntries().stream()
+                .map(EPackageEntry::nsURI)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Marks the save as completed while making sure that everything will be saved again if the transaction is rolled
+     * back.
+     */
+    private void saveCompleted(DirtyResourcesTracker dirtyResourcesTracker) {
+        dirtyResourcesTracker.saveCompleted();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != TransactionSynchronization.STATUS_COMMITTED) {
+                        dirtyResourcesTracker.requireFullSave();
+                    }
+                }
+            });
+        }
+    }
 }
@@ -57,10 +57,12 @@ public class ResourceLoader implements IResourceLoader {
         Optional<Resource> optionalResource = Optional.empty();
 
         HashMap<Object, Object> options = new HashMap<>();
+        Optional<MigrationService> optionalMigrationService = Optional.empty();
         if (applyMigrationParticipants) {
             var migrationExtendedMetaData = new MigrationService(this.migrationParticipants);
             options.put(JsonResource.OPTION_EXTENDED_META_DATA, migrationExtendedMetaData);
             options.put(JsonResource.OPTION_JSON_RESSOURCE_PROCESSOR, migrationExtendedMetaData);
+            optionalMigrationService = Optional.of(migrationExtendedMetaData);
         }
 
         var resource = new JSONResourceFactory().createResourceFromPath(id);
@@ -70,6 +72,11 @@ public class ResourceLoader implements IResourceLoader {
             resource.eAdapters().add(new ResourceMetadataAdapter(name));
             resource.load(inputStream, options);
 
+            // A migrated resource does not match its document anymore, it is thus flagged to be saved again
+            if (optionalMigrationService.filter(MigrationService::hasMigrationParticipantCandidates).isPresent()) {
+                resource.setModified(true);
+            }
+
             optionalResource = Optional.of(resource);
         } catch (IOException | IllegalArgumentException exception) {
             this.logger.warn("An error occured while loading document {}: {}.", id, exception.getMessage());
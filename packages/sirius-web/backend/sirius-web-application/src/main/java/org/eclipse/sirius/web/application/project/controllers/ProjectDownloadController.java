@@ -12,23 +12,28 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.project.controllers;
 
+import java.time.Duration;
 import java.util.Objects;
 import java.util.UUID;
 
+import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
 import org.eclipse.sirius.web.application.project.services.api.IProjectExportService;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.services.api.IProjectSearchService;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.server.ResponseStatusException;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletResponse;
 
 /**
  * The entry point of the HTTP API to download a project in zip.
@@ -41,6 +46,12 @@ import org.springframework.web.bind.annotation.ResponseBody;
  * PROTOCOL://DOMAIN.TLD(:PORT)/API_BASE_PATH/projects/PROJECT_ID
  * </pre>
  *
+ * <p>
+ * The project and its editing context are resolved before anything is sent in order to answer with an error status if
+ * they cannot be found. The archive is then written directly in the response by a dedicated pool of threads, with its
+ * own timeout, since the default timeout of the asynchronous requests is too short for large projects.
+ * </p>
+ *
  * @author gcoutable
  */
 @Controller
@@ -49,33 +60,55 @@ public class ProjectDownloadController {
 
     private final IProjectSearchService projectSearchService;
 
+    private final IEditingContextSearchService editingContextSearchService;
+
     private final IProjectExportService projectExportService;
 
-    public ProjectDownloadController(IProjectSearchService projectSearchService, IProjectExportService projectExportService) {
+    private final Duration timeout;
+
+    private final ThreadPoolTaskExecutor taskExecutor;
+
+    public ProjectDownloadController(IProjectSearchService projectSearchService, IEditingContextSearchService editingContextSearchService, IProjectExportService projectExportService,
+            @Value("${sirius.web.project.download.timeout:10m}") Duration timeout, @Value("${sirius.web.project.download.threadCount:4}") int threadCount,
+            @Value("${sirius.web.project.download.queueSize:16}") int queueSize) {
         this.projectSearchService = Objects.requireNonNull(projectSearchService);
+        this.editingContextSearchService = Objects.requireNonNull(editingContextSearchService);
         this.projectExportService = Objects.requireNonNull(projectExportService);
+        this.timeout = Objects.requireNonNull(timeout);
+
+        this.taskExecutor = new ThreadPoolTaskExecutor();
+        this.taskExecutor.setCorePoolSize(threadCount);
+        this.taskExecutor.setMaxPoolSize(threadCount);
+        this.taskExecutor.setQueueCapacity(queueSize);
+        this.taskExecutor.setThreadNamePrefix("Project download ");
+        this.taskExecutor.setDaemon(true);
+        this.taskExecutor.initialize();
     }
 
     @ResponseBody
     @GetMapping(path = "/{projectId}")
-    public ResponseEntity<Resource> downloadProject(@PathVariable UUID projectId) {
-        var optionalProject = this.projectSearchService.findById(projectId);
-        if (optionalProject.isPresent()) {
-            var project = optionalProject.get();
-            byte[] content = this.projectExportService.export(project);
+    public WebAsyncTask<Void> downloadProject(@PathVariable UUID projectId, HttpServletResponse response) {
+        var project = this.projectSearchService.findById(projectId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        var editingContext = this.editingContextSearchService.findById(projectId.toString())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "The editing context of the project could not be loaded"));
 
+        // The archive is written directly in the response while it is computed
+        return new WebAsyncTask<>(this.timeout.toMillis(), this.taskExecutor, () -> {
             ContentDisposition contentDisposition = ContentDisposition.builder("attachment")
                     .filename(project.getName() + ".zip")
                     .build();
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString());
+            response.setContentType("application/zip");
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentDisposition(contentDisposition);
-            headers.setContentType(MediaType.parseMediaType("application/zip"));
-            headers.setContentLength(content.length);
-            var resource = new ByteArrayResource(content);
+            this.projectExportService.export(project, editingContext, response.getOutputStream());
+            response.flushBuffer();
+            return null;
+        });
+    }
 
-            return new ResponseEntity<>(resource, headers, HttpStatus.OK);
-        }
-        return new ResponseEntity<>(null, new HttpHeaders(), HttpStatus.NOT_FOUND);
+    @PreDestroy
+    public void dispose() {
+        this.taskExecutor.shutdown();
     }
 }
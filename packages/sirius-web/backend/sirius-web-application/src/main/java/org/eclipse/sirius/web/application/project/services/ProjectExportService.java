@@ -14,8 +14,9 @@ package org.eclipse.sirius.web.application.project.services;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -24,11 +25,10 @@ import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
+import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.web.application.project.services.api.IProjectExportParticipant;
 import org.eclipse.sirius.web.application.project.services.api.IProjectExportService;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,8 +40,6 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class ProjectExportService implements IProjectExportService {
 
-    private final Logger logger = LoggerFactory.getLogger(ProjectExportService.class);
-
     private final List<IProjectExportParticipant> projectExportParticipants;
 
     private final ObjectMapper objectMapper;
@@ -53,28 +51,22 @@ public class ProjectExportService implements IProjectExportService {
 
     @Override
     @Transactional(readOnly = true)
-    public byte[] export(Project project) {
-        byte[] zip = new byte[0];
-
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        try (var zipOutputStream = new ZipOutputStream(outputStream)) {
+    public void export(Project project, IEditingContext editingContext, OutputStream outputStream) {
+        // The zip output stream is only finished and not closed since the given output stream belongs to the caller
+        var zipOutputStream = new ZipOutputStream(outputStream);
+        try {
             var manifestEntries = this.projectExportParticipants.stream()
-                    .map(projectExportParticipant -> projectExportParticipant.exportData(project, zipOutputStream))
+                    .map(projectExportParticipant -> projectExportParticipant.exportData(project, editingContext, zipOutputStream))
                     .map(Map::entrySet)
                     .flatMap(Collection::stream)
                     .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
 
             this.addManifest(project, manifestEntries, zipOutputStream);
+            zipOutputStream.finish();
+            zipOutputStream.flush();
         } catch (IOException exception) {
-            this.logger.warn(exception.getMessage(), exception);
-            outputStream.reset();
+            throw new UncheckedIOException(exception);
         }
-
-        if (outputStream.size() > 0) {
-            zip = outputStream.toByteArray();
-        }
-
-        return zip;
     }
 
     private void addManifest(Project project, Map<String, Object> manifestEntries, ZipOutputStream outputStream) {
@@ -86,7 +78,7 @@ public class ProjectExportService implements IProjectExportService {
             outputStream.write(manifestContent);
             outputStream.closeEntry();
         } catch (IOException exception) {
-            this.logger.warn(exception.getMessage(), exception);
+            throw new UncheckedIOException(exception);
         }
     }
 }
@@ -15,22 +15,32 @@ package org.eclipse.sirius.web.application.project.services;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 import org.eclipse.emf.ecore.EObject;
-import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.util.EcoreUtil;
-import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
+import org.eclipse.emf.edit.domain.EditingDomain;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.emf.services.EObjectIndexAdapter;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.emfjson.resource.JsonResourceFactoryImpl;
 import org.eclipse.sirius.web.application.project.services.api.IProjectExportParticipant;
-import org.eclipse.sirius.web.application.representation.services.RepresentationSearchService;
 import org.eclipse.sirius.web.application.representation.services.api.IRepresentationDataMigrationService;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationDataContentOnly;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationDataMetadataOnly;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataSearchService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,7 +55,7 @@ import org.springframework.stereotype.Service;
 @Service
 public class ProjectRepresentationDataExportParticipant implements IProjectExportParticipant {
 
-    private final IEditingContextSearchService editingContextSearchService;
+    private static final int BATCH_SIZE = 50;
 
     private final IRepresentationDataSearchService representationDataSearchService;
 
@@ -53,80 +63,60 @@ public class ProjectRepresentationDataExportParticipant implements IProjectExpor
 
     private final IRepresentationDataMigrationService representationDataMigrationService;
 
-    private final RepresentationSearchService representationSearchService;
-
     private final Logger logger = LoggerFactory.getLogger(ProjectRepresentationDataExportParticipant.class);
 
-    public ProjectRepresentationDataExportParticipant(IEditingContextSearchService editingContextSearchService, IRepresentationDataSearchService representationDataSearchService, ObjectMapper objectMapper, IRepresentationDataMigrationService representationDataMigrationService, RepresentationSearchService representationSearchService) {
-        this.editingContextSearchService = Objects.requireNonNull(editingContextSearchService);
+    public ProjectRepresentationDataExportParticipant(IRepresentationDataSearchService representationDataSearchService, ObjectMapper objectMapper, IRepresentationDataMigrationService representationDataMigrationService) {
         this.representationDataSearchService = Objects.requireNonNull(representationDataSearchService);
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.representationDataMigrationService = Objects.requireNonNull(representationDataMigrationService);
-        this.representationSearchService = Objects.requireNonNull(representationSearchService);
     }
 
     @Override
-    public Map<String, Object> exportData(Project project, ZipOutputStream outputStream) {
+    public Map<String, Object> exportData(Project project, IEditingContext editingContext, ZipOutputStream outputStream) {
         Map<String, Map<String, String>> representationManifests = new HashMap<>();
 
         var allRepresentationMetadata = this.representationDataSearchService.findAllMetadataByProject(AggregateReference.to(project.getId()));
-        for (var representationMetadata: allRepresentationMetadata) {
-            var optionalRepresentationContentNode = this.representationDataSearchService.findContentById(representationMetadata.id())
-                    .flatMap(this.representationDataMigrationService::getMigratedContent);
-            if (optionalRepresentationContentNode.isPresent()) {
-                var representationContentNode = optionalRepresentationContentNode.get();
-
-                var exportData = new RepresentationSerializedExportData(
-                        representationMetadata.id(),
-                        representationMetadata.project().getId(),
-                        representationMetadata.descriptionId(),
-                        representationMetadata.targetObjectId(),
-                        representationMetadata.label(),
-                        representationMetadata.kind(),
-                        representationContentNode
-                );
-
-                // Get TargetObjectURI
-                String uriFragment = "";
-                var optionalEditingContext = this.editingContextSearchService.findById(project.getId().toString())
-                        .filter(IEMFEditingContext.class::isInstance)
-                        .map(IEMFEditingContext.class::cast);
-                if (optionalEditingContext.isPresent()) {
-                    var editingContext = optionalEditingContext.get();
-                    String targetObjectId = representationMetadata.targetObjectId();
-                    for (Resource resource : editingContext.getDomain().getResourceSet().getResources()) {
-                        EObject eObject = resource.getEObject(targetObjectId);
-                        if (eObject != null) {
-                            uriFragment = EcoreUtil.getURI(eObject).toString();
-                            break;
-                        }
+        var targetObjectURIs = this.getTargetObjectURIs(editingContext, allRepresentationMetadata);
+
+        // The content of the representations is loaded by batches to never keep all of them in memory at once
+        for (int fromIndex = 0; fromIndex < allRepresentationMetadata.size(); fromIndex += BATCH_SIZE) {
+            var batch = allRepresentationMetadata.subList(fromIndex, Math.min(fromIndex + BATCH_SIZE, allRepresentationMetadata.size()));
+            var representationIds = batch.stream()
+                    .map(RepresentationDataMetadataOnly::id)
+                    .toList();
+            var id2RepresentationData = this.representationDataSearchService.findAllByIds(representationIds).stream()
+                    .collect(Collectors.toMap(RepresentationData::getId, Function.identity()));
+
+            for (var representationMetadata : batch) {
+                var optionalRepresentationContentNode = Optional.ofNullable(id2RepresentationData.get(representationMetadata.id()))
+                        .map(representationData -> new RepresentationDataContentOnly(representationData.getKind(), representationData.getContent(), representationData.getLastMigrationPerformed(), representationData.getMigrationVersion()))
+                        .flatMap(this.representationDataMigrationService::getMigratedContent);
+                if (optionalRepresentationContentNode.isPresent()) {
+                    var representationContentNode = optionalRepresentationContentNode.get();
+
+                    var exportData = new RepresentationSerializedExportData(
+                            representationMetadata.id(),
+                            representationMetadata.project().getId(),
+                            representationMetadata.descriptionId(),
+                            representationMetadata.targetObjectId(),
+                            representationMetadata.label(),
+                            representationMetadata.kind(),
+                            representationContentNode
+                    );
+
+                    String uriFragment = targetObjectURIs.getOrDefault(representationMetadata.targetObjectId(), "");
+                    if (uriFragment.isEmpty()) {
+                        this.logger.warn("The serialization of the representationManifest won't be complete.");
                     }
-                }
-                if (uriFragment.isEmpty()) {
-                    this.logger.warn("The serialization of the representationManifest won't be complete.");
-                }
-
-                Map<String, String> representationManifest = Map.of(
-                        "type", representationMetadata.kind(),
-                        "descriptionURI", representationMetadata.descriptionId(),
-                        "targetObjectURI", uriFragment
-                );
-                representationManifests.put(representationMetadata.id().toString(), representationManifest);
-
-                try {
-                    byte[] bytes = this.objectMapper.writeValueAsBytes(exportData);
 
-                    String name = project.getName() + "/representations/" + representationMetadata.id() + "." + JsonResourceFactoryImpl.EXTENSION;
+                    Map<String, String> representationManifest = Map.of(
+                            "type", representationMetadata.kind(),
+                            "descriptionURI", representationMetadata.descriptionId(),
+                            "targetObjectURI", uriFragment
+                    );
+                    representationManifests.put(representationMetadata.id().toString(), representationManifest);
 
-                    ZipEntry zipEntry = new ZipEntry(name);
-                    zipEntry.setSize(bytes.length);
-                    zipEntry.setTime(System.currentTimeMillis());
-
-                    outputStream.putNextEntry(zipEntry);
-                    outputStream.write(bytes);
-                    outputStream.closeEntry();
-                } catch (IOException exception) {
-                    this.logger.warn(exception.getMessage());
+                    this.addRepresentation(project, representationMetadata.id(), exportData, outputStream);
                 }
             }
         }
@@ -134,4 +124,64 @@ public class ProjectRepresentationDataExportParticipant implements IProjectExpor
         return Map.of("representations", representationManifests);
     }
 
+    /**
+     * Computes the URI of the target object of all the representations at once.
+     *
+     * @param editingContext
+     *         The editing context of the project
+     * @param allRepresentationMetadata
+     *         The metadata of the representations
+     * @return The URI of the target objects found by target object id
+     */
+    private Map<String, String> getTargetObjectURIs(IEditingContext editingContext, List<RepresentationDataMetadataOnly> allRepresentationMetadata) {
+        Map<String, String> targetObjectURIs = new HashMap<>();
+
+        var optionalResourceSet = Optional.of(editingContext)
+                .filter(IEMFEditingContext.class::isInstance)
+                .map(IEMFEditingContext.class::cast)
+                .map(IEMFEditingContext::getDomain)
+                .map(EditingDomain::getResourceSet);
+        if (optionalResourceSet.isPresent()) {
+            var resourceSet = optionalResourceSet.get();
+            var optionalEObjectIndexAdapter = EObjectIndexAdapter.from(resourceSet);
+
+            var targetObjectIds = allRepresentationMetadata.stream()
+                    .map(RepresentationDataMetadataOnly::targetObjectId)
+                    .collect(Collectors.toSet());
+            for (String targetObjectId : targetObjectIds) {
+                optionalEObjectIndexAdapter.flatMap(eObjectIndexAdapter -> eObjectIndexAdapter.getEObject(targetObjectId))
+                        .or(() -> this.findEObject(resourceSet, targetObjectId))
+                        .map(EcoreUtil::getURI)
+                        .map(Object::toString)
+                        .ifPresent(uri -> targetObjectURIs.put(targetObjectId, uri));
+            }
+        }
+
+        return targetObjectURIs;
+    }
+
+    private Optional<EObject> findEObject(ResourceSet resourceSet, String targetObjectId) {
+        return resourceSet.getResources().stream()
+                .map(resource -> resource.getEObject(targetObjectId))
+                .filter(Objects::nonNull)
+                .findFirst();
+    }
+
+    private void addRepresentation(Project project, UUID representationId, RepresentationSerializedExportData exportData, ZipOutputStream outputStream) {
+        try {
+            byte[] bytes = this.objectMapper.writeValueAsBytes(exportData);
+
+            String name = project.getName() + "/representations/" + representationId + "." + JsonResourceFactoryImpl.EXTENSION;
+
+            ZipEntry zipEntry = new ZipEntry(name);
+            zipEntry.setSize(bytes.length);
+            zipEntry.setTime(System.currentTimeMillis());
+
+            outputStream.putNextEntry(zipEntry);
+            outputStream.write(bytes);
+            outputStream.closeEntry();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
 }
@@ -13,17 +13,19 @@
 package org.eclipse.sirius.web.application.project.services;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.resource.Resource;
-import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
+import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.emfjson.resource.JsonResourceFactoryImpl;
@@ -33,8 +35,6 @@ import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingCo
 import org.eclipse.sirius.web.application.project.services.api.IProjectExportParticipant;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Nature;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 
@@ -46,32 +46,27 @@ import org.springframework.stereotype.Service;
 @Service
 public class ProjectSemanticDataExportParticipant implements IProjectExportParticipant {
 
-    private final IEditingContextSearchService editingContextSearchService;
-
     private final List<IDocumentExporter> documentExporters;
 
     private final List<IEditingContextPersistenceFilter> persistenceFilters;
 
-    private final Logger logger = LoggerFactory.getLogger(ProjectSemanticDataExportParticipant.class);
-
-    public ProjectSemanticDataExportParticipant(IEditingContextSearchService editingContextSearchService, List<IDocumentExporter> documentExporters, List<IEditingContextPersistenceFilter> persistenceFilters) {
-        this.editingContextSearchService = Objects.requireNonNull(editingContextSearchService);
+    public ProjectSemanticDataExportParticipant(List<IDocumentExporter> documentExporters, List<IEditingContextPersistenceFilter> persistenceFilters) {
         this.documentExporters = Objects.requireNonNull(documentExporters);
         this.persistenceFilters = Objects.requireNonNull(persistenceFilters);
     }
 
     @Override
-    public Map<String, Object> exportData(Project project, ZipOutputStream outputStream) {
+    public Map<String, Object> exportData(Project project, IEditingContext editingContext, ZipOutputStream outputStream) {
         Map<String, Object> manifestEntries = new HashMap<>();
 
-        var optionalEditingContext = this.editingContextSearchService.findById(project.getId().toString())
+        var optionalEditingContext = Optional.of(editingContext)
                 .filter(IEMFEditingContext.class::isInstance)
                 .map(IEMFEditingContext.class::cast);
         if (optionalEditingContext.isPresent()) {
-            var editingContext = optionalEditingContext.get();
+            var emfEditingContext = optionalEditingContext.get();
 
-            List<String> metamodels = this.getMetamodels(editingContext);
-            Map<String, String> id2DocumentName = this.exportSemanticData(editingContext, project.getName(), outputStream);
+            List<String> metamodels = this.getMetamodels(emfEditingContext);
+            Map<String, String> id2DocumentName = this.exportSemanticData(emfEditingContext, project.getName(), outputStream);
             List<String> natures = project.getNatures().stream()
                         .map(Nature::name)
                         .toList();
@@ -129,7 +124,7 @@ public class ProjectSemanticDataExportParticipant implements IProjectExportParti
                     outputStream.write(content);
                     outputStream.closeEntry();
                 } catch (IOException exception) {
-                    this.logger.warn(exception.getMessage(), exception);
+                    throw new UncheckedIOException(exception);
                 }
             }
         }
@@ -15,6 +15,7 @@ package org.eclipse.sirius.web.application.project.services.api;
 import java.util.Map;
 import java.util.zip.ZipOutputStream;
 
+import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 
 /**
@@ -23,5 +24,5 @@ import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
  * @author sbegaudeau
  */
 public interface IProjectExportParticipant {
-    Map<String, Object> exportData(Project project, ZipOutputStream outputStream);
+    Map<String, Object> exportData(Project project, IEditingContext editingContext, ZipOutputStream outputStream);
 }
@@ -12,6 +12,9 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.project.services.api;
 
+import java.io.OutputStream;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 
 /**
@@ -20,5 +23,24 @@ import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
  * @author sbegaudeau
  */
 public interface IProjectExportService {
-    byte[] export(Project project);
+
+    /**
+     * Writes the archive of the given project in the given output stream.
+     *
+     * <p>
+     * The entries of the archive are written as soon as they are computed in order to never have to keep the whole
+     * archive in memory. The output stream is not closed by this method. If the archive cannot be written, an
+     * {@link java.io.UncheckedIOException} is thrown but the entries already written stay in the output stream. When
+     * the output stream is the body of an HTTP response, its status has thus already been sent and the client receives
+     * a truncated archive, only the abort of the transfer tells it that the download has failed.
+     * </p>
+     *
+     * @param project
+     *         The project to export
+     * @param editingContext
+     *         The editing context of the project
+     * @param outputStream
+     *         The output stream in which the archive will be written
+     */
+    void export(Project project, IEditingContext editingContext, OutputStream outputStream);
 }
@@ -14,10 +14,14 @@ package org.eclipse.sirius.web.application.representation.services;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
+import org.eclipse.emf.edit.domain.EditingDomain;
 import org.eclipse.sirius.components.collaborative.api.IDanglingRepresentationDeletionService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IObjectSearchService;
+import org.eclipse.sirius.components.emf.services.EObjectIndexAdapter;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.components.events.ICause;
 import org.eclipse.sirius.components.representations.IRepresentation;
 import org.eclipse.sirius.web.application.UUIDParser;
@@ -31,6 +35,11 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * Used to delete dangling representations.
  *
+ * <p>
+ * When the editing context keeps track of the objects removed from its resources, only the representations targeting
+ * one of those objects are deleted. Otherwise, the target object of all the representations of the project is searched.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
@@ -42,10 +51,14 @@ public class DanglingRepresentationDeletionService implements IDanglingRepresent
 
     private final IRepresentationDataDeletionService representationDataDeletionService;
 
-    public DanglingRepresentationDeletionService(IObjectSearchService objectSearchService, IRepresentationDataSearchService representationDataSearchService, IRepresentationDataDeletionService representationDataDeletionService) {
+    private final RepresentationTargetObjectIndex representationTargetObjectIndex;
+
+    public DanglingRepresentationDeletionService(IObjectSearchService objectSearchService, IRepresentationDataSearchService representationDataSearchService, IRepresentationDataDeletionService representationDataDeletionService,
+            RepresentationTargetObjectIndex representationTargetObjectIndex) {
         this.objectSearchService = Objects.requireNonNull(objectSearchService);
         this.representationDataSearchService = Objects.requireNonNull(representationDataSearchService);
         this.representationDataDeletionService = Objects.requireNonNull(representationDataDeletionService);
+        this.representationTargetObjectIndex = Objects.requireNonNull(representationTargetObjectIndex);
     }
 
     @Override
@@ -58,11 +71,26 @@ public class DanglingRepresentationDeletionService implements IDanglingRepresent
     @Override
     @Transactional
     public void deleteDanglingRepresentations(ICause cause, IEditingContext editingContext) {
+        var optionalEObjectIndexAdapter = Optional.of(editingContext)
+                .filter(IEMFEditingContext.class::isInstance)
+                .map(IEMFEditingContext.class::cast)
+                .map(IEMFEditingContext::getDomain)
+                .map(EditingDomain::getResourceSet)
+                .flatMap(EObjectIndexAdapter::from);
+
         new UUIDParser().parse(editingContext.getId()).ifPresent(projectId -> {
-            this.representationDataSearchService.findAllMetadataByProject(AggregateReference.to(projectId)).stream()
-                    .filter(representationMetadata -> this.objectSearchService.getObject(editingContext, representationMetadata.targetObjectId()).isEmpty())
-                    .map(RepresentationDataMetadataOnly::id)
-                    .forEach(representationId -> this.representationDataDeletionService.delete(cause, representationId));
+            if (optionalEObjectIndexAdapter.isPresent()) {
+                Set<String> removedIds = optionalEObjectIndexAdapter.get().consumeRemovedIds();
+                if (!removedIds.isEmpty()) {
+                    this.representationTargetObjectIndex.findRepresentationIds(projectId, removedIds)
+                            .forEach(representationId -> this.representationDataDeletionService.delete(cause, representationId));
+                }
+            } else {
+                this.representationDataSearchService.findAllMetadataByProject(AggregateReference.to(projectId)).stream()
+                        .filter(representationMetadata -> this.objectSearchService.getObject(editingContext, representationMetadata.targetObjectId()).isEmpty())
+                        .map(RepresentationDataMetadataOnly::id)
+                        .forEach(representationId -> this.representationDataDeletionService.delete(cause, representationId));
+            }
         });
     }
 }
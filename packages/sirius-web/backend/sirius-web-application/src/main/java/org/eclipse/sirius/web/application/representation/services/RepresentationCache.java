@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.eclipse.sirius.components.representations.IRepresentation;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.IRepresentationDataEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationDataContentUpdatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationDataCreatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationDataDeletedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps in memory the representations which have been deserialized, for each editing context.
+ *
+ * <p>
+ * Representations are immutable so the same instance can be returned every time a representation is requested in the
+ * same editing context. A representation is removed from the cache once a new content has been committed or queued by
+ * the {@link RepresentationContentBatchWriter} and once it has been deleted. Only the most recently used representations
+ * are kept.
+ * </p>
+ *
+ * <p>
+ * The ids of the representations which could not be found are also remembered, so that looking for an unknown id again
+ * does not query the database, until a representation with this id is created. Those misses are only remembered outside
+ * of a transaction since a representation created by the current transaction would not be visible by the other ones.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class RepresentationCache {
+
+    private final Map<RepresentationKey, IRepresentation> representations;
+
+    private final Set<UUID> missingRepresentationIds;
+
+    private long invalidationsCount;
+
+    public RepresentationCache(@Value("${sirius.web.representation.cacheSize:200}") int maximumSize) {
+        this.representations = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<RepresentationKey, IRepresentation> eldest) {
+                return this.size() > maximumSize;
+            }
+        };
+        this.missingRepresentationIds = Collections.newSetFromMap(new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Boolean> eldest) {
+                return this.size() > maximumSize;
+            }
+        });
+    }
+
+    /**
+     * Returns the given representation from the cache or loads it with the given supplier.
+     *
+     * <p>
+     * The representation loaded is not kept if the cache has been invalidated while it was loaded since it may have
+     * been computed from an outdated content.
+     * </p>
+     *
+     * @param editingContextId
+     *         The id of the editing context
+     * @param representationId
+     *         The id of the representation
+     * @param loader
+     *         Used to load the representation if it is not in the cache
+     * @return The representation or an empty optional if it could not be found
+     */
+    public Optional<IRepresentation> getOrLoad(String editingContextId, UUID representationId, Supplier<Optional<IRepresentation>> loader) {
+        var key = new RepresentationKey(editingContextId, representationId);
+
+        long expectedInvalidationsCount;
+        synchronized (this) {
+            var representation = this.representations.get(key);
+            if (representation != null || this.missingRepresentationIds.contains(representationId)) {
+                return Optional.ofNullable(representation);
+            }
+            expectedInvalidationsCount = this.invalidationsCount;
+        }
+
+        var optionalRepresentation = loader.get();
+        boolean isMissCacheable = !TransactionSynchronizationManager.isActualTransactionActive();
+        synchronized (this) {
+            if (this.invalidationsCount == expectedInvalidationsCount) {
+                if (optionalRepresentation.isPresent()) {
+                    this.representations.put(key, optionalRepresentation.get());
+                } else if (isMissCacheable) {
+                    this.missingRepresentationIds.add(representationId);
+                }
+            }
+        }
+        return optionalRepresentation;
+    }
+
+    public synchronized void invalidate(UUID representationId) {
+        this.invalidationsCount++;
+        this.representations.keySet().removeIf(key -> key.representationId().equals(representationId));
+        this.missingRepresentationIds.remove(representationId);
+    }
+
+    @TransactionalEventListener
+    public void onRepresentationDataEvent(IRepresentationDataEvent event) {
+        if (event instanceof RepresentationDataCreatedEvent createdEvent) {
+            this.invalidate(createdEvent.representationData().getId());
+        } else if (event instanceof RepresentationDataContentUpdatedEvent contentUpdatedEvent) {
+            this.invalidate(contentUpdatedEvent.representationData().getId());
+        } else if (event instanceof RepresentationDataDeletedEvent deletedEvent) {
+            this.invalidate(deletedEvent.representationData().getId());
+        }
+    }
+
+    /**
+     * The key of a representation in the cache.
+     *
+     * @author agent
+     */
+    private record RepresentationKey(String editingContextId, UUID representationId) {
+    }
+}
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationDataContentOnly;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataUpdateService;
+import org.eclipse.sirius.web.domain.services.Failure;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Used to write the content of existing representations in the background.
+ *
+ * <p>
+ * When a batch delay is configured, the content of the representations to save is kept in memory and all the pending
+ * contents are written together in a single transaction once the delay has elapsed. Only the latest content of each
+ * representation is written. Without a batch delay (the default), the content of the representations is written
+ * synchronously.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class RepresentationContentBatchWriter {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final IRepresentationDataUpdateService representationDataUpdateService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final RepresentationCache representationCache;
+
+    private final RepresentationContentDigestCache representationContentDigestCache;
+
+    private final Map<UUID, PendingContent> pendingContents = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    private final Logger logger = LoggerFactory.getLogger(RepresentationContentBatchWriter.class);
+
+    public RepresentationContentBatchWriter(IRepresentationDataUpdateService representationDataUpdateService, TransactionTemplate transactionTemplate, RepresentationCache representationCache,
+            RepresentationContentDigestCache representationContentDigestCache, @Value("${sirius.web.representation.persistence.batchDelay:0ms}") Duration batchDelay) {
+        this.representationDataUpdateService = Objects.requireNonNull(representationDataUpdateService);
+        this.transactionTemplate = Objects.requireNonNull(transactionTemplate);
+        this.representationCache = Objects.requireNonNull(representationCache);
+        this.representationContentDigestCache = Objects.requireNonNull(representationContentDigestCache);
+
+        if (!batchDelay.isZero() && !batchDelay.isNegative()) {
+            this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor((Runnable runnable) -> {
+                Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+                thread.setName("Representation content batch writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long delay = batchDelay.toMillis();
+            this.scheduledExecutorService.scheduleWithFixedDelay(this::flush, delay, delay, TimeUnit.MILLISECONDS);
+        } else {
+            this.scheduledExecutorService = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return this.scheduledExecutorService != null;
+    }
+
+    public boolean isPending(UUID representationId) {
+        return this.pendingContents.containsKey(representationId);
+    }
+
+    /**
+     * Returns the content of the given representation which has not been written yet.
+     *
+     * @param representationId
+     *         The id of the representation
+     * @return The pending content of the representation or an empty optional if there is none
+     */
+    public Optional<RepresentationDataContentOnly> getPendingContent(UUID representationId) {
+        return Optional.ofNullable(this.pendingContents.get(representationId)).map(PendingContent::content);
+    }
+
+    public void write(ICause cause, UUID representationId, RepresentationDataContentOnly content, String digest) {
+        this.pendingContents.put(representationId, new PendingContent(cause, content, digest));
+        this.representationCache.invalidate(representationId);
+    }
+
+    /**
+     * Writes all the pending contents in a single transaction.
+     *
+     * <p>
+     * If the transaction fails, the contents are kept to be written during the next flush unless a more recent content
+     * has been received in the meantime.
+     * </p>
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    public void flush() {
+        List<UUID> representationIds = List.copyOf(this.pendingContents.keySet());
+        Map<UUID, PendingContent> contents = new HashMap<>();
+        representationIds.forEach(representationId -> {
+            var pendingContent = this.pendingContents.remove(representationId);
+            if (pendingContent != null) {
+                contents.put(representationId, pendingContent);
+            }
+        });
+
+        if (!contents.isEmpty()) {
+            try {
+                this.transactionTemplate.executeWithoutResult(transactionStatus -> contents.forEach(this::doWrite));
+            } catch (RuntimeException exception) {
+                this.logger.warn(exception.getMessage(), exception);
+                contents.forEach(this.pendingContents::putIfAbsent);
+            }
+        }
+    }
+
+    private void doWrite(UUID representationId, PendingContent pendingContent) {
+        var content = pendingContent.content();
+        var result = this.representationDataUpdateService.updateContentWithMigrationData(pendingContent.cause(), representationId, content.content(), content.lastMigrationPerformed(), content.migrationVersion());
+        if (result instanceof Failure<Void> failure) {
+            this.logger.warn("The content of the representation {} could not be written: {}", representationId, failure.message());
+        } else {
+            this.representationContentDigestCache.putAfterCommit(representationId, content.content(), pendingContent.digest(), null);
+        }
+    }
+
+    @PreDestroy
+    public void dispose() {
+        if (this.scheduledExecutorService != null) {
+            this.scheduledExecutorService.shutdown();
+            try {
+                this.scheduledExecutorService.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException exception) {
+                this.logger.warn(exception.getMessage(), exception);
+                Thread.currentThread().interrupt();
+            }
+            this.flush();
+        }
+    }
+
+    /**
+     * The content of a representation waiting to be written.
+     *
+     * @author agent
+     */
+    private record PendingContent(ICause cause, RepresentationDataContentOnly content, String digest) {
+    }
+}
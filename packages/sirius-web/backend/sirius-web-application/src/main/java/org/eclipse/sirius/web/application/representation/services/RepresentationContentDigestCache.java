@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services;
+
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.representations.IRepresentation;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.IRepresentationDataEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationDataContentUpdatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationDataCreatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationDataDeletedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps in memory the digest of the content of the representations which are known to be persisted.
+ *
+ * <p>
+ * It is used to avoid writing again the content of a representation which has not changed since it has been loaded or
+ * saved. The digest is kept up to date with the content committed by any creation or update of the representation data
+ * and only the digests of the most recently used representations are kept.
+ * </p>
+ *
+ * <p>
+ * Since representations are immutable, the instance which has been saved is also remembered, without preventing its
+ * garbage collection, so that saving the very same instance again can be skipped without even serializing it.
+ * </p>
+ *
+ * <p>
+ * The digest computed while a representation is serialized is recorded along with the content which has been written
+ * so that the digest of this very content is not computed again when the event of the representation data is received.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class RepresentationContentDigestCache {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final Map<UUID, PersistedContent> persistedContents;
+
+    public RepresentationContentDigestCache(@Value("${sirius.web.representation.persistence.digestCacheSize:1000}") int maximumSize) {
+        this.persistedContents = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, PersistedContent> eldest) {
+                return this.size() > maximumSize;
+            }
+        });
+    }
+
+    public String getDigest(String content) {
+        return this.getDigest(this.createMessageDigest().digest(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public String getDigest(MessageDigest messageDigest) {
+        return this.getDigest(messageDigest.digest());
+    }
+
+    private String getDigest(byte[] digest) {
+        return HexFormat.of().formatHex(digest);
+    }
+
+    /**
+     * Creates the message digest used to compute the digest of the UTF-8 encoded content of a representation.
+     *
+     * @return A new message digest
+     */
+    public MessageDigest createMessageDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Indicates if the persisted content of the given representation is known to have the given digest.
+     *
+     * @param representationId
+     *         The id of the representation
+     * @param digest
+     *         The digest of the content of the representation
+     * @return <code>true</code> if the persisted content is the same, <code>false</code> if it is different or unknown
+     */
+    public boolean isPersisted(UUID representationId, String digest) {
+        return Objects.equals(this.getDigest(representationId), digest);
+    }
+
+    /**
+     * Indicates if the given instance is the one whose content is known to be persisted.
+     *
+     * @param representationId
+     *         The id of the representation
+     * @param representation
+     *         The representation
+     * @return <code>true</code> if this very instance has been persisted, <code>false</code> otherwise
+     */
+    public boolean isPersisted(UUID representationId, IRepresentation representation) {
+        var persistedContent = this.persistedContents.get(representationId);
+        return persistedContent != null && persistedContent.representation().get() == representation;
+    }
+
+    public boolean contains(UUID representationId) {
+        return this.persistedContents.containsKey(representationId);
+    }
+
+    private String getDigest(UUID representationId) {
+        var persistedContent = this.persistedContents.get(representationId);
+        if (persistedContent != null) {
+            return persistedContent.digest();
+        }
+        return null;
+    }
+
+    public void put(UUID representationId, String digest) {
+        this.persistedContents.compute(representationId, (id, persistedContent) -> {
+            if (persistedContent != null && persistedContent.digest().equals(digest)) {
+                return persistedContent;
+            }
+            return new PersistedContent(digest, new WeakReference<>(null), new WeakReference<>(null));
+        });
+    }
+
+    private void put(UUID representationId, String content, String digest, IRepresentation representation) {
+        this.persistedContents.put(representationId, new PersistedContent(digest, new WeakReference<>(content), new WeakReference<>(representation)));
+    }
+
+    public void remove(UUID representationId) {
+        this.persistedContents.remove(representationId);
+    }
+
+    /**
+     * Records the digest of the content of the given representation once the current transaction has been committed.
+     *
+     * <p>
+     * The synchronizations are notified of the commit before the transactional event listeners, the digest is thus
+     * recorded before the event of the representation data carrying the same content is received.
+     * </p>
+     *
+     * @param representationId
+     *         The id of the representation
+     * @param content
+     *         The content which has been persisted
+     * @param digest
+     *         The digest of the content which has been persisted
+     * @param representation
+     *         The representation which has been persisted, if known
+     */
+    public void putAfterCommit(UUID representationId, String content, String digest, IRepresentation representation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    RepresentationContentDigestCache.this.put(representationId, content, digest, representation);
+                }
+            });
+        } else {
+            this.put(representationId, content, digest, representation);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onRepresentationDataEvent(IRepresentationDataEvent event) {
+        if (event instanceof RepresentationDataCreatedEvent createdEvent) {
+            this.contentPersisted(createdEvent.representationData().getId(), createdEvent.representationData().getContent());
+        } else if (event instanceof RepresentationDataContentUpdatedEvent contentUpdatedEvent) {
+            this.contentPersisted(contentUpdatedEvent.representationData().getId(), contentUpdatedEvent.representationData().getContent());
+        } else if (event instanceof RepresentationDataDeletedEvent deletedEvent) {
+            this.remove(deletedEvent.representationData().getId());
+        }
+    }
+
+    private void contentPersisted(UUID representationId, String content) {
+        var persistedContent = this.persistedContents.get(representationId);
+        if (persistedContent == null || persistedContent.content().get() != content) {
+            this.put(representationId, this.getDigest(content));
+        }
+    }
+
+    /**
+     * The digest of the persisted content of a representation along with the content and the instance which have been
+     * persisted, if known.
+     *
+     * @author agent
+     */
+    private record PersistedContent(String digest, WeakReference<String> content, WeakReference<IRepresentation> representation) {
+    }
+}
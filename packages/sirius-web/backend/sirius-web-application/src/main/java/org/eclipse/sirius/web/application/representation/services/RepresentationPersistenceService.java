@@ -12,9 +12,12 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.representation.services;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -27,6 +30,7 @@ import org.eclipse.sirius.components.events.ICause;
 import org.eclipse.sirius.components.representations.IRepresentation;
 import org.eclipse.sirius.web.application.UUIDParser;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationDataContentOnly;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataCreationService;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataSearchService;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataUpdateService;
@@ -39,6 +43,15 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * Used to persist representations.
  *
+ * <p>
+ * The content of a representation is not written again if it is identical to the content which is known to be
+ * persisted. Saving again the very instance which has been persisted is skipped without serializing it and the digest
+ * of the content is otherwise computed while it is serialized, the content is only decoded if it has to be written.
+ * The digest is then recorded with the written content so that it is not computed again once the transaction is
+ * committed. When a batch delay is configured, the content of the existing representations is written in the
+ * background by the {@link RepresentationContentBatchWriter}.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
@@ -58,12 +71,19 @@ public class RepresentationPersistenceService implements IRepresentationPersiste
 
     private final List<IRepresentationMigrationParticipant> migrationParticipants;
 
-    public RepresentationPersistenceService(IRepresentationDataSearchService representationDataSearchService, IRepresentationDataCreationService representationDataCreationService, IRepresentationDataUpdateService representationDataUpdateService, ObjectMapper objectMapper, List<IRepresentationMigrationParticipant> migrationParticipants) {
+    private final RepresentationContentDigestCache representationContentDigestCache;
+
+    private final RepresentationContentBatchWriter representationContentBatchWriter;
+
+    public RepresentationPersistenceService(IRepresentationDataSearchService representationDataSearchService, IRepresentationDataCreationService representationDataCreationService, IRepresentationDataUpdateService representationDataUpdateService, ObjectMapper objectMapper, List<IRepresentationMigrationParticipant> migrationParticipants,
+            RepresentationContentDigestCache representationContentDigestCache, RepresentationContentBatchWriter representationContentBatchWriter) {
         this.representationDataSearchService = Objects.requireNonNull(representationDataSearchService);
         this.representationDataCreationService = Objects.requireNonNull(representationDataCreationService);
         this.representationDataUpdateService = representationDataUpdateService;
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.migrationParticipants = migrationParticipants;
+        this.representationContentDigestCache = Objects.requireNonNull(representationContentDigestCache);
+        this.representationContentBatchWriter = Objects.requireNonNull(representationContentBatchWriter);
     }
 
     @Override
@@ -75,13 +95,26 @@ public class RepresentationPersistenceService implements IRepresentationPersiste
             var projectId = optionalProjectId.get();
             var representationId = optionalRepresentationId.get();
 
-            String content = this.toString(representation);
+            boolean isPending = this.representationContentBatchWriter.isPending(representationId);
+            if (!isPending && this.representationContentDigestCache.isPersisted(representationId, representation)) {
+                return;
+            }
 
-            var exists = this.representationDataSearchService.existsById(representationId);
+            var serializedContent = this.serialize(representation);
+            String digest = serializedContent.digest();
+            if (!isPending && this.representationContentDigestCache.isPersisted(representationId, digest)) {
+                return;
+            }
 
-            if (exists) {
+            String content = serializedContent.content();
+            if (this.representationContentBatchWriter.isEnabled() && (isPending || this.representationContentDigestCache.contains(representationId))) {
+                var migrationData = this.getLastMigrationData(representation.getKind());
+                var representationContent = new RepresentationDataContentOnly(representation.getKind(), content, migrationData.lastMigrationPerformed(), migrationData.migrationVersion());
+                this.representationContentBatchWriter.write(cause, representationId, representationContent, digest);
+            } else if (this.representationDataSearchService.existsById(representationId)) {
                 var migrationData = this.getLastMigrationData(representation.getKind());
                 this.representationDataUpdateService.updateContentWithMigrationData(cause, representationId, content, migrationData.lastMigrationPerformed(), migrationData.migrationVersion());
+                this.representationContentDigestCache.putAfterCommit(representationId, content, digest, representation);
             } else {
                 var migrationData = this.getInitialMigrationData(representation.getKind());
                 var representationData = RepresentationData.newRepresentationData(representationId)
@@ -96,18 +129,22 @@ public class RepresentationPersistenceService implements IRepresentationPersiste
                         .build(cause);
 
                 this.representationDataCreationService.create(representationData);
+                this.representationContentDigestCache.putAfterCommit(representationId, content, digest, representation);
             }
         }
     }
 
-    private String toString(IRepresentation representation) {
-        String content = "";
-        try {
-            content = this.objectMapper.writeValueAsString(representation);
-        } catch (JsonProcessingException exception) {
+    private SerializedContent serialize(IRepresentation representation) {
+        var messageDigest = this.representationContentDigestCache.createMessageDigest();
+        var outputStream = new ByteArrayOutputStream();
+        try (var digestOutputStream = new DigestOutputStream(outputStream, messageDigest)) {
+            this.objectMapper.writeValue(digestOutputStream, representation);
+        } catch (IOException exception) {
             this.logger.warn(exception.getMessage(), exception);
+            outputStream.reset();
+            messageDigest.reset();
         }
-        return content;
+        return new SerializedContent(outputStream, this.representationContentDigestCache.getDigest(messageDigest));
     }
 
     private RepresentationMigrationData getInitialMigrationData(String kind) {
@@ -125,4 +162,15 @@ public class RepresentationPersistenceService implements IRepresentationPersiste
                 .map(migrationParticipant -> new RepresentationMigrationData(migrationParticipant.getClass().getSimpleName(), migrationParticipant.getVersion()))
                 .findFirst().orElse(new RepresentationMigrationData(NONE, "0"));
     }
+
+    /**
+     * The UTF-8 encoded content of a representation and its digest.
+     *
+     * @author agent
+     */
+    private record SerializedContent(ByteArrayOutputStream bytes, String digest) {
+        String content() {
+            return this.bytes.toString(StandardCharsets.UTF_8);
+        }
+    }
 }
@@ -14,6 +14,7 @@ package org.eclipse.sirius.web.application.representation.services;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import java.util.List;
 import java.util.Objects;
@@ -45,20 +46,28 @@ public class RepresentationSearchService implements IRepresentationSearchService
 
     private final ObjectMapper objectMapper;
 
+    private final RepresentationContentDigestCache representationContentDigestCache;
+
+    private final RepresentationContentBatchWriter representationContentBatchWriter;
+
+    private final RepresentationCache representationCache;
+
     private final Logger logger = LoggerFactory.getLogger(RepresentationSearchService.class);
 
-    public RepresentationSearchService(IRepresentationDataSearchService representationDataSearchService, IRepresentationDataMigrationService representationDataMigrationService, ObjectMapper objectMapper) {
+    public RepresentationSearchService(IRepresentationDataSearchService representationDataSearchService, IRepresentationDataMigrationService representationDataMigrationService, ObjectMapper objectMapper, RepresentationContentDigestCache representationContentDigestCache, RepresentationContentBatchWriter representationContentBatchWriter,
+            RepresentationCache representationCache) {
         this.representationDataSearchService = Objects.requireNonNull(representationDataSearchService);
         this.representationDataMigrationService = Objects.requireNonNull(representationDataMigrationService);
         this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.representationContentDigestCache = Objects.requireNonNull(representationContentDigestCache);
+        this.representationContentBatchWriter = Objects.requireNonNull(representationContentBatchWriter);
+        this.representationCache = Objects.requireNonNull(representationCache);
     }
 
     @Override
     public <T extends IRepresentation> Optional<T> findById(IEditingContext editingContext, String representationId, Class<T> representationClass) {
         return new UUIDParser().parse(representationId)
-                .flatMap(this.representationDataSearchService::findContentById)
-                .map(this::migratedContent)
-                .flatMap(this::toRepresentation)
+                .flatMap(uuid -> this.representationCache.getOrLoad(editingContext.getId(), uuid, () -> this.loadRepresentation(uuid)))
                 .filter(representationClass::isInstance)
                 .map(representationClass::cast);
     }
@@ -69,22 +78,36 @@ public class RepresentationSearchService implements IRepresentationSearchService
         return uuid.filter(value -> this.representationDataSearchService.existsByIdAndKind(value, kinds)).isPresent();
     }
 
-    private Optional<IRepresentation> toRepresentation(String content) {
+    private Optional<IRepresentation> loadRepresentation(UUID representationId) {
+        return this.findContentById(representationId)
+                .flatMap(this.representationDataMigrationService::getMigratedContent)
+                .flatMap(this::toRepresentation);
+    }
+
+    private Optional<RepresentationDataContentOnly> findContentById(UUID representationId) {
+        return this.representationContentBatchWriter.getPendingContent(representationId)
+                .or(() -> this.findPersistedContentById(representationId));
+    }
+
+    private Optional<RepresentationDataContentOnly> findPersistedContentById(UUID representationId) {
+        var optionalRepresentationData = this.representationDataSearchService.findContentById(representationId);
+        optionalRepresentationData.ifPresent(representationData -> {
+            var digest = this.representationContentDigestCache.getDigest(representationData.content());
+            this.representationContentDigestCache.put(representationId, digest);
+        });
+        return optionalRepresentationData;
+    }
+
+    private Optional<IRepresentation> toRepresentation(ObjectNode content) {
         Optional<IRepresentation> optionalRepresentation = Optional.empty();
 
         try {
-            IRepresentation representation = this.objectMapper.readValue(content, IRepresentation.class);
-            optionalRepresentation = Optional.of(representation);
-        } catch (JsonProcessingException exception) {
+            // The migrated tree is converted directly without being serialized and parsed again
+            IRepresentation representation = this.objectMapper.treeToValue(content, IRepresentation.class);
+            optionalRepresentation = Optional.ofNullable(representation);
+        } catch (JsonProcessingException | IllegalArgumentException exception) {
             this.logger.warn(exception.getMessage(), exception);
         }
         return optionalRepresentation;
     }
-
-    private String migratedContent(RepresentationDataContentOnly representationData) {
-        return this.representationDataMigrationService.getMigratedContent(representationData)
-                .map(Object::toString)
-                .orElse("");
-    }
-
-}
\ No newline at end of file
+}
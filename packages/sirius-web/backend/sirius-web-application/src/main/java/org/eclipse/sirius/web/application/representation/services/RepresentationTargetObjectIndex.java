@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.IRepresentationDataEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationDataCreatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationDataDeletedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataSearchService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps in memory, for each project, the ids of the representations associated to the id of their target object.
+ *
+ * <p>
+ * The index of a project is loaded from the database the first time it is needed and it is then kept up to date with
+ * the representations created or deleted. Only the indexes of the most recently used projects are kept.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class RepresentationTargetObjectIndex {
+
+    private final IRepresentationDataSearchService representationDataSearchService;
+
+    private final Map<UUID, Map<String, Set<UUID>>> indexes;
+
+    public RepresentationTargetObjectIndex(IRepresentationDataSearchService representationDataSearchService,
+            @Value("${sirius.web.representation.targetObjectIndex.maxProjects:100}") int maximumSize) {
+        this.representationDataSearchService = Objects.requireNonNull(representationDataSearchService);
+        this.indexes = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Map<String, Set<UUID>>> eldest) {
+                return this.size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the ids of the representations of the given project whose target object has one of the given ids.
+     *
+     * @param projectId
+     *         The id of the project
+     * @param targetObjectIds
+     *         The ids of the target objects
+     * @return The ids of the representations found
+     */
+    public synchronized List<UUID> findRepresentationIds(UUID projectId, Collection<String> targetObjectIds) {
+        var index = this.indexes.computeIfAbsent(projectId, this::loadIndex);
+        return targetObjectIds.stream()
+                .map(index::get)
+                .filter(Objects::nonNull)
+                .flatMap(Set::stream)
+                .toList();
+    }
+
+    private Map<String, Set<UUID>> loadIndex(UUID projectId) {
+        Map<String, Set<UUID>> index = new HashMap<>();
+        this.representationDataSearchService.findAllMetadataByProject(AggregateReference.to(projectId))
+                .forEach(representationMetadata -> index.computeIfAbsent(representationMetadata.targetObjectId(), targetObjectId -> new HashSet<>()).add(representationMetadata.id()));
+        return index;
+    }
+
+    @TransactionalEventListener
+    public synchronized void onRepresentationDataEvent(IRepresentationDataEvent event) {
+        if (event instanceof RepresentationDataCreatedEvent createdEvent) {
+            RepresentationData representationData = createdEvent.representationData();
+            this.getIndex(representationData).ifPresent(index -> index.computeIfAbsent(representationData.getTargetObjectId(), targetObjectId -> new HashSet<>()).add(representationData.getId()));
+        } else if (event instanceof RepresentationDataDeletedEvent deletedEvent) {
+            RepresentationData representationData = deletedEvent.representationData();
+            this.getIndex(representationData).ifPresent(index -> {
+                var representationIds = index.get(representationData.getTargetObjectId());
+                if (representationIds != null) {
+                    representationIds.remove(representationData.getId());
+                    if (representationIds.isEmpty()) {
+                        index.remove(representationData.getTargetObjectId());
+                    }
+                }
+            });
+        }
+    }
+
+    private Optional<Map<String, Set<UUID>>> getIndex(RepresentationData representationData) {
+        return Optional.ofNullable(representationData.getProject())
+                .map(AggregateReference::getId)
+                .map(this.indexes::get);
+    }
+}
@@ -16,9 +16,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
 
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.impl.EPackageImpl;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
 import org.eclipse.sirius.components.domain.Domain;
@@ -35,8 +39,10 @@ import org.eclipse.sirius.components.view.tree.TreePackage;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
 import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextMigrationParticipantPredicate;
 import org.eclipse.sirius.web.application.editingcontext.services.api.IResourceLoader;
+import org.eclipse.sirius.web.application.studio.services.StudioDefinitionsCache.StudioDefinitions;
 import org.eclipse.sirius.web.application.studio.services.api.IDomainProvider;
 import org.eclipse.sirius.web.application.studio.services.api.IStudioColorPalettesLoader;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataVersion;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -59,61 +65,93 @@ public class EditingContextInitializer implements IEditingContextProcessor {
 
     private final List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates;
 
-    public EditingContextInitializer(ISemanticDataSearchService semanticDataSearchService, IResourceLoader resourceLoader, List<IDomainProvider> domainProviders, IStudioColorPalettesLoader studioColorPalettesLoader, List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates) {
+    private final StudioDefinitionsCache studioDefinitionsCache;
+
+    public EditingContextInitializer(ISemanticDataSearchService semanticDataSearchService, IResourceLoader resourceLoader, List<IDomainProvider> domainProviders, IStudioColorPalettesLoader studioColorPalettesLoader, List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates, StudioDefinitionsCache studioDefinitionsCache) {
         this.semanticDataSearchService = Objects.requireNonNull(semanticDataSearchService);
         this.resourceLoader = Objects.requireNonNull(resourceLoader);
         this.domainProviders = Objects.requireNonNull(domainProviders);
         this.studioColorPalettesLoader = Objects.requireNonNull(studioColorPalettesLoader);
         this.migrationParticipantPredicates = Objects.requireNonNull(migrationParticipantPredicates);
+        this.studioDefinitionsCache = Objects.requireNonNull(studioDefinitionsCache);
     }
 
     @Override
     @Transactional(readOnly = true)
     public void preProcess(IEditingContext editingContext) {
         if (editingContext instanceof EditingContext siriusWebEditingContext) {
-            List<Domain> domains = new ArrayList<>();
-
-            this.domainProviders.stream()
+            List<Domain> providedDomains = this.domainProviders.stream()
                     .map(domainProvider -> domainProvider.getDomains(siriusWebEditingContext))
                     .flatMap(Collection::stream)
-                    .forEach(domains::add);
-
-            List<View> views = new ArrayList<>();
-
-            var allSemanticData = this.semanticDataSearchService.findAllByDomains(List.of(DomainPackage.eNS_URI, ViewPackage.eNS_URI));
-            for (var semanticData : allSemanticData) {
-                ResourceSet resourceSet = new ResourceSetImpl();
-
-                resourceSet.getPackageRegistry().put(DomainPackage.eNS_URI, DomainPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(ViewPackage.eNS_URI, ViewPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(DeckPackage.eNS_URI, DeckPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(DiagramPackage.eNS_URI, DiagramPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(FormPackage.eNS_URI, FormPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(GanttPackage.eNS_URI, GanttPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(TreePackage.eNS_URI, TreePackage.eINSTANCE);
-                this.studioColorPalettesLoader.loadStudioColorPalettes(resourceSet);
-
-                semanticData.getDocuments().forEach(document -> this.resourceLoader.toResource(resourceSet, document.getId().toString(), document.getName(), document.getContent(),
-                        this.migrationParticipantPredicates.stream().anyMatch(predicate -> predicate.test(editingContext))));
-                resourceSet.eAdapters().add(new EditingContextCrossReferenceAdapter());
-
-                var treeIterator = resourceSet.getAllContents();
-                while (treeIterator.hasNext()) {
-                    var next = treeIterator.next();
-                    if (next instanceof View view) {
-                        views.add(view);
-                        treeIterator.prune();
-                    } else if (next instanceof Domain domain) {
-                        domains.add(domain);
-                        treeIterator.prune();
-                    }
-                }
-            }
+                    .toList();
 
-            siriusWebEditingContext.getViews().addAll(views);
+            boolean isMigrationEnabled = this.migrationParticipantPredicates.stream().anyMatch(predicate -> predicate.test(editingContext));
+            var versions = this.semanticDataSearchService.findAllVersionsByDomains(List.of(DomainPackage.eNS_URI, ViewPackage.eNS_URI));
+            var studioDefinitions = this.studioDefinitionsCache.getOrLoad(versions, isMigrationEnabled, () -> this.loadStudioDefinitions(versions, isMigrationEnabled));
+
+            siriusWebEditingContext.getViews().addAll(studioDefinitions.views());
+
+            // The packages of the studios can only be shared if they do not have to be converted with other domains
+            Stream<EPackage> ePackages = studioDefinitions.ePackages().stream();
+            if (!providedDomains.isEmpty()) {
+                List<Domain> domains = new ArrayList<>(providedDomains);
+                domains.addAll(studioDefinitions.domains());
+                ePackages = new DomainConverter().convert(domains);
+            }
 
             var resourceSet = siriusWebEditingContext.getDomain().getResourceSet();
-            new DomainConverter().convert(domains).forEach(ePackage -> resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage));
+            ePackages.forEach(ePackage -> resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage));
         }
     }
+
+    /**
+     * Parses the documents of the studios and converts their domains.
+     *
+     * <p>
+     * The proxies are resolved and the packages frozen so that the definitions can be read by several editing contexts
+     * at the same time.
+     * </p>
+     */
+    private StudioDefinitions loadStudioDefinitions(List<SemanticDataVersion> versions, boolean isMigrationEnabled) {
+        List<View> views = new ArrayList<>();
+        List<Domain> domains = new ArrayList<>();
+
+        var allSemanticData = this.semanticDataSearchService.findAllByIds(versions.stream().map(SemanticDataVersion::id).toList());
+        for (var semanticData : allSemanticData) {
+            ResourceSet resourceSet = new ResourceSetImpl();
+
+            resourceSet.getPackageRegistry().put(DomainPackage.eNS_URI, DomainPackage.eINSTANCE);
+            resourceSet.getPackageRegistry().put(ViewPackage.eNS_URI, ViewPackage.eINSTANCE);
+            resourceSet.getPackageRegistry().put(DeckPackage.eNS_URI, DeckPackage.eINSTANCE);
+            resourceSet.getPackageRegistry().put(DiagramPackage.eNS_URI, DiagramPackage.eINSTANCE);
+            resourceSet.getPackageRegistry().put(FormPackage.eNS_URI, FormPackage.eINSTANCE);
+            resourceSet.getPackageRegistry().put(GanttPackage.eNS_URI, GanttPackage.eINSTANCE);
+            resourceSet.getPackageRegistry().put(TreePackage.eNS_URI, TreePackage.eINSTANCE);
+            this.studioColorPalettesLoader.loadStudioColorPalettes(resourceSet);
+
+            semanticData.getDocuments().forEach(document -> this.resourceLoader.toResource(resourceSet, document.getId().toString(), document.getName(), document.getContent(), isMigrationEnabled));
+            resourceSet.eAdapters().add(new EditingContextCrossReferenceAdapter());
+            EcoreUtil.resolveAll(resourceSet);
+
+            var treeIterator = resourceSet.getAllContents();
+            while (treeIterator.hasNext()) {
+                var next = treeIterator.next();
+                if (next instanceof View view) {
+                    views.add(view);
+                    treeIterator.prune();
+                } else if (next instanceof Domain domain) {
+                    domains.add(domain);
+                    treeIterator.prune();
+                }
+            }
+        }
+
+        List<EPackage> ePackages = new DomainConverter().convert(domains).toList();
+        ePackages.stream()
+                .filter(EPackageImpl.class::isInstance)
+                .map(EPackageImpl.class::cast)
+                .forEach(EPackageImpl::freeze);
+
+        return new StudioDefinitions(views, domains, ePackages);
+    }
 }
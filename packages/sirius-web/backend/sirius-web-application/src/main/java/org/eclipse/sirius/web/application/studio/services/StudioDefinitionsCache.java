@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.studio.services;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.sirius.components.domain.Domain;
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataVersion;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.events.ISemanticDataEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.events.SemanticDataUpdatedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps in memory the domains and views of the studios, shared by all the editing contexts.
+ *
+ * <p>
+ * Every editing context needs the domains and views of all the studios. They are thus only parsed, and the domains
+ * converted to packages, once for each version of the semantic data of the studios. The definitions are shared
+ * read-only by the editing contexts: their proxies are resolved and their packages frozen before they are cached, and
+ * the editing contexts never modify them. The representation descriptions are still converted from the views by each
+ * editing context since they capture the interpreter of the editing context. The studios are removed from the cache
+ * once their semantic data have been updated.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class StudioDefinitionsCache {
+
+    private final Map<StudioDefinitionsKey, StudioDefinitions> studios;
+
+    private long invalidationsCount;
+
+    public StudioDefinitionsCache(@Value("${sirius.web.studio.definitions.cacheSize:50}") int maximumSize) {
+        this.studios = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StudioDefinitionsKey, StudioDefinitions> eldest) {
+                return this.size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the definitions of the given versions of the studios.
+     *
+     * <p>
+     * The definitions are loaded with the given loader if they are not in the cache. They are not kept if the cache has
+     * been invalidated while they were loaded since they may have been loaded from outdated semantic data.
+     * </p>
+     *
+     * @param versions
+     *         The versions of the semantic data of the studios
+     * @param isMigrationEnabled
+     *         Indicates if the migration participants are applied while the documents of the studios are parsed
+     * @param loader
+     *         Used to load the definitions of the studios if they are not in the cache
+     * @return The definitions of the studios
+     */
+    public StudioDefinitions getOrLoad(List<SemanticDataVersion> versions, boolean isMigrationEnabled, Supplier<StudioDefinitions> loader) {
+        var key = new StudioDefinitionsKey(List.copyOf(versions), isMigrationEnabled);
+
+        long expectedInvalidationsCount;
+        synchronized (this) {
+            var cachedStudioDefinitions = this.studios.get(key);
+            if (cachedStudioDefinitions != null) {
+                return cachedStudioDefinitions;
+            }
+            expectedInvalidationsCount = this.invalidationsCount;
+        }
+
+        var studioDefinitions = loader.get();
+        synchronized (this) {
+            if (this.invalidationsCount == expectedInvalidationsCount) {
+                this.studios.put(key, studioDefinitions);
+            }
+        }
+        return studioDefinitions;
+    }
+
+    public synchronized void invalidate(UUID semanticDataId) {
+        this.invalidationsCount++;
+        this.studios.keySet().removeIf(key -> key.versions().stream().anyMatch(version -> version.id().equals(semanticDataId)));
+    }
+
+    @TransactionalEventListener
+    public void onSemanticDataEvent(ISemanticDataEvent event) {
+        if (event instanceof SemanticDataUpdatedEvent semanticDataUpdatedEvent) {
+            this.invalidate(semanticDataUpdatedEvent.semanticData().getId());
+        }
+    }
+
+    /**
+     * The domains and views of the studios, along with the packages converted from these domains.
+     *
+     * @param views
+     *         The views of the studios
+     * @param domains
+     *         The domains of the studios
+     * @param ePackages
+     *         The packages converted from the domains of the studios
+     * @author agent
+     */
+    public record StudioDefinitions(List<View> views, List<Domain> domains, List<EPackage> ePackages) {
+        public StudioDefinitions {
+            views = List.copyOf(Objects.requireNonNull(views));
+            domains = List.copyOf(Objects.requireNonNull(domains));
+            ePackages = List.copyOf(Objects.requireNonNull(ePackages));
+        }
+    }
+
+    /**
+     * The key of the definitions of some versions of the studios.
+     *
+     * @author agent
+     */
+    private record StudioDefinitionsKey(List<SemanticDataVersion> versions, boolean isMigrationEnabled) {
+    }
+}
@@ -12,23 +12,25 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.validation.services;
 
-import java.util.Collection;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
+import org.eclipse.emf.common.util.BasicDiagnostic;
 import org.eclipse.emf.common.util.Diagnostic;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EValidator;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.util.Diagnostician;
 import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
 import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
 import org.eclipse.emf.edit.provider.IItemLabelProvider;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IValidationService;
+import org.eclipse.sirius.components.emf.services.ModificationStampsAdapter;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.web.application.validation.OnValidationEnabled;
 import org.springframework.context.annotation.Conditional;
@@ -63,16 +65,12 @@ public class EMFValidationService implements IValidationService {
 
     @Override
     public List<Object> validate(Object object, Object feature) {
-        if (object instanceof EObject) {
-            Diagnostician diagnostician = this.getNewDiagnostician();
-            Diagnostic diagnostic = diagnostician.validate((EObject) object);
-            if (Diagnostic.OK != diagnostic.getSeverity()) {
-                return diagnostic.getChildren().stream()
-                        .filter(diag -> this.filterDiagnosticByObject(diag, object))
-                        .filter(diag -> this.filterDiagnosticByFeature(diag, feature))
-                        .map(Object.class::cast)
-                        .toList();
-            }
+        if (object instanceof EObject eObject) {
+            return this.getDiagnostics(eObject).stream()
+                    .filter(diag -> this.filterDiagnosticByObject(diag, object))
+                    .filter(diag -> this.filterDiagnosticByFeature(diag, feature))
+                    .map(Object.class::cast)
+                    .toList();
         }
 
         return List.of();
@@ -96,19 +94,60 @@ public class EMFValidationService implements IValidationService {
 
     private List<Object> validate(IEMFEditingContext editingContext) {
         AdapterFactoryEditingDomain domain = editingContext.getDomain();
+        ValidationDiagnosticsCache validationDiagnosticsCache = this.getValidationDiagnosticsCache(domain.getResourceSet());
 
-        Map<Object, Object> options = new HashMap<>();
-        options.put(Diagnostician.VALIDATE_RECURSIVELY, true);
-        Diagnostician diagnostician = this.getNewDiagnostician();
+        List<Object> diagnostics = new ArrayList<>();
+        for (Resource resource : List.copyOf(domain.getResourceSet().getResources())) {
+            var iterator = resource.getAllContents();
+            while (iterator.hasNext()) {
+                diagnostics.addAll(validationDiagnosticsCache.getDiagnostics(iterator.next(), this::validateWithoutContents));
+            }
+        }
+        validationDiagnosticsCache.removeDetachedObjects();
+        return diagnostics;
+    }
 
-        return domain.getResourceSet().getResources().stream()
-                .map(Resource::getContents)
-                .flatMap(Collection::stream)
-                .map(eObject -> diagnostician.validate(eObject, options))
-                .map(Diagnostic::getChildren)
-                .flatMap(Collection::stream)
-                .map(Object.class::cast)
-                .toList();
+    /**
+     * Returns the diagnostics of the given object, from the cache of its resource set if possible.
+     */
+    private List<Diagnostic> getDiagnostics(EObject eObject) {
+        return Optional.ofNullable(eObject.eResource())
+                .map(Resource::getResourceSet)
+                .map(this::getValidationDiagnosticsCache)
+                .map(validationDiagnosticsCache -> validationDiagnosticsCache.getDiagnostics(eObject, this::validateWithoutContents))
+                .orElseGet(() -> this.validateWithoutContents(eObject));
+    }
+
+    /**
+     * Returns the cache of the diagnostics of the given resource set.
+     *
+     * <p>
+     * The cache relies on the modification stamps of the resource set, which are installed with the cache if they are
+     * not already tracked.
+     * </p>
+     */
+    private ValidationDiagnosticsCache getValidationDiagnosticsCache(ResourceSet resourceSet) {
+        synchronized (resourceSet) {
+            return ValidationDiagnosticsCache.from(resourceSet).orElseGet(() -> {
+                var modificationStampsAdapter = ModificationStampsAdapter.from(resourceSet).orElseGet(() -> {
+                    var newModificationStampsAdapter = new ModificationStampsAdapter();
+                    resourceSet.eAdapters().add(newModificationStampsAdapter);
+                    return newModificationStampsAdapter;
+                });
+                var validationDiagnosticsCache = new ValidationDiagnosticsCache(modificationStampsAdapter);
+                resourceSet.eAdapters().add(validationDiagnosticsCache);
+                return validationDiagnosticsCache;
+            });
+        }
+    }
+
+    private List<Diagnostic> validateWithoutContents(EObject eObject) {
+        Diagnostician diagnostician = this.getNewDiagnostician();
+        BasicDiagnostic diagnostic = diagnostician.createDefaultDiagnostic(eObject);
+        Map<Object, Object> context = diagnostician.createDefaultContext();
+        context.put(Diagnostician.VALIDATE_RECURSIVELY, false);
+        diagnostician.validate(eObject.eClass(), eObject, diagnostic, context);
+        return List.copyOf(diagnostic.getChildren());
     }
 
     private Diagnostician getNewDiagnostician() {
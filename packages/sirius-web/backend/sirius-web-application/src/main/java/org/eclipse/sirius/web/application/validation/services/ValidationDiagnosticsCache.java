@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.validation.services;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.sirius.components.emf.services.ModificationStampsAdapter;
+
+/**
+ * Keeps the diagnostics of each object of a resource set until it is modified.
+ *
+ * <p>
+ * The diagnostics of an object are computed without validating its content. They are reused as long as neither the
+ * object nor one of its content has been modified, since the constraints of the containers of an object often depend
+ * on their content. The modifications are not tracked by this cache, it relies on the modification stamps of the
+ * resource set instead of adding another adapter on all the objects of the resource set.
+ * </p>
+ *
+ * @author agent
+ */
+public class ValidationDiagnosticsCache extends AdapterImpl {
+
+    private final ModificationStampsAdapter modificationStamps;
+
+    private final Map<EObject, StampedDiagnostics> diagnostics = new ConcurrentHashMap<>();
+
+    public ValidationDiagnosticsCache(ModificationStampsAdapter modificationStamps) {
+        this.modificationStamps = Objects.requireNonNull(modificationStamps);
+    }
+
+    public static Optional<ValidationDiagnosticsCache> from(ResourceSet resourceSet) {
+        return resourceSet.eAdapters().stream()
+                .filter(ValidationDiagnosticsCache.class::isInstance)
+                .map(ValidationDiagnosticsCache.class::cast)
+                .findFirst();
+    }
+
+    /**
+     * Returns the diagnostics of the given object.
+     *
+     * <p>
+     * The diagnostics of the objects which are not in the resource set are computed every time they are requested.
+     * </p>
+     *
+     * @param eObject
+     *         The object
+     * @param validator
+     *         Used to compute the diagnostics of the object if they are not known
+     * @return The diagnostics of the object
+     */
+    public List<Diagnostic> getDiagnostics(EObject eObject, Function<EObject, List<Diagnostic>> validator) {
+        var stampedDiagnostics = this.diagnostics.get(eObject);
+        if (stampedDiagnostics != null && !this.modificationStamps.isContentModifiedSince(eObject, stampedDiagnostics.stamp())) {
+            return stampedDiagnostics.diagnostics();
+        }
+
+        long stamp = this.modificationStamps.getCurrentStamp();
+        var eObjectDiagnostics = validator.apply(eObject);
+        if (eObject.eAdapters().contains(this.modificationStamps)) {
+            this.diagnostics.put(eObject, new StampedDiagnostics(stamp, eObjectDiagnostics));
+        } else {
+            this.diagnostics.remove(eObject);
+        }
+        return eObjectDiagnostics;
+    }
+
+    /**
+     * Forgets the diagnostics of the objects which have been removed from the resource set.
+     */
+    public void removeDetachedObjects() {
+        this.diagnostics.keySet().removeIf(eObject -> !eObject.eAdapters().contains(this.modificationStamps));
+    }
+
+    /**
+     * The diagnostics of an object along with the stamp of their computation.
+     *
+     * @param stamp
+     *         The modification stamp of the resource set before the computation of the diagnostics
+     * @param diagnostics
+     *         The diagnostics
+     * @author agent
+     */
+    private record StampedDiagnostics(long stamp, List<Diagnostic> diagnostics) {
+    }
+}
@@ -18,6 +18,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationData;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationDataContentOnly;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationDataMetadataOnly;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.repositories.IRepresentationDataRepository;
@@ -59,6 +60,11 @@ public class RepresentationDataSearchService implements IRepresentationDataSearc
         return this.representationDataRepository.findMetadataById(id);
     }
 
+    @Override
+    public List<RepresentationData> findAllByIds(List<UUID> ids) {
+        return this.representationDataRepository.findAllById(ids);
+    }
+
     @Override
     public List<RepresentationDataMetadataOnly> findAllMetadataByProject(AggregateReference<Project, UUID> project) {
         return this.representationDataRepository.findAllMetadataByProjectId(project.getId());
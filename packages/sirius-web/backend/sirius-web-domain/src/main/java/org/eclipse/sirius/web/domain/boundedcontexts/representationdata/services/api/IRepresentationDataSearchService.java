@@ -17,6 +17,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationData;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationDataContentOnly;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationDataMetadataOnly;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
@@ -36,6 +37,8 @@ public interface IRepresentationDataSearchService {
 
     Optional<RepresentationDataMetadataOnly> findMetadataById(UUID id);
 
+    List<RepresentationData> findAllByIds(List<UUID> ids);
+
     List<RepresentationDataMetadataOnly> findAllMetadataByProject(AggregateReference<Project, UUID> project);
 
     List<RepresentationDataMetadataOnly> findAllMetadataByTargetObjectId(String targetObjectId);
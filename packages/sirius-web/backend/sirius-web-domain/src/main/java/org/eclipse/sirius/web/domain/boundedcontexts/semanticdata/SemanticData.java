@@ -17,6 +17,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -45,6 +46,9 @@ public class SemanticData extends AbstractValidatingAggregateRoot<SemanticData>
     @Transient
     private boolean isNew;
 
+    @Transient
+    private SemanticDataDocumentsChange documentsChange;
+
     @Id
     private UUID id;
 
@@ -91,11 +95,49 @@ public class SemanticData extends AbstractValidatingAggregateRoot<SemanticData>
         return this.isNew;
     }
 
+    /**
+     * Returns the changes performed on the documents and domains by the last update, if any.
+     *
+     * @return The changes of the documents and domains
+     */
+    public Optional<SemanticDataDocumentsChange> getDocumentsChange() {
+        return Optional.ofNullable(this.documentsChange);
+    }
+
     public void updateDocuments(ICause cause, Set<Document> newDocuments, Set<String> domainUris) {
+        var documentIds = newDocuments.stream()
+                .map(Document::getId)
+                .collect(Collectors.toSet());
+        this.updateChangedDocuments(cause, newDocuments, documentIds, domainUris);
+    }
+
+    /**
+     * Updates only the given documents while keeping the existing documents which have not changed.
+     *
+     * @param cause
+     *         The cause of the update
+     * @param changedDocuments
+     *         The documents which may have been created or modified
+     * @param documentIds
+     *         The identifiers of all the documents which should be kept, the existing documents which are not in this
+     *         set will be removed
+     * @param domainUris
+     *         The URIs of all the domains used by the documents
+     */
+    public void updateChangedDocuments(ICause cause, Set<Document> changedDocuments, Set<UUID> documentIds, Set<String> domainUris) {
         boolean shouldBeUpdated = false;
 
+        var changedDocumentIds = changedDocuments.stream()
+                .map(Document::getId)
+                .collect(Collectors.toSet());
+
         Set<Document> documentsToSet = new LinkedHashSet<>();
-        for (var document : newDocuments) {
+        this.documents.stream()
+                .filter(existingDocument -> documentIds.contains(existingDocument.getId()))
+                .filter(existingDocument -> !changedDocumentIds.contains(existingDocument.getId()))
+                .forEach(documentsToSet::add);
+
+        for (var document : changedDocuments) {
             var optionalExistingDocument = this.documents.stream()
                     .filter(existingDocument -> existingDocument.getId().equals(document.getId()))
                     .findFirst();
@@ -139,15 +181,44 @@ public class SemanticData extends AbstractValidatingAggregateRoot<SemanticData>
     }
 
     private void doUpdateDocuments(ICause cause, Set<Document> newDocuments, Set<String> domainUris) {
-        this.documents = newDocuments;
-        this.domains = domainUris.stream()
+        var newDomains = domainUris.stream()
                 .map(SemanticDataDomain::new)
                 .collect(Collectors.toSet());
+        this.documentsChange = this.computeDocumentsChange(newDocuments, newDomains);
+
+        this.documents = newDocuments;
+        this.domains = newDomains;
 
         this.lastModifiedOn = Instant.now();
         this.registerEvent(new SemanticDataUpdatedEvent(UUID.randomUUID(), this.lastModifiedOn, cause, this));
     }
 
+    private SemanticDataDocumentsChange computeDocumentsChange(Set<Document> newDocuments, Set<SemanticDataDomain> newDomains) {
+        // Documents which have been reused are the very same instances as the existing ones
+        var savedDocuments = newDocuments.stream()
+                .filter(newDocument -> this.documents.stream().noneMatch(existingDocument -> existingDocument == newDocument))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        var newDocumentIds = newDocuments.stream()
+                .map(Document::getId)
+                .collect(Collectors.toSet());
+        var deletedDocumentIds = this.documents.stream()
+                .map(Document::getId)
+                .filter(documentId -> !newDocumentIds.contains(documentId))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        var addedDomainUris = newDomains.stream()
+                .filter(newDomain -> !this.domains.contains(newDomain))
+                .map(SemanticDataDomain::uri)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        var deletedDomainUris = this.domains.stream()
+                .filter(existingDomain -> !newDomains.contains(existingDomain))
+                .map(SemanticDataDomain::uri)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        return new SemanticDataDocumentsChange(savedDocuments, deletedDocumentIds, addedDomainUris, deletedDomainUris);
+    }
+
     public static Builder newSemanticData() {
         return new Builder();
     }
@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The documents created or modified and the documents deleted by an update of some semantic data along with the domains
+ * added or removed.
+ *
+ * @author agent
+ */
+public record SemanticDataDocumentsChange(
+        Set<Document> savedDocuments,
+        Set<UUID> deletedDocumentIds,
+        Set<String> addedDomainUris,
+        Set<String> deletedDomainUris) {
+
+    public SemanticDataDocumentsChange {
+        Objects.requireNonNull(savedDocuments);
+        Objects.requireNonNull(deletedDocumentIds);
+        Objects.requireNonNull(addedDomainUris);
+        Objects.requireNonNull(deletedDomainUris);
+    }
+}
@@ -17,6 +17,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataVersion;
 import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.ListCrudRepository;
 import org.springframework.data.repository.ListPagingAndSortingRepository;
@@ -28,7 +29,7 @@ import org.springframework.stereotype.Repository;
  * @author sbegaudeau
  */
 @Repository
-public interface ISemanticDataRepository extends ListPagingAndSortingRepository<SemanticData, UUID>, ListCrudRepository<SemanticData, UUID> {
+public interface ISemanticDataRepository extends ListPagingAndSortingRepository<SemanticData, UUID>, ListCrudRepository<SemanticData, UUID>, SemanticDataDocumentsRepository<SemanticData> {
 
     @Query("""
         SELECT *
@@ -46,4 +47,14 @@ public interface ISemanticDataRepository extends ListPagingAndSortingRepository<
         GROUP BY semanticData.id
         """)
     List<SemanticData> findAllByDomains(List<String> domainUris);
+
+    @Query("""
+        SELECT semanticData.id, semanticData.last_modified_on
+        FROM semantic_data semanticData
+        JOIN semantic_data_domain semanticDataDomain
+        ON semanticData.id = semanticDataDomain.semantic_data_id
+        WHERE semanticDataDomain.uri IN (:domainUris)
+        GROUP BY semanticData.id
+        """)
+    List<SemanticDataVersion> findAllVersionsByDomains(List<String> domainUris);
 }
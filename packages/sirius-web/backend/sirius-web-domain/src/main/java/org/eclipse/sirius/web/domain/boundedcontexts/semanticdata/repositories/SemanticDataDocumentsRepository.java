@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories;
+
+/**
+ * Fragment of the semantic data repository used to persist only the documents and domains which have changed.
+ *
+ * <p>
+ * The name of the method starts with <code>save</code> and it takes the aggregate as its single parameter so that the
+ * domain events registered by the aggregate are published just like with a regular save.
+ * </p>
+ *
+ * @param <T>
+ *         The type of the aggregate
+ * @author agent
+ */
+public interface SemanticDataDocumentsRepository<T> {
+    void saveDocuments(T semanticData);
+}
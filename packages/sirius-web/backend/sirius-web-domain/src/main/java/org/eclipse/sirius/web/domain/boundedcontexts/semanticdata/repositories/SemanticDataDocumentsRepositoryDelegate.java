@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataDocumentsChange;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories.api.ISemanticDataDocumentsRepositoryDelegate;
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
+import org.springframework.data.jdbc.core.JdbcAggregateOperations;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+
+/**
+ * Persists only the rows of the documents and domains which have changed instead of rewriting the whole aggregate.
+ *
+ * @author agent
+ */
+@Service
+public class SemanticDataDocumentsRepositoryDelegate implements ISemanticDataDocumentsRepositoryDelegate {
+
+    private static final String UPSERT_DOCUMENT = """
+        INSERT INTO document (id, semantic_data_id, name, content, created_on, last_modified_on)
+        VALUES (:id, :semanticDataId, :name, :content, :createdOn, :lastModifiedOn)
+        ON CONFLICT (id) DO UPDATE
+        SET name = EXCLUDED.name, content = EXCLUDED.content, last_modified_on = EXCLUDED.last_modified_on
+        WHERE document.semantic_data_id = EXCLUDED.semantic_data_id
+        """;
+
+    private static final String DELETE_DOCUMENTS = """
+        DELETE FROM document
+        WHERE semantic_data_id = :semanticDataId AND id IN (:documentIds)
+        """;
+
+    private static final String INSERT_DOMAIN = """
+        INSERT INTO semantic_data_domain (semantic_data_id, uri)
+        VALUES (:semanticDataId, :uri)
+        ON CONFLICT DO NOTHING
+        """;
+
+    private static final String DELETE_DOMAINS = """
+        DELETE FROM semantic_data_domain
+        WHERE semantic_data_id = :semanticDataId AND uri IN (:uris)
+        """;
+
+    private static final String UPDATE_LAST_MODIFIED_ON = """
+        UPDATE semantic_data
+        SET last_modified_on = :lastModifiedOn
+        WHERE id = :semanticDataId
+        """;
+
+    private static final String SEMANTIC_DATA_ID = "semanticDataId";
+
+    private final JdbcAggregateOperations jdbcAggregateOperations;
+
+    private final NamedParameterJdbcOperations namedParameterJdbcOperations;
+
+    public SemanticDataDocumentsRepositoryDelegate(JdbcAggregateOperations jdbcAggregateOperations, NamedParameterJdbcOperations namedParameterJdbcOperations) {
+        this.jdbcAggregateOperations = Objects.requireNonNull(jdbcAggregateOperations);
+        this.namedParameterJdbcOperations = Objects.requireNonNull(namedParameterJdbcOperations);
+    }
+
+    @Override
+    public void saveDocuments(SemanticData semanticData) {
+        if (semanticData.isNew()) {
+            this.jdbcAggregateOperations.save(semanticData);
+        } else {
+            semanticData.getDocumentsChange().ifPresent(documentsChange -> this.saveDocumentsChange(semanticData, documentsChange));
+        }
+    }
+
+    private void saveDocumentsChange(SemanticData semanticData, SemanticDataDocumentsChange documentsChange) {
+        var semanticDataId = semanticData.getId();
+
+        if (!documentsChange.deletedDocumentIds().isEmpty()) {
+            var parameters = Map.of(SEMANTIC_DATA_ID, semanticDataId, "documentIds", documentsChange.deletedDocumentIds());
+            this.namedParameterJdbcOperations.update(DELETE_DOCUMENTS, parameters);
+        }
+
+        if (!documentsChange.savedDocuments().isEmpty()) {
+            var batchParameters = documentsChange.savedDocuments().stream()
+                    .map(document -> new MapSqlParameterSource()
+                            .addValue("id", document.getId())
+                            .addValue(SEMANTIC_DATA_ID, semanticDataId)
+                            .addValue("name", document.getName())
+                            .addValue("content", document.getContent())
+                            .addValue("createdOn", Timestamp.from(document.getCreatedOn()))
+                            .addValue("lastModifiedOn", Timestamp.from(document.getLastModifiedOn())))
+                    .toArray(SqlParameterSource[]::new);
+            int[] updateCounts = this.namedParameterJdbcOperations.batchUpdate(UPSERT_DOCUMENT, batchParameters);
+            if (Arrays.stream(updateCounts).anyMatch(updateCount -> updateCount == 0)) {
+                throw new IncorrectUpdateSemanticsDataAccessException("A document of the semantic data " + semanticDataId + " is already owned by other semantic data");
+            }
+        }
+
+        if (!documentsChange.deletedDomainUris().isEmpty()) {
+            var parameters = Map.of(SEMANTIC_DATA_ID, semanticDataId, "uris", documentsChange.deletedDomainUris());
+            this.namedParameterJdbcOperations.update(DELETE_DOMAINS, parameters);
+        }
+
+        if (!documentsChange.addedDomainUris().isEmpty()) {
+            var batchParameters = documentsChange.addedDomainUris().stream()
+                    .map(uri -> new MapSqlParameterSource()
+                            .addValue(SEMANTIC_DATA_ID, semanticDataId)
+                            .addValue("uri", uri))
+                    .toArray(SqlParameterSource[]::new);
+            this.namedParameterJdbcOperations.batchUpdate(INSERT_DOMAIN, batchParameters);
+        }
+
+        var parameters = Map.of(SEMANTIC_DATA_ID, semanticDataId, "lastModifiedOn", Timestamp.from(semanticData.getLastModifiedOn()));
+        this.namedParameterJdbcOperations.update(UPDATE_LAST_MODIFIED_ON, parameters);
+    }
+}
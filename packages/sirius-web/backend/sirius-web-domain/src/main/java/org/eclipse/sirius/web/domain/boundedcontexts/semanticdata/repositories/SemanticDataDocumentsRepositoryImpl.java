@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories.api.ISemanticDataDocumentsRepositoryDelegate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Implementation of the semantic data documents repository fragment.
+ *
+ * @author agent
+ */
+@Repository
+public class SemanticDataDocumentsRepositoryImpl implements SemanticDataDocumentsRepository<SemanticData> {
+
+    private final ISemanticDataDocumentsRepositoryDelegate semanticDataDocumentsRepositoryDelegate;
+
+    public SemanticDataDocumentsRepositoryImpl(ISemanticDataDocumentsRepositoryDelegate semanticDataDocumentsRepositoryDelegate) {
+        this.semanticDataDocumentsRepositoryDelegate = Objects.requireNonNull(semanticDataDocumentsRepositoryDelegate);
+    }
+
+    @Override
+    public void saveDocuments(SemanticData semanticData) {
+        this.semanticDataDocumentsRepositoryDelegate.saveDocuments(semanticData);
+    }
+}
@@ -0,0 +1,24 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories.api;
+
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories.SemanticDataDocumentsRepository;
+
+/**
+ * Delegate used to persist the documents and domains which have changed.
+ *
+ * @author agent
+ */
+public interface ISemanticDataDocumentsRepositoryDelegate extends SemanticDataDocumentsRepository<SemanticData> {
+}
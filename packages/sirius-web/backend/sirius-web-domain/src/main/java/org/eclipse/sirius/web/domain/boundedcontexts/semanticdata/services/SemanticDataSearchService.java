@@ -19,6 +19,7 @@ import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataVersion;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories.ISemanticDataRepository;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
@@ -47,4 +48,14 @@ public class SemanticDataSearchService implements ISemanticDataSearchService {
     public List<SemanticData> findAllByDomains(List<String> domainUris) {
         return this.semanticDataRepository.findAllByDomains(domainUris);
     }
+
+    @Override
+    public List<SemanticDataVersion> findAllVersionsByDomains(List<String> domainUris) {
+        return this.semanticDataRepository.findAllVersionsByDomains(domainUris);
+    }
+
+    @Override
+    public List<SemanticData> findAllByIds(List<UUID> semanticDataIds) {
+        return this.semanticDataRepository.findAllById(semanticDataIds);
+    }
 }
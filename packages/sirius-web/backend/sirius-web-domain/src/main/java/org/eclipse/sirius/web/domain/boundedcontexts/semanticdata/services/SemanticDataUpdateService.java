@@ -42,7 +42,15 @@ public class SemanticDataUpdateService implements ISemanticDataUpdateService {
     public void updateDocuments(ICause cause, AggregateReference<Project, UUID> project, Set<Document> documents, Set<String> domainUris) {
         this.semanticDataRepository.findByProjectId(project.getId()).ifPresent(semanticData -> {
             semanticData.updateDocuments(cause, documents, domainUris);
-            this.semanticDataRepository.save(semanticData);
+            this.semanticDataRepository.saveDocuments(semanticData);
+        });
+    }
+
+    @Override
+    public void updateChangedDocuments(ICause cause, AggregateReference<Project, UUID> project, Set<Document> changedDocuments, Set<UUID> documentIds, Set<String> domainUris) {
+        this.semanticDataRepository.findByProjectId(project.getId()).ifPresent(semanticData -> {
+            semanticData.updateChangedDocuments(cause, changedDocuments, documentIds, domainUris);
+            this.semanticDataRepository.saveDocuments(semanticData);
         });
     }
 }
@@ -18,6 +18,7 @@ import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataVersion;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 
 /**
@@ -30,4 +31,8 @@ public interface ISemanticDataSearchService {
     Optional<SemanticData> findByProject(AggregateReference<Project, UUID> project);
 
     List<SemanticData> findAllByDomains(List<String> domainUris);
+
+    List<SemanticDataVersion> findAllVersionsByDomains(List<String> domainUris);
+
+    List<SemanticData> findAllByIds(List<UUID> semanticDataIds);
 }
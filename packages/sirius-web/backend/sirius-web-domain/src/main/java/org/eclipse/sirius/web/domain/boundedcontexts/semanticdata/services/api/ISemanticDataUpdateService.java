@@ -27,4 +27,6 @@ import org.springframework.data.jdbc.core.mapping.AggregateReference;
  */
 public interface ISemanticDataUpdateService {
     void updateDocuments(ICause cause, AggregateReference<Project, UUID> project, Set<Document> documents, Set<String> domainUris);
+
+    void updateChangedDocuments(ICause cause, AggregateReference<Project, UUID> project, Set<Document> changedDocuments, Set<UUID> documentIds, Set<String> domainUris);
 }
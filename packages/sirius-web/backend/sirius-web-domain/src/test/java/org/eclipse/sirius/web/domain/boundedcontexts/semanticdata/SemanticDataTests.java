@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+
+/**
+ * Tests of the semantic data aggregate.
+ *
+ * @author agent
+ */
+public class SemanticDataTests {
+
+    private static final String ECORE_URI = "http://www.eclipse.org/emf/2002/Ecore";
+
+    private static final String DOMAIN_URI = "domain://sample";
+
+    private static final String EMPTY_CONTENT = "{}";
+
+    @Test
+    public void testOnlyChangedDocumentsAreSaved() {
+        var unchangedDocument = Document.newDocument(UUID.randomUUID()).name("unchanged").content(EMPTY_CONTENT).build();
+        var modifiedDocument = Document.newDocument(UUID.randomUUID()).name("modified").content(EMPTY_CONTENT).build();
+        var deletedDocument = Document.newDocument(UUID.randomUUID()).name("deleted").content(EMPTY_CONTENT).build();
+
+        var semanticData = SemanticData.newSemanticData()
+                .project(AggregateReference.<Project, UUID>to(UUID.randomUUID()))
+                .documents(Set.of(unchangedDocument, modifiedDocument, deletedDocument))
+                .domains(List.of(ECORE_URI))
+                .build(new ICause.NoOp());
+        assertThat(semanticData.getDocumentsChange()).isEmpty();
+
+        var newContent = Document.newDocument(modifiedDocument.getId()).name("modified").content("{\"content\": []}").build();
+        var createdDocument = Document.newDocument(UUID.randomUUID()).name("created").content(EMPTY_CONTENT).build();
+        var documentIds = Set.of(unchangedDocument.getId(), modifiedDocument.getId(), createdDocument.getId());
+        semanticData.updateChangedDocuments(new ICause.NoOp(), Set.of(newContent, createdDocument), documentIds, Set.of(ECORE_URI, DOMAIN_URI));
+
+        assertThat(semanticData.getDocuments()).hasSize(3).contains(unchangedDocument);
+        assertThat(semanticData.getDocumentsChange()).hasValueSatisfying(documentsChange -> {
+            assertThat(documentsChange.savedDocuments()).extracting(Document::getId).containsExactlyInAnyOrder(modifiedDocument.getId(), createdDocument.getId());
+            assertThat(documentsChange.deletedDocumentIds()).containsExactly(deletedDocument.getId());
+            assertThat(documentsChange.addedDomainUris()).containsExactly(DOMAIN_URI);
+            assertThat(documentsChange.deletedDomainUris()).isEmpty();
+        });
+    }
+
+    @Test
+    public void testNothingIsSavedWithoutChanges() {
+        var document = Document.newDocument(UUID.randomUUID()).name("document").content(EMPTY_CONTENT).build();
+        var semanticData = SemanticData.newSemanticData()
+                .project(AggregateReference.<Project, UUID>to(UUID.randomUUID()))
+                .documents(Set.of(document))
+                .domains(List.of(ECORE_URI))
+                .build(new ICause.NoOp());
+
+        var sameDocument = Document.newDocument(document.getId()).name("document").content(EMPTY_CONTENT).build();
+        semanticData.updateDocuments(new ICause.NoOp(), Set.of(sameDocument), Set.of(ECORE_URI));
+
+        assertThat(semanticData.getDocumentsChange()).isEmpty();
+    }
+}
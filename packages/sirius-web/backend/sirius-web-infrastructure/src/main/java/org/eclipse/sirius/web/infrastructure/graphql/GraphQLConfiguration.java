@@ -30,6 +30,7 @@ import graphql.execution.AsyncExecutionStrategy;
 import graphql.execution.AsyncSerialExecutionStrategy;
 import graphql.execution.DataFetcherExceptionHandler;
 import graphql.execution.ExecutionStrategy;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
 import graphql.schema.GraphQLCodeRegistry;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.idl.RuntimeWiring;
@@ -54,7 +55,7 @@ public class GraphQLConfiguration {
     private final Logger logger = LoggerFactory.getLogger(GraphQLConfiguration.class);
 
     @Bean
-    public GraphQL graphQL(GraphQLSchema graphQLSchema) {
+    public GraphQL graphQL(GraphQLSchema graphQLSchema, PreparsedDocumentProvider preparsedDocumentProvider) {
         var options = SchemaPrinter.Options.defaultOptions();
         String schema = new SchemaPrinter(options).print(graphQLSchema);
 
@@ -69,6 +70,7 @@ public class GraphQLConfiguration {
         return GraphQL.newGraphQL(graphQLSchema)
                 .queryExecutionStrategy(queryExecutionStrategy)
                 .mutationExecutionStrategy(mutationExecutionStrategy)
+                .preparsedDocumentProvider(preparsedDocumentProvider)
                 .build();
         // @formatter:on
     }
@@ -173,6 +173,15 @@ public class ProjectDownloadControllerIntegrationTests extends AbstractIntegrati
         }
     }
 
+    @Test
+    @DisplayName("Given an unknown project, when its download is requested, then an error status is returned")
+    public void givenUnknownProjectWhenItsDownloadIsRequestedThenAnErrorStatusIsReturned() {
+        var uri = "http://localhost:" + this.port + "/api/projects/" + UUID.randomUUID();
+
+        var response = new TestRestTemplate().exchange(uri, HttpMethod.GET, new HttpEntity<>(null, new HttpHeaders()), Resource.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
     private ResponseEntity<Resource> download(UUID projectId) {
         var uri = "http://localhost:" + this.port + "/api/projects/" + projectId.toString();
 
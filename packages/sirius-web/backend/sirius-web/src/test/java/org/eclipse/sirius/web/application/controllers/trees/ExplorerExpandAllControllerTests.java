@@ -185,6 +185,8 @@ public class ExplorerExpandAllControllerTests extends AbstractIntegrationTests {
             var result = this.expandAllTreePathQueryRunner.run(variables);
             List<String> treeItemIdsToExpand = JsonPath.read(result, "$.data.viewer.editingContext.expandAllTreePath.treeItemIdsToExpand");
             assertThat(treeItemIdsToExpand).isNotEmpty();
+            boolean truncated = JsonPath.read(result, "$.data.viewer.editingContext.expandAllTreePath.truncated");
+            assertThat(truncated).isFalse();
 
             treeItemIds.set(treeItemIdsToExpand);
         };
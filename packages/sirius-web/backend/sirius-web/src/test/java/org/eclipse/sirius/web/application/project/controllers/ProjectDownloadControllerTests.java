@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.project.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.application.project.services.api.IProjectExportService;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.services.api.IProjectSearchService;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * Unit tests of the download of a project.
+ *
+ * @author agent
+ */
+public class ProjectDownloadControllerTests {
+
+    private static final String PROJECTS_PATH = "/api/projects/";
+
+    private static final String ARCHIVE_CONTENT = "archive";
+
+    private final Project project = Project.newProject().name("Project").natures(List.of()).build(new ICause.NoOp());
+
+    private final AtomicInteger exportsCount = new AtomicInteger();
+
+    @Test
+    public void testUnknownProjectIsNotFound() throws Exception {
+        var mockMvc = this.createMockMvc(Optional.empty(), Optional.of(new IEditingContext.NoOp()));
+
+        mockMvc.perform(get(PROJECTS_PATH + this.project.getId()))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isNotFound());
+        assertThat(this.exportsCount.get()).isZero();
+    }
+
+    @Test
+    public void testProjectWithoutEditingContextIsAnErrorBeforeAnythingIsSent() throws Exception {
+        var mockMvc = this.createMockMvc(Optional.of(this.project), Optional.empty());
+
+        mockMvc.perform(get(PROJECTS_PATH + this.project.getId()))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isInternalServerError())
+                .andExpect(header().doesNotExist("Content-Disposition"));
+        assertThat(this.exportsCount.get()).isZero();
+    }
+
+    @Test
+    public void testArchiveIsWrittenInTheResponse() throws Exception {
+        var mockMvc = this.createMockMvc(Optional.of(this.project), Optional.of(new IEditingContext.NoOp()));
+
+        var result = mockMvc.perform(get(PROJECTS_PATH + this.project.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/zip"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"Project.zip\""))
+                .andExpect(content().string(ARCHIVE_CONTENT));
+        assertThat(this.exportsCount.get()).isEqualTo(1);
+    }
+
+    private MockMvc createMockMvc(Optional<Project> optionalProject, Optional<IEditingContext> optionalEditingContext) {
+        IProjectSearchService projectSearchService = new IProjectSearchService() {
+            @Override
+            public boolean existsById(UUID projectId) {
+                return optionalProject.isPresent();
+            }
+
+            @Override
+            public Optional<Project> findById(UUID projectId) {
+                return optionalProject;
+            }
+
+            @Override
+            public Page<Project> findAll(Pageable pageable) {
+                return Page.empty();
+            }
+        };
+        IEditingContextSearchService editingContextSearchService = new IEditingContextSearchService() {
+            @Override
+            public boolean existsById(String editingContextId) {
+                return optionalEditingContext.isPresent();
+            }
+
+            @Override
+            public Optional<IEditingContext> findById(String editingContextId) {
+                return optionalEditingContext;
+            }
+        };
+        IProjectExportService projectExportService = (Project exportedProject, IEditingContext editingContext, OutputStream outputStream) -> {
+            this.exportsCount.incrementAndGet();
+            try {
+                outputStream.write(ARCHIVE_CONTENT.getBytes(StandardCharsets.UTF_8));
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        };
+
+        var controller = new ProjectDownloadController(projectSearchService, editingContextSearchService, projectExportService, Duration.ofMinutes(1), 1, 1);
+        return MockMvcBuilders.standaloneSetup(controller).build();
+    }
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.project.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.application.representation.services.InMemoryRepresentationDataSearchService;
+import org.eclipse.sirius.web.application.representation.services.RepresentationDataMigrationService;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the streaming of the export of a project.
+ *
+ * @author agent
+ */
+public class ProjectExportServiceTests {
+
+    private static final int REPRESENTATIONS_COUNT = 120;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testRepresentationsAreExportedByBatches() throws IOException {
+        Project project = Project.newProject().name("Project").natures(List.of()).build(new ICause.NoOp());
+        var representationDataSearchService = new InMemoryRepresentationDataSearchService();
+        List<String> expectedEntryNames = new ArrayList<>();
+        for (int i = 0; i < REPRESENTATIONS_COUNT; i++) {
+            var representationMetadata = representationDataSearchService.add(project.getId(), "targetObjectId" + i);
+            expectedEntryNames.add(project.getName() + "/representations/" + representationMetadata.id() + ".json");
+        }
+        expectedEntryNames.add(project.getName() + "/manifest.json");
+
+        var outputStream = new ByteArrayOutputStream();
+        this.createProjectExportService(representationDataSearchService).export(project, this.createEditingContext(project), outputStream);
+
+        List<String> entryNames = new ArrayList<>();
+        try (var zipInputStream = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            ZipEntry zipEntry = zipInputStream.getNextEntry();
+            while (zipEntry != null) {
+                entryNames.add(zipEntry.getName());
+                if (zipEntry.getName().endsWith("/manifest.json")) {
+                    var manifest = this.objectMapper.readTree(zipInputStream.readAllBytes());
+                    assertThat(manifest.get("representations").size()).isEqualTo(REPRESENTATIONS_COUNT);
+                }
+                zipEntry = zipInputStream.getNextEntry();
+            }
+        }
+
+        assertThat(entryNames).containsExactlyElementsOf(expectedEntryNames);
+        assertThat(representationDataSearchService.getBatchLoadsCount()).isGreaterThan(1);
+    }
+
+    @Test
+    public void testWriteFailuresAreNotIgnored() {
+        Project project = Project.newProject().name("Project").natures(List.of()).build(new ICause.NoOp());
+        var representationDataSearchService = new InMemoryRepresentationDataSearchService();
+        representationDataSearchService.add(project.getId(), "targetObjectId");
+
+        OutputStream failingOutputStream = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("The connection has been closed");
+            }
+        };
+
+        var projectExportService = this.createProjectExportService(representationDataSearchService);
+        var editingContext = this.createEditingContext(project);
+        assertThatThrownBy(() -> projectExportService.export(project, editingContext, failingOutputStream)).isInstanceOf(UncheckedIOException.class);
+    }
+
+    private IEditingContext createEditingContext(Project project) {
+        var editingDomain = new AdapterFactoryEditingDomain(new ComposedAdapterFactory(), new BasicCommandStack(), new ResourceSetImpl());
+        return new IEMFEditingContext() {
+            @Override
+            public String getId() {
+                return project.getId().toString();
+            }
+
+            @Override
+            public AdapterFactoryEditingDomain getDomain() {
+                return editingDomain;
+            }
+        };
+    }
+
+    private ProjectExportService createProjectExportService(InMemoryRepresentationDataSearchService representationDataSearchService) {
+        var representationDataMigrationService = new RepresentationDataMigrationService(this.objectMapper, List.of());
+        var representationDataExportParticipant = new ProjectRepresentationDataExportParticipant(representationDataSearchService, this.objectMapper, representationDataMigrationService);
+        return new ProjectExportService(List.of(representationDataExportParticipant), this.objectMapper);
+    }
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.ENamedElement;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.components.core.api.IObjectSearchService;
+import org.eclipse.sirius.components.emf.services.EObjectIndexAdapter;
+import org.eclipse.sirius.components.emf.services.IDAdapter;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataDeletionService;
+import org.eclipse.sirius.web.domain.services.Success;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the deletion of the representations whose target object has been removed.
+ *
+ * @author agent
+ */
+public class DanglingRepresentationDeletionServiceTests {
+
+    @Test
+    public void testOnlyTheRepresentationsOfTheObjectsRemovedAreDeleted() {
+        UUID projectId = UUID.randomUUID();
+
+        EPackage ePackage = this.create(EcoreFactory.eINSTANCE.createEPackage());
+        EPackage otherEPackage = this.create(EcoreFactory.eINSTANCE.createEPackage());
+        EClass removedEClass = this.create(EcoreFactory.eINSTANCE.createEClass());
+        var removedEAttribute = this.create(EcoreFactory.eINSTANCE.createEAttribute());
+        removedEClass.getEStructuralFeatures().add(removedEAttribute);
+        EClass movedEClass = this.create(EcoreFactory.eINSTANCE.createEClass());
+        ePackage.getEClassifiers().addAll(List.of(removedEClass, movedEClass));
+
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource resource = new ResourceImpl();
+        resource.getContents().addAll(List.of(ePackage, otherEPackage));
+        resourceSet.getResources().add(resource);
+        resourceSet.eAdapters().add(new EObjectIndexAdapter());
+
+        var representationDataSearchService = new InMemoryRepresentationDataSearchService();
+        var removedEClassRepresentation = representationDataSearchService.add(projectId, this.getId(removedEClass));
+        var removedEAttributeRepresentation = representationDataSearchService.add(projectId, this.getId(removedEAttribute));
+        representationDataSearchService.add(projectId, this.getId(movedEClass));
+        representationDataSearchService.add(projectId, this.getId(ePackage));
+        representationDataSearchService.add(UUID.randomUUID(), this.getId(removedEClass));
+
+        List<UUID> deletedRepresentationIds = new ArrayList<>();
+        IRepresentationDataDeletionService representationDataDeletionService = (cause, representationDataId) -> {
+            deletedRepresentationIds.add(representationDataId);
+            return new Success<>(null);
+        };
+        var danglingRepresentationDeletionService = new DanglingRepresentationDeletionService(new IObjectSearchService.NoOp(), representationDataSearchService, representationDataDeletionService,
+                new RepresentationTargetObjectIndex(representationDataSearchService, 1));
+
+        ePackage.getEClassifiers().remove(removedEClass);
+        otherEPackage.getEClassifiers().add(movedEClass);
+
+        var editingContext = this.createEditingContext(projectId, resourceSet);
+        danglingRepresentationDeletionService.deleteDanglingRepresentations(new ICause.NoOp(), editingContext);
+        assertThat(deletedRepresentationIds).containsExactlyInAnyOrder(removedEClassRepresentation.id(), removedEAttributeRepresentation.id());
+
+        deletedRepresentationIds.clear();
+        danglingRepresentationDeletionService.deleteDanglingRepresentations(new ICause.NoOp(), editingContext);
+        assertThat(deletedRepresentationIds).isEmpty();
+    }
+
+    private <T extends ENamedElement> T create(T eNamedElement) {
+        eNamedElement.eAdapters().add(new IDAdapter(UUID.randomUUID()));
+        return eNamedElement;
+    }
+
+    private String getId(ENamedElement eNamedElement) {
+        return eNamedElement.eAdapters().stream()
+                .filter(IDAdapter.class::isInstance)
+                .map(IDAdapter.class::cast)
+                .findFirst()
+                .map(IDAdapter::getId)
+                .map(UUID::toString)
+                .orElseThrow();
+    }
+
+    private IEMFEditingContext createEditingContext(UUID projectId, ResourceSet resourceSet) {
+        AdapterFactoryEditingDomain editingDomain = new AdapterFactoryEditingDomain(new ComposedAdapterFactory(), new BasicCommandStack(), resourceSet);
+        return new IEMFEditingContext() {
+            @Override
+            public String getId() {
+                return projectId.toString();
+            }
+
+            @Override
+            public AdapterFactoryEditingDomain getDomain() {
+                return editingDomain;
+            }
+        };
+    }
+}
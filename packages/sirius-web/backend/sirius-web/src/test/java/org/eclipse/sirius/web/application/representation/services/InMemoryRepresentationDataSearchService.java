@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationDataContentOnly;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationDataMetadataOnly;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataSearchService;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+
+/**
+ * Representation data search service only returning the representation data given to it and counting the queries
+ * performed.
+ *
+ * @author agent
+ */
+public class InMemoryRepresentationDataSearchService implements IRepresentationDataSearchService {
+
+    private final List<RepresentationData> allRepresentationData = new ArrayList<>();
+
+    private final List<RepresentationDataMetadataOnly> representationMetadata = new ArrayList<>();
+
+    private final AtomicInteger projectLoadsCount = new AtomicInteger();
+
+    private final AtomicInteger batchLoadsCount = new AtomicInteger();
+
+    public RepresentationDataMetadataOnly add(UUID projectId, String targetObjectId) {
+        var representationData = RepresentationData.newRepresentationData(UUID.randomUUID())
+                .project(AggregateReference.to(projectId))
+                .targetObjectId(targetObjectId)
+                .descriptionId("descriptionId")
+                .label("label")
+                .kind("kind")
+                .content("{}")
+                .lastMigrationPerformed("none")
+                .migrationVersion("0")
+                .build(new ICause.NoOp());
+        this.allRepresentationData.add(representationData);
+
+        var metadata = new RepresentationDataMetadataOnly(representationData.getId(), representationData.getLabel(), representationData.getKind(), targetObjectId, representationData.getDescriptionId(),
+                representationData.getProject());
+        this.representationMetadata.add(metadata);
+        return metadata;
+    }
+
+    public int getProjectLoadsCount() {
+        return this.projectLoadsCount.get();
+    }
+
+    public int getBatchLoadsCount() {
+        return this.batchLoadsCount.get();
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return this.findMetadataById(id).isPresent();
+    }
+
+    @Override
+    public boolean existsByIdAndKind(UUID id, List<String> kinds) {
+        return this.findMetadataById(id).filter(metadata -> kinds.contains(metadata.kind())).isPresent();
+    }
+
+    @Override
+    public Optional<RepresentationDataContentOnly> findContentById(UUID id) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<RepresentationDataMetadataOnly> findMetadataById(UUID id) {
+        return this.representationMetadata.stream()
+                .filter(metadata -> metadata.id().equals(id))
+                .findFirst();
+    }
+
+    @Override
+    public List<RepresentationData> findAllByIds(List<UUID> ids) {
+        this.batchLoadsCount.incrementAndGet();
+        return this.allRepresentationData.stream()
+                .filter(representationData -> ids.contains(representationData.getId()))
+                .toList();
+    }
+
+    @Override
+    public List<RepresentationDataMetadataOnly> findAllMetadataByProject(AggregateReference<Project, UUID> project) {
+        this.projectLoadsCount.incrementAndGet();
+        return this.representationMetadata.stream()
+                .filter(metadata -> Objects.equals(metadata.project().getId(), project.getId()))
+                .toList();
+    }
+
+    @Override
+    public List<RepresentationDataMetadataOnly> findAllMetadataByTargetObjectId(String targetObjectId) {
+        return this.representationMetadata.stream()
+                .filter(metadata -> metadata.targetObjectId().equals(targetObjectId))
+                .toList();
+    }
+
+    @Override
+    public boolean existAnyRepresentationForTargetObjectId(String targetObjectId) {
+        return !this.findAllMetadataByTargetObjectId(targetObjectId).isEmpty();
+    }
+
+    @Override
+    public Optional<AggregateReference<Project, UUID>> findProjectByRepresentationId(UUID representationId) {
+        return this.findMetadataById(representationId).map(RepresentationDataMetadataOnly::project);
+    }
+}
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.components.representations.IRepresentation;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationDataContentUpdatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationDataCreatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationDataDeletedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+
+/**
+ * Unit tests of the cache of the deserialized representations.
+ *
+ * @author agent
+ */
+public class RepresentationCacheTests {
+
+    private static final String EDITING_CONTEXT_ID = "editingContextId";
+
+    @Test
+    public void testRepresentationsAreLoadedOncePerEditingContext() {
+        var representationCache = new RepresentationCache(10);
+        UUID representationId = UUID.randomUUID();
+        var loadsCount = new AtomicInteger();
+        Supplier<Optional<IRepresentation>> loader = () -> {
+            loadsCount.incrementAndGet();
+            return Optional.of(new IRepresentation.NoOp());
+        };
+
+        var optionalRepresentation = representationCache.getOrLoad(EDITING_CONTEXT_ID, representationId, loader);
+        assertThat(optionalRepresentation).isPresent();
+        assertThat(representationCache.getOrLoad(EDITING_CONTEXT_ID, representationId, loader)).containsSame(optionalRepresentation.get());
+        assertThat(loadsCount.get()).isEqualTo(1);
+
+        var otherOptionalRepresentation = representationCache.getOrLoad("otherEditingContextId", representationId, loader);
+        assertThat(otherOptionalRepresentation).isPresent();
+        assertThat(otherOptionalRepresentation.get()).isNotSameAs(optionalRepresentation.get());
+        assertThat(loadsCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testRepresentationsAreLoadedAgainAfterTheirSave() {
+        var representationCache = new RepresentationCache(10);
+        var representationData = this.createRepresentationData();
+        var loadsCount = new AtomicInteger();
+        Supplier<Optional<IRepresentation>> loader = () -> {
+            loadsCount.incrementAndGet();
+            return Optional.of(new IRepresentation.NoOp());
+        };
+
+        representationCache.getOrLoad(EDITING_CONTEXT_ID, representationData.getId(), loader);
+        representationCache.onRepresentationDataEvent(new RepresentationDataContentUpdatedEvent(UUID.randomUUID(), Instant.now(), new ICause.NoOp(), representationData));
+        representationCache.getOrLoad(EDITING_CONTEXT_ID, representationData.getId(), loader);
+
+        assertThat(loadsCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testRepresentationsAreNotReturnedAfterTheirDeletion() {
+        var representationCache = new RepresentationCache(10);
+        var representationData = this.createRepresentationData();
+
+        representationCache.getOrLoad(EDITING_CONTEXT_ID, representationData.getId(), () -> Optional.of(new IRepresentation.NoOp()));
+        representationCache.onRepresentationDataEvent(new RepresentationDataDeletedEvent(UUID.randomUUID(), Instant.now(), new ICause.NoOp(), representationData));
+
+        assertThat(representationCache.getOrLoad(EDITING_CONTEXT_ID, representationData.getId(), Optional::empty)).isEmpty();
+    }
+
+    @Test
+    public void testRepresentationsLoadedDuringAnInvalidationAreNotKept() {
+        var representationCache = new RepresentationCache(10);
+        UUID representationId = UUID.randomUUID();
+        IRepresentation outdatedRepresentation = new IRepresentation.NoOp();
+        IRepresentation representation = new IRepresentation.NoOp();
+
+        Supplier<Optional<IRepresentation>> racingLoader = () -> {
+            representationCache.invalidate(representationId);
+            return Optional.of(outdatedRepresentation);
+        };
+        assertThat(representationCache.getOrLoad(EDITING_CONTEXT_ID, representationId, racingLoader)).containsSame(outdatedRepresentation);
+
+        assertThat(representationCache.getOrLoad(EDITING_CONTEXT_ID, representationId, () -> Optional.of(representation))).containsSame(representation);
+        assertThat(representationCache.getOrLoad(EDITING_CONTEXT_ID, representationId, () -> Optional.of(outdatedRepresentation))).containsSame(representation);
+    }
+
+    @Test
+    public void testMissingRepresentationsAreNotSearchedAgainUntilTheirCreation() {
+        var representationCache = new RepresentationCache(10);
+        var representationData = this.createRepresentationData();
+        var loadsCount = new AtomicInteger();
+        Supplier<Optional<IRepresentation>> missingLoader = () -> {
+            loadsCount.incrementAndGet();
+            return Optional.empty();
+        };
+
+        assertThat(representationCache.getOrLoad(EDITING_CONTEXT_ID, representationData.getId(), missingLoader)).isEmpty();
+        assertThat(representationCache.getOrLoad("otherEditingContextId", representationData.getId(), missingLoader)).isEmpty();
+        assertThat(loadsCount.get()).isEqualTo(1);
+
+        representationCache.onRepresentationDataEvent(new RepresentationDataCreatedEvent(UUID.randomUUID(), Instant.now(), new ICause.NoOp(), representationData));
+
+        IRepresentation representation = new IRepresentation.NoOp();
+        assertThat(representationCache.getOrLoad(EDITING_CONTEXT_ID, representationData.getId(), () -> Optional.of(representation))).containsSame(representation);
+    }
+
+    private RepresentationData createRepresentationData() {
+        return RepresentationData.newRepresentationData(UUID.randomUUID())
+                .project(AggregateReference.to(UUID.randomUUID()))
+                .targetObjectId("targetObjectId")
+                .descriptionId("descriptionId")
+                .label("label")
+                .kind("kind")
+                .content("{}")
+                .lastMigrationPerformed("none")
+                .migrationVersion("0")
+                .build(new ICause.NoOp());
+    }
+}
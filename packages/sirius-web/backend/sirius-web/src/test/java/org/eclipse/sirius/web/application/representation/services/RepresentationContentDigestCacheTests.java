@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.components.representations.IRepresentation;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationDataContentUpdatedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+
+/**
+ * Unit tests of the cache of the digests of the persisted representations.
+ *
+ * @author agent
+ */
+public class RepresentationContentDigestCacheTests {
+
+    @Test
+    public void testDigestOfTheSavedContentIsNotComputedAgain() {
+        var digestsCount = new AtomicInteger();
+        var representationContentDigestCache = new CountingRepresentationContentDigestCache(digestsCount);
+
+        var content = new String("{\"label\":\"saved\"}");
+        var digest = representationContentDigestCache.getDigest(content);
+        var representationData = this.createRepresentationData(content);
+        IRepresentation representation = new IRepresentation.NoOp();
+
+        representationContentDigestCache.putAfterCommit(representationData.getId(), content, digest, representation);
+        representationContentDigestCache.onRepresentationDataEvent(new RepresentationDataContentUpdatedEvent(UUID.randomUUID(), Instant.now(), new ICause.NoOp(), representationData));
+
+        assertThat(digestsCount.get()).isEqualTo(1);
+        assertThat(representationContentDigestCache.isPersisted(representationData.getId(), digest)).isTrue();
+        assertThat(representationContentDigestCache.isPersisted(representationData.getId(), representation)).isTrue();
+    }
+
+    @Test
+    public void testDigestOfAnotherContentIsComputed() {
+        var digestsCount = new AtomicInteger();
+        var representationContentDigestCache = new CountingRepresentationContentDigestCache(digestsCount);
+
+        var savedContent = new String("{\"label\":\"saved\"}");
+        var representationData = this.createRepresentationData(new String("{\"label\":\"written\"}"));
+
+        representationContentDigestCache.putAfterCommit(representationData.getId(), savedContent, representationContentDigestCache.getDigest(savedContent), new IRepresentation.NoOp());
+        representationContentDigestCache.onRepresentationDataEvent(new RepresentationDataContentUpdatedEvent(UUID.randomUUID(), Instant.now(), new ICause.NoOp(), representationData));
+
+        assertThat(digestsCount.get()).isEqualTo(2);
+        assertThat(representationContentDigestCache.isPersisted(representationData.getId(), representationContentDigestCache.getDigest(representationData.getContent()))).isTrue();
+    }
+
+    private RepresentationData createRepresentationData(String content) {
+        return RepresentationData.newRepresentationData(UUID.randomUUID())
+                .project(AggregateReference.to(UUID.randomUUID()))
+                .targetObjectId("targetObjectId")
+                .descriptionId("descriptionId")
+                .label("label")
+                .kind("kind")
+                .content(content)
+                .lastMigrationPerformed("none")
+                .migrationVersion("0")
+                .build(new ICause.NoOp());
+    }
+
+    /**
+     * Counts the digests computed from the content of the representations.
+     *
+     * @author agent
+     */
+    private static final class CountingRepresentationContentDigestCache extends RepresentationContentDigestCache {
+
+        private final AtomicInteger digestsCount;
+
+        CountingRepresentationContentDigestCache(AtomicInteger digestsCount) {
+            super(10);
+            this.digestsCount = digestsCount;
+        }
+
+        @Override
+        public String getDigest(String content) {
+            this.digestsCount.incrementAndGet();
+            return super.getDigest(content);
+        }
+    }
+}
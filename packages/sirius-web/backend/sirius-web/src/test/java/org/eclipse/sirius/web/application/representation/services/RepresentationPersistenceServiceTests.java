@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.sirius.components.collaborative.api.IRepresentationPersistenceService;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationSearchService;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.components.portals.Portal;
+import org.eclipse.sirius.web.AbstractIntegrationTests;
+import org.eclipse.sirius.web.data.TestIdentifiers;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationDataContentUpdatedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Used to test that only the modified representations are written.
+ *
+ * @author agent
+ */
+@Transactional
+@RecordApplicationEvents
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class RepresentationPersistenceServiceTests extends AbstractIntegrationTests {
+
+    private final IEditingContext editingContext = () -> TestIdentifiers.ECORE_SAMPLE_PROJECT.toString();
+
+    @Autowired
+    private IRepresentationSearchService representationSearchService;
+
+    @Autowired
+    private IRepresentationPersistenceService representationPersistenceService;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Test
+    @DisplayName("Given a persisted representation, when it is saved again without any change, then its content is not written again")
+    @Sql(scripts = {"/scripts/initialize.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"/scripts/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenPersistedRepresentationWhenItIsSavedAgainWithoutChangeThenItsContentIsNotWrittenAgain() {
+        var optionalPortal = this.representationSearchService.findById(this.editingContext, TestIdentifiers.EPACKAGE_PORTAL_REPRESENTATION.toString(), Portal.class);
+        assertThat(optionalPortal).isPresent();
+
+        var renamedPortal = Portal.newPortal(optionalPortal.get())
+                .label("Renamed Portal")
+                .build();
+        this.save(renamedPortal);
+        assertThat(this.getContentUpdatesCount()).isEqualTo(1);
+
+        this.save(renamedPortal);
+        assertThat(this.getContentUpdatesCount()).isEqualTo(1);
+
+        var equivalentPortal = Portal.newPortal(renamedPortal).build();
+        this.save(equivalentPortal);
+        assertThat(this.getContentUpdatesCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Given a persisted representation, when it is saved with some changes, then its content is written")
+    @Sql(scripts = {"/scripts/initialize.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"/scripts/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenPersistedRepresentationWhenItIsSavedWithChangesThenItsContentIsWritten() {
+        var optionalPortal = this.representationSearchService.findById(this.editingContext, TestIdentifiers.EPACKAGE_PORTAL_REPRESENTATION.toString(), Portal.class);
+        assertThat(optionalPortal).isPresent();
+        var portal = optionalPortal.get();
+
+        this.save(Portal.newPortal(portal).label("First Label").build());
+        assertThat(this.getContentUpdatesCount()).isEqualTo(1);
+
+        this.save(Portal.newPortal(portal).label("Second Label").build());
+        assertThat(this.getContentUpdatesCount()).isEqualTo(2);
+
+        this.save(portal);
+        assertThat(this.getContentUpdatesCount()).isEqualTo(3);
+
+        var optionalReloadedPortal = this.representationSearchService.findById(this.editingContext, TestIdentifiers.EPACKAGE_PORTAL_REPRESENTATION.toString(), Portal.class);
+        assertThat(optionalReloadedPortal).isPresent();
+        assertThat(optionalReloadedPortal.get().getLabel()).isEqualTo(portal.getLabel());
+    }
+
+    private void save(Portal portal) {
+        this.representationPersistenceService.save(new ICause.NoOp(), this.editingContext, portal);
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        TestTransaction.start();
+    }
+
+    private long getContentUpdatesCount() {
+        return this.applicationEvents.stream(RepresentationDataContentUpdatedEvent.class).count();
+    }
+}
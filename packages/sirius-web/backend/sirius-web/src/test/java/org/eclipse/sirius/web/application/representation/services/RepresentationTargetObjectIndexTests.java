@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationDataCreatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationDataDeletedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+
+/**
+ * Unit tests of the index of the representations by target object.
+ *
+ * @author agent
+ */
+public class RepresentationTargetObjectIndexTests {
+
+    private static final String TARGET_OBJECT_ID = "targetObjectId";
+
+    private static final String OTHER_TARGET_OBJECT_ID = "otherTargetObjectId";
+
+    @Test
+    public void testIndexesAreReloadedAfterTheirEviction() {
+        var representationDataSearchService = new InMemoryRepresentationDataSearchService();
+        UUID projectId = UUID.randomUUID();
+        UUID otherProjectId = UUID.randomUUID();
+        var representationMetadata = representationDataSearchService.add(projectId, TARGET_OBJECT_ID);
+        var otherRepresentationMetadata = representationDataSearchService.add(otherProjectId, TARGET_OBJECT_ID);
+        var representationTargetObjectIndex = new RepresentationTargetObjectIndex(representationDataSearchService, 1);
+
+        assertThat(representationTargetObjectIndex.findRepresentationIds(projectId, List.of(TARGET_OBJECT_ID))).containsExactly(representationMetadata.id());
+        assertThat(representationTargetObjectIndex.findRepresentationIds(projectId, List.of(TARGET_OBJECT_ID, OTHER_TARGET_OBJECT_ID))).containsExactly(representationMetadata.id());
+        assertThat(representationDataSearchService.getProjectLoadsCount()).isEqualTo(1);
+
+        assertThat(representationTargetObjectIndex.findRepresentationIds(otherProjectId, List.of(TARGET_OBJECT_ID))).containsExactly(otherRepresentationMetadata.id());
+        assertThat(representationDataSearchService.getProjectLoadsCount()).isEqualTo(2);
+
+        assertThat(representationTargetObjectIndex.findRepresentationIds(projectId, List.of(TARGET_OBJECT_ID))).containsExactly(representationMetadata.id());
+        assertThat(representationDataSearchService.getProjectLoadsCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void testIndexesAreUpdatedWithTheRepresentationsCreatedAndDeleted() {
+        var representationDataSearchService = new InMemoryRepresentationDataSearchService();
+        UUID projectId = UUID.randomUUID();
+        var representationMetadata = representationDataSearchService.add(projectId, TARGET_OBJECT_ID);
+        var representationTargetObjectIndex = new RepresentationTargetObjectIndex(representationDataSearchService, 1);
+
+        assertThat(representationTargetObjectIndex.findRepresentationIds(projectId, List.of(OTHER_TARGET_OBJECT_ID))).isEmpty();
+
+        var representationData = this.createRepresentationData(projectId, OTHER_TARGET_OBJECT_ID);
+        representationTargetObjectIndex.onRepresentationDataEvent(new RepresentationDataCreatedEvent(UUID.randomUUID(), Instant.now(), new ICause.NoOp(), representationData));
+        assertThat(representationTargetObjectIndex.findRepresentationIds(projectId, List.of(TARGET_OBJECT_ID, OTHER_TARGET_OBJECT_ID)))
+                .containsExactlyInAnyOrder(representationMetadata.id(), representationData.getId());
+
+        representationTargetObjectIndex.onRepresentationDataEvent(new RepresentationDataDeletedEvent(UUID.randomUUID(), Instant.now(), new ICause.NoOp(), representationData));
+        assertThat(representationTargetObjectIndex.findRepresentationIds(projectId, List.of(OTHER_TARGET_OBJECT_ID))).isEmpty();
+        assertThat(representationDataSearchService.getProjectLoadsCount()).isEqualTo(1);
+    }
+
+    private RepresentationData createRepresentationData(UUID projectId, String targetObjectId) {
+        return RepresentationData.newRepresentationData(UUID.randomUUID())
+                .project(AggregateReference.to(projectId))
+                .targetObjectId(targetObjectId)
+                .descriptionId("descriptionId")
+                .label("label")
+                .kind("kind")
+                .content("{}")
+                .lastMigrationPerformed("none")
+                .migrationVersion("0")
+                .build(new ICause.NoOp());
+    }
+}
@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
 
 import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcorePackage;
 import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
 import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
@@ -23,6 +24,7 @@ import org.eclipse.sirius.components.events.ICause;
 import org.eclipse.sirius.web.AbstractIntegrationTests;
 import org.eclipse.sirius.web.data.TestIdentifiers;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.eclipse.sirius.web.application.editingcontext.services.DirtyResourcesTracker;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -118,4 +120,42 @@ public class EditingContextLifecycleTests extends AbstractIntegrationTests {
             assertThat(ePackage.getName()).isEqualTo("Sample Updated");
         }
     }
+
+    @Test
+    @DisplayName("Given an editing context properly loaded, when it is modified and persisted, then only the modified resources are considered as dirty")
+    @Sql(scripts = {"/scripts/initialize.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"/scripts/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenEditingContextProperlyLoadedWhenItIsModifiedAndPersistedThenOnlyTheModifiedResourcesAreDirty() {
+        var optionalEditingContext = this.editingContextSearchService.findById(TestIdentifiers.ECORE_SAMPLE_PROJECT.toString());
+        assertThat(optionalEditingContext).isPresent();
+
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        var editingContext = optionalEditingContext.get();
+        if (editingContext instanceof EditingContext siriusWebEditingContext) {
+            var resourceSet = siriusWebEditingContext.getDomain().getResourceSet();
+            var resource = resourceSet.getResources().get(0);
+
+            var optionalDirtyResourcesTracker = DirtyResourcesTracker.from(resourceSet);
+            assertThat(optionalDirtyResourcesTracker).isPresent();
+            var dirtyResourcesTracker = optionalDirtyResourcesTracker.get();
+            assertThat(dirtyResourcesTracker.isFullSaveRequired()).isFalse();
+            assertThat(dirtyResourcesTracker.isDirty(resource)).isFalse();
+            assertThat(dirtyResourcesTracker.getSavedDomainUris(resource)).contains(EcorePackage.eNS_URI);
+
+            EPackage ePackage = (EPackage) resource.getContents().get(0);
+            ePackage.setName("Sample Renamed");
+            assertThat(dirtyResourcesTracker.isDirty(resource)).isTrue();
+
+            TestTransaction.start();
+            this.editingContextPersistenceService.persist(new ICause.NoOp(), editingContext);
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+
+            assertThat(dirtyResourcesTracker.isDirty(resource)).isFalse();
+        } else {
+            fail("Invalid editing context");
+        }
+    }
 }
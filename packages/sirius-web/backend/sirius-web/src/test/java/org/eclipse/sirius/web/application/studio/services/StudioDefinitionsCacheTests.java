@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.studio.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.components.domain.Domain;
+import org.eclipse.sirius.components.domain.DomainFactory;
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IResourceLoader;
+import org.eclipse.sirius.web.application.studio.services.StudioDefinitionsCache.StudioDefinitions;
+import org.eclipse.sirius.web.application.studio.services.api.IDomainProvider;
+import org.eclipse.sirius.web.application.studio.services.api.IStudioColorPalettesLoader;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataVersion;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+
+/**
+ * Unit tests of the cache of the definitions of the studios.
+ *
+ * @author agent
+ */
+public class StudioDefinitionsCacheTests {
+
+    private static final String DOMAIN_NAME = "library";
+
+    private static final String PROVIDED_DOMAIN_NAME = "provided";
+
+    private static final String DOMAIN_SCHEME = "domain://";
+
+    private final SemanticDataVersion studio = new SemanticDataVersion(UUID.randomUUID(), Instant.now());
+
+    private final SemanticDataVersion otherStudio = new SemanticDataVersion(UUID.randomUUID(), Instant.now());
+
+    private final List<List<UUID>> loadedStudioIds = new ArrayList<>();
+
+    private final AtomicInteger parsedDocumentsCount = new AtomicInteger();
+
+    @Test
+    public void testStudiosAreOnlyLoadedOnce() {
+        var studioDefinitionsCache = new StudioDefinitionsCache(10);
+        var versions = List.of(this.studio, this.otherStudio);
+
+        var firstStudioDefinitions = studioDefinitionsCache.getOrLoad(versions, true, () -> this.load(versions));
+        var secondStudioDefinitions = studioDefinitionsCache.getOrLoad(versions, true, () -> this.load(versions));
+        var unmigratedStudioDefinitions = studioDefinitionsCache.getOrLoad(versions, false, () -> this.load(versions));
+
+        assertThat(this.loadedStudioIds).containsExactly(List.of(this.studio.id(), this.otherStudio.id()), List.of(this.studio.id(), this.otherStudio.id()));
+        assertThat(secondStudioDefinitions).isSameAs(firstStudioDefinitions);
+        assertThat(unmigratedStudioDefinitions).isNotSameAs(firstStudioDefinitions);
+    }
+
+    @Test
+    public void testInvalidatedStudiosAreLoadedAgain() {
+        var studioDefinitionsCache = new StudioDefinitionsCache(10);
+        var versions = List.of(this.studio, this.otherStudio);
+        studioDefinitionsCache.getOrLoad(versions, true, () -> this.load(versions));
+
+        studioDefinitionsCache.invalidate(this.studio.id());
+        studioDefinitionsCache.getOrLoad(versions, true, () -> this.load(versions));
+
+        assertThat(this.loadedStudioIds).hasSize(2);
+    }
+
+    @Test
+    public void testStudiosLoadedDuringAnInvalidationAreNotKept() {
+        var studioDefinitionsCache = new StudioDefinitionsCache(10);
+        var versions = List.of(this.studio);
+
+        Supplier<StudioDefinitions> racingLoader = () -> {
+            studioDefinitionsCache.invalidate(this.studio.id());
+            return this.load(versions);
+        };
+        studioDefinitionsCache.getOrLoad(versions, true, racingLoader);
+        studioDefinitionsCache.getOrLoad(versions, true, () -> this.load(versions));
+
+        assertThat(this.loadedStudioIds).hasSize(2);
+    }
+
+    @Test
+    public void testEditingContextsShareTheDefinitionsOfTheStudios() {
+        var editingContextInitializer = this.createEditingContextInitializer(List.of());
+
+        var editingContext = this.createEditingContext();
+        editingContextInitializer.preProcess(editingContext);
+        var otherEditingContext = this.createEditingContext();
+        editingContextInitializer.preProcess(otherEditingContext);
+
+        assertThat(this.loadedStudioIds).hasSize(1);
+        assertThat(this.parsedDocumentsCount.get()).isEqualTo(1);
+        var ePackage = this.getEPackage(editingContext);
+        assertThat(ePackage).isNotNull();
+        assertThat(this.getEPackage(otherEditingContext)).isSameAs(ePackage);
+    }
+
+    @Test
+    public void testDomainsOfTheStudiosAreConvertedAgainWithTheProvidedDomains() {
+        IDomainProvider domainProvider = editingContext -> {
+            Domain domain = DomainFactory.eINSTANCE.createDomain();
+            domain.setName(PROVIDED_DOMAIN_NAME);
+            return List.of(domain);
+        };
+        var editingContextInitializer = this.createEditingContextInitializer(List.of(domainProvider));
+
+        var editingContext = this.createEditingContext();
+        editingContextInitializer.preProcess(editingContext);
+        var otherEditingContext = this.createEditingContext();
+        editingContextInitializer.preProcess(otherEditingContext);
+
+        assertThat(this.parsedDocumentsCount.get()).isEqualTo(1);
+        var ePackage = this.getEPackage(editingContext);
+        assertThat(ePackage).isNotNull();
+        assertThat(this.getEPackage(otherEditingContext)).isNotNull().isNotSameAs(ePackage);
+        assertThat(editingContext.getDomain().getResourceSet().getPackageRegistry().getEPackage(DOMAIN_SCHEME + PROVIDED_DOMAIN_NAME)).isNotNull();
+    }
+
+    private EditingContextInitializer createEditingContextInitializer(List<IDomainProvider> domainProviders) {
+        var semanticData = SemanticData.newSemanticData()
+                .project(AggregateReference.to(UUID.randomUUID()))
+                .documents(Set.of(Document.newDocument(UUID.randomUUID()).name(DOMAIN_NAME).content(DOMAIN_NAME).build()))
+                .build(new ICause.NoOp());
+        var semanticDataSearchService = new ISemanticDataSearchService() {
+            @Override
+            public Optional<SemanticData> findByProject(AggregateReference<Project, UUID> project) {
+                return Optional.empty();
+            }
+
+            @Override
+            public List<SemanticData> findAllByDomains(List<String> domainUris) {
+                return List.of(semanticData);
+            }
+
+            @Override
+            public List<SemanticDataVersion> findAllVersionsByDomains(List<String> domainUris) {
+                return List.of(new SemanticDataVersion(semanticData.getId(), semanticData.getLastModifiedOn()));
+            }
+
+            @Override
+            public List<SemanticData> findAllByIds(List<UUID> semanticDataIds) {
+                StudioDefinitionsCacheTests.this.loadedStudioIds.add(semanticDataIds);
+                return List.of(semanticData);
+            }
+        };
+        IStudioColorPalettesLoader studioColorPalettesLoader = resourceSet -> Optional.empty();
+        return new EditingContextInitializer(semanticDataSearchService, new DomainResourceLoader(this.parsedDocumentsCount), domainProviders, studioColorPalettesLoader, List.of(), new StudioDefinitionsCache(10));
+    }
+
+    private EPackage getEPackage(EditingContext editingContext) {
+        return editingContext.getDomain().getResourceSet().getPackageRegistry().getEPackage(DOMAIN_SCHEME + DOMAIN_NAME);
+    }
+
+    private StudioDefinitions load(List<SemanticDataVersion> versions) {
+        this.loadedStudioIds.add(versions.stream().map(SemanticDataVersion::id).toList());
+        return new StudioDefinitions(List.of(), List.of(), List.of());
+    }
+
+    private EditingContext createEditingContext() {
+        var editingDomain = new AdapterFactoryEditingDomain(new ComposedAdapterFactory(), new BasicCommandStack(), new ResourceSetImpl());
+        return new EditingContext(UUID.randomUUID().toString(), editingDomain, Map.of(), new ArrayList<>());
+    }
+
+    /**
+     * Loads each document as a resource containing a domain named after the content of the document.
+     *
+     * @author agent
+     */
+    private static final class DomainResourceLoader implements IResourceLoader {
+
+        private final AtomicInteger parsedDocumentsCount;
+
+        DomainResourceLoader(AtomicInteger parsedDocumentsCount) {
+            this.parsedDocumentsCount = parsedDocumentsCount;
+        }
+
+        @Override
+        public Optional<Resource> toResource(ResourceSet resourceSet, String id, String name, String content, boolean applyMigrationParticipants) {
+            this.parsedDocumentsCount.incrementAndGet();
+            Domain domain = DomainFactory.eINSTANCE.createDomain();
+            domain.setName(content);
+            Resource resource = new ResourceImpl();
+            resource.getContents().add(domain);
+            resourceSet.getResources().add(resource);
+            return Optional.of(resource);
+        }
+    }
+}
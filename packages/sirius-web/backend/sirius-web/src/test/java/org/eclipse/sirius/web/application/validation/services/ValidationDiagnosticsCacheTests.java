@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.validation.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.util.BasicDiagnostic;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.components.emf.services.ModificationStampsAdapter;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the cache of the validation diagnostics.
+ *
+ * @author agent
+ */
+public class ValidationDiagnosticsCacheTests {
+
+    private static final String PACKAGE_NAME = "sample";
+
+    private final List<EObject> validatedObjects = new ArrayList<>();
+
+    private final Function<EObject, List<Diagnostic>> validator = eObject -> {
+        this.validatedObjects.add(eObject);
+        return List.of(new BasicDiagnostic());
+    };
+
+    @Test
+    public void testTheDiagnosticsOfAnUnmodifiedObjectAreReused() {
+        EPackage ePackage = this.createEPackage(PACKAGE_NAME);
+        ValidationDiagnosticsCache validationDiagnosticsCache = this.createValidationDiagnosticsCache(ePackage);
+
+        var diagnostics = validationDiagnosticsCache.getDiagnostics(ePackage, this.validator);
+        var cachedDiagnostics = validationDiagnosticsCache.getDiagnostics(ePackage, this.validator);
+
+        assertThat(cachedDiagnostics).isSameAs(diagnostics);
+        assertThat(this.validatedObjects).containsExactly(ePackage);
+    }
+
+    @Test
+    public void testTheModificationOfAnObjectInvalidatesTheDiagnosticsOfItsContainers() {
+        EPackage ePackage = this.createEPackage(PACKAGE_NAME);
+        EPackage subPackage = this.createEPackage("subPackage");
+        ePackage.getESubpackages().add(subPackage);
+        EClass eClass = this.createEClass(subPackage, "Sample");
+        EClass otherEClass = this.createEClass(ePackage, "Other");
+        ValidationDiagnosticsCache validationDiagnosticsCache = this.createValidationDiagnosticsCache(ePackage);
+
+        List<EObject> eObjects = List.of(ePackage, subPackage, eClass, otherEClass);
+        eObjects.forEach(eObject -> validationDiagnosticsCache.getDiagnostics(eObject, this.validator));
+        this.validatedObjects.clear();
+
+        eClass.setName("NewName");
+        eObjects.forEach(eObject -> validationDiagnosticsCache.getDiagnostics(eObject, this.validator));
+
+        assertThat(this.validatedObjects).containsExactly(ePackage, subPackage, eClass);
+    }
+
+    @Test
+    public void testTheDiagnosticsOfTheObjectsOutsideOfTheResourceSetAreNotKept() {
+        EPackage ePackage = this.createEPackage(PACKAGE_NAME);
+        EClass eClass = this.createEClass(ePackage, "Removed");
+        ValidationDiagnosticsCache validationDiagnosticsCache = this.createValidationDiagnosticsCache(ePackage);
+
+        validationDiagnosticsCache.getDiagnostics(eClass, this.validator);
+        ePackage.getEClassifiers().remove(eClass);
+        validationDiagnosticsCache.removeDetachedObjects();
+
+        EClass detachedEClass = this.createEClass(this.createEPackage("detached"), "Detached");
+        validationDiagnosticsCache.getDiagnostics(detachedEClass, this.validator);
+        validationDiagnosticsCache.getDiagnostics(detachedEClass, this.validator);
+        validationDiagnosticsCache.getDiagnostics(eClass, this.validator);
+
+        assertThat(this.validatedObjects).containsExactly(eClass, detachedEClass, detachedEClass, eClass);
+    }
+
+    private ValidationDiagnosticsCache createValidationDiagnosticsCache(EPackage ePackage) {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource resource = new ResourceImpl();
+        resource.getContents().add(ePackage);
+        resourceSet.getResources().add(resource);
+
+        ModificationStampsAdapter modificationStampsAdapter = new ModificationStampsAdapter();
+        resourceSet.eAdapters().add(modificationStampsAdapter);
+        ValidationDiagnosticsCache validationDiagnosticsCache = new ValidationDiagnosticsCache(modificationStampsAdapter);
+        resourceSet.eAdapters().add(validationDiagnosticsCache);
+        return validationDiagnosticsCache;
+    }
+
+    private EPackage createEPackage(String name) {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName(name);
+        return ePackage;
+    }
+
+    private EClass createEClass(EPackage ePackage, String name) {
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        eClass.setName(name);
+        ePackage.getEClassifiers().add(eClass);
+        return eClass;
+    }
+}
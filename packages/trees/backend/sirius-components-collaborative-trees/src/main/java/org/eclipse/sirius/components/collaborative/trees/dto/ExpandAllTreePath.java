@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.trees.dto;
+
+import java.text.MessageFormat;
+import java.util.List;
+
+/**
+ * The tree path returned by an expand all.
+ *
+ * <p>
+ * The tree path is truncated when only some of the tree items to expand could be computed, for example because there
+ * are too many of them.
+ * </p>
+ *
+ * @author agent
+ */
+public class ExpandAllTreePath extends TreePath {
+
+    private final boolean truncated;
+
+    public ExpandAllTreePath(List<String> treeItemIdsToExpand, int maxDepth, boolean truncated) {
+        super(treeItemIdsToExpand, maxDepth);
+        this.truncated = truncated;
+    }
+
+    public boolean isTruncated() {
+        return this.truncated;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'treeItemIdsToExpand: {1}, maxDepth: {2}, truncated: {3}'}'";
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.getTreeItemIdsToExpand(), this.getMaxDepth(), this.truncated);
+    }
+}
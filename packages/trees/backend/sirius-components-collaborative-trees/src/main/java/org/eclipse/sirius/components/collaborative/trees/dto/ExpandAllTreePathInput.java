@@ -13,13 +13,23 @@
 package org.eclipse.sirius.components.collaborative.trees.dto;
 
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.sirius.components.collaborative.trees.api.ITreeInput;
 
 /**
  * The input for the expandAllTreePath query.
  *
+ * <p>
+ * The flag cancelled is set by the caller once it is not interested in the result anymore, in order to stop the
+ * computation of the tree items to expand.
+ * </p>
+ *
  * @author arichard
  */
-public record ExpandAllTreePathInput(UUID id, String editingContextId, String representationId, String treeItemId) implements ITreeInput {
+public record ExpandAllTreePathInput(UUID id, String editingContextId, String representationId, String treeItemId, AtomicBoolean cancelled) implements ITreeInput {
+
+    public ExpandAllTreePathInput(UUID id, String editingContextId, String representationId, String treeItemId) {
+        this(id, editingContextId, representationId, treeItemId, new AtomicBoolean());
+    }
 }
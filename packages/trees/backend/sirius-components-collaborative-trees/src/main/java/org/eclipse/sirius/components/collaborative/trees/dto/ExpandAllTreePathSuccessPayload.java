@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -20,9 +20,14 @@ import org.eclipse.sirius.components.core.api.IPayload;
 /**
  * Payload used to tell the frontend which items to expand in case of an expand all.
  *
+ * <p>
+ * The tree path is truncated when only some of the tree items to expand could be computed, for example because there
+ * are too many of them.
+ * </p>
+ *
  * @author arichard
  */
-public record ExpandAllTreePathSuccessPayload(UUID id, TreePath treePath) implements IPayload {
+public record ExpandAllTreePathSuccessPayload(UUID id, TreePath treePath, boolean truncated) implements IPayload {
     public ExpandAllTreePathSuccessPayload {
         Objects.requireNonNull(id);
         Objects.requireNonNull(treePath);
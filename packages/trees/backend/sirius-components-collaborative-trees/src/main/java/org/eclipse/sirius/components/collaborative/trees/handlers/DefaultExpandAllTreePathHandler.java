@@ -12,6 +12,9 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.trees.handlers;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
@@ -24,112 +27,135 @@ import org.eclipse.sirius.components.collaborative.trees.dto.TreePath;
 import org.eclipse.sirius.components.collaborative.trees.services.api.ITreeNavigationService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IPayload;
-import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchService;
 import org.eclipse.sirius.components.representations.VariableManager;
 import org.eclipse.sirius.components.trees.Tree;
 import org.eclipse.sirius.components.trees.description.TreeDescription;
 import org.eclipse.sirius.components.trees.renderer.TreeRenderer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
  * This class is used as a fallback to handle an ExpandAllTreePath event that no handlers can handle.
  *
+ * <p>
+ * The content of the tree item is walked once, from object to object, with the description of the tree. The walk is
+ * bounded by a maximum number of tree items, a maximum depth below the tree item and a maximum duration. The tree
+ * items waiting to be walked already count in the maximum number of tree items, so that the ids of the children are
+ * not computed once this budget has been used up. The walk also stops as soon as the input is cancelled by its caller
+ * or the thread is interrupted. The payload indicates if some tree items have not been considered.
+ * </p>
+ *
  * @author Jerome Gout
  */
 @Service
 public class DefaultExpandAllTreePathHandler {
+
     private final ITreeNavigationService treeNavigationService;
 
-    private final IRepresentationDescriptionSearchService representationDescriptionSearchService;
+    private final int maxItems;
+
+    private final int maxDepth;
 
-    public DefaultExpandAllTreePathHandler(ITreeNavigationService treeNavigationService, IRepresentationDescriptionSearchService representationDescriptionSearchService) {
+    private final Duration timeout;
+
+    public DefaultExpandAllTreePathHandler(ITreeNavigationService treeNavigationService, @Value("${sirius.components.trees.expandAll.maxItems:10000}") int maxItems,
+            @Value("${sirius.components.trees.expandAll.maxDepth:100}") int maxDepth, @Value("${sirius.components.trees.expandAll.timeout:10s}") Duration timeout) {
         this.treeNavigationService = Objects.requireNonNull(treeNavigationService);
-        this.representationDescriptionSearchService = Objects.requireNonNull(representationDescriptionSearchService);
+        this.maxItems = maxItems;
+        this.maxDepth = maxDepth;
+        this.timeout = Objects.requireNonNull(timeout);
     }
 
-    public IPayload handle(IEditingContext editingContext, Tree tree, ExpandAllTreePathInput input) {
-        int maxDepth = 0;
+    public IPayload handle(IEditingContext editingContext, TreeDescription treeDescription, Tree tree, ExpandAllTreePathInput input) {
         String treeItemId = input.treeItemId();
 
-        Set<String> treeItemIdsToExpand = new LinkedHashSet<>();
         // We need to get the current depth of the tree item
         var itemAncestors = this.treeNavigationService.getAncestors(editingContext, tree, treeItemId);
-        maxDepth = itemAncestors.size();
-        maxDepth = this.addAllContents(editingContext, treeItemId, maxDepth, treeItemIdsToExpand, tree);
-        return new ExpandAllTreePathSuccessPayload(input.id(), new TreePath(treeItemIdsToExpand.stream().toList(), maxDepth));
-    }
+        int initialDepth = itemAncestors.size();
 
-    private int addAllContents(IEditingContext editingContext, String treeItemId, int depth, Set<String> treeItemIdsToExpand, Tree tree) {
-        var depthConsidered = depth;
-        var optionalObject = this.getTreeItemObject(editingContext, tree, treeItemId);
-        treeItemIdsToExpand.add(treeItemId);
-        if (optionalObject.isPresent() && this.hasChildren(editingContext, tree, optionalObject.get())) {
-            List<?> children = this.getChildren(editingContext, tree, optionalObject.get(), treeItemId);
-            for (var child: children) {
-                var optionalChildId = this.getTreeItemId(editingContext, tree, child);
-                if (optionalChildId.isPresent()) {
-                    var childTreePathMaxDepth = depth + 1;
-                    childTreePathMaxDepth = this.addAllContents(editingContext, optionalChildId.get(), childTreePathMaxDepth, treeItemIdsToExpand, tree);
-                    depthConsidered = Math.max(depthConsidered, childTreePathMaxDepth);
-                }
-            }
+        var variableManager = new VariableManager();
+        variableManager.put(IEditingContext.EDITING_CONTEXT, editingContext);
+
+        Set<String> treeItemIdsToExpand = new LinkedHashSet<>();
+        Deque<PendingTreeItem> pendingTreeItems = new ArrayDeque<>();
+        var optionalObject = this.getTreeItemObject(treeDescription, variableManager, treeItemId);
+        if (optionalObject.isPresent()) {
+            pendingTreeItems.push(new PendingTreeItem(optionalObject.get(), treeItemId, initialDepth));
         } else {
-            depthConsidered = Math.max(depthConsidered, depth + 1);
+            treeItemIdsToExpand.add(treeItemId);
         }
-        return depthConsidered;
-    }
 
-    private boolean hasChildren(IEditingContext editingContext, Tree tree, Object object) {
-        boolean result = false;
-        var optionalTreeDescription = this.getTreeDescription(editingContext, tree.getDescriptionId());
-        if (optionalTreeDescription.isPresent()) {
-            var variableManager = new VariableManager();
-            variableManager.put(VariableManager.SELF, object);
-            result = optionalTreeDescription.get().getHasChildrenProvider().apply(variableManager);
+        int treePathMaxDepth = initialDepth + 1;
+        boolean isStopped = false;
+        boolean isTooDeep = false;
+        boolean isTooLarge = false;
+        long deadline = System.nanoTime() + this.timeout.toNanos();
+        while (!pendingTreeItems.isEmpty() && !isStopped) {
+            isStopped = treeItemIdsToExpand.size() >= this.maxItems || System.nanoTime() - deadline > 0 || this.isCancelled(input);
+            if (!isStopped) {
+                var pendingTreeItem = pendingTreeItems.pop();
+                treeItemIdsToExpand.add(pendingTreeItem.id());
+                treePathMaxDepth = Math.max(treePathMaxDepth, pendingTreeItem.depth() + 1);
+
+                var treeItemVariableManager = variableManager.createChild();
+                treeItemVariableManager.put(VariableManager.SELF, pendingTreeItem.object());
+                if (treeDescription.getHasChildrenProvider().apply(treeItemVariableManager)) {
+                    if (pendingTreeItem.depth() - initialDepth < this.maxDepth) {
+                        int remainingItems = this.maxItems - treeItemIdsToExpand.size() - pendingTreeItems.size();
+                        boolean areAllChildrenPushed = this.pushChildren(treeDescription, treeItemVariableManager, pendingTreeItem, pendingTreeItems, remainingItems);
+                        isTooLarge = isTooLarge || !areAllChildrenPushed;
+                    } else {
+                        isTooDeep = true;
+                    }
+                }
+            }
         }
-        return result;
-    }
 
-    private List<?> getChildren(IEditingContext editingContext, Tree tree, Object object, String treeItemId) {
-        List<?> result = List.of();
-        var optionalTreeDescription = this.getTreeDescription(editingContext, tree.getDescriptionId());
+        boolean isTruncated = isStopped || isTooDeep || isTooLarge;
+        return new ExpandAllTreePathSuccessPayload(input.id(), new TreePath(treeItemIdsToExpand.stream().toList(), treePathMaxDepth), isTruncated);
+    }
 
-        if (optionalTreeDescription.isPresent()) {
-            var variableManager = new VariableManager();
-            variableManager.put(IEditingContext.EDITING_CONTEXT, editingContext);
-            variableManager.put(VariableManager.SELF, object);
-            variableManager.put(TreeRenderer.EXPANDED, List.of(treeItemId)); // getChildren only returns children if self is expanded
-            result = optionalTreeDescription.get().getChildrenProvider().apply(variableManager);
-        }
-        return result;
+    private boolean isCancelled(ExpandAllTreePathInput input) {
+        return input.cancelled().get() || Thread.currentThread().isInterrupted();
     }
 
-    private Optional<String> getTreeItemId(IEditingContext editingContext, Tree tree, Object object) {
-        Optional<String> result = Optional.empty();
-        var optionalTreeDescription = this.getTreeDescription(editingContext, tree.getDescriptionId());
-        if (optionalTreeDescription.isPresent()) {
-            var variableManager = new VariableManager();
-            variableManager.put(VariableManager.SELF, object);
-            result = Optional.of(optionalTreeDescription.get().getTreeItemIdProvider().apply(variableManager));
+    /**
+     * Pushes at most the given number of children of the given tree item, starting with the first ones, so that they
+     * are walked next, in order.
+     *
+     * @return <code>true</code> if all the children have been pushed, <code>false</code> otherwise
+     */
+    private boolean pushChildren(TreeDescription treeDescription, VariableManager treeItemVariableManager, PendingTreeItem pendingTreeItem, Deque<PendingTreeItem> pendingTreeItems, int maxChildren) {
+        if (maxChildren <= 0) {
+            return false;
         }
-        return result;
-    }
 
-    private Optional<Object> getTreeItemObject(IEditingContext editingContext, Tree tree, String id) {
-        var optionalTreeDescription = this.getTreeDescription(editingContext, tree.getDescriptionId());
+        // getChildren only returns children if self is expanded
+        treeItemVariableManager.put(TreeRenderer.EXPANDED, List.of(pendingTreeItem.id()));
+        List<?> children = treeDescription.getChildrenProvider().apply(treeItemVariableManager);
 
-        if (optionalTreeDescription.isPresent()) {
-            var variableManager = new VariableManager();
-            variableManager.put(IEditingContext.EDITING_CONTEXT, editingContext);
-            variableManager.put(TreeDescription.ID, id);
-            return Optional.ofNullable(optionalTreeDescription.get().getTreeItemObjectProvider().apply(variableManager));
+        int childrenCount = Math.min(children.size(), maxChildren);
+        for (int i = childrenCount - 1; i >= 0; i--) {
+            Object child = children.get(i);
+            var childVariableManager = treeItemVariableManager.createChild();
+            childVariableManager.put(VariableManager.SELF, child);
+            String childId = treeDescription.getTreeItemIdProvider().apply(childVariableManager);
+            pendingTreeItems.push(new PendingTreeItem(child, childId, pendingTreeItem.depth() + 1));
         }
-        return Optional.empty();
+        return childrenCount == children.size();
+    }
+
+    private Optional<Object> getTreeItemObject(TreeDescription treeDescription, VariableManager variableManager, String id) {
+        var treeItemVariableManager = variableManager.createChild();
+        treeItemVariableManager.put(TreeDescription.ID, id);
+        return Optional.ofNullable(treeDescription.getTreeItemObjectProvider().apply(treeItemVariableManager));
     }
 
-    private Optional<TreeDescription> getTreeDescription(IEditingContext editingContext, String descriptionId) {
-        return this.representationDescriptionSearchService.findById(editingContext, descriptionId)
-                .filter(TreeDescription.class::isInstance)
-                .map(TreeDescription.class::cast);
+    /**
+     * A tree item waiting to be walked.
+     *
+     * @author agent
+     */
+    private record PendingTreeItem(Object object, String id, int depth) {
     }
 }
@@ -62,7 +62,7 @@ public class ExpandAllTreePathEventHandler implements ITreeEventHandler {
 
     @Override
     public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, TreeDescription treeDescription, Tree tree, ITreeInput treeInput) {
-        IPayload payload = new ExpandAllTreePathSuccessPayload(treeInput.id(), new TreePath(List.of(), 0));
+        IPayload payload = new ExpandAllTreePathSuccessPayload(treeInput.id(), new TreePath(List.of(), 0), false);
         ChangeDescription changeDescription = new ChangeDescription(ChangeKind.NOTHING, treeInput.representationId(), treeInput);
 
         if (treeInput instanceof ExpandAllTreePathInput input) {
@@ -70,7 +70,7 @@ public class ExpandAllTreePathEventHandler implements ITreeEventHandler {
             if (optionalPathsProvider.isPresent()) {
                 payload = optionalPathsProvider.get().handle(editingContext, tree, input);
             } else {
-                payload = this.defaultExpandAllTreePathHandler.handle(editingContext, tree, input);
+                payload = this.defaultExpandAllTreePathHandler.handle(editingContext, treeDescription, tree, input);
             }
             if (payload instanceof ErrorPayload errorPayload) {
                 this.logger.warn(errorPayload.message());
@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.trees.handlers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.eclipse.sirius.components.collaborative.trees.dto.ExpandAllTreePathInput;
+import org.eclipse.sirius.components.collaborative.trees.dto.ExpandAllTreePathSuccessPayload;
+import org.eclipse.sirius.components.collaborative.trees.services.api.ITreeNavigationService;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.core.api.labels.StyledString;
+import org.eclipse.sirius.components.representations.Success;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.components.trees.Tree;
+import org.eclipse.sirius.components.trees.description.TreeDescription;
+import org.eclipse.sirius.components.trees.renderer.TreeRenderer;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the computation of the tree items to expand in case of an expand all.
+ *
+ * @author agent
+ */
+public class DefaultExpandAllTreePathHandlerTests {
+
+    private static final String ROOT = "root";
+
+    private static final String TREE_LABEL = "Tree";
+
+    private static final int CHILDREN_COUNT = 3;
+
+    private static final int LEVELS_COUNT = 3;
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final AtomicInteger treeItemIdsCount = new AtomicInteger();
+
+    @Test
+    public void givenATreeItemWhenAllItsContentIsExpandedThenAllTheTreeItemsAreReturned() {
+        var handler = new DefaultExpandAllTreePathHandler(new ITreeNavigationService.NoOp(), 1000, 100, TIMEOUT);
+        var payload = this.expandAll(handler);
+
+        assertThat(payload.truncated()).isFalse();
+        assertThat(payload.treePath().getTreeItemIdsToExpand()).hasSize(1 + 3 + 9 + 27);
+        assertThat(payload.treePath().getTreeItemIdsToExpand()).startsWith(ROOT, "root.0", "root.0.0", "root.0.0.0", "root.0.0.1");
+        assertThat(payload.treePath().getMaxDepth()).isEqualTo(LEVELS_COUNT + 1);
+    }
+
+    @Test
+    public void givenTooManyTreeItemsWhenTheContentIsExpandedThenTheTreePathIsTruncated() {
+        var handler = new DefaultExpandAllTreePathHandler(new ITreeNavigationService.NoOp(), 10, 100, TIMEOUT);
+        var payload = this.expandAll(handler);
+
+        assertThat(payload.truncated()).isTrue();
+        assertThat(payload.treePath().getTreeItemIdsToExpand()).hasSize(10);
+        assertThat(this.treeItemIdsCount.get()).isEqualTo(10 - 1);
+    }
+
+    @Test
+    public void givenTooDeepTreeItemsWhenTheContentIsExpandedThenTheTreePathIsTruncated() {
+        var handler = new DefaultExpandAllTreePathHandler(new ITreeNavigationService.NoOp(), 1000, 1, TIMEOUT);
+        var payload = this.expandAll(handler);
+
+        assertThat(payload.truncated()).isTrue();
+        assertThat(payload.treePath().getTreeItemIdsToExpand()).containsExactly(ROOT, "root.0", "root.1", "root.2");
+        assertThat(payload.treePath().getMaxDepth()).isEqualTo(2);
+    }
+
+    @Test
+    public void givenAnInterruptedThreadWhenTheContentIsExpandedThenNothingIsComputed() {
+        var handler = new DefaultExpandAllTreePathHandler(new ITreeNavigationService.NoOp(), 1000, 100, TIMEOUT);
+
+        Thread.currentThread().interrupt();
+        try {
+            var payload = this.expandAll(handler);
+
+            assertThat(payload.truncated()).isTrue();
+            assertThat(payload.treePath().getTreeItemIdsToExpand()).isEmpty();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void givenACancelledInputWhenTheContentIsExpandedThenTheWalkStops() {
+        var handler = new DefaultExpandAllTreePathHandler(new ITreeNavigationService.NoOp(), 1000, 100, TIMEOUT);
+
+        // The caller gives up once the children of the first tree item have been computed
+        var cancelled = new AtomicBoolean();
+        var treeDescription = TreeDescription.newTreeDescription(this.getTreeDescription())
+                .childrenProvider(variableManager -> {
+                    var children = this.getChildren(variableManager);
+                    cancelled.set(true);
+                    return children;
+                })
+                .build();
+        var payload = this.expandAll(handler, treeDescription, cancelled);
+
+        assertThat(payload.truncated()).isTrue();
+        assertThat(payload.treePath().getTreeItemIdsToExpand()).containsExactly(ROOT);
+        assertThat(this.treeItemIdsCount.get()).isEqualTo(CHILDREN_COUNT);
+    }
+
+    private ExpandAllTreePathSuccessPayload expandAll(DefaultExpandAllTreePathHandler handler) {
+        return this.expandAll(handler, this.getTreeDescription(), new AtomicBoolean());
+    }
+
+    private ExpandAllTreePathSuccessPayload expandAll(DefaultExpandAllTreePathHandler handler, TreeDescription treeDescription, AtomicBoolean cancelled) {
+        Tree tree = Tree.newTree("treeId")
+                .descriptionId("treeDescriptionId")
+                .targetObjectId("targetObjectId")
+                .label(TREE_LABEL)
+                .children(List.of())
+                .build();
+        var input = new ExpandAllTreePathInput(UUID.randomUUID(), "editingContextId", tree.getId(), ROOT, cancelled);
+
+        IPayload payload = handler.handle(new IEditingContext.NoOp(), treeDescription, tree, input);
+        assertThat(payload).isInstanceOf(ExpandAllTreePathSuccessPayload.class);
+        return (ExpandAllTreePathSuccessPayload) payload;
+    }
+
+    private TreeDescription getTreeDescription() {
+        return TreeDescription.newTreeDescription("treeDescriptionId")
+                .label(TREE_LABEL)
+                .idProvider(variableManager -> "treeId")
+                .treeItemIdProvider(variableManager -> {
+                    this.treeItemIdsCount.incrementAndGet();
+                    return variableManager.get(VariableManager.SELF, String.class).orElse("");
+                })
+                .kindProvider(variableManager -> "kind")
+                .labelProvider(variableManager -> StyledString.of(TREE_LABEL))
+                .targetObjectIdProvider(variableManager -> "targetObjectId")
+                .parentObjectProvider(variableManager -> null)
+                .iconURLProvider(variableManager -> List.of())
+                .editableProvider(variableManager -> false)
+                .deletableProvider(variableManager -> false)
+                .elementsProvider(variableManager -> List.of(ROOT))
+                .childrenProvider(this::getChildren)
+                .hasChildrenProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).filter(this::hasChildren).isPresent())
+                .canCreatePredicate(variableManager -> true)
+                .deleteHandler(variableManager -> new Success())
+                .renameHandler((variableManager, newLabel) -> new Success())
+                .treeItemObjectProvider(variableManager -> variableManager.get(TreeDescription.ID, String.class).orElse(null))
+                .treeItemLabelProvider(variableManager -> StyledString.of(variableManager.get(VariableManager.SELF, String.class).orElse("")))
+                .build();
+    }
+
+    private boolean hasChildren(String treeItem) {
+        return treeItem.chars().filter(character -> character == '.').count() < LEVELS_COUNT;
+    }
+
+    private List<?> getChildren(VariableManager variableManager) {
+        var expandedIds = variableManager.get(TreeRenderer.EXPANDED, List.class).orElse(List.of());
+        return variableManager.get(VariableManager.SELF, String.class)
+                .filter(this::hasChildren)
+                .filter(expandedIds::contains)
+                .map(self -> IntStream.range(0, CHILDREN_COUNT).mapToObj(index -> self + "." + index).toList())
+                .orElse(List.of());
+    }
+}
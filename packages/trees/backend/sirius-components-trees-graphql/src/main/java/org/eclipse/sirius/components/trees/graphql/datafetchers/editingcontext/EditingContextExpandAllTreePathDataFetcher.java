@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -15,12 +15,13 @@ package org.eclipse.sirius.components.trees.graphql.datafetchers.editingcontext;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.sirius.components.annotations.spring.graphql.QueryDataFetcher;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
+import org.eclipse.sirius.components.collaborative.trees.dto.ExpandAllTreePath;
 import org.eclipse.sirius.components.collaborative.trees.dto.ExpandAllTreePathInput;
 import org.eclipse.sirius.components.collaborative.trees.dto.ExpandAllTreePathSuccessPayload;
-import org.eclipse.sirius.components.collaborative.trees.dto.TreePath;
 import org.eclipse.sirius.components.graphql.api.IDataFetcherWithFieldCoordinates;
 
 import graphql.schema.DataFetchingEnvironment;
@@ -31,7 +32,7 @@ import graphql.schema.DataFetchingEnvironment;
  * @author arichard
  */
 @QueryDataFetcher(type = "EditingContext", field = "expandAllTreePath")
-public class EditingContextExpandAllTreePathDataFetcher implements IDataFetcherWithFieldCoordinates<CompletableFuture<TreePath>> {
+public class EditingContextExpandAllTreePathDataFetcher implements IDataFetcherWithFieldCoordinates<CompletableFuture<ExpandAllTreePath>> {
 
     private static final String TREE_ID = "treeId";
 
@@ -44,16 +45,19 @@ public class EditingContextExpandAllTreePathDataFetcher implements IDataFetcherW
     }
 
     @Override
-    public CompletableFuture<TreePath> get(DataFetchingEnvironment environment) throws Exception {
+    public CompletableFuture<ExpandAllTreePath> get(DataFetchingEnvironment environment) throws Exception {
         String editingContextId = environment.getSource();
         String treeId = environment.getArgument(TREE_ID);
         String treeItemId = environment.getArgument(TREE_ITEM_ID);
 
-        ExpandAllTreePathInput input = new ExpandAllTreePathInput(UUID.randomUUID(), editingContextId, treeId, treeItemId);
+        // The computation is stopped if the future is cancelled, the cancellation of the future cancels the subscription
+        var cancelled = new AtomicBoolean();
+        ExpandAllTreePathInput input = new ExpandAllTreePathInput(UUID.randomUUID(), editingContextId, treeId, treeItemId, cancelled);
         return this.editingContextEventProcessorRegistry.dispatchEvent(editingContextId, input)
+                .doOnCancel(() -> cancelled.set(true))
                 .filter(ExpandAllTreePathSuccessPayload.class::isInstance)
                 .map(ExpandAllTreePathSuccessPayload.class::cast)
-                .map(ExpandAllTreePathSuccessPayload::treePath)
+                .map(payload -> new ExpandAllTreePath(payload.treePath().getTreeItemIdsToExpand(), payload.treePath().getMaxDepth(), payload.truncated()))
                 .toFuture();
     }
 
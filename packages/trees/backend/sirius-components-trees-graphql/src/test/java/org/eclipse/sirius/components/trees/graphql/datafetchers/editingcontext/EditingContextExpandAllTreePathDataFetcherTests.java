@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.trees.graphql.datafetchers.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
+import org.eclipse.sirius.components.collaborative.trees.dto.ExpandAllTreePathInput;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.junit.jupiter.api.Test;
+
+import graphql.schema.DataFetchingEnvironmentImpl;
+import reactor.core.publisher.Mono;
+
+/**
+ * Test cases for the data fetcher of the expand all.
+ *
+ * @author agent
+ */
+public class EditingContextExpandAllTreePathDataFetcherTests {
+
+    @Test
+    public void givenAnExpandAllWhenItsFutureIsCancelledThenItsInputIsCancelled() throws Exception {
+        AtomicReference<IInput> dispatchedInput = new AtomicReference<>();
+        var editingContextEventProcessorRegistry = new IEditingContextEventProcessorRegistry.NoOp() {
+            @Override
+            public Mono<IPayload> dispatchEvent(String editingContextId, IInput input) {
+                dispatchedInput.set(input);
+                return Mono.never();
+            }
+        };
+
+        var environment = DataFetchingEnvironmentImpl.newDataFetchingEnvironment()
+                .source("editingContextId")
+                .arguments(Map.of("treeId", "treeId", "treeItemId", "treeItemId"))
+                .build();
+        var future = new EditingContextExpandAllTreePathDataFetcher(editingContextEventProcessorRegistry).get(environment);
+
+        assertThat(dispatchedInput.get()).isInstanceOf(ExpandAllTreePathInput.class);
+        var input = (ExpandAllTreePathInput) dispatchedInput.get();
+        assertThat(input.cancelled()).isFalse();
+
+        future.cancel(true);
+        assertThat(input.cancelled()).isTrue();
+    }
+}
@@ -34,6 +34,7 @@ public class ExpandAllTreePathQueryRunner implements IQueryRunner {
                   expandAllTreePath(treeId: $treeId, treeItemId: $treeItemId) {
                     treeItemIdsToExpand
                     maxDepth
+                    truncated
                   }
                 }
               }
@@ -38,9 +38,7 @@ import org.eclipse.sirius.components.representations.VariableManager;
 import org.eclipse.sirius.components.view.View;
 import org.eclipse.sirius.components.view.ViewPackage;
 import org.eclipse.sirius.components.view.diagram.NodeLabelStyle;
-import org.springframework.beans.BeansException;
-import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
-import org.springframework.context.ApplicationContext;
+import org.eclipse.sirius.components.view.emf.api.IViewAQLInterpreterFactory;
 import org.springframework.stereotype.Component;
 
 /**
@@ -60,13 +58,10 @@ public class AQLTextfieldCustomizer implements ITextfieldCustomizer {
 
     private static final String AQL_PREFIX = "aql:";
 
-    private final ApplicationContext applicationContext;
+    private final IViewAQLInterpreterFactory aqlInterpreterFactory;
 
-    private final List<IJavaServiceProvider> javaServiceProviders;
-
-    public AQLTextfieldCustomizer(ApplicationContext applicationContext, List<IJavaServiceProvider> javaServiceProviders) {
-        this.applicationContext = Objects.requireNonNull(applicationContext);
-        this.javaServiceProviders = Objects.requireNonNull(javaServiceProviders);
+    public AQLTextfieldCustomizer(IViewAQLInterpreterFactory aqlInterpreterFactory) {
+        this.aqlInterpreterFactory = Objects.requireNonNull(aqlInterpreterFactory);
     }
 
     @Override
@@ -101,7 +96,7 @@ public class AQLTextfieldCustomizer implements ITextfieldCustomizer {
                 }
                 return null;
             }).orElse(null);
-            AQLInterpreter interpreter = this.createInterpreter(view, visibleEPackages);
+            AQLInterpreter interpreter = this.aqlInterpreterFactory.createInterpreter(view, visibleEPackages);
 
             ICompletionResult completionResult = interpreter.getProposals(currentText.substring(AQL_PREFIX.length()), cursorPosition - AQL_PREFIX.length());
             Set<ICompletionProposal> aqlProposals = new LinkedHashSet<>(completionResult.getProposals(QueryCompletion.createBasicFilter(completionResult)));
@@ -138,22 +133,4 @@ public class AQLTextfieldCustomizer implements ITextfieldCustomizer {
         }
     }
 
-    private AQLInterpreter createInterpreter(View view, List<EPackage> visibleEPackages) {
-        AutowireCapableBeanFactory beanFactory = this.applicationContext.getAutowireCapableBeanFactory();
-        List<Object> serviceInstances = this.javaServiceProviders.stream()
-                .flatMap(provider -> provider.getServiceClasses(view).stream())
-                .map(serviceClass -> {
-                    try {
-                        return beanFactory.createBean(serviceClass);
-                    } catch (BeansException beansException) {
-                        //this.logger.warn("Error while trying to instantiate Java service class " + serviceClass.getName(), beansException);
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .map(Object.class::cast)
-                .toList();
-        return new AQLInterpreter(List.of(), serviceInstances, visibleEPackages);
-    }
-
 }
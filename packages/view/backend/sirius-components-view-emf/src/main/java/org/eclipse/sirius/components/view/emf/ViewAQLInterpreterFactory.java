@@ -13,8 +13,15 @@
 package org.eclipse.sirius.components.view.emf;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
 
 import org.eclipse.acceleo.query.runtime.IReadOnlyQueryEnvironment;
 import org.eclipse.acceleo.query.runtime.IServiceProvider;
@@ -37,13 +44,30 @@ import org.springframework.stereotype.Service;
 /**
  * Used to create an AQL interpreter parameterized for the view DSL.
  *
+ * <p>
+ * The interpreters created for an editing context are reused for this editing context only, as long as the view, its
+ * Java services and the visible EPackages stay the same. It lets the registration of the services and the cache of the
+ * parsed expressions survive across requests. Since neither the query environment nor the services of an interpreter
+ * are thread safe, an interpreter is never shared between editing contexts, it is thus only used by the thread of its
+ * editing context. An interpreter is dropped as soon as its editing context or its view is garbage collected or once
+ * some newer interpreters have been created for the same view, for example because its domains have been modified.
+ * </p>
+ *
+ * <p>
+ * The interpreters created without an editing context are never reused.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
 public class ViewAQLInterpreterFactory implements IViewAQLInterpreterFactory {
 
+    private static final int MAX_INTERPRETERS_PER_VIEW = 8;
+
     private final List<IJavaServiceProvider> javaServiceProviders;
 
+    private final Map<IEditingContext, Map<View, LinkedList<CachedInterpreter>>> interpreters = new WeakHashMap<>();
+
     private final ApplicationContext applicationContext;
 
     private final Logger logger = LoggerFactory.getLogger(ViewAQLInterpreterFactory.class);
@@ -58,10 +82,56 @@ public class ViewAQLInterpreterFactory implements IViewAQLInterpreterFactory {
 
     @Override
     public AQLInterpreter createInterpreter(IEditingContext editingContext, View view) {
+        List<Class<?>> serviceClasses = this.getServiceClasses(view);
         List<EPackage> visibleEPackages = this.getAccessibleEPackages(editingContext);
-        AutowireCapableBeanFactory beanFactory = this.applicationContext.getAutowireCapableBeanFactory();
-        List<Object> serviceInstances = this.javaServiceProviders.stream()
+        Set<EPackage> ePackages = Collections.newSetFromMap(new IdentityHashMap<>());
+        ePackages.addAll(visibleEPackages);
+
+        return this.findInterpreter(editingContext, view, serviceClasses, ePackages)
+                .orElseGet(() -> this.createCachedInterpreter(editingContext, view, serviceClasses, visibleEPackages, ePackages));
+    }
+
+    @Override
+    public AQLInterpreter createInterpreter(View view, List<EPackage> visibleEPackages) {
+        return new AQLInterpreter(List.of(), this.createServiceInstances(this.getServiceClasses(view)), visibleEPackages);
+    }
+
+    private List<Class<?>> getServiceClasses(View view) {
+        return this.javaServiceProviders.stream()
                 .flatMap(provider -> provider.getServiceClasses(view).stream())
+                .toList();
+    }
+
+    private Optional<AQLInterpreter> findInterpreter(IEditingContext editingContext, View view, List<Class<?>> serviceClasses, Set<EPackage> ePackages) {
+        synchronized (this.interpreters) {
+            var cachedInterpreters = this.interpreters.getOrDefault(editingContext, Map.of()).getOrDefault(view, new LinkedList<>());
+            var optionalCachedInterpreter = cachedInterpreters.stream()
+                    .filter(cachedInterpreter -> cachedInterpreter.serviceClasses().equals(serviceClasses) && cachedInterpreter.ePackages().equals(ePackages))
+                    .findFirst();
+            optionalCachedInterpreter.ifPresent(cachedInterpreter -> {
+                cachedInterpreters.remove(cachedInterpreter);
+                cachedInterpreters.addFirst(cachedInterpreter);
+            });
+            return optionalCachedInterpreter.map(CachedInterpreter::interpreter);
+        }
+    }
+
+    private AQLInterpreter createCachedInterpreter(IEditingContext editingContext, View view, List<Class<?>> serviceClasses, List<EPackage> visibleEPackages, Set<EPackage> ePackages) {
+        var interpreter = new AQLInterpreter(List.of(), this.createServiceInstances(serviceClasses), visibleEPackages);
+        synchronized (this.interpreters) {
+            var cachedInterpreters = this.interpreters.computeIfAbsent(editingContext, key -> new WeakHashMap<>())
+                    .computeIfAbsent(view, key -> new LinkedList<>());
+            cachedInterpreters.addFirst(new CachedInterpreter(serviceClasses, ePackages, interpreter));
+            if (cachedInterpreters.size() > MAX_INTERPRETERS_PER_VIEW) {
+                cachedInterpreters.removeLast();
+            }
+        }
+        return interpreter;
+    }
+
+    private List<Object> createServiceInstances(List<Class<?>> serviceClasses) {
+        AutowireCapableBeanFactory beanFactory = this.applicationContext.getAutowireCapableBeanFactory();
+        return serviceClasses.stream()
                 .map(serviceClass -> {
                     try {
                         return beanFactory.createBean(serviceClass);
@@ -73,7 +143,6 @@ public class ViewAQLInterpreterFactory implements IViewAQLInterpreterFactory {
                 .filter(Objects::nonNull)
                 .map(Object.class::cast)
                 .toList();
-        return new AQLInterpreter(List.of(), serviceInstances, visibleEPackages);
     }
 
     private List<EPackage> getAccessibleEPackages(IEditingContext editingContext) {
@@ -86,4 +155,12 @@ public class ViewAQLInterpreterFactory implements IViewAQLInterpreterFactory {
         }
         return List.of();
     }
+
+    /**
+     * An interpreter created for a specific set of Java services and visible EPackages.
+     *
+     * @author agent
+     */
+    private record CachedInterpreter(List<Class<?>> serviceClasses, Set<EPackage> ePackages, AQLInterpreter interpreter) {
+    }
 }
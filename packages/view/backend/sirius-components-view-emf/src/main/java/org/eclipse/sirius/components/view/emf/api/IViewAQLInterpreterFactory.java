@@ -12,6 +12,9 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.view.emf.api;
 
+import java.util.List;
+
+import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
 import org.eclipse.sirius.components.view.View;
@@ -23,4 +26,6 @@ import org.eclipse.sirius.components.view.View;
  */
 public interface IViewAQLInterpreterFactory {
     AQLInterpreter createInterpreter(IEditingContext editingContext, View view);
+
+    AQLInterpreter createInterpreter(View view, List<EPackage> visibleEPackages);
 }
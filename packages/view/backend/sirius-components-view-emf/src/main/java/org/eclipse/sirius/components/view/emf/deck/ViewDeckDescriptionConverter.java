@@ -193,7 +193,7 @@ public class ViewDeckDescriptionConverter implements IRepresentationDescriptionC
     }
 
     private List<?> getSemanticElements(org.eclipse.sirius.components.view.deck.LaneDescription viewLaneDescription, VariableManager variableManager, AQLInterpreter interpreter) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), viewLaneDescription.getSemanticCandidatesExpression())
+        return interpreter.evaluateExpression(variableManager.getVariablesView(), viewLaneDescription.getSemanticCandidatesExpression())
                 .asObjects().orElseGet(List::of).stream()
                 .filter(EObject.class::isInstance)
                 .map(EObject.class::cast)
@@ -202,7 +202,7 @@ public class ViewDeckDescriptionConverter implements IRepresentationDescriptionC
     }
 
     private List<?> getSemanticElements(org.eclipse.sirius.components.view.deck.CardDescription viewCardDescription, VariableManager variableManager, AQLInterpreter interpreter) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), viewCardDescription.getSemanticCandidatesExpression())
+        return interpreter.evaluateExpression(variableManager.getVariablesView(), viewCardDescription.getSemanticCandidatesExpression())
                 .asObjects().orElseGet(List::of).stream()
                 .filter(EObject.class::isInstance)
                 .map(EObject.class::cast)
@@ -223,7 +223,7 @@ public class ViewDeckDescriptionConverter implements IRepresentationDescriptionC
                 .filter(new DomainClassPredicate(domainType));
         if (optionalEClass.isPresent()) {
             if (preconditionExpression != null && !preconditionExpression.isBlank()) {
-                result = interpreter.evaluateExpression(variableManager.getVariables(), preconditionExpression)
+                result = interpreter.evaluateExpression(variableManager.getVariablesView(), preconditionExpression)
                         .asBoolean()
                         .orElse(false);
             } else {
@@ -244,13 +244,13 @@ public class ViewDeckDescriptionConverter implements IRepresentationDescriptionC
     }
 
     private String evaluateString(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression)
+        return interpreter.evaluateExpression(variableManager.getVariablesView(), expression)
                 .asString()
                 .orElse("");
     }
 
     private Boolean evaluateBoolean(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression)
+        return interpreter.evaluateExpression(variableManager.getVariablesView(), expression)
                 .asBoolean()
                 .orElse(true);
     }
@@ -260,6 +260,6 @@ public class ViewDeckDescriptionConverter implements IRepresentationDescriptionC
     }
 
     private boolean matches(AQLInterpreter interpreter, String condition, VariableManager variableManager) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), condition).asBoolean().orElse(Boolean.FALSE);
+        return interpreter.evaluateExpression(variableManager.getVariablesView(), condition).asBoolean().orElse(Boolean.FALSE);
     }
 }
@@ -16,9 +16,11 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
@@ -56,7 +58,6 @@ import org.eclipse.sirius.components.diagrams.description.LabelStyleDescription;
 import org.eclipse.sirius.components.diagrams.description.NodeDescription;
 import org.eclipse.sirius.components.diagrams.description.OutsideLabelDescription;
 import org.eclipse.sirius.components.diagrams.description.SynchronizationPolicy;
-import org.eclipse.sirius.components.diagrams.elements.NodeElementProps;
 import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingCache;
 import org.eclipse.sirius.components.emf.DomainClassPredicate;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
@@ -207,7 +208,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
         if (optionalEClass.isPresent()) {
             String preconditionExpression = viewDiagramDescription.getPreconditionExpression();
             if (preconditionExpression != null && !preconditionExpression.isBlank()) {
-                result = interpreter.evaluateExpression(variableManager.getVariables(), preconditionExpression).asBoolean().orElse(false);
+                result = interpreter.evaluateExpression(variableManager.getVariablesView(), preconditionExpression).asBoolean().orElse(false);
             } else {
                 result = true;
             }
@@ -270,7 +271,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
                 .toList();
 
         Predicate<VariableManager> shouldRenderPredicate = variableManager -> {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), viewNodeDescription.getPreconditionExpression());
+            Result result = interpreter.evaluateExpression(variableManager.getVariablesView(), viewNodeDescription.getPreconditionExpression());
             return result.asBoolean().orElse(true);
         };
 
@@ -312,16 +313,16 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
     }
 
     private ILayoutStrategy getiLayoutStrategy(ListLayoutStrategyDescription listLayoutStrategyDescription, VariableManager variableManager, AQLInterpreter interpreter) {
-        Result resultAreChildNodesDraggable = interpreter.evaluateExpression(variableManager.getVariables(), listLayoutStrategyDescription.getAreChildNodesDraggableExpression());
+        Result resultAreChildNodesDraggable = interpreter.evaluateExpression(variableManager.getVariablesView(), listLayoutStrategyDescription.getAreChildNodesDraggableExpression());
         var builder = ListLayoutStrategy.newListLayoutStrategy()
                 .areChildNodesDraggable(resultAreChildNodesDraggable.asBoolean().orElse(true))
                 .growableNodeIds(listLayoutStrategyDescription.getGrowableNodes().stream().map(this.diagramIdProvider::getId).toList());
         if (listLayoutStrategyDescription.getBottomGapExpression() != null && !listLayoutStrategyDescription.getBottomGapExpression().isBlank()) {
-            Result resultBottomGap = interpreter.evaluateExpression(variableManager.getVariables(), listLayoutStrategyDescription.getBottomGapExpression());
+            Result resultBottomGap = interpreter.evaluateExpression(variableManager.getVariablesView(), listLayoutStrategyDescription.getBottomGapExpression());
             builder.bottomGap(resultBottomGap.asInt().orElse(0));
         }
         if (listLayoutStrategyDescription.getTopGapExpression() != null && !listLayoutStrategyDescription.getTopGapExpression().isBlank()) {
-            Result resultTopGap = interpreter.evaluateExpression(variableManager.getVariables(), listLayoutStrategyDescription.getTopGapExpression());
+            Result resultTopGap = interpreter.evaluateExpression(variableManager.getVariablesView(), listLayoutStrategyDescription.getTopGapExpression());
             builder.topGap(resultTopGap.asInt().orElse(0));
         }
 
@@ -330,7 +331,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
 
     private Boolean computeBooleanProvider(String booleanExpression, AQLInterpreter interpreter, VariableManager variableManager) {
         if (booleanExpression != null && !booleanExpression.isBlank()) {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), booleanExpression);
+            Result result = interpreter.evaluateExpression(variableManager.getVariablesView(), booleanExpression);
             if (result.getStatus().compareTo(Status.WARNING) <= 0) {
                 return result.asBoolean().orElse(false);
             }
@@ -340,7 +341,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
 
     private Integer computeDefaultSizeProvider(String defaultSizeExpression, AQLInterpreter interpreter, VariableManager variableManager) {
         if (defaultSizeExpression != null && !defaultSizeExpression.isBlank()) {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), defaultSizeExpression);
+            Result result = interpreter.evaluateExpression(variableManager.getVariablesView(), defaultSizeExpression);
             if (result.getStatus().compareTo(Status.WARNING) <= 0 && result.asInt().isPresent()) {
                 return result.asInt().getAsInt();
             }
@@ -355,7 +356,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
     }
 
     private boolean matches(AQLInterpreter interpreter, String condition, VariableManager variableManager) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), condition).asBoolean().orElse(Boolean.FALSE);
+        return interpreter.evaluateExpression(variableManager.getVariablesView(), condition).asBoolean().orElse(Boolean.FALSE);
     }
 
     private InsideLabelDescription getInsideLabelDescription(org.eclipse.sirius.components.view.diagram.NodeDescription viewNodeDescription, AQLInterpreter interpreter, StylesFactory stylesFactory) {
@@ -471,7 +472,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
 
     private Function<VariableManager, List<?>> getSemanticElementsProvider(org.eclipse.sirius.components.view.diagram.DiagramElementDescription elementDescription, AQLInterpreter interpreter) {
         return variableManager -> {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), elementDescription.getSemanticCandidatesExpression());
+            Result result = interpreter.evaluateExpression(variableManager.getVariablesView(), elementDescription.getSemanticCandidatesExpression());
             List<Object> candidates = result.asObjects().orElse(List.of());
             return candidates.stream()
                     .filter(EObject.class::isInstance)
@@ -494,10 +495,14 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
         }
 
         Predicate<VariableManager> shouldRenderPredicate = variableManager -> {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), viewEdgeDescription.getPreconditionExpression());
+            Result result = interpreter.evaluateExpression(variableManager.getVariablesView(), viewEdgeDescription.getPreconditionExpression());
             return result.asBoolean().orElse(true);
         };
 
+        Set<String> sourceNodeDescriptionIds = viewEdgeDescription.getSourceNodeDescriptions().stream()
+                .map(this.diagramIdProvider::getId)
+                .collect(Collectors.toSet());
+
         Function<VariableManager, List<Element>> sourceNodesProvider = null;
         if (viewEdgeDescription.isIsDomainBasedEdge()) {
             sourceNodesProvider = variableManager -> {
@@ -508,12 +513,10 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
                 DiagramRenderingCache cache = optionalCache.get();
                 String sourceFinderExpression = viewEdgeDescription.getSourceNodesExpression();
 
-                Result result = interpreter.evaluateExpression(variableManager.getVariables(), sourceFinderExpression);
+                Result result = interpreter.evaluateExpression(variableManager.getVariablesView(), sourceFinderExpression);
                 List<Object> semanticCandidates = result.asObjects().orElse(List.of());
-                var nodeCandidates = semanticCandidates.stream().flatMap(semanticObject -> cache.getElementsRepresenting(semanticObject).stream());
-
-                return nodeCandidates
-                        .filter(nodeElement -> viewEdgeDescription.getSourceNodeDescriptions().stream().anyMatch(nodeDescription -> this.isFromDescription(nodeElement, nodeDescription)))
+                return semanticCandidates.stream()
+                        .flatMap(semanticObject -> cache.getElementsRepresenting(semanticObject, sourceNodeDescriptionIds).stream())
                         .filter(Objects::nonNull)
                         .toList();
             };
@@ -528,14 +531,14 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
                 DiagramRenderingCache cache = optionalCache.get();
                 Object object = optionalObject.get();
 
-                return cache.getElementsRepresenting(object).stream()
-                        .filter(this.isFromCompatibleSourceMapping(viewEdgeDescription))
+                return cache.getElementsRepresenting(object, sourceNodeDescriptionIds).stream()
                         .filter(Objects::nonNull)
                         .toList();
             };
         }
 
-        Function<VariableManager, List<Element>> targetNodesProvider = new TargetNodesProvider(this.diagramIdProvider, viewEdgeDescription, interpreter);
+        Function<VariableManager, List<Element>> targetNodesProvider = new TargetNodesProvider(viewEdgeDescription.getTargetNodeDescriptions().stream().map(this.diagramIdProvider::getId).toList(), viewEdgeDescription,
+                interpreter);
 
         Function<VariableManager, EdgeStyle> styleProvider = variableManager -> {
             var effectiveStyle = viewEdgeDescription.getConditionalStyles().stream()
@@ -682,23 +685,12 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
         };
     }
 
-    private Predicate<Element> isFromCompatibleSourceMapping(org.eclipse.sirius.components.view.diagram.EdgeDescription edgeDescription) {
-        return nodeElement -> edgeDescription.getSourceNodeDescriptions().stream().anyMatch(nodeDescription -> this.isFromDescription(nodeElement, nodeDescription));
-    }
-
-    private boolean isFromDescription(Element nodeElement, DiagramElementDescription diagramElementDescription) {
-        if (nodeElement.getProps() instanceof NodeElementProps props) {
-            return Objects.equals(this.diagramIdProvider.getId(diagramElementDescription), props.getDescriptionId());
-        }
-        return false;
-    }
-
     private Optional<Object> self(VariableManager variableManager) {
         return variableManager.get(VariableManager.SELF, Object.class);
     }
 
     private String evaluateString(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression).asString().orElse("");
+        return interpreter.evaluateExpression(variableManager.getVariablesView(), expression).asString().orElse("");
     }
 
     private IDiagramContext getDiagramContext(VariableManager variableManager) {
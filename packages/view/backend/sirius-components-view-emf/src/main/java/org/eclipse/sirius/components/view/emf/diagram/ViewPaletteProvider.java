@@ -466,7 +466,7 @@ public class ViewPaletteProvider implements IPaletteProvider {
     private boolean checkPrecondition(Tool tool, VariableManager variableManager, AQLInterpreter interpreter) {
         String precondition = tool.getPreconditionExpression();
         if (precondition != null && !precondition.isBlank()) {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), precondition);
+            Result result = interpreter.evaluateExpression(variableManager.getVariablesView(), precondition);
             return result.getStatus().compareTo(Status.WARNING) <= 0 && result.asBoolean().orElse(Boolean.FALSE);
         }
         return true;
@@ -495,7 +495,7 @@ public class ViewPaletteProvider implements IPaletteProvider {
     }
 
     private List<String> evaluateListString(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        List<Object> objects = interpreter.evaluateExpression(variableManager.getVariables(), expression).asObjects().orElse(List.of());
+        List<Object> objects = interpreter.evaluateExpression(variableManager.getVariablesView(), expression).asObjects().orElse(List.of());
         return objects.stream()
                 .filter(String.class::isInstance)
                 .map(String.class::cast)
@@ -105,7 +105,7 @@ public class ViewFormDescriptionConverter implements IRepresentationDescriptionC
 
         UnaryOperator<VariableManager> variableManagerInitializer = variableManager -> {
             for (FormVariable formVariable : viewFormDescription.getFormVariables()) {
-                Result result = interpreter.evaluateExpression(variableManager.getVariables(), formVariable.getDefaultValueExpression());
+                Result result = interpreter.evaluateExpression(variableManager.getVariablesView(), formVariable.getDefaultValueExpression());
                 if (result.asObject().isPresent()) {
                     variableManager.put(formVariable.getName(), result.asObject().get());
                 }
@@ -213,7 +213,7 @@ public class ViewFormDescriptionConverter implements IRepresentationDescriptionC
     }
 
     private List<?> getSemanticElementsProvider(org.eclipse.sirius.components.view.form.GroupDescription viewGroupDescription, VariableManager variableManager, AQLInterpreter interpreter) {
-        Result result = interpreter.evaluateExpression(variableManager.getVariables(), viewGroupDescription.getSemanticCandidatesExpression());
+        Result result = interpreter.evaluateExpression(variableManager.getVariablesView(), viewGroupDescription.getSemanticCandidatesExpression());
         List<Object> candidates = result.asObjects().orElse(List.of());
         return candidates.stream()
                 .filter(EObject.class::isInstance)
@@ -222,7 +222,7 @@ public class ViewFormDescriptionConverter implements IRepresentationDescriptionC
     }
 
     private List<?> getSemanticElementsProvider(org.eclipse.sirius.components.view.form.PageDescription viewPageDescription, VariableManager variableManager, AQLInterpreter interpreter) {
-        Result result = interpreter.evaluateExpression(variableManager.getVariables(), viewPageDescription.getSemanticCandidatesExpression());
+        Result result = interpreter.evaluateExpression(variableManager.getVariablesView(), viewPageDescription.getSemanticCandidatesExpression());
         List<Object> candidates = result.asObjects().orElse(List.of());
         return candidates.stream()
                 .filter(EObject.class::isInstance)
@@ -231,7 +231,7 @@ public class ViewFormDescriptionConverter implements IRepresentationDescriptionC
     }
 
     private Optional<String> evaluateString(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression).asString();
+        return interpreter.evaluateExpression(variableManager.getVariablesView(), expression).asString();
     }
 
     private boolean canCreate(String domainType, String preconditionExpression, VariableManager variableManager, AQLInterpreter interpreter) {
@@ -241,7 +241,7 @@ public class ViewFormDescriptionConverter implements IRepresentationDescriptionC
                 .filter(new DomainClassPredicate(domainType));
         if (optionalEClass.isPresent()) {
             if (preconditionExpression != null && !preconditionExpression.isBlank()) {
-                result = interpreter.evaluateExpression(variableManager.getVariables(), preconditionExpression).asBoolean().orElse(false);
+                result = interpreter.evaluateExpression(variableManager.getVariablesView(), preconditionExpression).asBoolean().orElse(false);
             } else {
                 result = true;
             }
@@ -263,6 +263,6 @@ public class ViewFormDescriptionConverter implements IRepresentationDescriptionC
     }
 
     private boolean matches(String condition, VariableManager variableManager, AQLInterpreter interpreter) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), condition).asBoolean().orElse(Boolean.FALSE);
+        return interpreter.evaluateExpression(variableManager.getVariablesView(), condition).asBoolean().orElse(Boolean.FALSE);
     }
 }
@@ -390,7 +390,7 @@ public class ViewFormDescriptionConverterSwitch extends FormSwitch<Optional<Abst
         Function<VariableManager, Boolean> optionSelectedProvider = variableManager -> {
             VariableManager childVariableManager = variableManager.createChild();
             childVariableManager.put(VARIABLE_MANAGER, variableManager);
-            Optional<Object> optionalResult = this.interpreter.evaluateExpression(childVariableManager.getVariables(), radioDescription.getValueExpression()).asObject();
+            Optional<Object> optionalResult = this.interpreter.evaluateExpression(childVariableManager.getVariablesView(), radioDescription.getValueExpression()).asObject();
             Object candidate = variableManager.getVariables().get(RadioComponent.CANDIDATE_VARIABLE);
             return optionalResult.map(candidate::equals).orElse(Boolean.FALSE);
         };
@@ -747,7 +747,7 @@ public class ViewFormDescriptionConverterSwitch extends FormSwitch<Optional<Abst
             if (!safeIterabeExpression.isBlank()) {
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(VARIABLE_MANAGER, variableManager);
-                Result result = this.interpreter.evaluateExpression(childVariableManager.getVariables(), safeIterabeExpression);
+                Result result = this.interpreter.evaluateExpression(childVariableManager.getVariablesView(), safeIterabeExpression);
                 return result.asObjects().orElse(List.of());
             } else {
                 return List.of();
@@ -831,7 +831,7 @@ public class ViewFormDescriptionConverterSwitch extends FormSwitch<Optional<Abst
             if (!safeValueExpression.isBlank()) {
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(VARIABLE_MANAGER, variableManager);
-                Optional<List<Object>> optionalResult = this.interpreter.evaluateExpression(variableManager.getVariables(), safeValueExpression).asObjects();
+                Optional<List<Object>> optionalResult = this.interpreter.evaluateExpression(variableManager.getVariablesView(), safeValueExpression).asObjects();
                 if (optionalResult.isPresent()) {
                     values = optionalResult.get().stream().filter(String.class::isInstance).map(String.class::cast).toList();
                 }
@@ -847,7 +847,7 @@ public class ViewFormDescriptionConverterSwitch extends FormSwitch<Optional<Abst
             if (!safeValueExpression.isBlank()) {
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(VARIABLE_MANAGER, variableManager);
-                Optional<List<Object>> optionalResult = this.interpreter.evaluateExpression(childVariableManager.getVariables(), safeValueExpression).asObjects();
+                Optional<List<Object>> optionalResult = this.interpreter.evaluateExpression(childVariableManager.getVariablesView(), safeValueExpression).asObjects();
                 if (optionalResult.isPresent()) {
                     var list = optionalResult.get().stream().filter(List.class::isInstance).map(List.class::cast).toList();
                     return list.stream().map(valuesList -> (List<String>) valuesList.stream().filter(String.class::isInstance).map(String.class::cast).toList())
@@ -948,7 +948,7 @@ public class ViewFormDescriptionConverterSwitch extends FormSwitch<Optional<Abst
         String safeValueExpression = Optional.ofNullable(intValueExpression).orElse("");
         return variableManager -> {
             if (!safeValueExpression.isBlank()) {
-                Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), safeValueExpression);
+                Result result = this.interpreter.evaluateExpression(variableManager.getVariablesView(), safeValueExpression);
                 return result.asInt().orElse(0);
             }
             return 0;
@@ -990,7 +990,7 @@ public class ViewFormDescriptionConverterSwitch extends FormSwitch<Optional<Abst
             if (safeExpression.isBlank()) {
                 return List.of();
             } else {
-                return this.interpreter.evaluateExpression(childVariableManager.getVariables(), safeExpression).asObjects().orElse(List.of());
+                return this.interpreter.evaluateExpression(childVariableManager.getVariablesView(), safeExpression).asObjects().orElse(List.of());
             }
         };
     }
@@ -1003,7 +1003,7 @@ public class ViewFormDescriptionConverterSwitch extends FormSwitch<Optional<Abst
             if (safeExpression.isBlank()) {
                 return List.of();
             } else {
-                return this.interpreter.evaluateExpression(childVariableManager.getVariables(), safeExpression).asObjects().orElse(List.of()).stream().map(type::cast).toList();
+                return this.interpreter.evaluateExpression(childVariableManager.getVariablesView(), safeExpression).asObjects().orElse(List.of()).stream().map(type::cast).toList();
             }
         };
     }
@@ -1067,7 +1067,7 @@ public class ViewFormDescriptionConverterSwitch extends FormSwitch<Optional<Abst
             if (!safeValueExpression.isBlank()) {
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(VARIABLE_MANAGER, variableManager);
-                Optional<List<Object>> optionalResult = this.interpreter.evaluateExpression(childVariableManager.getVariables(), safeValueExpression).asObjects();
+                Optional<List<Object>> optionalResult = this.interpreter.evaluateExpression(childVariableManager.getVariablesView(), safeValueExpression).asObjects();
                 if (optionalResult.isPresent()) {
                     values = optionalResult.get().stream().map(this.objectService::getId).toList();
                 }
@@ -1093,7 +1093,7 @@ public class ViewFormDescriptionConverterSwitch extends FormSwitch<Optional<Abst
             if (!safeValueExpression.isBlank()) {
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(VARIABLE_MANAGER, variableManager);
-                Result result = this.interpreter.evaluateExpression(childVariableManager.getVariables(), safeValueExpression);
+                Result result = this.interpreter.evaluateExpression(childVariableManager.getVariablesView(), safeValueExpression);
                 var rawValue = result.asObject();
                 return rawValue.map(this.objectService::getId).orElseGet(() -> rawValue.map(Objects::toString).orElse(""));
             }
@@ -1163,7 +1163,7 @@ public class ViewFormDescriptionConverterSwitch extends FormSwitch<Optional<Abst
             if (expression != null && !expression.isBlank()) {
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(VARIABLE_MANAGER, variableManager);
-                Result result = this.interpreter.evaluateExpression(childVariableManager.getVariables(), expression);
+                Result result = this.interpreter.evaluateExpression(childVariableManager.getVariablesView(), expression);
                 return result.asBoolean().map(value -> !value).orElse(Boolean.FALSE);
             }
             return Boolean.FALSE;
@@ -1182,7 +1182,7 @@ public class ViewFormDescriptionConverterSwitch extends FormSwitch<Optional<Abst
     }
 
     private boolean matches(String condition, VariableManager variableManager) {
-        return this.interpreter.evaluateExpression(variableManager.getVariables(), condition).asBoolean().orElse(Boolean.FALSE);
+        return this.interpreter.evaluateExpression(variableManager.getVariablesView(), condition).asBoolean().orElse(Boolean.FALSE);
     }
 
     private Failure buildFailureWithFeedbackMessages(String technicalMessage) {
@@ -125,7 +125,7 @@ public class ViewTreeDescriptionConverter implements IRepresentationDescriptionC
                 .filter(new DomainClassPredicate(domainType));
         if (optionalEClass.isPresent()) {
             if (preconditionExpression != null && !preconditionExpression.isBlank()) {
-                result = interpreter.evaluateExpression(variableManager.getVariables(), preconditionExpression).asBoolean().orElse(false);
+                result = interpreter.evaluateExpression(variableManager.getVariablesView(), preconditionExpression).asBoolean().orElse(false);
             } else {
                 result = true;
             }
@@ -134,14 +134,14 @@ public class ViewTreeDescriptionConverter implements IRepresentationDescriptionC
     }
 
     private String evaluateString(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression)
+        return interpreter.evaluateExpression(variableManager.getVariablesView(), expression)
                 .asString()
                 .orElse("");
     }
 
     private List<String> evaluateStringList(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
         List<String> values = new ArrayList<>();
-        Optional<List<Object>> optionalResult = interpreter.evaluateExpression(variableManager.getVariables(), expression).asObjects();
+        Optional<List<Object>> optionalResult = interpreter.evaluateExpression(variableManager.getVariablesView(), expression).asObjects();
         if (optionalResult.isPresent()) {
             values = optionalResult.get().stream().filter(String.class::isInstance).map(String.class::cast).toList();
         }
@@ -149,19 +149,19 @@ public class ViewTreeDescriptionConverter implements IRepresentationDescriptionC
     }
 
     private Boolean evaluateBoolean(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression)
+        return interpreter.evaluateExpression(variableManager.getVariablesView(), expression)
                 .asBoolean()
                 .orElse(true);
     }
 
     private Object evaluateObject(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression)
+        return interpreter.evaluateExpression(variableManager.getVariablesView(), expression)
                 .asObject()
                 .orElse(null);
     }
 
     private List<Object> evaluateObjectList(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression)
+        return interpreter.evaluateExpression(variableManager.getVariablesView(), expression)
                 .asObjects()
                 .orElse(List.of());
     }
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.view.emf.view;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.components.view.ViewFactory;
+import org.eclipse.sirius.components.view.emf.ViewAQLInterpreterFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
+
+/**
+ * Unit tests of the reuse of the AQL interpreters created for the views.
+ *
+ * @author agent
+ */
+public class ViewAQLInterpreterFactoryTests {
+
+    private static final String EDITING_CONTEXT_ID = "editingContextId";
+
+    @Test
+    public void testInterpreterIsReusedForTheSameEditingContextAndView() {
+        var aqlInterpreterFactory = new ViewAQLInterpreterFactory(List.of(), new StaticApplicationContext());
+        var editingContext = this.createEditingContext(EDITING_CONTEXT_ID, EcorePackage.eINSTANCE);
+        View view = ViewFactory.eINSTANCE.createView();
+
+        var interpreter = aqlInterpreterFactory.createInterpreter(editingContext, view);
+
+        assertThat(aqlInterpreterFactory.createInterpreter(editingContext, view)).isSameAs(interpreter);
+        assertThat(aqlInterpreterFactory.createInterpreter(editingContext, ViewFactory.eINSTANCE.createView())).isNotSameAs(interpreter);
+    }
+
+    @Test
+    public void testInterpreterIsNotSharedBetweenEditingContexts() {
+        var aqlInterpreterFactory = new ViewAQLInterpreterFactory(List.of(), new StaticApplicationContext());
+        var editingContext = this.createEditingContext(EDITING_CONTEXT_ID, EcorePackage.eINSTANCE);
+        var otherEditingContext = this.createEditingContext("otherEditingContextId", EcorePackage.eINSTANCE);
+        View view = ViewFactory.eINSTANCE.createView();
+
+        var interpreter = aqlInterpreterFactory.createInterpreter(editingContext, view);
+
+        assertThat(aqlInterpreterFactory.createInterpreter(otherEditingContext, view)).isNotSameAs(interpreter);
+        assertThat(aqlInterpreterFactory.createInterpreter(view, List.of(EcorePackage.eINSTANCE))).isNotSameAs(interpreter);
+    }
+
+    @Test
+    public void testInterpreterIsNotReusedOnceTheEPackagesHaveChanged() {
+        var aqlInterpreterFactory = new ViewAQLInterpreterFactory(List.of(), new StaticApplicationContext());
+        var editingContext = this.createEditingContext(EDITING_CONTEXT_ID, this.createEPackage());
+        View view = ViewFactory.eINSTANCE.createView();
+
+        var interpreter = aqlInterpreterFactory.createInterpreter(editingContext, view);
+
+        var ePackage = this.createEPackage();
+        editingContext.getDomain().getResourceSet().getPackageRegistry().put(ePackage.getNsURI(), ePackage);
+        var newInterpreter = aqlInterpreterFactory.createInterpreter(editingContext, view);
+
+        assertThat(newInterpreter).isNotSameAs(interpreter);
+    }
+
+    private IEMFEditingContext createEditingContext(String id, EPackage ePackage) {
+        var resourceSet = new ResourceSetImpl();
+        resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage);
+        var editingDomain = new AdapterFactoryEditingDomain(new ComposedAdapterFactory(), new BasicCommandStack(), resourceSet);
+
+        return new IEMFEditingContext() {
+            @Override
+            public String getId() {
+                return id;
+            }
+
+            @Override
+            public AdapterFactoryEditingDomain getDomain() {
+                return editingDomain;
+            }
+        };
+    }
+
+    private EPackage createEPackage() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("sample");
+        ePackage.setNsPrefix("sample");
+        ePackage.setNsURI("domain://sample");
+        return ePackage;
+    }
+}
@@ -18,6 +18,7 @@ import java.util.Objects;
 
 import org.eclipse.sirius.components.graphql.api.URLConstants;
 import org.eclipse.sirius.components.graphql.ws.GraphQLWebSocketHandler;
+import org.eclipse.sirius.components.graphql.ws.WebSocketSessionOutboxPolicy;
 import org.eclipse.sirius.components.graphql.ws.api.IGraphQLWebSocketHandlerListener;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -53,18 +54,26 @@ public class WebSocketConfiguration implements WebSocketConfigurer {
 
     private final IGraphQLWebSocketHandlerListener graphQLWebSocketHandlerListener;
 
+    private final WebSocketSessionOutboxPolicy webSocketSessionOutboxPolicy;
+
+    private final int senderThreadCount;
+
     public WebSocketConfiguration(@Value("${sirius.components.cors.allowedOriginPatterns:}") String[] allowedOriginPatterns, GraphQL graphQL, ObjectMapper objectMapper, MeterRegistry meterRegistry,
-            IGraphQLWebSocketHandlerListener graphQLWebSocketHandlerListener) {
+            IGraphQLWebSocketHandlerListener graphQLWebSocketHandlerListener, WebSocketSessionOutboxPolicy webSocketSessionOutboxPolicy,
+            @Value("${sirius.components.graphql.ws.senderThreadCount:8}") int senderThreadCount) {
         this.allowedOriginPatterns = Objects.requireNonNull(allowedOriginPatterns);
         this.graphQL = Objects.requireNonNull(graphQL);
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.meterRegistry = Objects.requireNonNull(meterRegistry);
         this.graphQLWebSocketHandlerListener = Objects.requireNonNull(graphQLWebSocketHandlerListener);
+        this.webSocketSessionOutboxPolicy = Objects.requireNonNull(webSocketSessionOutboxPolicy);
+        this.senderThreadCount = senderThreadCount;
     }
 
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
-        GraphQLWebSocketHandler graphQLWebSocketHandler = new GraphQLWebSocketHandler(this.objectMapper, this.graphQL, this.meterRegistry, this.graphQLWebSocketHandlerListener);
+        GraphQLWebSocketHandler graphQLWebSocketHandler = new GraphQLWebSocketHandler(this.objectMapper, this.graphQL, this.meterRegistry, this.graphQLWebSocketHandlerListener,
+                this.webSocketSessionOutboxPolicy, this.senderThreadCount);
         WebSocketHandlerRegistration graphQLWebSocketRegistration = registry.addHandler(graphQLWebSocketHandler, URLConstants.GRAPHQL_SUBSCRIPTION_PATH);
         graphQLWebSocketRegistration.setAllowedOriginPatterns(this.allowedOriginPatterns);
     }
@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.graphql.configuration;
+
+import java.util.Set;
+
+import org.eclipse.sirius.components.graphql.ws.SlowConsumerPolicy;
+import org.eclipse.sirius.components.graphql.ws.WebSocketSessionOutboxPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring configuration of the queues of the messages sent to the Web Socket sessions.
+ *
+ * @author agent
+ */
+@Configuration
+public class WebSocketSessionOutboxConfiguration {
+
+    private static final String DEFAULT_SNAPSHOT_PAYLOAD_TYPES = "DeckRefreshedEventPayload,DiagramRefreshedEventPayload,FormDescriptionEditorRefreshedEventPayload,FormRefreshedEventPayload,"
+            + "GanttRefreshedEventPayload,HierarchyRefreshedEventPayload,PortalRefreshedEventPayload,TreeRefreshedEventPayload,ValidationRefreshedEventPayload";
+
+    @Bean
+    public WebSocketSessionOutboxPolicy webSocketSessionOutboxPolicy(@Value("${sirius.components.graphql.ws.sessionQueueSize:200}") int sessionQueueSize,
+            @Value("${sirius.components.graphql.ws.slowConsumerPolicy:KEEP_LATEST}") SlowConsumerPolicy slowConsumerPolicy,
+            @Value("${sirius.components.graphql.ws.snapshotPayloadTypes:" + DEFAULT_SNAPSHOT_PAYLOAD_TYPES + "}") Set<String> snapshotPayloadTypes,
+            @Value("${sirius.components.graphql.ws.deltaPayloadTypes:DiagramDeltaRefreshedEventPayload}") Set<String> deltaPayloadTypes) {
+        return new WebSocketSessionOutboxPolicy(sessionQueueSize, slowConsumerPolicy, snapshotPayloadTypes, deltaPayloadTypes);
+    }
+}
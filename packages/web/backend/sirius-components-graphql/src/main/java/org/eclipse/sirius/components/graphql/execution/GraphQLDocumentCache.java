@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.graphql.execution;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.ApolloPersistedQuerySupport;
+import graphql.execution.preparsed.persisted.PersistedQueryCacheMiss;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Keeps in memory the GraphQL documents which have already been parsed and validated.
+ *
+ * <p>
+ * Documents are found using the text of the query or, for persisted queries, using the hash of the query sent in the
+ * "persistedQuery" extension of the request. A persisted query is stored the first time it is sent with both its hash
+ * and its text. After that, the client only has to send its hash. If the persisted query is not known anymore, an error
+ * is returned and the client has to send the text of the query again. Only the most recently used documents are kept.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class GraphQLDocumentCache implements PreparsedDocumentProvider {
+
+    private static final String METRIC_NAME = "siriusweb_graphql_documents";
+
+    private static final String RESULT = "result";
+
+    private static final String PERSISTED_QUERY = "persistedQuery";
+
+    private final Map<DocumentKey, PreparsedDocumentEntry> documents;
+
+    private final PreparsedDocumentProvider persistedQuerySupport;
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    public GraphQLDocumentCache(@Value("${sirius.components.graphql.documentCacheSize:500}") int maximumSize, MeterRegistry meterRegistry) {
+        this.documents = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<DocumentKey, PreparsedDocumentEntry> eldest) {
+                return this.size() > maximumSize;
+            }
+        });
+        this.persistedQuerySupport = new ApolloPersistedQuerySupport(this::getPersistedQueryDocumentAsync);
+
+        this.hitCounter = Counter.builder(METRIC_NAME)
+                .tag(RESULT, "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_NAME)
+                .tag(RESULT, "miss")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(ExecutionInput executionInput, Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        if (executionInput.getExtensions().containsKey(PERSISTED_QUERY)) {
+            return this.persistedQuerySupport.getDocumentAsync(executionInput, parseAndValidateFunction);
+        }
+
+        var key = new DocumentKey(null, executionInput.getQuery());
+        var document = this.getOrParse(key, () -> parseAndValidateFunction.apply(executionInput));
+        return CompletableFuture.completedFuture(document);
+    }
+
+    private CompletableFuture<PreparsedDocumentEntry> getPersistedQueryDocumentAsync(Object persistedQueryId, ExecutionInput executionInput, PersistedQueryCacheMiss onCacheMiss) {
+        var key = new DocumentKey(persistedQueryId.toString(), null);
+        var document = this.getOrParse(key, () -> {
+            String query = executionInput.getQuery();
+            if (PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(query)) {
+                query = null;
+            }
+            // Throws a PersistedQueryNotFound if the query is unknown and has not been sent, which is expected by the client
+            return onCacheMiss.apply(query);
+        });
+        return CompletableFuture.completedFuture(document);
+    }
+
+    private PreparsedDocumentEntry getOrParse(DocumentKey key, Supplier<PreparsedDocumentEntry> parseAndValidate) {
+        var document = this.documents.get(key);
+        if (document != null) {
+            this.hitCounter.increment();
+        } else {
+            this.missCounter.increment();
+            document = parseAndValidate.get();
+            this.documents.put(key, document);
+        }
+        return document;
+    }
+
+    /**
+     * The key of a document in the cache.
+     *
+     * @author agent
+     */
+    private record DocumentKey(String persistedQueryId, String query) {
+    }
+}
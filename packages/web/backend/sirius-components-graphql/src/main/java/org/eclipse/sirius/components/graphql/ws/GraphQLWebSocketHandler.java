@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -24,6 +24,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.sirius.components.graphql.ws.api.IGraphQLWebSocketHandlerListener;
 import org.eclipse.sirius.components.graphql.ws.dto.IOperationMessage;
@@ -191,6 +194,12 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
 
     private final Map<WebSocketSession, Disposable> sessions2keepAliveSubscriptions = new ConcurrentHashMap<>();
 
+    private final Map<WebSocketSession, WebSocketSessionOutbox> sessions2outboxes = new ConcurrentHashMap<>();
+
+    private final ExecutorService senderExecutorService;
+
+    private final WebSocketSessionOutboxPolicy outboxPolicy;
+
     private final Counter connectionInitCounter;
 
     private final Counter startMessageCounter;
@@ -205,11 +214,21 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
 
     private final IGraphQLWebSocketHandlerListener listener;
 
-    public GraphQLWebSocketHandler(ObjectMapper objectMapper, GraphQL graphQL, MeterRegistry meterRegistry, IGraphQLWebSocketHandlerListener listener) {
+    public GraphQLWebSocketHandler(ObjectMapper objectMapper, GraphQL graphQL, MeterRegistry meterRegistry, IGraphQLWebSocketHandlerListener listener, WebSocketSessionOutboxPolicy outboxPolicy, int senderThreadCount) {
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.graphQL = Objects.requireNonNull(graphQL);
         this.meterRegistry = Objects.requireNonNull(meterRegistry);
         this.listener = Objects.requireNonNull(listener);
+        this.outboxPolicy = Objects.requireNonNull(outboxPolicy);
+
+        // The sessions share a fixed number of threads, each session has at most one task waiting to send its messages
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.senderExecutorService = Executors.newFixedThreadPool(senderThreadCount, (Runnable runnable) -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("GraphQL Web Socket sender " + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
 
         // @formatter:off
         this.startMessageCounter = Counter.builder(COUNTER_METRIC_NAME)
@@ -249,12 +268,12 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
             this.logger.trace("Message received: {}", operationMessage);
 
             if (operationMessage instanceof ConnectionInitMessage) {
-                new ConnectionInitMessageHandler(session, this.objectMapper).handle();
+                new ConnectionInitMessageHandler(this.getOutbox(session)).handle();
                 this.connectionInitCounter.increment();
             } else if (operationMessage instanceof StartMessage) {
                 StartMessage startMessage = (StartMessage) operationMessage;
 
-                new StartMessageHandler(session, this.graphQL, this.objectMapper, this.sessions2entries, this.meterRegistry).handle(startMessage);
+                new StartMessageHandler(session, this.getOutbox(session), this.graphQL, this.sessions2entries, this.meterRegistry).handle(startMessage);
                 this.startMessageCounter.increment();
             } else if (operationMessage instanceof StopMessage) {
                 StopMessage stopMessage = (StopMessage) operationMessage;
@@ -274,16 +293,12 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
     }
 
     private void send(WebSocketSession session, IOperationMessage message) {
-        try {
-            String responsePayload = this.objectMapper.writeValueAsString(message);
-            TextMessage textMessage = new TextMessage(responsePayload);
-
-            this.logger.trace("Message sent: {}", message);
+        this.getOutbox(session).send(message);
+    }
 
-            session.sendMessage(textMessage);
-        } catch (IOException exception) {
-            this.logger.warn(exception.getMessage(), exception);
-        }
+    private WebSocketSessionOutbox getOutbox(WebSocketSession session) {
+        return this.sessions2outboxes.computeIfAbsent(session, webSocketSession -> new WebSocketSessionOutbox(webSocketSession, this.objectMapper, this.senderExecutorService, this.outboxPolicy,
+                this.meterRegistry));
     }
 
     private Optional<IOperationMessage> parseRequest(TextMessage message) {
@@ -354,6 +369,11 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
 
         // Closing the connection will trigger the same behavior as indicating that the connection should be closed
         new ConnectionTerminateMessageHandler(session, this.sessions2entries).handle();
+
+        WebSocketSessionOutbox outbox = this.sessions2outboxes.remove(session);
+        if (outbox != null) {
+            outbox.dispose();
+        }
     }
 
 }
@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.graphql.ws;
+
+/**
+ * The policy used when the messages sent to a Web Socket session are produced faster than they can be sent.
+ *
+ * @author agent
+ */
+public enum SlowConsumerPolicy {
+    /**
+     * The snapshots and the deltas of a subscription waiting to be sent are dropped when a more recent snapshot is
+     * received for the same subscription, see {@link WebSocketSessionOutboxPolicy}. The session is closed if its queue
+     * is still full.
+     */
+    KEEP_LATEST,
+
+    /**
+     * All the messages are kept and the session is closed as soon as its queue is full.
+     */
+    CLOSE_SESSION,
+}
@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.graphql.ws;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+import org.eclipse.sirius.components.graphql.ws.dto.IOperationMessage;
+import org.eclipse.sirius.components.graphql.ws.dto.output.DataMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The bounded queue of the messages to send to a Web Socket session.
+ *
+ * <p>
+ * Messages are queued by the threads producing them and they are sent by the given executor, one at a time and in
+ * order, so that a slow client never blocks the threads producing the messages of the other clients. A session only
+ * sends a limited number of messages before giving its thread back to the executor so that the sessions sharing the
+ * threads of the executor are all served. When the messages are produced faster than they can be sent, the
+ * {@link WebSocketSessionOutboxPolicy} is used to decide which messages are kept.
+ * </p>
+ *
+ * <p>
+ * The size of the queues is recorded in a single distribution shared by all the sessions since the metrics only use
+ * tags from a bounded set, a tag with the id of each session would create a new meter for each connection. The id of
+ * a session is logged instead when half of its queue is used and when it is closed because its queue is full.
+ * </p>
+ *
+ * @author agent
+ */
+public class WebSocketSessionOutbox {
+
+    private static final String BACKLOG_METRIC_NAME = "siriusweb_graphql_ws_backlog";
+
+    private static final String DROPPED_METRIC_NAME = "siriusweb_graphql_ws_messages_dropped";
+
+    private static final String REASON = "reason";
+
+    private static final String DATA = "data";
+
+    private static final String TYPENAME = "__typename";
+
+    private static final int MAXIMUM_MESSAGES_SENT_BY_TASK = 16;
+
+    private final Logger logger = LoggerFactory.getLogger(WebSocketSessionOutbox.class);
+
+    private final WebSocketSession session;
+
+    private final ObjectMapper objectMapper;
+
+    private final Executor executor;
+
+    private final WebSocketSessionOutboxPolicy policy;
+
+    private final Deque<OutboundMessage> messages = new ArrayDeque<>();
+
+    private final DistributionSummary backlogSummary;
+
+    private final Counter replacedMessagesCounter;
+
+    private final Counter overflowCounter;
+
+    private boolean isDraining;
+
+    private boolean isOverflowing;
+
+    public WebSocketSessionOutbox(WebSocketSession session, ObjectMapper objectMapper, Executor executor, WebSocketSessionOutboxPolicy policy, MeterRegistry meterRegistry) {
+        this.session = Objects.requireNonNull(session);
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.executor = Objects.requireNonNull(executor);
+        this.policy = Objects.requireNonNull(policy);
+
+        this.backlogSummary = DistributionSummary.builder(BACKLOG_METRIC_NAME)
+                .register(meterRegistry);
+        this.replacedMessagesCounter = Counter.builder(DROPPED_METRIC_NAME)
+                .tag(REASON, "replaced")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder(DROPPED_METRIC_NAME)
+                .tag(REASON, "overflow")
+                .register(meterRegistry);
+    }
+
+    public void send(IOperationMessage message) {
+        try {
+            this.enqueue(new OutboundMessage(null, null, this.objectMapper.writeValueAsString(message)));
+        } catch (JsonProcessingException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * Sends the result of a GraphQL operation.
+     *
+     * @param id
+     *         The id of the operation
+     * @param payload
+     *         The specification of the result
+     */
+    public void sendData(String id, Map<String, Object> payload) {
+        try {
+            this.enqueue(new OutboundMessage(id, this.getTypename(payload), this.objectMapper.writeValueAsString(new DataMessage(id, payload))));
+        } catch (JsonProcessingException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+    }
+
+    private String getTypename(Map<String, Object> payload) {
+        String typename = null;
+        if (payload.get(DATA) instanceof Map<?, ?> data && data.size() == 1) {
+            var value = data.values().iterator().next();
+            if (value instanceof Map<?, ?> valueMap && valueMap.get(TYPENAME) instanceof String valueTypename) {
+                typename = valueTypename;
+            }
+        }
+        return typename;
+    }
+
+    private void enqueue(OutboundMessage message) {
+        boolean shouldDrain = false;
+        boolean shouldClose = false;
+        synchronized (this.messages) {
+            if (this.isOverflowing) {
+                return;
+            }
+
+            if (this.policy.slowConsumerPolicy() == SlowConsumerPolicy.KEEP_LATEST && message.subscriptionId() != null && this.policy.isSnapshot(message.typename())) {
+                boolean isReplaced = this.messages.removeIf(queuedMessage -> this.isReplacedBy(queuedMessage, message));
+                if (isReplaced) {
+                    this.replacedMessagesCounter.increment();
+                }
+            }
+
+            if (this.messages.size() >= this.policy.capacity()) {
+                this.isOverflowing = true;
+                this.messages.clear();
+                shouldClose = true;
+            } else {
+                this.messages.add(message);
+                this.backlogSummary.record(this.messages.size());
+                if (this.messages.size() == this.policy.capacity() / 2) {
+                    this.logger.debug("The Web Socket session {} has {} messages waiting to be sent", this.session.getId(), this.messages.size());
+                }
+                if (!this.isDraining) {
+                    this.isDraining = true;
+                    shouldDrain = true;
+                }
+            }
+        }
+
+        if (shouldClose) {
+            this.overflowCounter.increment();
+            this.close();
+        } else if (shouldDrain) {
+            this.executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * Only the snapshots and the deltas of the same subscription are replaced by a more recent snapshot, the other
+     * results such as errors are always sent.
+     */
+    private boolean isReplacedBy(OutboundMessage queuedMessage, OutboundMessage snapshot) {
+        return snapshot.subscriptionId().equals(queuedMessage.subscriptionId()) && this.policy.isReplacedBySnapshot(queuedMessage.typename());
+    }
+
+    private void drain() {
+        int sentMessagesCount = 0;
+        OutboundMessage message = this.poll();
+        while (message != null) {
+            try {
+                if (this.session.isOpen()) {
+                    this.logger.trace("Message sent: {}", message.text());
+                    this.session.sendMessage(new TextMessage(message.text()));
+                }
+            } catch (IOException exception) {
+                this.logger.warn(exception.getMessage(), exception);
+            }
+
+            sentMessagesCount++;
+            if (sentMessagesCount < MAXIMUM_MESSAGES_SENT_BY_TASK) {
+                message = this.poll();
+            } else {
+                // The remaining messages will be sent by a new task once the other sessions have been served
+                message = null;
+                this.executor.execute(this::drain);
+            }
+        }
+    }
+
+    private OutboundMessage poll() {
+        synchronized (this.messages) {
+            var message = this.messages.poll();
+            if (message == null) {
+                this.isDraining = false;
+            }
+            return message;
+        }
+    }
+
+    private void close() {
+        this.logger.warn("The Web Socket session {} has been closed since it cannot receive its messages fast enough", this.session.getId());
+        try {
+            this.session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+    }
+
+    public void dispose() {
+        synchronized (this.messages) {
+            this.messages.clear();
+        }
+    }
+
+    /**
+     * A message waiting to be sent.
+     *
+     * @author agent
+     */
+    private record OutboundMessage(String subscriptionId, String typename, String text) {
+    }
+}
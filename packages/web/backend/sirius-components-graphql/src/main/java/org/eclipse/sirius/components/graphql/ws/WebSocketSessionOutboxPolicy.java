@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.graphql.ws;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The policy used to decide which messages are kept in the queue of a Web Socket session.
+ *
+ * <p>
+ * With {@link SlowConsumerPolicy#KEEP_LATEST}, a snapshot contains the whole state of a representation, a more recent
+ * snapshot of the same subscription thus replaces both the previous snapshots and the previous deltas waiting to be
+ * sent. A delta only contains the differences with the previous result, it is never dropped unless a more recent
+ * snapshot replaces it. The results of any other type, such as errors, are always sent.
+ * </p>
+ *
+ * @param capacity
+ *         The maximum number of messages waiting to be sent
+ * @param slowConsumerPolicy
+ *         The policy used when the messages are produced faster than they can be sent
+ * @param snapshotTypenames
+ *         The GraphQL types of the results containing the whole state of a representation
+ * @param deltaTypenames
+ *         The GraphQL types of the results containing the differences with the previous result
+ * @author agent
+ */
+public record WebSocketSessionOutboxPolicy(int capacity, SlowConsumerPolicy slowConsumerPolicy, Set<String> snapshotTypenames, Set<String> deltaTypenames) {
+
+    public WebSocketSessionOutboxPolicy {
+        Objects.requireNonNull(slowConsumerPolicy);
+        snapshotTypenames = Set.copyOf(Objects.requireNonNull(snapshotTypenames));
+        deltaTypenames = Set.copyOf(Objects.requireNonNull(deltaTypenames));
+    }
+
+    public boolean isSnapshot(String typename) {
+        return typename != null && this.snapshotTypenames.contains(typename);
+    }
+
+    public boolean isReplacedBySnapshot(String typename) {
+        return typename != null && (this.snapshotTypenames.contains(typename) || this.deltaTypenames.contains(typename));
+    }
+}
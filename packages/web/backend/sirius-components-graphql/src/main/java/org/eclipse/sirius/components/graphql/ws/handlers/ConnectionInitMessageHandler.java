@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,15 +12,11 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.graphql.ws.handlers;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import java.util.Objects;
 
+import org.eclipse.sirius.components.graphql.ws.WebSocketSessionOutbox;
 import org.eclipse.sirius.components.graphql.ws.dto.output.ConnectionAcknowledgeMessage;
 import org.eclipse.sirius.components.graphql.ws.dto.output.ConnectionKeepAliveMessage;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.web.socket.WebSocketSession;
 
 /**
  * This class will handle the connection init messages sent by the consumers of the Web Socket API.
@@ -29,20 +25,15 @@ import org.springframework.web.socket.WebSocketSession;
  */
 public class ConnectionInitMessageHandler implements IWebSocketMessageHandler {
 
-    private Logger logger = LoggerFactory.getLogger(ConnectionInitMessageHandler.class);
-
-    private final WebSocketSession session;
-
-    private final ObjectMapper objectMapper;
+    private final WebSocketSessionOutbox outbox;
 
-    public ConnectionInitMessageHandler(WebSocketSession session, ObjectMapper objectMapper) {
-        this.session = Objects.requireNonNull(session);
-        this.objectMapper = Objects.requireNonNull(objectMapper);
+    public ConnectionInitMessageHandler(WebSocketSessionOutbox outbox) {
+        this.outbox = Objects.requireNonNull(outbox);
     }
 
     public void handle() {
-        this.send(this.objectMapper, this.session, new ConnectionAcknowledgeMessage(), this.logger);
-        this.send(this.objectMapper, this.session, new ConnectionKeepAliveMessage(), this.logger);
+        this.outbox.send(new ConnectionAcknowledgeMessage());
+        this.outbox.send(new ConnectionKeepAliveMessage());
     }
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,34 +12,15 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.graphql.ws.handlers;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
-import java.io.IOException;
-
-import org.eclipse.sirius.components.graphql.ws.dto.IOperationMessage;
-import org.slf4j.Logger;
-import org.springframework.web.socket.TextMessage;
-import org.springframework.web.socket.WebSocketSession;
-
 /**
  * Common interface of all the message handlers.
  *
+ * <p>
+ * The messages should be sent to the clients using the {@link org.eclipse.sirius.components.graphql.ws.WebSocketSessionOutbox}
+ * of their session.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public interface IWebSocketMessageHandler {
-
-    default void send(ObjectMapper objectMapper, WebSocketSession session, IOperationMessage message, Logger logger) {
-        try {
-            String responsePayload = objectMapper.writeValueAsString(message);
-            TextMessage textMessage = new TextMessage(responsePayload);
-            synchronized (session) {
-                if (session.isOpen()) {
-                    logger.trace("Message sent: {}", message);
-                    session.sendMessage(textMessage);
-                }
-            }
-        } catch (IOException exception) {
-            logger.warn(exception.getMessage(), exception);
-        }
-    }
 }
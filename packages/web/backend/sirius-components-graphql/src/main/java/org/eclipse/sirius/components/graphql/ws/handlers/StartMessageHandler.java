@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,8 +12,6 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.graphql.ws.handlers;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -24,9 +22,9 @@ import java.util.function.Consumer;
 
 import org.eclipse.sirius.components.graphql.controllers.GraphQLPayload;
 import org.eclipse.sirius.components.graphql.ws.SubscriptionEntry;
+import org.eclipse.sirius.components.graphql.ws.WebSocketSessionOutbox;
 import org.eclipse.sirius.components.graphql.ws.dto.input.StartMessage;
 import org.eclipse.sirius.components.graphql.ws.dto.output.CompleteMessage;
-import org.eclipse.sirius.components.graphql.ws.dto.output.DataMessage;
 import org.eclipse.sirius.components.graphql.ws.dto.output.ErrorMessage;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
@@ -36,6 +34,7 @@ import org.springframework.web.socket.WebSocketSession;
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import reactor.core.Disposable;
@@ -57,18 +56,18 @@ public class StartMessageHandler implements IWebSocketMessageHandler {
 
     private final WebSocketSession session;
 
-    private final GraphQL graphQL;
+    private final WebSocketSessionOutbox outbox;
 
-    private final ObjectMapper objectMapper;
+    private final GraphQL graphQL;
 
     private final Map<WebSocketSession, List<SubscriptionEntry>> sessions2entries;
 
     private final Timer graphQLRequestTimer;
 
-    public StartMessageHandler(WebSocketSession session, GraphQL graphQL, ObjectMapper objectMapper, Map<WebSocketSession, List<SubscriptionEntry>> sessions2entries, MeterRegistry meterRegistry) {
+    public StartMessageHandler(WebSocketSession session, WebSocketSessionOutbox outbox, GraphQL graphQL, Map<WebSocketSession, List<SubscriptionEntry>> sessions2entries, MeterRegistry meterRegistry) {
         this.session = Objects.requireNonNull(session);
+        this.outbox = Objects.requireNonNull(outbox);
         this.graphQL = Objects.requireNonNull(graphQL);
-        this.objectMapper = Objects.requireNonNull(objectMapper);
         this.sessions2entries = Objects.requireNonNull(sessions2entries);
 
         this.graphQLRequestTimer = Timer.builder(COUNTER_METRIC_NAME).register(meterRegistry);
@@ -78,14 +77,17 @@ public class StartMessageHandler implements IWebSocketMessageHandler {
         String id = startMessage.getId();
         GraphQLPayload graphQLPayload = startMessage.getPayload();
 
-        String query = graphQLPayload.getQuery();
+        // The query may be missing if the client only sends the hash of a persisted query
+        String query = Optional.ofNullable(graphQLPayload.getQuery()).orElse(PersistedQuerySupport.PERSISTED_QUERY_MARKER);
         Map<String, Object> variables = Optional.ofNullable(graphQLPayload.getVariables()).orElse(Map.of());
+        Map<String, Object> extensions = Optional.ofNullable(graphQLPayload.getExtensions()).orElse(Map.of());
         String operationName = graphQLPayload.getOperationName();
 
         // @formatter:off
         ExecutionInput executionInput = ExecutionInput.newExecutionInput()
                 .query(query)
                 .variables(variables)
+                .extensions(extensions)
                 .operationName(operationName)
                 .build();
         // @formatter:on
@@ -101,17 +103,18 @@ public class StartMessageHandler implements IWebSocketMessageHandler {
 
             this.subscribe(id, publisher);
         } else {
-            this.send(this.objectMapper, this.session, new DataMessage(id, executionResult.toSpecification()), this.logger);
+            this.outbox.sendData(id, executionResult.toSpecification());
         }
     }
 
     private void subscribe(String id, Publisher<ExecutionResult> publisher) {
-        Consumer<ExecutionResult> consumer = result -> this.send(this.objectMapper, this.session, new DataMessage(id, result.toSpecification()), this.logger);
+        // The results are only queued in the outbox of the session in order to never wait for a slow client here
+        Consumer<ExecutionResult> consumer = result -> this.outbox.sendData(id, result.toSpecification());
         Consumer<Throwable> onErrorConsumer = error -> {
             this.logger.warn(error.getMessage(), error);
-            this.send(this.objectMapper, this.session, new ErrorMessage(id, null), this.logger);
+            this.outbox.send(new ErrorMessage(id, null));
         };
-        Runnable onCompleteConsumer = () -> this.send(this.objectMapper, this.session, new CompleteMessage(id), this.logger);
+        Runnable onCompleteConsumer = () -> this.outbox.send(new CompleteMessage(id));
 
         // @formatter:off
         Disposable subscription = Flux.from(publisher)
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.graphql.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests of the cache of the GraphQL documents.
+ *
+ * @author agent
+ */
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+public class GraphQLDocumentCacheTests {
+
+    private static final String QUERY = "query getGreeting { greeting }";
+
+    private static final String METRIC_NAME = "siriusweb_graphql_documents";
+
+    private static final String RESULT = "result";
+
+    @Test
+    public void testDocumentsAreParsedOnlyOnce() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        GraphQL graphQL = this.getGraphQL(meterRegistry);
+
+        ExecutionResult firstResult = graphQL.execute(ExecutionInput.newExecutionInput().query(QUERY).build());
+        ExecutionResult secondResult = graphQL.execute(ExecutionInput.newExecutionInput().query(QUERY).build());
+
+        assertThat(firstResult.getErrors()).isEmpty();
+        assertThat(secondResult.<Map<String, Object>>getData()).containsEntry("greeting", "Hello");
+        assertThat(meterRegistry.counter(METRIC_NAME, RESULT, "miss").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter(METRIC_NAME, RESULT, "hit").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    public void testPersistedQueriesAreResolvedFromTheirHash() {
+        GraphQL graphQL = this.getGraphQL(new SimpleMeterRegistry());
+        Map<String, Object> extensions = Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", this.getHash(QUERY)));
+
+        ExecutionResult unknownQueryResult = graphQL.execute(ExecutionInput.newExecutionInput()
+                .query(PersistedQuerySupport.PERSISTED_QUERY_MARKER)
+                .extensions(extensions)
+                .build());
+        assertThat(unknownQueryResult.getErrors()).hasSize(1);
+        assertThat(unknownQueryResult.getErrors().get(0).getMessage()).contains("PersistedQueryNotFound");
+
+        ExecutionResult registrationResult = graphQL.execute(ExecutionInput.newExecutionInput()
+                .query(QUERY)
+                .extensions(extensions)
+                .build());
+        assertThat(registrationResult.getErrors()).isEmpty();
+
+        ExecutionResult persistedQueryResult = graphQL.execute(ExecutionInput.newExecutionInput()
+                .query(PersistedQuerySupport.PERSISTED_QUERY_MARKER)
+                .extensions(extensions)
+                .build());
+        assertThat(persistedQueryResult.getErrors()).isEmpty();
+        assertThat(persistedQueryResult.<Map<String, Object>>getData()).containsEntry("greeting", "Hello");
+    }
+
+    private GraphQL getGraphQL(MeterRegistry meterRegistry) {
+        var typeDefinitionRegistry = new SchemaParser().parse("type Query { greeting: String }");
+        var runtimeWiring = RuntimeWiring.newRuntimeWiring()
+                .type("Query", builder -> builder.dataFetcher("greeting", environment -> "Hello"))
+                .build();
+        GraphQLSchema graphQLSchema = new SchemaGenerator().makeExecutableSchema(typeDefinitionRegistry, runtimeWiring);
+
+        return GraphQL.newGraphQL(graphQLSchema)
+                .preparsedDocumentProvider(new GraphQLDocumentCache(10, meterRegistry))
+                .build();
+    }
+
+    private String getHash(String query) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(query.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
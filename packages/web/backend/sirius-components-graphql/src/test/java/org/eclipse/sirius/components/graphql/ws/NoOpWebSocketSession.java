@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -37,6 +37,8 @@ public class NoOpWebSocketSession implements WebSocketSession {
 
     private List<WebSocketMessage<?>> messages = new ArrayList<>();
 
+    private CloseStatus closeStatus;
+
     @Override
     public String getId() {
         return UUID.randomUUID().toString();
@@ -116,12 +118,17 @@ public class NoOpWebSocketSession implements WebSocketSession {
 
     @Override
     public void close(CloseStatus status) throws IOException {
+        this.closeStatus = status;
     }
 
     public List<WebSocketMessage<?>> getMessages() {
         return this.messages;
     }
 
+    public CloseStatus getCloseStatus() {
+        return this.closeStatus;
+    }
+
     @Override
     public int hashCode() {
         return 42;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.sirius.components.graphql.controllers.GraphQLPayload;
 import org.eclipse.sirius.components.graphql.ws.dto.input.StartMessage;
@@ -58,7 +59,7 @@ public class WebSocketHandlerTests {
         NoOpWebSocketSession session = new NoOpWebSocketSession();
         ObjectMapper objectMapper = new ObjectMapper();
 
-        new ConnectionInitMessageHandler(session, objectMapper).handle();
+        new ConnectionInitMessageHandler(this.createOutbox(session, objectMapper)).handle();
 
         List<WebSocketMessage<?>> messages = session.getMessages();
         assertThat(messages).hasSize(2);
@@ -91,7 +92,7 @@ public class WebSocketHandlerTests {
         // @formatter:on
 
         StartMessage startMessage = new StartMessage("operationId", payload);
-        new StartMessageHandler(session, graphQL, objectMapper, sessions2entries, new SimpleMeterRegistry()).handle(startMessage);
+        new StartMessageHandler(session, this.createOutbox(session, objectMapper), graphQL, sessions2entries, new SimpleMeterRegistry()).handle(startMessage);
 
         assertThat(session.getMessages()).hasSize(1);
         WebSocketMessage<?> webSocketMessage = session.getMessages().get(0);
@@ -143,7 +144,7 @@ public class WebSocketHandlerTests {
         assertThat(session.getMessages()).hasSize(0);
 
         StartMessage startMessage = new StartMessage("subscriptionOperationId", payload);
-        new StartMessageHandler(session, graphQL, objectMapper, sessions2entries, new SimpleMeterRegistry()).handle(startMessage);
+        new StartMessageHandler(session, this.createOutbox(session, objectMapper), graphQL, sessions2entries, new SimpleMeterRegistry()).handle(startMessage);
 
         assertThat(session.getMessages()).hasSize(2);
 
@@ -197,4 +198,9 @@ public class WebSocketHandlerTests {
 
         assertThat(sessions2entries.size()).isEqualTo(0);
     }
+
+    private WebSocketSessionOutbox createOutbox(WebSocketSession session, ObjectMapper objectMapper) {
+        return new WebSocketSessionOutbox(session, objectMapper, Runnable::run, new WebSocketSessionOutboxPolicy(10, SlowConsumerPolicy.KEEP_LATEST, Set.of(), Set.of()),
+                new SimpleMeterRegistry());
+    }
 }
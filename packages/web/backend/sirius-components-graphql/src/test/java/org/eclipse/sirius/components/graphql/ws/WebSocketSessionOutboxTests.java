@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.graphql.ws;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.TextMessage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests of the queue of the messages sent to a Web Socket session.
+ *
+ * @author agent
+ */
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+public class WebSocketSessionOutboxTests {
+
+    private static final String OPERATION_ID = "operationId";
+
+    private static final String OTHER_OPERATION_ID = "otherOperationId";
+
+    private static final String DIAGRAM_REFRESHED = "DiagramRefreshedEventPayload";
+
+    private static final String DIAGRAM_DELTA_REFRESHED = "DiagramDeltaRefreshedEventPayload";
+
+    private static final String ERROR = "ErrorPayload";
+
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    @Test
+    public void testOutdatedSnapshotsAndDeltasAreReplaced() {
+        var session = new NoOpWebSocketSession();
+        var outbox = this.createOutbox(session, 10, SlowConsumerPolicy.KEEP_LATEST);
+
+        outbox.sendData(OPERATION_ID, this.getPayload(DIAGRAM_REFRESHED, "first"));
+        outbox.sendData(OPERATION_ID, this.getPayload(DIAGRAM_DELTA_REFRESHED, "second"));
+        outbox.sendData(OPERATION_ID, this.getPayload("SubscribersUpdatedEventPayload", "third"));
+        outbox.sendData(OPERATION_ID, this.getPayload(DIAGRAM_REFRESHED, "fourth"));
+
+        assertThat(this.tasks).hasSize(1);
+        this.tasks.get(0).run();
+
+        assertThat(this.getTexts(session)).hasSize(2);
+        assertThat(this.getTexts(session).get(0)).contains("third");
+        assertThat(this.getTexts(session).get(1)).contains("fourth");
+    }
+
+    @Test
+    public void testDeltasAreNeverDroppedWithoutASnapshot() {
+        var session = new NoOpWebSocketSession();
+        var outbox = this.createOutbox(session, 10, SlowConsumerPolicy.KEEP_LATEST);
+
+        outbox.sendData(OPERATION_ID, this.getPayload(DIAGRAM_REFRESHED, "first"));
+        outbox.sendData(OPERATION_ID, this.getPayload(DIAGRAM_DELTA_REFRESHED, "second"));
+        outbox.sendData(OPERATION_ID, this.getPayload(DIAGRAM_DELTA_REFRESHED, "third"));
+
+        this.tasks.get(0).run();
+
+        assertThat(this.getTexts(session)).hasSize(3);
+        assertThat(this.getTexts(session).get(0)).contains("first");
+        assertThat(this.getTexts(session).get(1)).contains("second");
+        assertThat(this.getTexts(session).get(2)).contains("third");
+    }
+
+    @Test
+    public void testOtherResultsAreNeverReplaced() {
+        var session = new NoOpWebSocketSession();
+        var outbox = this.createOutbox(session, 10, SlowConsumerPolicy.KEEP_LATEST);
+
+        outbox.sendData(OPERATION_ID, this.getPayload(ERROR, "first"));
+        outbox.sendData(OPERATION_ID, this.getPayload(ERROR, "second"));
+        outbox.sendData(OPERATION_ID, this.getPayload("RepresentationRenamedEventPayload", "third"));
+        outbox.sendData(OPERATION_ID, this.getPayload("RepresentationRenamedEventPayload", "fourth"));
+        outbox.sendData(OTHER_OPERATION_ID, this.getPayload(DIAGRAM_REFRESHED, "fifth"));
+        outbox.sendData(OPERATION_ID, this.getPayload(DIAGRAM_REFRESHED, "sixth"));
+
+        this.tasks.get(0).run();
+
+        assertThat(this.getTexts(session)).hasSize(6);
+    }
+
+    @Test
+    public void testSessionIsClosedWhenTheQueueIsFull() {
+        var session = new NoOpWebSocketSession();
+        var outbox = this.createOutbox(session, 2, SlowConsumerPolicy.CLOSE_SESSION);
+
+        outbox.sendData(OPERATION_ID, this.getPayload(DIAGRAM_REFRESHED, "first"));
+        outbox.sendData(OPERATION_ID, this.getPayload(DIAGRAM_REFRESHED, "second"));
+        outbox.sendData(OPERATION_ID, this.getPayload(DIAGRAM_REFRESHED, "third"));
+
+        this.tasks.forEach(Runnable::run);
+
+        assertThat(session.getMessages()).isEmpty();
+        assertThat(session.getCloseStatus()).isNotNull();
+    }
+
+    @Test
+    public void testSessionGivesItsThreadBackAfterSomeMessages() {
+        var session = new NoOpWebSocketSession();
+        var outbox = this.createOutbox(session, 100, SlowConsumerPolicy.CLOSE_SESSION);
+
+        for (int i = 0; i < 20; i++) {
+            outbox.sendData(OPERATION_ID, this.getPayload(DIAGRAM_DELTA_REFRESHED, "message" + i));
+        }
+
+        this.tasks.get(0).run();
+        assertThat(session.getMessages()).hasSize(16);
+        assertThat(this.tasks).hasSize(2);
+
+        this.tasks.get(1).run();
+        assertThat(session.getMessages()).hasSize(20);
+    }
+
+    private WebSocketSessionOutbox createOutbox(NoOpWebSocketSession session, int capacity, SlowConsumerPolicy slowConsumerPolicy) {
+        var objectMapper = new ObjectMapper();
+        var policy = new WebSocketSessionOutboxPolicy(capacity, slowConsumerPolicy, Set.of(DIAGRAM_REFRESHED), Set.of(DIAGRAM_DELTA_REFRESHED));
+        return new WebSocketSessionOutbox(session, objectMapper, this.tasks::add, policy, new SimpleMeterRegistry());
+    }
+
+    private List<String> getTexts(NoOpWebSocketSession session) {
+        return session.getMessages().stream()
+                .map(TextMessage.class::cast)
+                .map(TextMessage::getPayload)
+                .toList();
+    }
+
+    private Map<String, Object> getPayload(String typename, String label) {
+        return Map.of("data", Map.of("subscription", Map.of("__typename", typename, "label", label)));
+    }
+}